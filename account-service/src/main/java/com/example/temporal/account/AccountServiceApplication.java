@@ -4,10 +4,13 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EntityScan(basePackages = {"com.example.temporal.common.model", "com.example.temporal.account.model"})
+@EntityScan(basePackages = {"com.example.temporal.common.model", "com.example.temporal.account.model",
+        "com.example.temporal.account.entity"})
 @EnableJpaRepositories(basePackages = {"com.example.temporal.account.repository"})
+@EnableScheduling
 public class AccountServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(AccountServiceApplication.class, args);
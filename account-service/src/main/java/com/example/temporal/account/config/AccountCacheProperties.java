@@ -0,0 +1,31 @@
+package com.example.temporal.account.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuração do cache local de contas
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.cache")
+public class AccountCacheProperties {
+
+    /**
+     * Habilita o cache de leituras de conta
+     */
+    private boolean enabled = true;
+
+    /**
+     * Número máximo de contas mantidas em memória
+     */
+    private long maximumSize = 100_000;
+
+    /**
+     * Limite de segurança de vida de uma entrada, caso eventos CDC deixem de chegar
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(5);
+}
@@ -0,0 +1,46 @@
+package com.example.temporal.account.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuração da publicação dos eventos CDC de contas
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.cdc")
+public class AccountCdcProperties {
+
+    /**
+     * Destino dos eventos: "local" (listeners Spring no próprio processo) ou "kafka"
+     */
+    private String publisher = "local";
+
+    /**
+     * Tópico Kafka dos eventos de conta
+     */
+    private String topic = "account-changes";
+
+    /**
+     * Tempo máximo de espera pela confirmação de um batch no Kafka
+     */
+    private Duration publishTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Espera antes de repetir a primeira publicação que falhou; dobra a cada nova falha
+     */
+    private Duration publishRetryInitialBackoff = Duration.ofMillis(500);
+
+    /**
+     * Espera máxima entre duas tentativas de publicação
+     */
+    private Duration publishRetryMaxBackoff = Duration.ofSeconds(30);
+
+    /**
+     * Espera antes de reiniciar o engine Debezium depois de uma parada inesperada
+     */
+    private Duration engineRestartDelay = Duration.ofSeconds(10);
+}
@@ -0,0 +1,19 @@
+package com.example.temporal.account.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuração da importação em massa de contas
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.import")
+public class AccountImportProperties {
+
+    /**
+     * Número de linhas processadas por chunk (uma transação e um batch JDBC por chunk)
+     */
+    private int chunkSize = 1000;
+}
@@ -0,0 +1,60 @@
+package com.example.temporal.account.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuração do sharding horizontal das contas por número de conta
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.sharding")
+public class AccountShardingProperties {
+
+    /**
+     * Habilita o roteamento das contas entre os shards configurados
+     */
+    private boolean enabled = false;
+
+    /**
+     * Nós virtuais por shard no anel de hash consistente
+     */
+    private int virtualNodes = 128;
+
+    /**
+     * Intervalo de recarga do diretório de overrides a partir do banco
+     */
+    private long directoryRefreshIntervalMs = 30000;
+
+    /**
+     * Shards disponíveis; o primeiro também guarda o diretório de overrides.
+     * A posição de cada shard define sua faixa de ids, então a ordem não pode mudar
+     */
+    private List<Shard> shards = new ArrayList<>();
+
+    @Data
+    public static class Shard {
+
+        /**
+         * Nome estável do shard (usado no anel e no diretório)
+         */
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 10;
+
+        /**
+         * Shard em entrada: recebe contas apenas via rebalanceamento até ser promovido ao anel
+         */
+        private boolean joining = false;
+    }
+}
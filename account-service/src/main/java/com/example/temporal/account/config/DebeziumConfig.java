@@ -1,10 +1,12 @@
 package com.example.temporal.account.config;
 
+import com.example.temporal.account.infrastructure.adapter.in.cdc.AccountChangeEventHandler;
 import io.debezium.embedded.Connect;
 import io.debezium.engine.DebeziumEngine;
 import io.debezium.engine.RecordChangeEvent;
 import io.debezium.engine.format.ChangeEventFormat;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -17,6 +19,7 @@ import java.util.Properties;
 
 @Slf4j
 @Getter
+@Setter
 @Configuration
 @ConfigurationProperties(prefix = "debezium")
 @ConditionalOnProperty(name = "debezium.enabled", havingValue = "true", matchIfMissing = false)
@@ -32,9 +35,17 @@ public class DebeziumConfig {
     private String topicPrefix;
     private String tableIncludeList;
     private String publicationName;
+    private int maxBatchSize = 2048;
+    private int maxQueueSize = 8192;
+    private long pollIntervalMs = 500;
 
+    /**
+     * Engine builder rather than engine: a stopped engine cannot run again, so
+     * DebeziumRunner builds a new one from it on every (re)start
+     */
     @Bean
-    public DebeziumEngine<RecordChangeEvent<SourceRecord>> debeziumEngine() {
+    public DebeziumEngine.Builder<RecordChangeEvent<SourceRecord>> debeziumEngineBuilder(
+            AccountChangeEventHandler accountChangeEventHandler) {
         Properties props = new Properties();
         props.setProperty("name", name);
         props.setProperty("connector.class", connectorClass);
@@ -50,16 +61,13 @@ public class DebeziumConfig {
         props.setProperty("plugin.name", pluginName);
         props.setProperty("table.include.list", tableIncludeList);
         props.setProperty("publication.name", publicationName);
+        props.setProperty("max.batch.size", String.valueOf(maxBatchSize));
+        props.setProperty("max.queue.size", String.valueOf(Math.max(maxQueueSize, maxBatchSize + 1)));
+        props.setProperty("poll.interval.ms", String.valueOf(pollIntervalMs));
 
         return DebeziumEngine.create(ChangeEventFormat.of(Connect.class))
                 .using(props)
-                .notifying(this::handleChangeEvent)
-                .build();
-    }
-
-    private void handleChangeEvent(RecordChangeEvent<SourceRecord> sourceRecordRecordChangeEvent) {
-        SourceRecord sourceRecord = sourceRecordRecordChangeEvent.record();
-        log.info("Key = {}, Value = {}", sourceRecord.key(), sourceRecord.value());
+                .notifying(accountChangeEventHandler);
     }
 
 }
@@ -11,29 +11,78 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Runs the embedded Debezium engine and restarts it when it stops on its own.
+ * <p>
+ * The engine stops when a batch handler throws or the connector fails, for
+ * example when the database connection drops. The completion callback then
+ * schedules a new engine after {@code account.cdc.engine-restart-delay}; it
+ * resumes from the last committed offsets, so no change is skipped.
+ * </p>
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 @ConditionalOnProperty(name = "debezium.enabled", havingValue = "true", matchIfMissing = false)
 public class DebeziumRunner {
 
-    private final DebeziumEngine<RecordChangeEvent<SourceRecord>> debeziumEngine;
-    private ExecutorService executor;
+    private final DebeziumEngine.Builder<RecordChangeEvent<SourceRecord>> debeziumEngineBuilder;
+    private final AccountCdcProperties properties;
+
+    private ScheduledExecutorService executor;
+    private volatile DebeziumEngine<RecordChangeEvent<SourceRecord>> debeziumEngine;
+    private volatile boolean running;
 
     @PostConstruct
     public void start() {
-        executor = Executors.newSingleThreadExecutor();
-        executor.execute(debeziumEngine);
+        running = true;
+        executor = Executors.newSingleThreadScheduledExecutor(
+                task -> Thread.ofPlatform().name("debezium-engine").unstarted(task));
+        executor.execute(this::runEngine);
         log.info("Debezium engine started");
     }
 
+    private void runEngine() {
+        if (!running) {
+            return;
+        }
+        try {
+            debeziumEngine = debeziumEngineBuilder.using(this::onCompletion).build();
+        } catch (final RuntimeException e) {
+            onCompletion(false, "Failed to build engine", e);
+            return;
+        }
+        debeziumEngine.run();
+    }
+
+    /**
+     * Called by the engine when it stops, whether closed or failed
+     */
+    private void onCompletion(final boolean success, final String message, final Throwable error) {
+        if (!running) {
+            return;
+        }
+        log.error("Debezium engine stopped unexpectedly, restarting in {}: {}",
+                properties.getEngineRestartDelay(), message, error);
+        try {
+            executor.schedule(this::runEngine,
+                    properties.getEngineRestartDelay().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException e) {
+            log.debug("Debezium engine restart skipped, runner is stopping");
+        }
+    }
+
     @PreDestroy
     public void stop() throws IOException {
-        if (debeziumEngine != null) {
-            debeziumEngine.close();
+        running = false;
+        final DebeziumEngine<RecordChangeEvent<SourceRecord>> engine = debeziumEngine;
+        if (engine != null) {
+            engine.close();
             log.info("Debezium engine stopped");
         }
         if (executor != null) {
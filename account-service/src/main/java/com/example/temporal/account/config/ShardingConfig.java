@@ -0,0 +1,49 @@
+package com.example.temporal.account.config;
+
+import com.example.temporal.account.infrastructure.adapter.out.persistence.sharding.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Replaces the account DataSource with one pool per shard when
+ * {@code account.sharding.enabled=true}. Hibernate schema management only
+ * runs against the first shard; the others need the schema created upfront.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "account.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ShardRoutingDataSource shardRoutingDataSource(final AccountShardingProperties properties) {
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalStateException("account.sharding.shards must list at least one shard");
+        }
+        final Map<String, DataSource> shards = new LinkedHashMap<>();
+        for (final AccountShardingProperties.Shard shard : properties.getShards()) {
+            final HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("shard-" + shard.getName());
+            dataSource.setJdbcUrl(shard.getUrl());
+            dataSource.setUsername(shard.getUsername());
+            dataSource.setPassword(shard.getPassword());
+            dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+            shards.put(shard.getName(), dataSource);
+        }
+        final ShardRoutingDataSource routing = new ShardRoutingDataSource(shards);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(final ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+}
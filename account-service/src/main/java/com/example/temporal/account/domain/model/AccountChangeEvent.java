@@ -0,0 +1,40 @@
+package com.example.temporal.account.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Typed change captured from the accounts (or balance slots) table
+ */
+@Value
+@Builder
+public class AccountChangeEvent {
+    Operation operation;
+    String table;
+    String accountNumber;
+    BigDecimal balanceBefore;
+    BigDecimal balanceAfter;
+    String currency;
+    Instant committedAt;
+    Long lsn;
+
+    public enum Operation {
+        CREATE, UPDATE, DELETE, SNAPSHOT;
+
+        /**
+         * Maps the Debezium op code (c, u, d, r)
+         */
+        public static Operation fromCode(final String code) {
+            return switch (code) {
+                case "c" -> CREATE;
+                case "u" -> UPDATE;
+                case "d" -> DELETE;
+                case "r" -> SNAPSHOT;
+                default -> throw new IllegalArgumentException("Unknown change operation: " + code);
+            };
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.temporal.account.domain.model;
 
 import com.example.temporal.common.message.ErrorMessages;
 import com.example.temporal.common.message.MessageResolver;
+import com.example.temporal.common.model.Account;
 import lombok.Builder;
 import lombok.Value;
 import lombok.With;
@@ -26,6 +27,7 @@ public class AccountDomain {
     String ownerName;
     BigDecimal balance;
     String currency;
+    String accountType;
     LocalDateTime createdAt;
     LocalDateTime updatedAt;
     String idempotencyKey;
@@ -186,6 +188,7 @@ public class AccountDomain {
      * @param ownerName       the owner name
      * @param initialBalance  the initial balance (defaults to 0 if null)
      * @param currency        the currency
+     * @param accountType     the account type (defaults to STANDARD if null)
      * @param idempotencyKey  the idempotency key
      * @return new validated AccountDomain instance
      * @throws IllegalArgumentException if any field is invalid
@@ -195,6 +198,7 @@ public class AccountDomain {
             final String ownerName,
             final BigDecimal initialBalance,
             final String currency,
+            final String accountType,
             final String idempotencyKey) {
 
         final AccountDomain account = AccountDomain.builder()
@@ -202,6 +206,7 @@ public class AccountDomain {
                 .ownerName(ownerName)
                 .balance(initialBalance != null ? initialBalance : BigDecimal.ZERO)
                 .currency(currency)
+                .accountType(accountType != null ? accountType : Account.DEFAULT_ACCOUNT_TYPE)
                 .idempotencyKey(idempotencyKey)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
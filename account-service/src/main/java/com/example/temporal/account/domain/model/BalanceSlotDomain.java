@@ -0,0 +1,70 @@
+package com.example.temporal.account.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.With;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pure domain model for a balance slot of a hot account.
+ * <p>
+ * A sharded account spreads its balance over N slots; the logical balance
+ * is the account balance plus the sum of all its slots.
+ * </p>
+ */
+@Value
+@Builder
+@With
+public class BalanceSlotDomain {
+    Long id;
+    String accountNumber;
+    Integer slotIndex;
+    BigDecimal balance;
+    LocalDateTime updatedAt;
+
+    /**
+     * Splits a total evenly across the given number of slots.
+     * The rounding remainder goes to slot 0 so the slots always sum to the total.
+     *
+     * @param accountNumber the account number
+     * @param total         the total to split
+     * @param slotCount     the number of slots (must be positive)
+     * @return the new slots, ordered by slot index
+     */
+    public static List<BalanceSlotDomain> split(
+            final String accountNumber,
+            final BigDecimal total,
+            final int slotCount) {
+
+        final BigDecimal share = total.divide(BigDecimal.valueOf(slotCount), total.scale(), RoundingMode.DOWN);
+        final BigDecimal remainder = total.subtract(share.multiply(BigDecimal.valueOf(slotCount)));
+
+        final List<BalanceSlotDomain> slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(BalanceSlotDomain.builder()
+                    .accountNumber(accountNumber)
+                    .slotIndex(i)
+                    .balance(i == 0 ? share.add(remainder) : share)
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        return slots;
+    }
+
+    /**
+     * Sums the balances of the given slots.
+     *
+     * @param slots the slots
+     * @return the total, zero when empty
+     */
+    public static BigDecimal total(final List<BalanceSlotDomain> slots) {
+        return slots.stream()
+                .map(BalanceSlotDomain::getBalance)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
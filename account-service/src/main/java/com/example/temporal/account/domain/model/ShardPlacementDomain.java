@@ -0,0 +1,28 @@
+package com.example.temporal.account.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Where an account is stored and where the shard ring wants it.
+ */
+@Value
+@Builder
+public class ShardPlacementDomain {
+    String accountNumber;
+
+    /**
+     * Shard currently holding the account
+     */
+    String shard;
+
+    /**
+     * Shard owning the account once every joining shard is part of the ring
+     */
+    String targetShard;
+
+    /**
+     * Whether the account was pinned to its shard by hand
+     */
+    boolean pinned;
+}
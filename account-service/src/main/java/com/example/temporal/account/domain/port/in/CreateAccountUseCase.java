@@ -23,6 +23,7 @@ public interface CreateAccountUseCase {
         String ownerName;
         BigDecimal initialBalance;
         String currency;
+        String accountType;
         String idempotencyKey;
 
         public void validate() {
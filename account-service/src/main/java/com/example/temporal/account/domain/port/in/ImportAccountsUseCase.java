@@ -0,0 +1,60 @@
+package com.example.temporal.account.domain.port.in;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Input port for bulk account import
+ */
+public interface ImportAccountsUseCase {
+
+    /**
+     * Imports accounts chunk by chunk, reporting each chunk as soon as it is committed.
+     * Lines whose idempotency key was already imported are skipped, not rejected.
+     */
+    ImportSummary importAccounts(Iterator<ImportLine> lines, Consumer<ChunkReport> chunkListener);
+
+    @Value
+    @Builder
+    class ImportLine {
+        long lineNumber;
+        CreateAccountUseCase.CreateAccountCommand command;
+        String parseError;
+    }
+
+    @Value
+    @Builder
+    class Rejection {
+        long lineNumber;
+        String accountNumber;
+        String reason;
+    }
+
+    @Value
+    @Builder
+    class ChunkReport {
+        int chunk;
+        int received;
+        int inserted;
+        int alreadyImported;
+        List<Rejection> rejections;
+        long elapsedMillis;
+        double accountsPerSecond;
+    }
+
+    @Value
+    @Builder
+    class ImportSummary {
+        int chunks;
+        long received;
+        long inserted;
+        long alreadyImported;
+        long rejected;
+        long elapsedMillis;
+        double accountsPerSecond;
+    }
+}
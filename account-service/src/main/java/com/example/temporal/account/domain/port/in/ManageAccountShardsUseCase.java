@@ -0,0 +1,41 @@
+package com.example.temporal.account.domain.port.in;
+
+import com.example.temporal.account.domain.model.ShardPlacementDomain;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Input port for account shard placement and online rebalancing
+ */
+public interface ManageAccountShardsUseCase {
+
+    /**
+     * Get the placement of an account
+     */
+    ShardPlacementDomain locate(String accountNumber);
+
+    /**
+     * Move an account to the given shard and pin it there
+     */
+    ShardPlacementDomain move(String accountNumber, String shard);
+
+    /**
+     * Move every unpinned account to the shard the ring wants it on,
+     * removing stale copies left by interrupted moves
+     */
+    RebalanceReport rebalance();
+
+    /**
+     * Drop directory entries made redundant once joining shards enter the ring
+     */
+    int compactDirectory();
+
+    @Value
+    @Builder
+    class RebalanceReport {
+        int scanned;
+        int moved;
+        int orphansRemoved;
+        int failed;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.temporal.account.domain.port.in;
+
+import com.example.temporal.account.domain.model.BalanceSlotDomain;
+
+import java.util.List;
+
+/**
+ * Input port for managing balance slots of hot accounts
+ */
+public interface ManageBalanceSlotsUseCase {
+
+    /**
+     * Spread the account balance over the given number of slots.
+     * A slot count of 0 folds every slot back into the account balance.
+     */
+    List<BalanceSlotDomain> configureSlots(String accountNumber, int slotCount);
+
+    /**
+     * Redistribute the slot balances evenly
+     */
+    List<BalanceSlotDomain> rebalance(String accountNumber);
+
+    /**
+     * Get the slots of an account
+     */
+    List<BalanceSlotDomain> getSlots(String accountNumber);
+}
@@ -0,0 +1,30 @@
+package com.example.temporal.account.domain.port.out;
+
+import com.example.temporal.account.domain.model.AccountDomain;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Output port for the account read cache
+ */
+public interface AccountCachePort {
+
+    /**
+     * Get a cached account snapshot, loading it on a miss (absent accounts are not cached)
+     */
+    Optional<AccountDomain> get(String accountNumber, Function<String, Optional<AccountDomain>> loader);
+
+    /**
+     * Evict an account changed by this service, once the current transaction commits
+     */
+    void evict(String accountNumber);
+
+    /**
+     * Evict an account reported by the change data capture stream
+     *
+     * @param committedAt commit time of the change at the source database
+     */
+    void evictChanged(String accountNumber, Instant committedAt);
+}
@@ -0,0 +1,17 @@
+package com.example.temporal.account.domain.port.out;
+
+import com.example.temporal.account.domain.model.AccountChangeEvent;
+
+import java.util.List;
+
+/**
+ * Output port for publishing captured account changes
+ */
+public interface AccountChangePublisherPort {
+
+    /**
+     * Publish a batch of changes, in order.
+     * Returns only once every event is acknowledged; throws if any is not.
+     */
+    void publish(List<AccountChangeEvent> events);
+}
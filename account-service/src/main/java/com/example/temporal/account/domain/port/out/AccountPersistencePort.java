@@ -2,8 +2,10 @@ package com.example.temporal.account.domain.port.out;
 
 import com.example.temporal.account.domain.model.AccountDomain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Output port for account persistence
@@ -54,4 +56,21 @@ public interface AccountPersistencePort {
      * Check if idempotency key exists
      */
     boolean existsByIdempotencyKey(String idempotencyKey);
+
+    /**
+     * Find which of the given account numbers already exist (single query)
+     */
+    Set<String> findExistingAccountNumbers(Collection<String> accountNumbers);
+
+    /**
+     * Find which of the given idempotency keys already exist (single query)
+     */
+    Set<String> findExistingIdempotencyKeys(Collection<String> idempotencyKeys);
+
+    /**
+     * Insert new accounts in one JDBC batch and one transaction
+     *
+     * @return number of inserted accounts
+     */
+    int insertAll(List<AccountDomain> accounts);
 }
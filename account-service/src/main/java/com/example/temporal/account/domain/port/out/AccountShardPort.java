@@ -0,0 +1,44 @@
+package com.example.temporal.account.domain.port.out;
+
+import com.example.temporal.account.domain.model.ShardPlacementDomain;
+
+import java.util.List;
+
+/**
+ * Output port for account shard placement and data movement
+ */
+public interface AccountShardPort {
+
+    /**
+     * Names of all configured shards, including joining ones
+     */
+    List<String> shards();
+
+    /**
+     * Current placement of an account, read from the shard directory
+     */
+    ShardPlacementDomain locate(String accountNumber);
+
+    /**
+     * Account numbers stored on a shard after the given one, in order
+     */
+    List<String> findAccountNumbers(String shard, String after, int limit);
+
+    /**
+     * Copy an account and its balance slots to the target shard, repoint the
+     * directory and delete the source copy, holding the source row lock throughout
+     */
+    void move(String accountNumber, String targetShard, boolean pinned);
+
+    /**
+     * Delete a stale copy of an account from a shard that no longer owns it
+     */
+    void deleteOrphan(String accountNumber, String shard);
+
+    /**
+     * Remove unpinned directory entries that match the ring
+     *
+     * @return number of removed entries
+     */
+    int compactDirectory();
+}
@@ -0,0 +1,59 @@
+package com.example.temporal.account.domain.port.out;
+
+import com.example.temporal.account.domain.model.BalanceSlotDomain;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Output port for balance slot persistence
+ */
+public interface BalanceSlotPersistencePort {
+
+    /**
+     * Find all slots of an account, ordered by slot index
+     */
+    List<BalanceSlotDomain> findByAccountNumber(String accountNumber);
+
+    /**
+     * Find all slots of an account with pessimistic lock, ordered by slot index
+     */
+    List<BalanceSlotDomain> findByAccountNumberWithLock(String accountNumber);
+
+    /**
+     * Count the slots of an account (0 when the account is not sharded)
+     */
+    int countByAccountNumber(String accountNumber);
+
+    /**
+     * Sum of slot balances, zero when the account is not sharded
+     */
+    BigDecimal sumBalance(String accountNumber);
+
+    /**
+     * Sum of slot balances per account; accounts without slots are absent
+     */
+    Map<String, BigDecimal> sumBalances(Collection<String> accountNumbers);
+
+    /**
+     * Atomically add an amount to one slot
+     */
+    boolean creditSlot(String accountNumber, int slotIndex, BigDecimal amount);
+
+    /**
+     * Atomically subtract an amount from one slot if the slot covers it
+     */
+    boolean debitSlotIfCovered(String accountNumber, int slotIndex, BigDecimal amount);
+
+    /**
+     * Save (insert or update) slots
+     */
+    List<BalanceSlotDomain> saveAll(List<BalanceSlotDomain> slots);
+
+    /**
+     * Remove all slots of an account
+     */
+    void deleteByAccountNumber(String accountNumber);
+}
@@ -0,0 +1,199 @@
+package com.example.temporal.account.domain.service;
+
+import com.example.temporal.account.config.AccountImportProperties;
+import com.example.temporal.account.domain.model.AccountDomain;
+import com.example.temporal.account.domain.port.in.CreateAccountUseCase.CreateAccountCommand;
+import com.example.temporal.account.domain.port.in.ImportAccountsUseCase;
+import com.example.temporal.account.domain.port.out.AccountPersistencePort;
+import com.example.temporal.common.message.ErrorMessages;
+import com.example.temporal.common.message.MessageResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Domain service for bulk account import.
+ * <p>
+ * Each chunk is deduplicated in memory, checked against the database with
+ * two set-based queries and inserted in a single batch, instead of the three
+ * round trips per account done by {@link AccountService#createAccount}.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountImportService implements ImportAccountsUseCase {
+
+    private final AccountPersistencePort persistencePort;
+    private final AccountImportProperties properties;
+
+    @Override
+    public ImportSummary importAccounts(
+            final Iterator<ImportLine> lines,
+            final Consumer<ChunkReport> chunkListener) {
+
+        final long start = System.nanoTime();
+        final int chunkSize = Math.max(1, properties.getChunkSize());
+        final List<ImportLine> chunk = new ArrayList<>(chunkSize);
+
+        int chunks = 0;
+        long received = 0;
+        long inserted = 0;
+        long alreadyImported = 0;
+        long rejected = 0;
+
+        while (lines.hasNext()) {
+            chunk.add(lines.next());
+            if (chunk.size() < chunkSize && lines.hasNext()) {
+                continue;
+            }
+
+            final ChunkReport report = importChunk(++chunks, chunk);
+            chunkListener.accept(report);
+            chunk.clear();
+
+            received += report.getReceived();
+            inserted += report.getInserted();
+            alreadyImported += report.getAlreadyImported();
+            rejected += report.getRejections().size();
+        }
+
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("Account import finished: {} inserted, {} already imported, {} rejected in {} ms",
+                inserted, alreadyImported, rejected, elapsedMillis);
+
+        return ImportSummary.builder()
+                .chunks(chunks)
+                .received(received)
+                .inserted(inserted)
+                .alreadyImported(alreadyImported)
+                .rejected(rejected)
+                .elapsedMillis(elapsedMillis)
+                .accountsPerSecond(rate(inserted, elapsedMillis))
+                .build();
+    }
+
+    /**
+     * Imports one chunk.
+     *
+     * @param chunkNumber the 1-based chunk number
+     * @param lines the lines of the chunk
+     * @return the chunk report
+     */
+    private ChunkReport importChunk(final int chunkNumber, final List<ImportLine> lines) {
+        final long start = System.nanoTime();
+        final List<Rejection> rejections = new ArrayList<>();
+
+        final Map<String, AccountDomain> byAccountNumber = new LinkedHashMap<>();
+        final Map<String, ImportLine> lineByAccountNumber = new LinkedHashMap<>();
+        final Set<String> idempotencyKeys = new HashSet<>();
+
+        for (final ImportLine line : lines) {
+            final AccountDomain account;
+            try {
+                account = toAccount(line);
+            } catch (final IllegalArgumentException e) {
+                rejections.add(reject(line, e.getMessage()));
+                continue;
+            }
+
+            if (byAccountNumber.containsKey(account.getAccountNumber())
+                    || !idempotencyKeys.add(account.getIdempotencyKey())) {
+                rejections.add(reject(line, MessageResolver.resolveError(
+                        ErrorMessages.DUPLICATE_ENTRY, account.getAccountNumber())));
+                continue;
+            }
+            byAccountNumber.put(account.getAccountNumber(), account);
+            lineByAccountNumber.put(account.getAccountNumber(), line);
+        }
+
+        final Set<String> importedKeys = byAccountNumber.isEmpty()
+                ? Set.of()
+                : persistencePort.findExistingIdempotencyKeys(idempotencyKeys);
+        final int candidates = byAccountNumber.size();
+        byAccountNumber.values().removeIf(account -> importedKeys.contains(account.getIdempotencyKey()));
+        final int alreadyImported = candidates - byAccountNumber.size();
+
+        final Set<String> existingNumbers = byAccountNumber.isEmpty()
+                ? Set.of()
+                : persistencePort.findExistingAccountNumbers(byAccountNumber.keySet());
+        for (final String accountNumber : existingNumbers) {
+            byAccountNumber.remove(accountNumber);
+            rejections.add(reject(lineByAccountNumber.get(accountNumber),
+                    MessageResolver.resolveError(ErrorMessages.DUPLICATE_ENTRY, accountNumber)));
+        }
+
+        int inserted = 0;
+        if (!byAccountNumber.isEmpty()) {
+            try {
+                inserted = persistencePort.insertAll(new ArrayList<>(byAccountNumber.values()));
+            } catch (final Exception e) {
+                log.error("Error inserting import chunk {}: {}", chunkNumber, e.getMessage());
+                final String reason = MessageResolver.resolveError(ErrorMessages.OPERATION_FAILED, e.getMessage());
+                byAccountNumber.keySet().forEach(accountNumber ->
+                        rejections.add(reject(lineByAccountNumber.get(accountNumber), reason)));
+            }
+        }
+
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.debug("Import chunk {}: {} lines, {} inserted, {} rejected in {} ms",
+                chunkNumber, lines.size(), inserted, rejections.size(), elapsedMillis);
+
+        return ChunkReport.builder()
+                .chunk(chunkNumber)
+                .received(lines.size())
+                .inserted(inserted)
+                .alreadyImported(alreadyImported)
+                .rejections(rejections)
+                .elapsedMillis(elapsedMillis)
+                .accountsPerSecond(rate(inserted, elapsedMillis))
+                .build();
+    }
+
+    /**
+     * Builds a validated account from an import line.
+     *
+     * @param line the import line
+     * @return the account
+     * @throws IllegalArgumentException if the line is malformed or invalid
+     */
+    private AccountDomain toAccount(final ImportLine line) {
+        if (line.getParseError() != null) {
+            throw new IllegalArgumentException(line.getParseError());
+        }
+        final CreateAccountCommand command = line.getCommand();
+        command.validate();
+
+        return AccountDomain.create(
+                command.getAccountNumber(),
+                command.getOwnerName(),
+                command.getInitialBalance(),
+                command.getCurrency(),
+                command.getAccountType(),
+                command.getIdempotencyKey() != null ? command.getIdempotencyKey() : UUID.randomUUID().toString()
+        );
+    }
+
+    private Rejection reject(final ImportLine line, final String reason) {
+        return Rejection.builder()
+                .lineNumber(line.getLineNumber())
+                .accountNumber(line.getCommand() != null ? line.getCommand().getAccountNumber() : null)
+                .reason(reason)
+                .build();
+    }
+
+    private static double rate(final long count, final long elapsedMillis) {
+        return elapsedMillis > 0 ? count * 1000.0 / elapsedMillis : count;
+    }
+}
@@ -58,9 +58,10 @@ public class AccountOperationService {
     }
 
     /**
-     * Gets account balance (read operation, no idempotency needed)
+     * Gets account balance (read operation, no idempotency needed); not read-only,
+     * since it reads through the account cache, whose misses load from the primary
      */
-    @Transactional(readOnly = true)
+    @Transactional
     public BigDecimal getBalance(String accountNumber) {
         return accountOperationsUseCase.getBalance(accountNumber);
     }
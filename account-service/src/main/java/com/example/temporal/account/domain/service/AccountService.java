@@ -4,6 +4,7 @@ import com.example.temporal.account.domain.model.AccountDomain;
 import com.example.temporal.account.domain.port.in.AccountOperationsUseCase;
 import com.example.temporal.account.domain.port.in.CreateAccountUseCase;
 import com.example.temporal.account.domain.port.in.QueryAccountUseCase;
+import com.example.temporal.account.domain.port.out.AccountCachePort;
 import com.example.temporal.account.domain.port.out.AccountPersistencePort;
 import com.example.temporal.common.message.ErrorMessages;
 import com.example.temporal.common.message.MessageResolver;
@@ -15,8 +16,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Domain service implementing account use cases
@@ -28,6 +31,8 @@ import java.util.UUID;
 public class AccountService implements CreateAccountUseCase, QueryAccountUseCase, AccountOperationsUseCase {
 
     private final AccountPersistencePort persistencePort;
+    private final BalanceSlotService balanceSlotService;
+    private final AccountCachePort accountCachePort;
 
     @Override
     @Transactional
@@ -124,6 +129,7 @@ public class AccountService implements CreateAccountUseCase, QueryAccountUseCase
                 command.getOwnerName(),
                 command.getInitialBalance(),
                 command.getCurrency(),
+                command.getAccountType(),
                 idempotencyKey
         );
 
@@ -146,29 +152,62 @@ public class AccountService implements CreateAccountUseCase, QueryAccountUseCase
         }
     }
 
+    /**
+     * Not read-only on purpose: a miss fills the read cache, so it must load from
+     * the primary rather than from a lagging replica, which could cache a balance
+     * from before a write whose eviction already happened. Hits open no connection.
+     */
     @Override
+    @Transactional
     public Optional<AccountDomain> getAccountByNumber(final String accountNumber) {
         log.debug("Getting account by number: {}", accountNumber);
-        return persistencePort.findByAccountNumber(accountNumber);
+        return accountCachePort.get(accountNumber, this::loadAccount);
+    }
+
+    /**
+     * Loads an account with its logical balance (row plus balance slots).
+     *
+     * @param accountNumber the account number
+     * @return the account, if found
+     */
+    private Optional<AccountDomain> loadAccount(final String accountNumber) {
+        return persistencePort.findByAccountNumber(accountNumber)
+                .map(account -> withSlotBalance(account, balanceSlotService.slotBalance(accountNumber)));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<AccountDomain> getAccountById(final Long id) {
         log.debug("Getting account by ID: {}", id);
         return persistencePort.findById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<AccountDomain> getAccounts(final List<String> accountNumbers) {
         log.debug("Getting accounts: {}", accountNumbers);
-        return persistencePort.findByAccountNumberIn(accountNumbers);
+        final List<AccountDomain> accounts = persistencePort.findByAccountNumberIn(accountNumbers);
+        final Map<String, BigDecimal> slotBalances = balanceSlotService.slotBalances(accountNumbers);
+        if (slotBalances.isEmpty()) {
+            return accounts;
+        }
+        return accounts.stream()
+                .map(account -> withSlotBalance(account,
+                        slotBalances.getOrDefault(account.getAccountNumber(), BigDecimal.ZERO)))
+                .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean accountExists(final String accountNumber) {
         return persistencePort.existsByAccountNumber(accountNumber);
     }
 
+    /**
+     * Locks both accounts in account number order, so two transfers between the
+     * same pair of accounts in opposite directions cannot deadlock (the locks may
+     * live on different shards, where the database cannot detect the cycle).
+     */
     @Override
     @Transactional
     public void lockAccounts(
@@ -176,20 +215,28 @@ public class AccountService implements CreateAccountUseCase, QueryAccountUseCase
             final String destinationAccountNumber) {
         log.info("Locking accounts: {} and {}", sourceAccountNumber, destinationAccountNumber);
 
-        final AccountDomain source = findAccountWithLock(
-                sourceAccountNumber,
+        final boolean sourceFirst = sourceAccountNumber.compareTo(destinationAccountNumber) <= 0;
+        final AccountDomain first = findAccountWithLock(
+                sourceFirst ? sourceAccountNumber : destinationAccountNumber,
                 ErrorMessages.ENTITY_NOT_FOUND);
-        final AccountDomain destination = findAccountWithLock(
-                destinationAccountNumber,
+        final AccountDomain second = findAccountWithLock(
+                sourceFirst ? destinationAccountNumber : sourceAccountNumber,
                 ErrorMessages.ENTITY_NOT_FOUND);
 
-        log.debug("Accounts locked: {} and {}", source.getAccountNumber(), destination.getAccountNumber());
+        log.debug("Accounts locked: {} and {}", first.getAccountNumber(), second.getAccountNumber());
     }
 
     @Override
     @Transactional
     public void debitAccount(final String accountNumber, final BigDecimal amount) {
         log.info("Debiting account {} amount {}", accountNumber, amount);
+        accountCachePort.evict(accountNumber);
+
+        if (balanceSlotService.slotCount(accountNumber) > 0) {
+            balanceSlotService.debit(accountNumber, amount);
+            log.info("Sharded account debited successfully: {}", accountNumber);
+            return;
+        }
 
         final AccountDomain account = findAccountWithLock(
                 accountNumber,
@@ -207,6 +254,13 @@ public class AccountService implements CreateAccountUseCase, QueryAccountUseCase
     @Transactional
     public void creditAccount(final String accountNumber, final BigDecimal amount) {
         log.info("Crediting account {} amount {}", accountNumber, amount);
+        accountCachePort.evict(accountNumber);
+
+        final int slotCount = balanceSlotService.slotCount(accountNumber);
+        if (slotCount > 0 && balanceSlotService.credit(accountNumber, amount, slotCount)) {
+            log.info("Sharded account credited successfully: {}", accountNumber);
+            return;
+        }
 
         final AccountDomain account = findAccountWithLock(
                 accountNumber,
@@ -220,7 +274,11 @@ public class AccountService implements CreateAccountUseCase, QueryAccountUseCase
                 accountNumber, updatedAccount.getBalance());
     }
 
+    /**
+     * Not read-only for the same reason as {@link #getAccountByNumber}: it reads through the cache.
+     */
     @Override
+    @Transactional
     public BigDecimal getBalance(final String accountNumber) {
         log.debug("Getting balance for account: {}", accountNumber);
 
@@ -231,6 +289,17 @@ public class AccountService implements CreateAccountUseCase, QueryAccountUseCase
         return account.getBalance();
     }
 
+    /**
+     * Adds the slot balances of a sharded account to its row balance.
+     *
+     * @param account the account
+     * @param slotBalance the sum of its slot balances
+     * @return the account with its logical balance
+     */
+    private AccountDomain withSlotBalance(final AccountDomain account, final BigDecimal slotBalance) {
+        return slotBalance.signum() == 0 ? account : account.withBalance(account.getBalance().add(slotBalance));
+    }
+
     /**
      * Finds an account with pessimistic lock.
      *
@@ -248,7 +317,7 @@ public class AccountService implements CreateAccountUseCase, QueryAccountUseCase
     }
 
     /**
-     * Finds an account without lock.
+     * Finds an account without lock, through the read cache.
      *
      * @param accountNumber the account number
      * @param errorKey the error message key
@@ -256,7 +325,7 @@ public class AccountService implements CreateAccountUseCase, QueryAccountUseCase
      * @throws IllegalArgumentException if account not found
      */
     private AccountDomain findAccount(final String accountNumber, final String errorKey) {
-        return persistencePort.findByAccountNumber(accountNumber)
+        return getAccountByNumber(accountNumber)
                 .orElseThrow(() -> new IllegalArgumentException(
                         MessageResolver.resolveError(errorKey, accountNumber)));
     }
@@ -0,0 +1,101 @@
+package com.example.temporal.account.domain.service;
+
+import com.example.temporal.account.domain.model.ShardPlacementDomain;
+import com.example.temporal.account.domain.port.in.ManageAccountShardsUseCase;
+import com.example.temporal.account.domain.port.out.AccountCachePort;
+import com.example.temporal.account.domain.port.out.AccountShardPort;
+import com.example.temporal.common.message.ErrorMessages;
+import com.example.temporal.common.message.MessageResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Domain service for account shard placement.
+ * <p>
+ * Rebalancing walks every shard in account number order and moves each
+ * unpinned account whose target shard differs. Accounts stay writable: a move
+ * only blocks writers of the account being moved, and a writer that loses the
+ * race fails with "not found" and succeeds on retry against the new shard.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "account.sharding", name = "enabled", havingValue = "true")
+public class AccountShardService implements ManageAccountShardsUseCase {
+
+    static final int PAGE_SIZE = 500;
+
+    private final AccountShardPort accountShardPort;
+    private final AccountCachePort accountCachePort;
+
+    @Override
+    public ShardPlacementDomain locate(final String accountNumber) {
+        return accountShardPort.locate(accountNumber);
+    }
+
+    @Override
+    public ShardPlacementDomain move(final String accountNumber, final String shard) {
+        if (!accountShardPort.shards().contains(shard)) {
+            throw new IllegalArgumentException(
+                    MessageResolver.resolveError(ErrorMessages.VALIDATION_ERROR, "Unknown shard: " + shard));
+        }
+        log.info("Moving account {} to shard {}", accountNumber, shard);
+        accountShardPort.move(accountNumber, shard, true);
+        accountCachePort.evict(accountNumber);
+        return accountShardPort.locate(accountNumber);
+    }
+
+    @Override
+    public RebalanceReport rebalance() {
+        int scanned = 0;
+        int moved = 0;
+        int orphansRemoved = 0;
+        int failed = 0;
+
+        for (final String shard : accountShardPort.shards()) {
+            String after = "";
+            List<String> page;
+            while (!(page = accountShardPort.findAccountNumbers(shard, after, PAGE_SIZE)).isEmpty()) {
+                for (final String accountNumber : page) {
+                    scanned++;
+                    final ShardPlacementDomain placement = accountShardPort.locate(accountNumber);
+                    if (!placement.getShard().equals(shard)) {
+                        log.warn("Removing stale copy of account {} from shard {}", accountNumber, shard);
+                        accountShardPort.deleteOrphan(accountNumber, shard);
+                        orphansRemoved++;
+                    } else if (!placement.isPinned() && !placement.getTargetShard().equals(shard)) {
+                        try {
+                            accountShardPort.move(accountNumber, placement.getTargetShard(), false);
+                            accountCachePort.evict(accountNumber);
+                            moved++;
+                        } catch (final RuntimeException e) {
+                            log.warn("Failed to move account {} to shard {}: {}",
+                                    accountNumber, placement.getTargetShard(), e.getMessage());
+                            failed++;
+                        }
+                    }
+                }
+                after = page.get(page.size() - 1);
+            }
+        }
+
+        log.info("Shard rebalance finished: scanned={} moved={} orphansRemoved={} failed={}",
+                scanned, moved, orphansRemoved, failed);
+        return RebalanceReport.builder()
+                .scanned(scanned)
+                .moved(moved)
+                .orphansRemoved(orphansRemoved)
+                .failed(failed)
+                .build();
+    }
+
+    @Override
+    public int compactDirectory() {
+        return accountShardPort.compactDirectory();
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.temporal.account.domain.service;
+
+import com.example.temporal.account.domain.model.AccountDomain;
+import com.example.temporal.account.domain.model.BalanceSlotDomain;
+import com.example.temporal.account.domain.port.in.ManageBalanceSlotsUseCase;
+import com.example.temporal.account.domain.port.out.AccountPersistencePort;
+import com.example.temporal.account.domain.port.out.BalanceSlotPersistencePort;
+import com.example.temporal.common.message.ErrorMessages;
+import com.example.temporal.common.message.MessageResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Domain service for hot accounts whose balance is split into slots.
+ * <p>
+ * Credits add to a random slot with a single atomic update, so concurrent
+ * credits to the same account contend on different rows. Debits first try a
+ * conditional update on one slot that covers the amount and only lock every
+ * slot (in slot order) when no single slot does. Credits that find no slot,
+ * because the slots were removed concurrently, land on the account row, so
+ * the locked debit counts the row balance too and folds it into the slots.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BalanceSlotService implements ManageBalanceSlotsUseCase {
+
+    static final int MAX_SLOTS = 64;
+
+    private final AccountPersistencePort accountPersistencePort;
+    private final BalanceSlotPersistencePort slotPersistencePort;
+
+    @Override
+    @Transactional
+    public List<BalanceSlotDomain> configureSlots(final String accountNumber, final int slotCount) {
+        log.info("Configuring {} balance slots for account {}", slotCount, accountNumber);
+
+        validateSlotCount(slotCount);
+
+        final AccountDomain account = accountPersistencePort.findByAccountNumberWithLock(accountNumber)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        MessageResolver.resolveError(ErrorMessages.ENTITY_NOT_FOUND, accountNumber)));
+        final List<BalanceSlotDomain> existing = slotPersistencePort.findByAccountNumberWithLock(accountNumber);
+        final BigDecimal total = account.getBalance().add(BalanceSlotDomain.total(existing));
+
+        slotPersistencePort.deleteByAccountNumber(accountNumber);
+
+        if (slotCount == 0) {
+            accountPersistencePort.update(account.withBalance(total));
+            log.info("Balance slots removed for account {}, balance {}", accountNumber, total);
+            return Collections.emptyList();
+        }
+
+        accountPersistencePort.update(account.withBalance(BigDecimal.ZERO.setScale(total.scale())));
+        final List<BalanceSlotDomain> slots = slotPersistencePort.saveAll(
+                BalanceSlotDomain.split(accountNumber, total, slotCount));
+
+        log.info("Account {} balance {} spread over {} slots", accountNumber, total, slotCount);
+        return slots;
+    }
+
+    @Override
+    @Transactional
+    public List<BalanceSlotDomain> rebalance(final String accountNumber) {
+        log.info("Rebalancing slots of account {}", accountNumber);
+
+        final List<BalanceSlotDomain> locked = slotPersistencePort.findByAccountNumberWithLock(accountNumber);
+        if (locked.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return slotPersistencePort.saveAll(redistribute(locked, BalanceSlotDomain.total(locked)));
+    }
+
+    @Override
+    public List<BalanceSlotDomain> getSlots(final String accountNumber) {
+        return slotPersistencePort.findByAccountNumber(accountNumber);
+    }
+
+    /**
+     * Number of slots of an account, 0 when the account is not sharded.
+     */
+    public int slotCount(final String accountNumber) {
+        return slotPersistencePort.countByAccountNumber(accountNumber);
+    }
+
+    /**
+     * Sum of the slot balances, zero when the account is not sharded.
+     */
+    public BigDecimal slotBalance(final String accountNumber) {
+        return slotPersistencePort.sumBalance(accountNumber);
+    }
+
+    /**
+     * Sum of the slot balances per account; accounts without slots are absent.
+     */
+    public Map<String, BigDecimal> slotBalances(final Collection<String> accountNumbers) {
+        return slotPersistencePort.sumBalances(accountNumbers);
+    }
+
+    /**
+     * Credits a random slot of a sharded account.
+     *
+     * @param accountNumber the account number
+     * @param amount        the amount to credit
+     * @param slotCount     the current number of slots
+     * @return false if the account no longer has slots and must be credited directly
+     * @throws IllegalArgumentException if amount is invalid
+     */
+    @Transactional
+    public boolean credit(final String accountNumber, final BigDecimal amount, final int slotCount) {
+        validateAmount(amount);
+
+        final int slotIndex = ThreadLocalRandom.current().nextInt(slotCount);
+        // Slots may have been reconfigured concurrently; slot 0 exists for any positive count
+        return slotPersistencePort.creditSlot(accountNumber, slotIndex, amount)
+                || slotPersistencePort.creditSlot(accountNumber, 0, amount);
+    }
+
+    /**
+     * Debits a sharded account.
+     *
+     * @param accountNumber the account number
+     * @param amount        the amount to debit
+     * @throws IllegalArgumentException if amount is invalid
+     * @throws IllegalStateException    if insufficient funds
+     */
+    @Transactional
+    public void debit(final String accountNumber, final BigDecimal amount) {
+        validateAmount(amount);
+
+        if (tryDebitSingleSlot(accountNumber, amount)) {
+            return;
+        }
+
+        log.debug("No single slot covers {} on account {}, locking all slots", amount, accountNumber);
+
+        // Row before slots, in the same order as configureSlots
+        final AccountDomain account = accountPersistencePort.findByAccountNumberWithLock(accountNumber)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        MessageResolver.resolveError(ErrorMessages.ENTITY_NOT_FOUND, accountNumber)));
+        final List<BalanceSlotDomain> locked = slotPersistencePort.findByAccountNumberWithLock(accountNumber);
+        if (locked.isEmpty()) {
+            accountPersistencePort.update(account.debit(amount));
+            return;
+        }
+
+        final BigDecimal total = account.getBalance().add(BalanceSlotDomain.total(locked));
+        if (total.compareTo(amount) < 0) {
+            throw new IllegalStateException(
+                    MessageResolver.resolveError(ErrorMessages.INSUFFICIENT_FUNDS, total, amount));
+        }
+
+        if (account.getBalance().signum() != 0) {
+            accountPersistencePort.update(account.withBalance(BigDecimal.ZERO.setScale(account.getBalance().scale())));
+        }
+        slotPersistencePort.saveAll(redistribute(locked, total.subtract(amount)));
+    }
+
+    /**
+     * Tries a conditional debit on slots that looked large enough, starting at a random slot.
+     * A failed conditional update holds no lock, so falling back afterwards is deadlock-free.
+     */
+    private boolean tryDebitSingleSlot(final String accountNumber, final BigDecimal amount) {
+        final List<BalanceSlotDomain> slots = slotPersistencePort.findByAccountNumber(accountNumber);
+        if (slots.isEmpty()) {
+            return false;
+        }
+
+        final int start = ThreadLocalRandom.current().nextInt(slots.size());
+        for (int i = 0; i < slots.size(); i++) {
+            final BalanceSlotDomain slot = slots.get((start + i) % slots.size());
+            if (slot.getBalance().compareTo(amount) >= 0
+                    && slotPersistencePort.debitSlotIfCovered(accountNumber, slot.getSlotIndex(), amount)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Spreads a total evenly over the locked slots, keeping their identities.
+     */
+    private List<BalanceSlotDomain> redistribute(final List<BalanceSlotDomain> locked, final BigDecimal total) {
+        final List<BalanceSlotDomain> split = BalanceSlotDomain.split(
+                locked.get(0).getAccountNumber(), total, locked.size());
+
+        final List<BalanceSlotDomain> updated = new ArrayList<>(locked.size());
+        for (int i = 0; i < locked.size(); i++) {
+            updated.add(locked.get(i).withBalance(split.get(i).getBalance()));
+        }
+        return updated;
+    }
+
+    private void validateSlotCount(final int slotCount) {
+        if (slotCount < 0 || slotCount > MAX_SLOTS) {
+            throw new IllegalArgumentException(MessageResolver.resolveError(
+                    ErrorMessages.VALIDATION_ERROR, "Slot count must be between 0 and " + MAX_SLOTS));
+        }
+    }
+
+    private void validateAmount(final BigDecimal amount) {
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException(
+                    MessageResolver.resolveError(ErrorMessages.AMOUNT_MUST_BE_POSITIVE));
+        }
+    }
+}
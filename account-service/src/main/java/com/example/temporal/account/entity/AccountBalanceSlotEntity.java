@@ -0,0 +1,48 @@
+package com.example.temporal.account.entity;
+
+import com.example.temporal.common.model.IdAllocation;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity for a balance slot of a hot account.
+ * A sharded account keeps its balance split across N slot rows so that
+ * concurrent credits lock different rows instead of the single accounts row.
+ */
+@Data
+@Entity
+@Accessors(chain = true)
+@Table(name = "account_balance_slots",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_account_balance_slots_account_slot",
+                columnNames = {"account_number", "slot_index"}))
+public class AccountBalanceSlotEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_balance_slots_seq")
+    @SequenceGenerator(name = "account_balance_slots_seq", sequenceName = "account_balance_slots_seq",
+            allocationSize = IdAllocation.ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(name = "account_number", nullable = false)
+    private String accountNumber;
+
+    @Column(name = "slot_index", nullable = false)
+    private Integer slotIndex;
+
+    @Column(nullable = false)
+    private BigDecimal balance;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
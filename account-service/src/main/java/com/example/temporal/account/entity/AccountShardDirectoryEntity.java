@@ -0,0 +1,41 @@
+package com.example.temporal.account.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity for a shard directory override.
+ * Accounts without an entry live on the shard picked by the consistent hash ring;
+ * an entry pins the account to another shard (after a move or rebalance).
+ */
+@Data
+@Entity
+@Accessors(chain = true)
+@Table(name = "account_shard_directory")
+public class AccountShardDirectoryEntity {
+
+    @Id
+    @Column(name = "account_number")
+    private String accountNumber;
+
+    @Column(name = "shard_name", nullable = false)
+    private String shardName;
+
+    /**
+     * Pinned entries were placed by hand and are left alone by the rebalancer
+     */
+    @Column(nullable = false)
+    private boolean pinned;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
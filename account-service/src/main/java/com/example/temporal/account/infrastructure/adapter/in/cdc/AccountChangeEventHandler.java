@@ -0,0 +1,128 @@
+package com.example.temporal.account.infrastructure.adapter.in.cdc;
+
+import com.example.temporal.account.config.AccountCdcProperties;
+import com.example.temporal.account.domain.model.AccountChangeEvent;
+import com.example.temporal.account.domain.port.out.AccountCachePort;
+import com.example.temporal.account.domain.port.out.AccountChangePublisherPort;
+import io.debezium.engine.DebeziumEngine;
+import io.debezium.engine.RecordChangeEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adapter consuming Debezium change batches on accounts and balance slots.
+ * <p>
+ * Each batch is mapped to typed {@link AccountChangeEvent}s, evicted from the
+ * read cache and published. Eviction comes first so the cache stays correct
+ * while the broker is unreachable. A failed publication is retried with
+ * exponential backoff instead of failing the engine, and offsets are marked
+ * processed only after it succeeded, so a batch cut short by shutdown is
+ * delivered again on restart.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountChangeEventHandler
+        implements DebeziumEngine.ChangeConsumer<RecordChangeEvent<SourceRecord>> {
+
+    private static final String ACCOUNT_NUMBER_COLUMN = "account_number";
+
+    private final AccountChangePublisherPort publisherPort;
+    private final AccountCachePort accountCachePort;
+    private final AccountCdcProperties properties;
+
+    @Override
+    public void handleBatch(
+            final List<RecordChangeEvent<SourceRecord>> records,
+            final DebeziumEngine.RecordCommitter<RecordChangeEvent<SourceRecord>> committer)
+            throws InterruptedException {
+
+        final List<AccountChangeEvent> events = new ArrayList<>(records.size());
+        for (final RecordChangeEvent<SourceRecord> record : records) {
+            final AccountChangeEvent event = toEvent(record.record());
+            if (event != null) {
+                events.add(event);
+            }
+        }
+
+        events.forEach(event -> accountCachePort.evictChanged(event.getAccountNumber(), event.getCommittedAt()));
+        publishWithRetry(events);
+
+        for (final RecordChangeEvent<SourceRecord> record : records) {
+            committer.markProcessed(record);
+        }
+        committer.markBatchFinished();
+
+        log.debug("Processed CDC batch: {} records, {} account changes", records.size(), events.size());
+    }
+
+    /**
+     * Publishes a batch, retrying until it succeeds or the engine is shut down.
+     *
+     * @throws InterruptedException when the engine is closed while waiting
+     */
+    private void publishWithRetry(final List<AccountChangeEvent> events) throws InterruptedException {
+        long backoffMillis = properties.getPublishRetryInitialBackoff().toMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                publisherPort.publish(events);
+                return;
+            } catch (final RuntimeException e) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException("Interrupted while publishing account changes");
+                }
+                log.warn("Failed to publish {} account changes (attempt {}), retrying in {} ms: {}",
+                        events.size(), attempt, backoffMillis, e.getMessage());
+                Thread.sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, properties.getPublishRetryMaxBackoff().toMillis());
+            }
+        }
+    }
+
+    /**
+     * Maps a Debezium record to a typed change, or null for tombstones and
+     * records that carry no account number.
+     */
+    AccountChangeEvent toEvent(final SourceRecord record) {
+        if (!(record.value() instanceof Struct value) || value.schema().field("op") == null) {
+            return null;
+        }
+
+        final Struct before = field(value, "before");
+        final Struct after = field(value, "after");
+        final Struct row = after != null ? after : before;
+        if (row == null || row.schema().field(ACCOUNT_NUMBER_COLUMN) == null) {
+            return null;
+        }
+
+        final Struct source = field(value, "source");
+        return AccountChangeEvent.builder()
+                .operation(AccountChangeEvent.Operation.fromCode(value.getString("op")))
+                .table(source != null ? (String) column(source, "table") : null)
+                .accountNumber(row.getString(ACCOUNT_NUMBER_COLUMN))
+                .balanceBefore(before != null ? (BigDecimal) column(before, "balance") : null)
+                .balanceAfter(after != null ? (BigDecimal) column(after, "balance") : null)
+                .currency((String) column(row, "currency"))
+                .committedAt(source != null && column(source, "ts_ms") != null
+                        ? Instant.ofEpochMilli((Long) column(source, "ts_ms")) : null)
+                .lsn(source != null ? (Long) column(source, "lsn") : null)
+                .build();
+    }
+
+    private static Struct field(final Struct value, final String name) {
+        return value.schema().field(name) != null ? value.getStruct(name) : null;
+    }
+
+    private static Object column(final Struct row, final String name) {
+        return row.schema().field(name) != null ? row.get(name) : null;
+    }
+}
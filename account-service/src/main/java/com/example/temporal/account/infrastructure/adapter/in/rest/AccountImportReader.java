@@ -0,0 +1,220 @@
+package com.example.temporal.account.infrastructure.adapter.in.rest;
+
+import com.example.temporal.account.domain.port.in.ImportAccountsUseCase.ImportLine;
+import com.example.temporal.account.infrastructure.adapter.in.rest.dto.AccountCreateRequest;
+import com.example.temporal.account.infrastructure.adapter.in.rest.mapper.AccountRestMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazily reads NDJSON or CSV account import bodies line by line,
+ * so the request is never held in memory as a whole.
+ * <p>
+ * CSV input needs a header row naming the columns
+ * (accountNumber, ownerName, balance, currency and optionally accountType and idempotencyKey).
+ * Fields follow RFC 4180 quoting, so a quoted value may hold commas and doubled quotes;
+ * a record spanning lines is not supported, and a line whose field count differs from
+ * the header's is rejected.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountImportReader {
+
+    public static final String NDJSON = "application/x-ndjson";
+    public static final String CSV = "text/csv";
+
+    private final ObjectMapper objectMapper;
+    private final AccountRestMapper accountRestMapper;
+
+    /**
+     * Returns an iterator over the import lines of the body.
+     *
+     * @param reader the request body reader
+     * @param csv true for CSV input, false for NDJSON
+     * @return lazy iterator of import lines, skipping blank lines
+     */
+    public Iterator<ImportLine> read(final BufferedReader reader, final boolean csv) {
+        return new LineIterator(reader, csv);
+    }
+
+    private ImportLine parseJson(final long lineNumber, final String line) {
+        try {
+            final AccountCreateRequest request = objectMapper.readValue(line, AccountCreateRequest.class);
+            return ImportLine.builder()
+                    .lineNumber(lineNumber)
+                    .command(accountRestMapper.toCreateAccountCommand(request))
+                    .build();
+        } catch (final IOException e) {
+            return parseError(lineNumber, "Malformed JSON line");
+        }
+    }
+
+    private ImportLine parseCsv(final long lineNumber, final String line, final Map<String, Integer> header) {
+        final List<String> values = splitCsv(line);
+        if (values == null) {
+            return parseError(lineNumber, "Unterminated quoted field");
+        }
+        if (values.size() != header.size()) {
+            return parseError(lineNumber, "Expected " + header.size() + " columns but found " + values.size());
+        }
+
+        final AccountCreateRequest request = new AccountCreateRequest();
+        request.setAccountNumber(column(values, header, "accountnumber"));
+        request.setOwnerName(column(values, header, "ownername"));
+        request.setCurrency(column(values, header, "currency"));
+        request.setAccountType(column(values, header, "accounttype"));
+        request.setIdempotencyKey(column(values, header, "idempotencykey"));
+
+        final String balance = column(values, header, "balance");
+        try {
+            request.setBalance(balance != null ? new BigDecimal(balance) : null);
+        } catch (final NumberFormatException e) {
+            return parseError(lineNumber, "Invalid balance: " + balance);
+        }
+
+        return ImportLine.builder()
+                .lineNumber(lineNumber)
+                .command(accountRestMapper.toCreateAccountCommand(request))
+                .build();
+    }
+
+    private static String column(final List<String> values, final Map<String, Integer> header, final String name) {
+        final Integer index = header.get(name);
+        if (index == null) {
+            return null;
+        }
+        final String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Map<String, Integer> parseHeader(final String line) {
+        final List<String> names = splitCsv(line);
+        if (names == null) {
+            return null;
+        }
+        final Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            header.put(names.get(i).trim().toLowerCase(), i);
+        }
+        return header;
+    }
+
+    /**
+     * Splits one CSV line into its fields, unquoting quoted ones.
+     *
+     * @param line the line
+     * @return the fields, or null when a quoted field is not closed on this line
+     */
+    static List<String> splitCsv(final String line) {
+        final List<String> fields = new ArrayList<>();
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && field.toString().isBlank()) {
+                field.setLength(0);
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static ImportLine parseError(final long lineNumber, final String error) {
+        return ImportLine.builder()
+                .lineNumber(lineNumber)
+                .parseError(error)
+                .build();
+    }
+
+    private final class LineIterator implements Iterator<ImportLine> {
+
+        private final BufferedReader reader;
+        private final boolean csv;
+        private Map<String, Integer> header;
+        private long lineNumber;
+        private boolean malformedHeader;
+        private ImportLine next;
+
+        private LineIterator(final BufferedReader reader, final boolean csv) {
+            this.reader = reader;
+            this.csv = csv;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = readNext();
+            }
+            return next != null;
+        }
+
+        @Override
+        public ImportLine next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final ImportLine current = next;
+            next = null;
+            return current;
+        }
+
+        private ImportLine readNext() {
+            try {
+                String line;
+                while (!malformedHeader && (line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    if (!csv) {
+                        return parseJson(lineNumber, line);
+                    }
+                    if (header == null) {
+                        header = parseHeader(line);
+                        if (header == null) {
+                            // Without columns no later line can be read
+                            malformedHeader = true;
+                            return parseError(lineNumber, "Unterminated quoted field in header");
+                        }
+                        continue;
+                    }
+                    return parseCsv(lineNumber, line, header);
+                }
+                return null;
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -2,23 +2,37 @@ package com.example.temporal.account.infrastructure.adapter.in.rest;
 
 import com.example.temporal.account.domain.model.AccountDomain;
 import com.example.temporal.account.domain.port.in.CreateAccountUseCase;
+import com.example.temporal.account.domain.port.in.ImportAccountsUseCase;
+import com.example.temporal.account.domain.port.in.ManageBalanceSlotsUseCase;
 import com.example.temporal.account.domain.port.in.QueryAccountUseCase;
 import com.example.temporal.account.domain.service.AccountOperationService;
 import com.example.temporal.common.aspect.IdempotentAspect.IdempotentOperationException;
+import com.example.temporal.account.infrastructure.adapter.in.rest.dto.AccountBatchRequest;
 import com.example.temporal.account.infrastructure.adapter.in.rest.dto.AccountCreateRequest;
 import com.example.temporal.account.infrastructure.adapter.in.rest.dto.AccountResponse;
 import com.example.temporal.account.infrastructure.adapter.in.rest.dto.BalanceResponse;
+import com.example.temporal.account.infrastructure.adapter.in.rest.dto.BalanceSlotResponse;
+import com.example.temporal.account.infrastructure.adapter.in.rest.dto.BalanceSlotsRequest;
 import com.example.temporal.account.infrastructure.adapter.in.rest.dto.LockAccountsRequest;
 import com.example.temporal.account.infrastructure.adapter.in.rest.dto.MessageResponse;
 import com.example.temporal.account.infrastructure.adapter.in.rest.dto.OperationRequest;
 import com.example.temporal.account.infrastructure.adapter.in.rest.mapper.AccountRestMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -30,9 +44,18 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AccountRestController {
 
+    /**
+     * Largest number of distinct accounts accepted by the batch lookup
+     */
+    private static final int MAX_BATCH_SIZE = 500;
+
     private final CreateAccountUseCase createAccountUseCase;
     private final QueryAccountUseCase queryAccountUseCase;
     private final AccountOperationService accountOperationService;
+    private final ManageBalanceSlotsUseCase manageBalanceSlotsUseCase;
+    private final ImportAccountsUseCase importAccountsUseCase;
+    private final AccountImportReader accountImportReader;
+    private final ObjectMapper objectMapper;
     private final AccountRestMapper accountRestMapper;
 
     @PostMapping
@@ -52,6 +75,42 @@ public class AccountRestController {
         return ResponseEntity.status(HttpStatus.CREATED).body(result);
     }
 
+    /**
+     * Streams an NDJSON or CSV body into the bulk importer and writes one NDJSON
+     * report line per committed chunk, followed by the import summary.
+     */
+    @PostMapping(value = "/bulk",
+            consumes = {AccountImportReader.NDJSON, AccountImportReader.CSV},
+            produces = AccountImportReader.NDJSON)
+    public void importAccounts(
+            final HttpServletRequest request,
+            final HttpServletResponse response) throws IOException {
+        final boolean csv = request.getContentType().startsWith(AccountImportReader.CSV);
+        log.info("REST: Bulk importing accounts ({})", csv ? "CSV" : "NDJSON");
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(AccountImportReader.NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        final BufferedReader reader = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+        final PrintWriter writer = response.getWriter();
+
+        final ImportAccountsUseCase.ImportSummary summary = importAccountsUseCase.importAccounts(
+                accountImportReader.read(reader, csv),
+                report -> writeLine(writer, report));
+        writeLine(writer, summary);
+    }
+
+    private void writeLine(final PrintWriter writer, final Object value) {
+        try {
+            writer.println(objectMapper.writeValueAsString(value));
+            writer.flush();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @GetMapping("/{accountNumber}")
     public ResponseEntity<AccountResponse> getAccount(@PathVariable final String accountNumber) {
         log.debug("REST: Getting account: {}", accountNumber);
@@ -73,6 +132,37 @@ public class AccountRestController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * Batch lookup used by callers that need several accounts per request
+     * (e.g. source and destination of a transfer). Unknown accounts are
+     * simply absent from the response.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<List<AccountResponse>> getAccountBatch(
+            @RequestParam final List<String> accountNumbers) {
+        return accountBatch(accountNumbers);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<AccountResponse>> postAccountBatch(
+            @RequestBody final AccountBatchRequest request) {
+        return accountBatch(request.getAccountNumbers());
+    }
+
+    private ResponseEntity<List<AccountResponse>> accountBatch(final List<String> accountNumbers) {
+        if (accountNumbers == null || accountNumbers.isEmpty()) {
+            return ResponseEntity.ok(List.of());
+        }
+        final List<String> distinct = accountNumbers.stream().distinct().toList();
+        if (distinct.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        log.debug("REST: Getting account batch of {}", distinct.size());
+
+        final List<AccountDomain> accounts = queryAccountUseCase.getAccounts(distinct);
+        return ResponseEntity.ok(accountRestMapper.toAccountResponses(accounts));
+    }
+
     @PostMapping("/lock")
     public ResponseEntity<MessageResponse> lockAccounts(
             @RequestBody final LockAccountsRequest request) {
@@ -166,4 +256,41 @@ public class AccountRestController {
         response.setBalance(balance);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/{accountNumber}/slots")
+    public ResponseEntity<List<BalanceSlotResponse>> getSlots(
+            @PathVariable final String accountNumber) {
+        log.debug("REST: Getting balance slots for account: {}", accountNumber);
+
+        return ResponseEntity.ok(accountRestMapper.toBalanceSlotResponses(
+                manageBalanceSlotsUseCase.getSlots(accountNumber)));
+    }
+
+    @PostMapping("/{accountNumber}/slots")
+    public ResponseEntity<?> configureSlots(
+            @PathVariable final String accountNumber,
+            @RequestBody final BalanceSlotsRequest request) {
+        log.info("REST: Configuring {} balance slots for account: {}", request.getSlotCount(), accountNumber);
+
+        try {
+            final int slotCount = request.getSlotCount() != null ? request.getSlotCount() : 0;
+            return ResponseEntity.ok(accountRestMapper.toBalanceSlotResponses(
+                    manageBalanceSlotsUseCase.configureSlots(accountNumber, slotCount)));
+
+        } catch (IllegalArgumentException e) {
+            log.error("Error configuring balance slots: {}", e.getMessage());
+            MessageResponse response = new MessageResponse();
+            response.setMessage("Error: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+    }
+
+    @PostMapping("/{accountNumber}/slots/rebalance")
+    public ResponseEntity<List<BalanceSlotResponse>> rebalanceSlots(
+            @PathVariable final String accountNumber) {
+        log.info("REST: Rebalancing balance slots for account: {}", accountNumber);
+
+        return ResponseEntity.ok(accountRestMapper.toBalanceSlotResponses(
+                manageBalanceSlotsUseCase.rebalance(accountNumber)));
+    }
 }
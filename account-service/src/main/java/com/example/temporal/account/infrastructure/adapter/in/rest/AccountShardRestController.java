@@ -0,0 +1,66 @@
+package com.example.temporal.account.infrastructure.adapter.in.rest;
+
+import com.example.temporal.account.domain.port.in.ManageAccountShardsUseCase;
+import com.example.temporal.account.infrastructure.adapter.in.rest.dto.MessageResponse;
+import com.example.temporal.account.infrastructure.adapter.in.rest.dto.ShardMoveRequest;
+import com.example.temporal.account.infrastructure.adapter.in.rest.dto.ShardPlacementResponse;
+import com.example.temporal.account.infrastructure.adapter.in.rest.mapper.AccountRestMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST adapter for account shard administration (placement, moves, rebalancing)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/accounts")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "account.sharding", name = "enabled", havingValue = "true")
+public class AccountShardRestController {
+
+    private final ManageAccountShardsUseCase manageAccountShardsUseCase;
+    private final AccountRestMapper accountRestMapper;
+
+    @GetMapping("/{accountNumber}/shard")
+    public ResponseEntity<ShardPlacementResponse> getShard(@PathVariable final String accountNumber) {
+        return ResponseEntity.ok(accountRestMapper.toShardPlacementResponse(
+                manageAccountShardsUseCase.locate(accountNumber)));
+    }
+
+    @PutMapping("/{accountNumber}/shard")
+    public ResponseEntity<?> moveToShard(
+            @PathVariable final String accountNumber,
+            @RequestBody final ShardMoveRequest request) {
+        log.info("REST: Moving account {} to shard {}", accountNumber, request.getShard());
+
+        try {
+            return ResponseEntity.ok(accountRestMapper.toShardPlacementResponse(
+                    manageAccountShardsUseCase.move(accountNumber, request.getShard())));
+
+        } catch (IllegalArgumentException e) {
+            log.error("Error moving account to shard: {}", e.getMessage());
+            MessageResponse response = new MessageResponse();
+            response.setMessage("Error: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+    }
+
+    @PostMapping("/shards/rebalance")
+    public ResponseEntity<ManageAccountShardsUseCase.RebalanceReport> rebalance() {
+        log.info("REST: Rebalancing account shards");
+        return ResponseEntity.ok(manageAccountShardsUseCase.rebalance());
+    }
+
+    @PostMapping("/shards/compact")
+    public ResponseEntity<MessageResponse> compactDirectory() {
+        log.info("REST: Compacting account shard directory");
+
+        MessageResponse response = new MessageResponse();
+        response.setMessage("Removed " + manageAccountShardsUseCase.compactDirectory() + " directory entries");
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.temporal.account.infrastructure.adapter.in.rest.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Request DTO for looking up several accounts in one call.
+ */
+@Data
+public class AccountBatchRequest {
+    private List<String> accountNumbers;
+}
@@ -13,5 +13,6 @@ public class AccountCreateRequest {
     private String ownerName;
     private BigDecimal balance;
     private String currency;
+    private String accountType;
     private String idempotencyKey;
 }
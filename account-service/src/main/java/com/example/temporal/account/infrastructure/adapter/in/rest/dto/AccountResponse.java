@@ -15,6 +15,7 @@ public class AccountResponse {
     private String ownerName;
     private BigDecimal balance;
     private String currency;
+    private String accountType;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
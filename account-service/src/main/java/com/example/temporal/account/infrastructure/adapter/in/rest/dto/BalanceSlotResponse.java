@@ -0,0 +1,15 @@
+package com.example.temporal.account.infrastructure.adapter.in.rest.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Response DTO for a balance slot of a hot account.
+ */
+@Data
+public class BalanceSlotResponse {
+    private String accountNumber;
+    private Integer slotIndex;
+    private BigDecimal balance;
+}
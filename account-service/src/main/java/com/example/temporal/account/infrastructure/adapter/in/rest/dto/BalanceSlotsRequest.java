@@ -0,0 +1,11 @@
+package com.example.temporal.account.infrastructure.adapter.in.rest.dto;
+
+import lombok.Data;
+
+/**
+ * Request DTO for configuring the balance slots of a hot account.
+ */
+@Data
+public class BalanceSlotsRequest {
+    private Integer slotCount;
+}
@@ -0,0 +1,11 @@
+package com.example.temporal.account.infrastructure.adapter.in.rest.dto;
+
+import lombok.Data;
+
+/**
+ * Request DTO for moving an account to another shard.
+ */
+@Data
+public class ShardMoveRequest {
+    private String shard;
+}
@@ -0,0 +1,14 @@
+package com.example.temporal.account.infrastructure.adapter.in.rest.dto;
+
+import lombok.Data;
+
+/**
+ * Response DTO for the shard placement of an account.
+ */
+@Data
+public class ShardPlacementResponse {
+    private String accountNumber;
+    private String shard;
+    private String targetShard;
+    private boolean pinned;
+}
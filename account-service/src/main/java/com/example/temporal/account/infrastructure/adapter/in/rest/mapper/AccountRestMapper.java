@@ -1,9 +1,13 @@
 package com.example.temporal.account.infrastructure.adapter.in.rest.mapper;
 
 import com.example.temporal.account.domain.model.AccountDomain;
+import com.example.temporal.account.domain.model.BalanceSlotDomain;
+import com.example.temporal.account.domain.model.ShardPlacementDomain;
 import com.example.temporal.account.domain.port.in.CreateAccountUseCase;
 import com.example.temporal.account.infrastructure.adapter.in.rest.dto.AccountCreateRequest;
 import com.example.temporal.account.infrastructure.adapter.in.rest.dto.AccountResponse;
+import com.example.temporal.account.infrastructure.adapter.in.rest.dto.BalanceSlotResponse;
+import com.example.temporal.account.infrastructure.adapter.in.rest.dto.ShardPlacementResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
@@ -32,4 +36,14 @@ public interface AccountRestMapper {
     @Mapping(target = "initialBalance", source = "balance")
     CreateAccountUseCase.CreateAccountCommand toCreateAccountCommand(
             AccountCreateRequest request);
+
+    /**
+     * Converts list of BalanceSlotDomain to list of BalanceSlotResponse DTOs
+     */
+    List<BalanceSlotResponse> toBalanceSlotResponses(List<BalanceSlotDomain> slots);
+
+    /**
+     * Converts ShardPlacementDomain to ShardPlacementResponse DTO
+     */
+    ShardPlacementResponse toShardPlacementResponse(ShardPlacementDomain placement);
 }
@@ -0,0 +1,86 @@
+package com.example.temporal.account.infrastructure.adapter.out.cache;
+
+import com.example.temporal.account.config.AccountCacheProperties;
+import com.example.temporal.account.domain.model.AccountDomain;
+import com.example.temporal.account.domain.port.out.AccountCachePort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Adapter for the account read cache using Caffeine.
+ * <p>
+ * Entries are evicted after local commits and on every change captured by
+ * Debezium, so writes from other services are seen within the CDC lag, which
+ * is published as {@code account.cache.cdc.lag}. Hit, miss and eviction counts
+ * are published under {@code cache.*} with {@code cache=accounts}.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AccountCacheAdapter implements AccountCachePort {
+
+    private final boolean enabled;
+    private final Cache<String, AccountDomain> cache;
+    private final Timer cdcLag;
+
+    public AccountCacheAdapter(final AccountCacheProperties properties, final MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        this.cdcLag = Timer.builder("account.cache.cdc.lag")
+                .description("Time between a commit at the source and the eviction of the cached account")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "accounts");
+    }
+
+    @Override
+    public Optional<AccountDomain> get(
+            final String accountNumber,
+            final Function<String, Optional<AccountDomain>> loader) {
+        if (!enabled) {
+            return loader.apply(accountNumber);
+        }
+        return Optional.ofNullable(cache.get(accountNumber, key -> loader.apply(key).orElse(null)));
+    }
+
+    @Override
+    public void evict(final String accountNumber) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(accountNumber);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                cache.invalidate(accountNumber);
+            }
+        });
+    }
+
+    @Override
+    public void evictChanged(final String accountNumber, final Instant committedAt) {
+        cache.invalidate(accountNumber);
+
+        if (committedAt != null) {
+            final Duration lag = Duration.between(committedAt, Instant.now());
+            cdcLag.record(lag.isNegative() ? Duration.ZERO : lag);
+            log.debug("Evicted account {} from cache, CDC lag {} ms", accountNumber, lag.toMillis());
+        }
+    }
+}
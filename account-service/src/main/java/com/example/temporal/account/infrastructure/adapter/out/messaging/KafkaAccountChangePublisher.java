@@ -0,0 +1,66 @@
+package com.example.temporal.account.infrastructure.adapter.out.messaging;
+
+import com.example.temporal.account.config.AccountCdcProperties;
+import com.example.temporal.account.domain.model.AccountChangeEvent;
+import com.example.temporal.account.domain.port.out.AccountChangePublisherPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Adapter publishing account changes to Kafka, keyed by account number
+ * so that changes of one account stay ordered within a partition
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "account.cdc.publisher", havingValue = "kafka")
+public class KafkaAccountChangePublisher implements AccountChangePublisherPort {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final AccountCdcProperties properties;
+
+    @Override
+    public void publish(final List<AccountChangeEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        final CompletableFuture<?>[] sends = new CompletableFuture<?>[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            final AccountChangeEvent event = events.get(i);
+            sends[i] = kafkaTemplate.send(properties.getTopic(), event.getAccountNumber(), toJson(event));
+        }
+        kafkaTemplate.flush();
+
+        try {
+            CompletableFuture.allOf(sends).get(properties.getPublishTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing account changes", e);
+        } catch (final ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to publish account changes: " + e.getMessage(), e);
+        }
+
+        log.debug("Published {} account changes to {}", events.size(), properties.getTopic());
+    }
+
+    private String toJson(final AccountChangeEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize account change", e);
+        }
+    }
+}
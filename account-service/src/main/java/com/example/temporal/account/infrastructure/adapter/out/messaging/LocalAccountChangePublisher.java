@@ -0,0 +1,27 @@
+package com.example.temporal.account.infrastructure.adapter.out.messaging;
+
+import com.example.temporal.account.domain.model.AccountChangeEvent;
+import com.example.temporal.account.domain.port.out.AccountChangePublisherPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Adapter publishing account changes to in-process {@code @EventListener}s.
+ * Listeners run synchronously, so the batch is published once they all return.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "account.cdc.publisher", havingValue = "local", matchIfMissing = true)
+public class LocalAccountChangePublisher implements AccountChangePublisherPort {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publish(final List<AccountChangeEvent> events) {
+        events.forEach(applicationEventPublisher::publishEvent);
+    }
+}
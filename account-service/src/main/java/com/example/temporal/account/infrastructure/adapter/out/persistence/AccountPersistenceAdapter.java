@@ -4,13 +4,25 @@ import com.example.temporal.account.domain.model.AccountDomain;
 import com.example.temporal.account.domain.port.out.AccountPersistencePort;
 import com.example.temporal.account.repository.AccountRepository;
 import com.example.temporal.common.model.Account;
+import com.example.temporal.common.model.IdAllocation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -21,8 +33,20 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AccountPersistenceAdapter implements AccountPersistencePort {
 
+    /**
+     * Reserves blocks of ids from the pooled-lo accounts sequence in one round trip;
+     * each value is the first id of a block of {@link IdAllocation#ALLOCATION_SIZE}
+     */
+    private static final String RESERVE_ID_BLOCKS_SQL =
+            "SELECT nextval('accounts_seq') FROM generate_series(1, ?)";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO accounts (id, account_number, owner_name, balance, currency, account_type, " +
+            "idempotency_key, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final AccountRepository repository;
     private final AccountMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public AccountDomain save(final AccountDomain domain) {
@@ -58,7 +82,7 @@ public class AccountPersistenceAdapter implements AccountPersistencePort {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public Optional<AccountDomain> findByAccountNumberWithLock(final String accountNumber) {
         log.debug("Finding account by number with lock: {}", accountNumber);
         return repository.findByAccountNumberWithLock(accountNumber)
@@ -96,4 +120,85 @@ public class AccountPersistenceAdapter implements AccountPersistencePort {
     public boolean existsByIdempotencyKey(final String idempotencyKey) {
         return repository.existsByIdempotencyKey(idempotencyKey);
     }
+
+    @Override
+    public Set<String> findExistingAccountNumbers(final Collection<String> accountNumbers) {
+        return new HashSet<>(repository.findExistingAccountNumbers(accountNumbers));
+    }
+
+    @Override
+    public Set<String> findExistingIdempotencyKeys(final Collection<String> idempotencyKeys) {
+        return new HashSet<>(repository.findExistingIdempotencyKeys(idempotencyKeys));
+    }
+
+    @Override
+    @Transactional
+    public int insertAll(final List<AccountDomain> accounts) {
+        if (accounts.isEmpty()) {
+            return 0;
+        }
+        log.debug("Batch inserting {} accounts", accounts.size());
+
+        final List<Long> ids = assignIds(accounts);
+
+        final int[] counts = jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(final PreparedStatement ps, final int i) throws SQLException {
+                final AccountDomain account = accounts.get(i);
+                ps.setLong(1, ids.get(i));
+                ps.setString(2, account.getAccountNumber());
+                ps.setString(3, account.getOwnerName());
+                ps.setBigDecimal(4, account.getBalance());
+                ps.setString(5, account.getCurrency());
+                ps.setString(6, account.getAccountType());
+                ps.setString(7, account.getIdempotencyKey());
+                ps.setTimestamp(8, Timestamp.valueOf(account.getCreatedAt()));
+                ps.setTimestamp(9, Timestamp.valueOf(account.getUpdatedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return accounts.size();
+            }
+        });
+
+        return counts.length;
+    }
+
+    /**
+     * Keeps the ids accounts already have (moves between shards keep them) and
+     * reserves new ones for the rest.
+     *
+     * @param accounts the accounts to insert
+     * @return the id of each account, in order
+     */
+    private List<Long> assignIds(final List<AccountDomain> accounts) {
+        final long missing = accounts.stream().filter(account -> account.getId() == null).count();
+        final Iterator<Long> reserved = missing > 0 ? reserveIds((int) missing).iterator() : Collections.emptyIterator();
+        final List<Long> ids = new ArrayList<>(accounts.size());
+        for (final AccountDomain account : accounts) {
+            ids.add(account.getId() != null ? account.getId() : reserved.next());
+        }
+        return ids;
+    }
+
+    /**
+     * Reserves ids the same way Hibernate's pooled-lo optimizer does, so both
+     * writers share the sequence without overlapping.
+     *
+     * @param count the number of ids needed
+     * @return the reserved ids
+     */
+    private List<Long> reserveIds(final int count) {
+        final int blocks = (count + IdAllocation.ALLOCATION_SIZE - 1) / IdAllocation.ALLOCATION_SIZE;
+        final List<Long> blockStarts = jdbcTemplate.queryForList(RESERVE_ID_BLOCKS_SQL, Long.class, blocks);
+
+        final List<Long> ids = new ArrayList<>(count);
+        for (final Long blockStart : blockStarts) {
+            for (int i = 0; i < IdAllocation.ALLOCATION_SIZE && ids.size() < count; i++) {
+                ids.add(blockStart + i);
+            }
+        }
+        return ids;
+    }
 }
@@ -0,0 +1,17 @@
+package com.example.temporal.account.infrastructure.adapter.out.persistence;
+
+import com.example.temporal.account.domain.model.BalanceSlotDomain;
+import com.example.temporal.account.entity.AccountBalanceSlotEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+/**
+ * Mapper between balance slot domain model and JPA entity
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface BalanceSlotMapper {
+
+    BalanceSlotDomain toDomain(AccountBalanceSlotEntity entity);
+
+    AccountBalanceSlotEntity toEntity(BalanceSlotDomain domain);
+}
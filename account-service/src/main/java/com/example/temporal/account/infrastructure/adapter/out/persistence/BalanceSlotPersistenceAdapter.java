@@ -0,0 +1,88 @@
+package com.example.temporal.account.infrastructure.adapter.out.persistence;
+
+import com.example.temporal.account.domain.model.BalanceSlotDomain;
+import com.example.temporal.account.domain.port.out.BalanceSlotPersistencePort;
+import com.example.temporal.account.repository.AccountBalanceSlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter for balance slot persistence using Spring Data JPA
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceSlotPersistenceAdapter implements BalanceSlotPersistencePort {
+
+    private final AccountBalanceSlotRepository repository;
+    private final BalanceSlotMapper mapper;
+
+    @Override
+    public List<BalanceSlotDomain> findByAccountNumber(final String accountNumber) {
+        return repository.findByAccountNumberOrderBySlotIndex(accountNumber).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<BalanceSlotDomain> findByAccountNumberWithLock(final String accountNumber) {
+        log.debug("Locking balance slots of account: {}", accountNumber);
+        return repository.findByAccountNumberWithLock(accountNumber).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int countByAccountNumber(final String accountNumber) {
+        return (int) repository.countByAccountNumber(accountNumber);
+    }
+
+    @Override
+    public BigDecimal sumBalance(final String accountNumber) {
+        final BigDecimal sum = repository.sumBalanceByAccountNumber(accountNumber);
+        return sum != null ? sum : BigDecimal.ZERO;
+    }
+
+    @Override
+    public Map<String, BigDecimal> sumBalances(final Collection<String> accountNumbers) {
+        final Map<String, BigDecimal> sums = new HashMap<>();
+        if (accountNumbers == null || accountNumbers.isEmpty()) {
+            return sums;
+        }
+        for (final Object[] row : repository.sumBalanceByAccountNumberIn(accountNumbers)) {
+            sums.put((String) row[0], (BigDecimal) row[1]);
+        }
+        return sums;
+    }
+
+    @Override
+    public boolean creditSlot(final String accountNumber, final int slotIndex, final BigDecimal amount) {
+        return repository.creditSlot(accountNumber, slotIndex, amount) == 1;
+    }
+
+    @Override
+    public boolean debitSlotIfCovered(final String accountNumber, final int slotIndex, final BigDecimal amount) {
+        return repository.debitSlotIfCovered(accountNumber, slotIndex, amount) == 1;
+    }
+
+    @Override
+    public List<BalanceSlotDomain> saveAll(final List<BalanceSlotDomain> slots) {
+        return repository.saveAll(slots.stream().map(mapper::toEntity).collect(Collectors.toList())).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void deleteByAccountNumber(final String accountNumber) {
+        final int removed = repository.deleteByAccountNumber(accountNumber);
+        log.debug("Removed {} balance slots of account: {}", removed, accountNumber);
+    }
+}
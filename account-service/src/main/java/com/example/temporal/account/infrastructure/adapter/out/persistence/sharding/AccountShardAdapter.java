@@ -0,0 +1,115 @@
+package com.example.temporal.account.infrastructure.adapter.out.persistence.sharding;
+
+import com.example.temporal.account.domain.model.AccountDomain;
+import com.example.temporal.account.domain.model.BalanceSlotDomain;
+import com.example.temporal.account.domain.model.ShardPlacementDomain;
+import com.example.temporal.account.domain.port.out.AccountShardPort;
+import com.example.temporal.account.entity.AccountShardDirectoryEntity;
+import com.example.temporal.account.infrastructure.adapter.out.persistence.AccountPersistenceAdapter;
+import com.example.temporal.account.infrastructure.adapter.out.persistence.BalanceSlotPersistenceAdapter;
+import com.example.temporal.account.repository.AccountRepository;
+import com.example.temporal.common.message.ErrorMessages;
+import com.example.temporal.common.message.MessageResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adapter moving accounts between shards.
+ * <p>
+ * A move locks the account row on the source shard, replaces any copy on the
+ * target shard in its own transaction (keeping the account id), repoints the
+ * directory and only then deletes the source row. A crash after the directory
+ * update leaves a stale source copy, which the next rebalance detects and removes.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "account.sharding", name = "enabled", havingValue = "true")
+public class AccountShardAdapter implements AccountShardPort {
+
+    private final AccountShardResolver resolver;
+    private final ShardTemplate shardTemplate;
+    private final AccountPersistenceAdapter accountPersistence;
+    private final BalanceSlotPersistenceAdapter slotPersistence;
+    private final AccountRepository accountRepository;
+
+    @Override
+    public List<String> shards() {
+        return resolver.shards();
+    }
+
+    @Override
+    public ShardPlacementDomain locate(final String accountNumber) {
+        resolver.reload(accountNumber);
+        final Optional<AccountShardDirectoryEntity> entry = resolver.lookup(accountNumber);
+        return ShardPlacementDomain.builder()
+                .accountNumber(accountNumber)
+                .shard(resolver.shardFor(accountNumber))
+                .targetShard(resolver.targetShardFor(accountNumber))
+                .pinned(entry.map(AccountShardDirectoryEntity::isPinned).orElse(false))
+                .build();
+    }
+
+    @Override
+    public List<String> findAccountNumbers(final String shard, final String after, final int limit) {
+        return shardTemplate.scan(shard,
+                () -> accountRepository.findAccountNumbersAfter(after, PageRequest.of(0, limit)));
+    }
+
+    @Override
+    public void move(final String accountNumber, final String targetShard, final boolean pinned) {
+        final String source = resolver.shardFor(accountNumber);
+        if (source.equals(targetShard)) {
+            resolver.override(accountNumber, targetShard, pinned);
+            return;
+        }
+
+        shardTemplate.inNewTransaction(source, () -> {
+            final AccountDomain account = accountPersistence.findByAccountNumberWithLock(accountNumber)
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            MessageResolver.resolveError(ErrorMessages.ENTITY_NOT_FOUND, accountNumber)));
+            final List<BalanceSlotDomain> slots = slotPersistence.findByAccountNumberWithLock(accountNumber);
+
+            shardTemplate.inNewTransaction(targetShard, () -> {
+                deleteAccount(accountNumber);
+                accountPersistence.insertAll(List.of(account));
+                slotPersistence.saveAll(slots.stream().map(slot -> slot.withId(null)).toList());
+                return null;
+            });
+
+            resolver.override(accountNumber, targetShard, pinned);
+            deleteAccount(accountNumber);
+            return null;
+        });
+
+        log.info("Account {} moved from shard {} to shard {}", accountNumber, source, targetShard);
+    }
+
+    @Override
+    public void deleteOrphan(final String accountNumber, final String shard) {
+        if (resolver.shardFor(accountNumber).equals(shard)) {
+            throw new IllegalStateException("Shard " + shard + " owns account " + accountNumber);
+        }
+        shardTemplate.inNewTransaction(shard, () -> {
+            deleteAccount(accountNumber);
+            return null;
+        });
+    }
+
+    @Override
+    public int compactDirectory() {
+        return resolver.compact();
+    }
+
+    private void deleteAccount(final String accountNumber) {
+        slotPersistence.deleteByAccountNumber(accountNumber);
+        accountRepository.deleteByAccountNumber(accountNumber);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.temporal.account.infrastructure.adapter.out.persistence.sharding;
+
+import com.example.temporal.account.config.AccountShardingProperties;
+import com.example.temporal.account.entity.AccountShardDirectoryEntity;
+import com.example.temporal.account.repository.AccountShardDirectoryRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Maps account numbers to shards: a directory override when one exists,
+ * otherwise the consistent hash ring of the active (non-joining) shards.
+ * <p>
+ * The directory lives on the first shard and is mirrored in memory; it is
+ * reloaded periodically and per account whenever a lookup misses.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "account.sharding", name = "enabled", havingValue = "true")
+public class AccountShardResolver {
+
+    private final List<String> shards;
+    private final String directoryShard;
+    private final ConsistentHashRing ring;
+    private final ConsistentHashRing targetRing;
+    private final ShardTemplate shardTemplate;
+    private final AccountShardDirectoryRepository directoryRepository;
+    private volatile Map<String, String> overrides = new ConcurrentHashMap<>();
+
+    public AccountShardResolver(
+            final AccountShardingProperties properties,
+            final ShardTemplate shardTemplate,
+            final AccountShardDirectoryRepository directoryRepository) {
+        this.shards = properties.getShards().stream()
+                .map(AccountShardingProperties.Shard::getName)
+                .toList();
+        this.directoryShard = shards.get(0);
+        this.ring = new ConsistentHashRing(properties.getShards().stream()
+                .filter(shard -> !shard.isJoining())
+                .map(AccountShardingProperties.Shard::getName)
+                .toList(), properties.getVirtualNodes());
+        this.targetRing = new ConsistentHashRing(shards, properties.getVirtualNodes());
+        this.shardTemplate = shardTemplate;
+        this.directoryRepository = directoryRepository;
+    }
+
+    /**
+     * Shard currently holding the account.
+     */
+    public String shardFor(final String accountNumber) {
+        final String override = overrides.get(accountNumber);
+        return override != null ? override : ring.shardFor(accountNumber);
+    }
+
+    /**
+     * Shard owning the account once every joining shard is part of the ring.
+     */
+    public String targetShardFor(final String accountNumber) {
+        return targetRing.shardFor(accountNumber);
+    }
+
+    /**
+     * Shard owning the account on the current ring, ignoring overrides.
+     */
+    public String ringShardFor(final String accountNumber) {
+        return ring.shardFor(accountNumber);
+    }
+
+    /**
+     * Groups account numbers by the shard currently holding them.
+     */
+    public Map<String, List<String>> groupByShard(final Collection<String> accountNumbers) {
+        return accountNumbers.stream()
+                .distinct()
+                .collect(Collectors.groupingBy(this::shardFor));
+    }
+
+    public List<String> shards() {
+        return shards;
+    }
+
+    /**
+     * Reads the directory entry of one account from the database and refreshes the mirror.
+     *
+     * @return true when the shard of the account changed
+     */
+    public boolean reload(final String accountNumber) {
+        final String before = shardFor(accountNumber);
+        lookup(accountNumber).ifPresentOrElse(
+                entry -> overrides.put(accountNumber, entry.getShardName()),
+                () -> overrides.remove(accountNumber));
+        return !before.equals(shardFor(accountNumber));
+    }
+
+    /**
+     * Directory entry of the account, read from the database.
+     */
+    public Optional<AccountShardDirectoryEntity> lookup(final String accountNumber) {
+        return shardTemplate.scan(directoryShard, () -> directoryRepository.findById(accountNumber));
+    }
+
+    /**
+     * Points the account at the given shard, in its own transaction on the directory shard.
+     */
+    public void override(final String accountNumber, final String shard, final boolean pinned) {
+        shardTemplate.inNewTransaction(directoryShard, () -> directoryRepository.save(
+                new AccountShardDirectoryEntity()
+                        .setAccountNumber(accountNumber)
+                        .setShardName(shard)
+                        .setPinned(pinned)));
+        overrides.put(accountNumber, shard);
+    }
+
+    /**
+     * Removes unpinned entries that match the ring, typically after joining shards were promoted.
+     *
+     * @return number of removed entries
+     */
+    public int compact() {
+        final List<AccountShardDirectoryEntity> redundant = shardTemplate.scan(directoryShard,
+                () -> directoryRepository.findAll().stream()
+                        .filter(entry -> !entry.isPinned())
+                        .filter(entry -> entry.getShardName().equals(ring.shardFor(entry.getAccountNumber())))
+                        .toList());
+        if (!redundant.isEmpty()) {
+            shardTemplate.inNewTransaction(directoryShard, () -> {
+                directoryRepository.deleteAll(redundant);
+                return null;
+            });
+            redundant.forEach(entry -> overrides.remove(entry.getAccountNumber()));
+        }
+        return redundant.size();
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${account.sharding.directory-refresh-interval-ms:30000}",
+            initialDelayString = "${account.sharding.directory-refresh-interval-ms:30000}")
+    public void refreshDirectory() {
+        final Map<String, String> loaded = new ConcurrentHashMap<>();
+        shardTemplate.scan(directoryShard, () -> directoryRepository.findAll())
+                .forEach(entry -> loaded.put(entry.getAccountNumber(), entry.getShardName()));
+        overrides = loaded;
+        log.debug("Shard directory loaded: {} overrides", loaded.size());
+    }
+}
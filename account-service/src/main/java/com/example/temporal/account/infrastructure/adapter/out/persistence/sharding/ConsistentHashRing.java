@@ -0,0 +1,56 @@
+package com.example.temporal.account.infrastructure.adapter.out.persistence.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Consistent hash ring with virtual nodes.
+ * <p>
+ * Adding a shard only moves the keys that land on its virtual nodes
+ * (about 1/N of them); every other key keeps its owner.
+ * </p>
+ */
+public final class ConsistentHashRing {
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    public ConsistentHashRing(final Collection<String> shards, final int virtualNodes) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("Hash ring needs at least one shard");
+        }
+        for (final String shard : shards) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(shard + "#" + i), shard);
+            }
+        }
+    }
+
+    /**
+     * Shard owning the given key: the first virtual node clockwise from its hash.
+     */
+    public String shardFor(final String key) {
+        final Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * FNV-1a over the UTF-8 bytes followed by the MurmurHash3 finalizer,
+     * which spreads short, sequential account numbers evenly over the ring.
+     */
+    static long hash(final String key) {
+        long h = 0xcbf29ce484222325L;
+        for (final byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.temporal.account.infrastructure.adapter.out.persistence.sharding;
+
+/**
+ * Shard the current thread's connections are routed to.
+ */
+final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    static String current() {
+        return CURRENT.get();
+    }
+
+    static void set(final String shard) {
+        if (shard == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(shard);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.temporal.account.infrastructure.adapter.out.persistence.sharding;
+
+import com.example.temporal.account.config.AccountShardingProperties;
+import com.example.temporal.common.model.IdAllocation;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Gives each shard its own range of account ids, so ids stay unique across
+ * shards and an account keeps its id when it moves.
+ * <p>
+ * The shard at position {@code i} of {@code account.sharding.shards} draws ids
+ * from {@code [i * RANGE + 1, (i + 1) * RANGE]}: at startup the accounts sequence
+ * of every shard is bounded to its range and restarted at its start when it is
+ * still below it. Shards must therefore never be reordered. Ids handed out
+ * before a shard got its range are not renumbered.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DependsOnDatabaseInitialization
+@ConditionalOnProperty(prefix = "account.sharding", name = "enabled", havingValue = "true")
+public class ShardIdRanges {
+
+    /**
+     * Ids per shard
+     */
+    public static final long RANGE = 1L << 48;
+
+    private static final String LAST_VALUE_SQL = "SELECT last_value FROM accounts_seq";
+
+    private final AccountShardingProperties properties;
+    private final ShardRoutingDataSource shardRoutingDataSource;
+
+    @PostConstruct
+    public void apply() {
+        final List<AccountShardingProperties.Shard> shards = properties.getShards();
+        for (int i = 0; i < shards.size(); i++) {
+            apply(shards.get(i).getName(), i);
+        }
+    }
+
+    private void apply(final String shard, final int index) {
+        final long min = index * RANGE + 1;
+        final long max = (index + 1) * RANGE - IdAllocation.ALLOCATION_SIZE + 1;
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(shardRoutingDataSource.shard(shard));
+
+        final long lastValue = jdbcTemplate.queryForObject(LAST_VALUE_SQL, Long.class);
+        if (lastValue > max) {
+            throw new IllegalStateException("accounts_seq of shard " + shard + " is at " + lastValue
+                    + ", past the end of its id range; was account.sharding.shards reordered?");
+        }
+        final String restart = lastValue < min ? " RESTART WITH " + min : "";
+        jdbcTemplate.execute("ALTER SEQUENCE accounts_seq MINVALUE " + min + " MAXVALUE " + max
+                + " START WITH " + min + restart);
+        log.info("Shard {} allocates account ids in [{}, {}]", shard, min, max + IdAllocation.ALLOCATION_SIZE - 1);
+    }
+}
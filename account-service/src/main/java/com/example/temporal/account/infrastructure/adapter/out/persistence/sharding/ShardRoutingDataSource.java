@@ -0,0 +1,66 @@
+package com.example.temporal.account.infrastructure.adapter.out.persistence.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Routes connections to the shard selected by {@link ShardTemplate}.
+ * Connections obtained outside of any shard scope go to the default shard,
+ * which also holds the shard directory.
+ * <p>
+ * Must be wrapped in a {@code LazyConnectionDataSourceProxy} so a transaction
+ * picks its shard at the first statement rather than when it begins.
+ * </p>
+ */
+@Slf4j
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final Map<String, DataSource> shards;
+    private final String defaultShard;
+
+    public ShardRoutingDataSource(final Map<String, DataSource> shards) {
+        this.shards = new LinkedHashMap<>(shards);
+        this.defaultShard = shards.keySet().iterator().next();
+        setTargetDataSources(new LinkedHashMap<>(shards));
+        setDefaultTargetDataSource(shards.get(defaultShard));
+        setLenientFallback(false);
+    }
+
+    public String getDefaultShard() {
+        return defaultShard;
+    }
+
+    /**
+     * Pool of the given shard, for work that must bypass the routing (held locks, sequence setup).
+     */
+    public DataSource shard(final String name) {
+        final DataSource dataSource = shards.get(name);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Unknown shard: " + name);
+        }
+        return dataSource;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        final String shard = ShardContext.current();
+        return shard != null ? shard : defaultShard;
+    }
+
+    @Override
+    public void close() {
+        for (final Map.Entry<String, DataSource> shard : shards.entrySet()) {
+            if (shard.getValue() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (final Exception e) {
+                    log.warn("Error closing shard {}: {}", shard.getKey(), e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.temporal.account.infrastructure.adapter.out.persistence.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Runs persistence calls against a given shard.
+ * <p>
+ * A transaction is pinned to the shard of its first account access and keeps
+ * it until completion. Later reads on another shard run in their own read-only
+ * transaction; later writes on another shard are rejected, since a single
+ * transaction cannot span shards (cross-shard transfers go through the
+ * workflow saga instead). Row locks on another shard are taken on a connection
+ * held open until the surrounding transaction completes, see {@link #lock}.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "account.sharding", name = "enabled", havingValue = "true")
+public class ShardTemplate {
+
+    private final ShardRoutingDataSource shardRoutingDataSource;
+    private final TransactionTemplate readTemplate;
+    private final TransactionTemplate writeTemplate;
+
+    public ShardTemplate(
+            final PlatformTransactionManager transactionManager,
+            final ShardRoutingDataSource shardRoutingDataSource) {
+        this.shardRoutingDataSource = shardRoutingDataSource;
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTemplate.setReadOnly(true);
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.writeTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Runs a single-shard operation, pinning the surrounding transaction to the shard.
+     *
+     * @throws IllegalStateException when the transaction is already pinned to another shard
+     */
+    public <T> T write(final String shard, final Supplier<T> action) {
+        final String bound = ShardContext.current();
+        if (bound == null) {
+            return bind(shard, action);
+        }
+        if (bound.equals(shard)) {
+            return action.get();
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return withShard(shard, action);
+        }
+        throw new IllegalStateException(
+                "Transaction bound to shard " + bound + " cannot write to shard " + shard);
+    }
+
+    /**
+     * Runs a single-shard read, pinning the surrounding transaction to the shard when
+     * it has none yet. A transaction pinned elsewhere reads in its own transaction.
+     */
+    public <T> T read(final String shard, final Supplier<T> action) {
+        final String bound = ShardContext.current();
+        if (bound == null) {
+            return bind(shard, action);
+        }
+        return scan(shard, action);
+    }
+
+    /**
+     * Runs one leg of a multi-shard read without pinning the surrounding transaction.
+     */
+    public <T> T scan(final String shard, final Supplier<T> action) {
+        if (shard.equals(ShardContext.current())) {
+            return action.get();
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return withShard(shard, action);
+        }
+        return withShard(shard, () -> readTemplate.execute(status -> action.get()));
+    }
+
+    /**
+     * Runs the action in a new read-write transaction on the shard, independent of
+     * the surrounding one. Used by the rebalancer to move accounts between shards.
+     */
+    public <T> T inNewTransaction(final String shard, final Supplier<T> action) {
+        return withShard(shard, () -> writeTemplate.execute(status -> action.get()));
+    }
+
+    /**
+     * Whether the surrounding transaction is pinned to a shard other than the given one.
+     */
+    public boolean isBoundElsewhere(final String shard) {
+        final String bound = ShardContext.current();
+        return bound != null && !bound.equals(shard)
+                && TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    /**
+     * Runs locking statements on another shard inside a transaction of its own that
+     * stays open, with its locks, until the surrounding transaction completes, and is
+     * then rolled back. The callback must only lock: nothing it writes is kept.
+     *
+     * @throws IllegalStateException when there is no surrounding transaction
+     */
+    public <T> T lock(final String shard, final ConnectionCallback<T> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Locking shard " + shard + " requires a surrounding transaction");
+        }
+        try {
+            return action.doInConnection(heldConnection(shard));
+        } catch (final SQLException e) {
+            throw new CannotAcquireLockException("Could not lock rows on shard " + shard, e);
+        }
+    }
+
+    /**
+     * Connection of the current transaction on the shard, opened on first use and
+     * released when the surrounding transaction completes.
+     */
+    @SuppressWarnings("unchecked")
+    private Connection heldConnection(final String shard) throws SQLException {
+        Map<String, Connection> held = (Map<String, Connection>) TransactionSynchronizationManager.getResource(this);
+        if (held == null) {
+            final Map<String, Connection> connections = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, connections);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ShardTemplate.this);
+                    connections.forEach(ShardTemplate::release);
+                }
+            });
+            held = connections;
+        }
+        Connection connection = held.get(shard);
+        if (connection == null) {
+            connection = shardRoutingDataSource.shard(shard).getConnection();
+            try {
+                connection.setAutoCommit(false);
+            } catch (final SQLException e) {
+                connection.close();
+                throw e;
+            }
+            held.put(shard, connection);
+        }
+        return connection;
+    }
+
+    private static void release(final String shard, final Connection connection) {
+        try (connection) {
+            connection.rollback();
+        } catch (final SQLException e) {
+            log.warn("Error releasing locks on shard {}: {}", shard, e.getMessage());
+        }
+    }
+
+    private <T> T bind(final String shard, final Supplier<T> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return withShard(shard, action);
+        }
+        ShardContext.set(shard);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                ShardContext.set(null);
+            }
+        });
+        return action.get();
+    }
+
+    private static <T> T withShard(final String shard, final Supplier<T> action) {
+        final String previous = ShardContext.current();
+        ShardContext.set(shard);
+        try {
+            return action.get();
+        } finally {
+            ShardContext.set(previous);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.temporal.account.infrastructure.adapter.out.persistence.sharding;
+
+import com.example.temporal.account.domain.model.AccountDomain;
+import com.example.temporal.account.domain.port.out.AccountPersistencePort;
+import com.example.temporal.account.infrastructure.adapter.out.persistence.AccountPersistenceAdapter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Shard-aware account persistence.
+ * <p>
+ * Single-account calls go to the shard of the account number; multi-account
+ * calls are split per shard and merged; lookups by idempotency key or id
+ * fan out to every shard and only accept a match from the shard owning the
+ * account, skipping copies left behind by an interrupted move. Ids are
+ * globally unique (see {@link ShardIdRanges}) and survive moves.
+ * </p>
+ * <p>
+ * A transaction pinned to one shard locks an account on another shard with
+ * {@link ShardTemplate#lock}, so the lock is held until it completes.
+ * </p>
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "account.sharding", name = "enabled", havingValue = "true")
+public class ShardedAccountPersistenceAdapter implements AccountPersistencePort {
+
+    private static final String LOCK_SQL = "SELECT 1 FROM accounts WHERE account_number = ? FOR UPDATE";
+
+    private final AccountPersistenceAdapter delegate;
+    private final AccountShardResolver resolver;
+    private final ShardTemplate shardTemplate;
+
+    @Override
+    public AccountDomain save(final AccountDomain account) {
+        return shardTemplate.write(resolver.shardFor(account.getAccountNumber()), () -> delegate.save(account));
+    }
+
+    @Override
+    public AccountDomain update(final AccountDomain account) {
+        return shardTemplate.write(resolver.shardFor(account.getAccountNumber()), () -> delegate.update(account));
+    }
+
+    @Override
+    public Optional<AccountDomain> findByAccountNumber(final String accountNumber) {
+        return readWithReload(accountNumber,
+                shard -> shardTemplate.read(shard, () -> delegate.findByAccountNumber(accountNumber)));
+    }
+
+    @Override
+    public Optional<AccountDomain> findByAccountNumberWithLock(final String accountNumber) {
+        return readWithReload(accountNumber, shard -> lockOn(shard, accountNumber));
+    }
+
+    @Override
+    public Optional<AccountDomain> findByIdempotencyKey(final String idempotencyKey) {
+        return findFirst(() -> delegate.findByIdempotencyKey(idempotencyKey));
+    }
+
+    @Override
+    public Optional<AccountDomain> findById(final Long id) {
+        return findFirst(() -> delegate.findById(id));
+    }
+
+    @Override
+    public List<AccountDomain> findByAccountNumberIn(final List<String> accountNumbers) {
+        final List<AccountDomain> accounts = new ArrayList<>(accountNumbers.size());
+        perShard(accountNumbers, delegate::findByAccountNumberIn).forEach(accounts::addAll);
+        return accounts;
+    }
+
+    @Override
+    public boolean existsByAccountNumber(final String accountNumber) {
+        return shardTemplate.read(resolver.shardFor(accountNumber),
+                () -> delegate.existsByAccountNumber(accountNumber));
+    }
+
+    @Override
+    public boolean existsByIdempotencyKey(final String idempotencyKey) {
+        for (final String shard : resolver.shards()) {
+            if (shardTemplate.scan(shard, () -> delegate.existsByIdempotencyKey(idempotencyKey))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<String> findExistingAccountNumbers(final Collection<String> accountNumbers) {
+        final Set<String> existing = new HashSet<>();
+        perShard(accountNumbers, delegate::findExistingAccountNumbers).forEach(existing::addAll);
+        return existing;
+    }
+
+    @Override
+    public Set<String> findExistingIdempotencyKeys(final Collection<String> idempotencyKeys) {
+        final Set<String> existing = new HashSet<>();
+        for (final String shard : resolver.shards()) {
+            existing.addAll(shardTemplate.scan(shard, () -> delegate.findExistingIdempotencyKeys(idempotencyKeys)));
+        }
+        return existing;
+    }
+
+    /**
+     * Inserts each shard's accounts in its own transaction; a failure leaves
+     * earlier shards committed, which the importer's idempotency keys absorb on retry.
+     */
+    @Override
+    public int insertAll(final List<AccountDomain> accounts) {
+        int inserted = 0;
+        final Map<String, List<AccountDomain>> byShard = new LinkedHashMap<>();
+        accounts.forEach(account -> byShard
+                .computeIfAbsent(resolver.shardFor(account.getAccountNumber()), shard -> new ArrayList<>())
+                .add(account));
+        for (final Map.Entry<String, List<AccountDomain>> shard : byShard.entrySet()) {
+            inserted += shardTemplate.write(shard.getKey(), () -> delegate.insertAll(shard.getValue()));
+        }
+        return inserted;
+    }
+
+    /**
+     * Reads from the account's shard; on a miss, re-reads the directory entry in case
+     * another instance moved the account, and retries on the new shard.
+     */
+    private <T> Optional<T> readWithReload(
+            final String accountNumber,
+            final Function<String, Optional<T>> readOnShard) {
+        final Optional<T> result = readOnShard.apply(resolver.shardFor(accountNumber));
+        if (result.isPresent() || !resolver.reload(accountNumber)) {
+            return result;
+        }
+        log.debug("Account {} moved to shard {}, retrying", accountNumber, resolver.shardFor(accountNumber));
+        return readOnShard.apply(resolver.shardFor(accountNumber));
+    }
+
+    /**
+     * Locks the account row on its shard. When the transaction is pinned to another
+     * shard, the row lock is taken on a held connection and the row is then read in
+     * a transaction of its own; the lock keeps it from changing in between.
+     */
+    private Optional<AccountDomain> lockOn(final String shard, final String accountNumber) {
+        if (!shardTemplate.isBoundElsewhere(shard)) {
+            return shardTemplate.read(shard, () -> delegate.findByAccountNumberWithLock(accountNumber));
+        }
+        final boolean found = shardTemplate.lock(shard, connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(LOCK_SQL)) {
+                statement.setString(1, accountNumber);
+                try (ResultSet rows = statement.executeQuery()) {
+                    return rows.next();
+                }
+            }
+        });
+        return found ? shardTemplate.scan(shard, () -> delegate.findByAccountNumber(accountNumber)) : Optional.empty();
+    }
+
+    private Optional<AccountDomain> findFirst(final Supplier<Optional<AccountDomain>> read) {
+        for (final String shard : resolver.shards()) {
+            final Optional<AccountDomain> result = shardTemplate.scan(shard, read)
+                    .filter(account -> shard.equals(resolver.shardFor(account.getAccountNumber())));
+            if (result.isPresent()) {
+                return result;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private <T> List<T> perShard(
+            final Collection<String> accountNumbers,
+            final Function<List<String>, T> read) {
+        final List<T> results = new ArrayList<>();
+        resolver.groupByShard(accountNumbers).forEach((shard, numbers) ->
+                results.add(shardTemplate.scan(shard, () -> read.apply(numbers))));
+        return results;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.temporal.account.infrastructure.adapter.out.persistence.sharding;
+
+import com.example.temporal.account.domain.model.BalanceSlotDomain;
+import com.example.temporal.account.domain.port.out.BalanceSlotPersistencePort;
+import com.example.temporal.account.infrastructure.adapter.out.persistence.BalanceSlotPersistenceAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Shard-aware balance slot persistence; slots live on the shard of their account.
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "account.sharding", name = "enabled", havingValue = "true")
+public class ShardedBalanceSlotPersistenceAdapter implements BalanceSlotPersistencePort {
+
+    private final BalanceSlotPersistenceAdapter delegate;
+    private final AccountShardResolver resolver;
+    private final ShardTemplate shardTemplate;
+
+    @Override
+    public List<BalanceSlotDomain> findByAccountNumber(final String accountNumber) {
+        return shardTemplate.read(resolver.shardFor(accountNumber), () -> delegate.findByAccountNumber(accountNumber));
+    }
+
+    @Override
+    public List<BalanceSlotDomain> findByAccountNumberWithLock(final String accountNumber) {
+        return shardTemplate.read(resolver.shardFor(accountNumber),
+                () -> delegate.findByAccountNumberWithLock(accountNumber));
+    }
+
+    @Override
+    public int countByAccountNumber(final String accountNumber) {
+        return shardTemplate.read(resolver.shardFor(accountNumber), () -> delegate.countByAccountNumber(accountNumber));
+    }
+
+    @Override
+    public BigDecimal sumBalance(final String accountNumber) {
+        return shardTemplate.read(resolver.shardFor(accountNumber), () -> delegate.sumBalance(accountNumber));
+    }
+
+    @Override
+    public Map<String, BigDecimal> sumBalances(final Collection<String> accountNumbers) {
+        final Map<String, BigDecimal> sums = new HashMap<>();
+        resolver.groupByShard(accountNumbers).forEach((shard, numbers) ->
+                sums.putAll(shardTemplate.scan(shard, () -> delegate.sumBalances(numbers))));
+        return sums;
+    }
+
+    @Override
+    public boolean creditSlot(final String accountNumber, final int slotIndex, final BigDecimal amount) {
+        return shardTemplate.write(resolver.shardFor(accountNumber),
+                () -> delegate.creditSlot(accountNumber, slotIndex, amount));
+    }
+
+    @Override
+    public boolean debitSlotIfCovered(final String accountNumber, final int slotIndex, final BigDecimal amount) {
+        return shardTemplate.write(resolver.shardFor(accountNumber),
+                () -> delegate.debitSlotIfCovered(accountNumber, slotIndex, amount));
+    }
+
+    @Override
+    public List<BalanceSlotDomain> saveAll(final List<BalanceSlotDomain> slots) {
+        final List<BalanceSlotDomain> saved = new ArrayList<>(slots.size());
+        slots.stream()
+                .collect(Collectors.groupingBy(slot -> resolver.shardFor(slot.getAccountNumber())))
+                .forEach((shard, shardSlots) ->
+                        saved.addAll(shardTemplate.write(shard, () -> delegate.saveAll(shardSlots))));
+        return saved;
+    }
+
+    @Override
+    public void deleteByAccountNumber(final String accountNumber) {
+        shardTemplate.write(resolver.shardFor(accountNumber), () -> {
+            delegate.deleteByAccountNumber(accountNumber);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.temporal.account.repository;
+
+import com.example.temporal.account.entity.AccountBalanceSlotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AccountBalanceSlotRepository extends JpaRepository<AccountBalanceSlotEntity, Long> {
+
+    List<AccountBalanceSlotEntity> findByAccountNumberOrderBySlotIndex(String accountNumber);
+
+    /**
+     * Locks every slot of an account in slot order (deadlock-free among callers)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AccountBalanceSlotEntity s WHERE s.accountNumber = :accountNumber ORDER BY s.slotIndex")
+    List<AccountBalanceSlotEntity> findByAccountNumberWithLock(@Param("accountNumber") String accountNumber);
+
+    long countByAccountNumber(String accountNumber);
+
+    /**
+     * Sum of all slot balances, null when the account has no slots
+     */
+    @Query("SELECT SUM(s.balance) FROM AccountBalanceSlotEntity s WHERE s.accountNumber = :accountNumber")
+    BigDecimal sumBalanceByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    /**
+     * Slot balance totals grouped by account, as [accountNumber, sum] rows
+     */
+    @Query("SELECT s.accountNumber, SUM(s.balance) FROM AccountBalanceSlotEntity s " +
+           "WHERE s.accountNumber IN :accountNumbers GROUP BY s.accountNumber")
+    List<Object[]> sumBalanceByAccountNumberIn(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    /**
+     * Adds an amount to a single slot in place, locking only that row
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AccountBalanceSlotEntity s SET s.balance = s.balance + :amount, s.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE s.accountNumber = :accountNumber AND s.slotIndex = :slotIndex")
+    int creditSlot(@Param("accountNumber") String accountNumber,
+                   @Param("slotIndex") int slotIndex,
+                   @Param("amount") BigDecimal amount);
+
+    /**
+     * Subtracts an amount from a single slot only if the slot covers it.
+     * Returns 0 without holding a lock when the slot balance is too low.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AccountBalanceSlotEntity s SET s.balance = s.balance - :amount, s.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE s.accountNumber = :accountNumber AND s.slotIndex = :slotIndex AND s.balance >= :amount")
+    int debitSlotIfCovered(@Param("accountNumber") String accountNumber,
+                           @Param("slotIndex") int slotIndex,
+                           @Param("amount") BigDecimal amount);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM AccountBalanceSlotEntity s WHERE s.accountNumber = :accountNumber")
+    int deleteByAccountNumber(@Param("accountNumber") String accountNumber);
+}
@@ -1,13 +1,16 @@
 package com.example.temporal.account.repository;
 
 import com.example.temporal.common.model.Account;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
@@ -35,4 +38,26 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
      * Check if account exists with idempotency key
      */
     boolean existsByIdempotencyKey(String idempotencyKey);
-}
\ No newline at end of file
+
+    /**
+     * Account numbers that already exist among the given ones (set-based lookup for bulk import)
+     */
+    @Query("SELECT a.accountNumber FROM Account a WHERE a.accountNumber IN :accountNumbers")
+    List<String> findExistingAccountNumbers(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    /**
+     * Idempotency keys that already exist among the given ones (set-based lookup for bulk import)
+     */
+    @Query("SELECT a.idempotencyKey FROM Account a WHERE a.idempotencyKey IN :idempotencyKeys")
+    List<String> findExistingIdempotencyKeys(@Param("idempotencyKeys") Collection<String> idempotencyKeys);
+
+    /**
+     * Account numbers after the given one, in order (keyset scan for shard rebalancing)
+     */
+    @Query("SELECT a.accountNumber FROM Account a WHERE a.accountNumber > :after ORDER BY a.accountNumber")
+    List<String> findAccountNumbersAfter(@Param("after") String after, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Account a WHERE a.accountNumber = :accountNumber")
+    int deleteByAccountNumber(@Param("accountNumber") String accountNumber);
+}
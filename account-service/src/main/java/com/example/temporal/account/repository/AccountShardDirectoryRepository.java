@@ -0,0 +1,9 @@
+package com.example.temporal.account.repository;
+
+import com.example.temporal.account.entity.AccountShardDirectoryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AccountShardDirectoryRepository extends JpaRepository<AccountShardDirectoryEntity, String> {
+}
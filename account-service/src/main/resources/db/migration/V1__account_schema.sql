@@ -0,0 +1,33 @@
+-- Account service schema. Tables use IF NOT EXISTS so databases created by
+-- hibernate ddl-auto are baselined in place; the indexes are the new part.
+
+CREATE TABLE IF NOT EXISTS accounts (
+    id              BIGSERIAL PRIMARY KEY,
+    account_number  VARCHAR(255)   NOT NULL,
+    owner_name      VARCHAR(255)   NOT NULL,
+    balance         NUMERIC(38, 2) NOT NULL,
+    currency        VARCHAR(255)   NOT NULL,
+    idempotency_key VARCHAR(100)   UNIQUE,
+    created_at      TIMESTAMP(6)   NOT NULL,
+    updated_at      TIMESTAMP(6)   NOT NULL
+);
+
+-- Every account lookup, lock and debit/credit filters on account_number
+CREATE UNIQUE INDEX IF NOT EXISTS uk_accounts_account_number
+    ON accounts (account_number);
+
+CREATE TABLE IF NOT EXISTS account_balance_slots (
+    id             BIGSERIAL PRIMARY KEY,
+    account_number VARCHAR(255)   NOT NULL,
+    slot_index     INTEGER        NOT NULL,
+    balance        NUMERIC(38, 2) NOT NULL,
+    updated_at     TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT uk_account_balance_slots_account_slot UNIQUE (account_number, slot_index)
+);
+
+CREATE TABLE IF NOT EXISTS account_shard_directory (
+    account_number VARCHAR(255) PRIMARY KEY,
+    shard_name     VARCHAR(255) NOT NULL,
+    pinned         BOOLEAN      NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL
+);
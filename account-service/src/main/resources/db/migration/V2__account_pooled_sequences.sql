@@ -0,0 +1,18 @@
+-- Moves the account service ids from identity columns to pooled-lo sequences so
+-- Hibernate can reserve ids in blocks and batch inserts. INCREMENT BY must
+-- match IdAllocation.ALLOCATION_SIZE; the column default keeps ad-hoc inserts
+-- working (each one simply consumes a whole block).
+
+CREATE SEQUENCE IF NOT EXISTS accounts_seq INCREMENT BY 50;
+SELECT setval('accounts_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM accounts), false);
+ALTER TABLE accounts ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE accounts ALTER COLUMN id SET DEFAULT nextval('accounts_seq');
+ALTER SEQUENCE accounts_seq OWNED BY accounts.id;
+DROP SEQUENCE IF EXISTS accounts_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS account_balance_slots_seq INCREMENT BY 50;
+SELECT setval('account_balance_slots_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM account_balance_slots), false);
+ALTER TABLE account_balance_slots ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE account_balance_slots ALTER COLUMN id SET DEFAULT nextval('account_balance_slots_seq');
+ALTER SEQUENCE account_balance_slots_seq OWNED BY account_balance_slots.id;
+DROP SEQUENCE IF EXISTS account_balance_slots_id_seq;
@@ -0,0 +1,5 @@
+-- Account type, used by validation-service to pick the transfer limit profile
+-- (transfer_limits is keyed by account type and currency). Existing accounts
+-- keep the STANDARD profile they were implicitly validated against.
+
+ALTER TABLE accounts ADD COLUMN IF NOT EXISTS account_type VARCHAR(50) NOT NULL DEFAULT 'STANDARD';
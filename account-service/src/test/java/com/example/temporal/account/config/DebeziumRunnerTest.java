@@ -0,0 +1,74 @@
+package com.example.temporal.account.config;
+
+import io.debezium.engine.DebeziumEngine;
+import io.debezium.engine.RecordChangeEvent;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DebeziumRunner Unit Tests")
+class DebeziumRunnerTest {
+
+    @Test
+    @DisplayName("Should build and run a new engine after the engine fails")
+    @SuppressWarnings("unchecked")
+    void shouldRestartFailedEngine() throws Exception {
+        var builder = (DebeziumEngine.Builder<RecordChangeEvent<SourceRecord>>) mock(DebeziumEngine.Builder.class);
+        var engine = (DebeziumEngine<RecordChangeEvent<SourceRecord>>) mock(DebeziumEngine.class);
+        var callback = ArgumentCaptor.forClass(DebeziumEngine.CompletionCallback.class);
+        when(builder.using(callback.capture())).thenReturn(builder);
+        when(builder.build()).thenReturn(engine);
+
+        var runs = new AtomicInteger();
+        doAnswer(invocation -> {
+            // The first engine fails, the second keeps running
+            if (runs.incrementAndGet() == 1) {
+                callback.getValue().handle(false, "connection lost", new IllegalStateException("connection lost"));
+            }
+            return null;
+        }).when(engine).run();
+
+        var properties = new AccountCdcProperties();
+        properties.setEngineRestartDelay(Duration.ofMillis(10));
+        var runner = new DebeziumRunner(builder, properties);
+
+        runner.start();
+        try {
+            verify(engine, timeout(2000).times(2)).run();
+            verify(builder, times(2)).build();
+        } finally {
+            runner.stop();
+        }
+
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    @DisplayName("Should not restart an engine closed on shutdown")
+    @SuppressWarnings("unchecked")
+    void shouldNotRestartOnShutdown() throws Exception {
+        var builder = (DebeziumEngine.Builder<RecordChangeEvent<SourceRecord>>) mock(DebeziumEngine.Builder.class);
+        var engine = (DebeziumEngine<RecordChangeEvent<SourceRecord>>) mock(DebeziumEngine.class);
+        when(builder.using(any(DebeziumEngine.CompletionCallback.class))).thenReturn(builder);
+        when(builder.build()).thenReturn(engine);
+
+        var properties = new AccountCdcProperties();
+        properties.setEngineRestartDelay(Duration.ofMillis(10));
+        var runner = new DebeziumRunner(builder, properties);
+
+        runner.start();
+        verify(engine, timeout(2000)).run();
+        runner.stop();
+
+        verify(engine).close();
+        verify(builder, times(1)).build();
+    }
+}
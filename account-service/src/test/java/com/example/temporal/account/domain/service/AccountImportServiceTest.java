@@ -0,0 +1,90 @@
+package com.example.temporal.account.domain.service;
+
+import com.example.temporal.account.config.AccountImportProperties;
+import com.example.temporal.account.domain.port.in.CreateAccountUseCase.CreateAccountCommand;
+import com.example.temporal.account.domain.port.in.ImportAccountsUseCase.ChunkReport;
+import com.example.temporal.account.domain.port.in.ImportAccountsUseCase.ImportLine;
+import com.example.temporal.account.domain.port.out.AccountPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountImportService Unit Tests")
+class AccountImportServiceTest {
+
+    @Mock private AccountPersistencePort persistencePort;
+
+    private AccountImportService accountImportService;
+
+    @BeforeEach
+    void setUp() {
+        final AccountImportProperties properties = new AccountImportProperties();
+        properties.setChunkSize(2);
+        accountImportService = new AccountImportService(persistencePort, properties);
+    }
+
+    @Test
+    @DisplayName("Should import in chunks and report each chunk")
+    void shouldImportInChunks() {
+        when(persistencePort.findExistingIdempotencyKeys(any())).thenReturn(Set.of());
+        when(persistencePort.findExistingAccountNumbers(any())).thenReturn(Set.of());
+        when(persistencePort.insertAll(anyList())).thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+        final List<ChunkReport> reports = new ArrayList<>();
+
+        var summary = accountImportService.importAccounts(
+                List.of(line(1, "A1", "k1"), line(2, "A2", "k2"), line(3, "A3", "k3")).iterator(),
+                reports::add);
+
+        assertEquals(2, reports.size());
+        assertEquals(2, summary.getChunks());
+        assertEquals(3, summary.getInserted());
+        assertEquals(0, summary.getRejected());
+        verify(persistencePort, times(2)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject in-chunk duplicates and existing accounts, skip imported keys")
+    void shouldDedupeAndCheckExisting() {
+        when(persistencePort.findExistingIdempotencyKeys(any())).thenReturn(Set.of("k1"));
+        when(persistencePort.findExistingAccountNumbers(any())).thenReturn(Set.of("A3"));
+        final List<ChunkReport> reports = new ArrayList<>();
+
+        var summary = accountImportService.importAccounts(
+                List.of(line(1, "A1", "k1"), line(2, "A1", "k9"), line(3, "A3", "k3"),
+                        ImportLine.builder().lineNumber(4).parseError("Malformed JSON line").build()).iterator(),
+                reports::add);
+
+        assertEquals(2, reports.size());
+        assertEquals(1, summary.getAlreadyImported());
+        assertEquals(3, summary.getRejected());
+        assertEquals(0, summary.getInserted());
+        verify(persistencePort, never()).insertAll(anyList());
+    }
+
+    private ImportLine line(final long lineNumber, final String accountNumber, final String key) {
+        return ImportLine.builder()
+                .lineNumber(lineNumber)
+                .command(CreateAccountCommand.builder()
+                        .accountNumber(accountNumber)
+                        .ownerName("Owner " + accountNumber)
+                        .initialBalance(new BigDecimal("10.00"))
+                        .currency("BRL")
+                        .idempotencyKey(key)
+                        .build())
+                .build();
+    }
+}
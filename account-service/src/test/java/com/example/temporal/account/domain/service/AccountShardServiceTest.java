@@ -0,0 +1,77 @@
+package com.example.temporal.account.domain.service;
+
+import com.example.temporal.account.domain.model.ShardPlacementDomain;
+import com.example.temporal.account.domain.port.in.ManageAccountShardsUseCase.RebalanceReport;
+import com.example.temporal.account.domain.port.out.AccountCachePort;
+import com.example.temporal.account.domain.port.out.AccountShardPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountShardService Unit Tests")
+class AccountShardServiceTest {
+
+    @Mock private AccountShardPort accountShardPort;
+    @Mock private AccountCachePort accountCachePort;
+
+    private AccountShardService accountShardService;
+
+    @BeforeEach
+    void setUp() {
+        accountShardService = new AccountShardService(accountShardPort, accountCachePort);
+    }
+
+    @Test
+    @DisplayName("Should move misplaced accounts, skip pinned ones and drop stale copies")
+    void shouldRebalanceShard() {
+        when(accountShardPort.shards()).thenReturn(List.of("s0", "s1"));
+        when(accountShardPort.findAccountNumbers(eq("s0"), eq(""), anyInt()))
+                .thenReturn(List.of("A1", "A2", "A3", "A4"));
+        when(accountShardPort.findAccountNumbers(eq("s0"), eq("A4"), anyInt())).thenReturn(List.of());
+        when(accountShardPort.findAccountNumbers(eq("s1"), eq(""), anyInt())).thenReturn(List.of());
+        when(accountShardPort.locate("A1")).thenReturn(placement("A1", "s0", "s0", false));
+        when(accountShardPort.locate("A2")).thenReturn(placement("A2", "s0", "s1", false));
+        when(accountShardPort.locate("A3")).thenReturn(placement("A3", "s0", "s1", true));
+        when(accountShardPort.locate("A4")).thenReturn(placement("A4", "s1", "s1", false));
+
+        RebalanceReport report = accountShardService.rebalance();
+
+        assertEquals(4, report.getScanned());
+        assertEquals(1, report.getMoved());
+        assertEquals(1, report.getOrphansRemoved());
+        assertEquals(0, report.getFailed());
+        verify(accountShardPort).move("A2", "s1", false);
+        verify(accountShardPort).deleteOrphan("A4", "s0");
+        verify(accountShardPort, never()).move(eq("A3"), any(), anyBoolean());
+        verify(accountCachePort).evict("A2");
+    }
+
+    @Test
+    @DisplayName("Should reject moves to unknown shards")
+    void shouldRejectUnknownShard() {
+        when(accountShardPort.shards()).thenReturn(List.of("s0", "s1"));
+
+        assertThrows(IllegalArgumentException.class, () -> accountShardService.move("A1", "s9"));
+        verify(accountShardPort, never()).move(any(), any(), anyBoolean());
+    }
+
+    private ShardPlacementDomain placement(
+            final String accountNumber, final String shard, final String targetShard, final boolean pinned) {
+        return ShardPlacementDomain.builder()
+                .accountNumber(accountNumber)
+                .shard(shard)
+                .targetShard(targetShard)
+                .pinned(pinned)
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.temporal.account.domain.service;
+
+import com.example.temporal.account.domain.model.AccountDomain;
+import com.example.temporal.account.domain.model.BalanceSlotDomain;
+import com.example.temporal.account.domain.port.out.AccountPersistencePort;
+import com.example.temporal.account.domain.port.out.BalanceSlotPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BalanceSlotService Unit Tests")
+class BalanceSlotServiceTest {
+
+    private static final String ACCOUNT = "HOT001";
+
+    @Mock private AccountPersistencePort accountPersistencePort;
+    @Mock private BalanceSlotPersistencePort slotPersistencePort;
+
+    private BalanceSlotService balanceSlotService;
+
+    @BeforeEach
+    void setUp() {
+        balanceSlotService = new BalanceSlotService(accountPersistencePort, slotPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Should split account balance across slots keeping the total")
+    void shouldSplitBalanceAcrossSlots() {
+        when(accountPersistencePort.findByAccountNumberWithLock(ACCOUNT))
+                .thenReturn(Optional.of(account(new BigDecimal("100.00"))));
+        when(slotPersistencePort.findByAccountNumberWithLock(ACCOUNT)).thenReturn(List.of());
+        when(slotPersistencePort.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        var slots = balanceSlotService.configureSlots(ACCOUNT, 3);
+
+        assertEquals(3, slots.size());
+        assertEquals(new BigDecimal("100.00"), BalanceSlotDomain.total(slots));
+        assertEquals(new BigDecimal("33.34"), slots.get(0).getBalance());
+        var accountCaptor = ArgumentCaptor.forClass(AccountDomain.class);
+        verify(accountPersistencePort).update(accountCaptor.capture());
+        assertEquals(0, accountCaptor.getValue().getBalance().signum());
+    }
+
+    @Test
+    @DisplayName("Should debit a single covering slot without locking")
+    void shouldDebitSingleSlot() {
+        when(slotPersistencePort.findByAccountNumber(ACCOUNT))
+                .thenReturn(List.of(slot(0, "50.00"), slot(1, "50.00")));
+        when(slotPersistencePort.debitSlotIfCovered(eq(ACCOUNT), anyInt(), any())).thenReturn(true);
+
+        balanceSlotService.debit(ACCOUNT, new BigDecimal("30.00"));
+
+        verify(slotPersistencePort, never()).findByAccountNumberWithLock(any());
+    }
+
+    @Test
+    @DisplayName("Should lock all slots when no single slot covers the debit")
+    @SuppressWarnings("unchecked")
+    void shouldFallBackToLockedDebit() {
+        var slots = List.of(slot(0, "50.00"), slot(1, "50.00"));
+        when(slotPersistencePort.findByAccountNumber(ACCOUNT)).thenReturn(slots);
+        when(accountPersistencePort.findByAccountNumberWithLock(ACCOUNT))
+                .thenReturn(Optional.of(account(new BigDecimal("0.00"))));
+        when(slotPersistencePort.findByAccountNumberWithLock(ACCOUNT)).thenReturn(slots);
+
+        balanceSlotService.debit(ACCOUNT, new BigDecimal("80.00"));
+
+        ArgumentCaptor<List<BalanceSlotDomain>> captor = ArgumentCaptor.forClass(List.class);
+        verify(slotPersistencePort).saveAll(captor.capture());
+        assertEquals(new BigDecimal("20.00"), BalanceSlotDomain.total(captor.getValue()));
+        verify(accountPersistencePort, never()).update(any());
+    }
+
+    @Test
+    @DisplayName("Should count the row balance of a slotted account in the locked debit")
+    @SuppressWarnings("unchecked")
+    void shouldFoldRowBalanceIntoLockedDebit() {
+        var slots = List.of(slot(0, "30.00"), slot(1, "30.00"));
+        when(slotPersistencePort.findByAccountNumber(ACCOUNT)).thenReturn(slots);
+        when(accountPersistencePort.findByAccountNumberWithLock(ACCOUNT))
+                .thenReturn(Optional.of(account(new BigDecimal("40.00"))));
+        when(slotPersistencePort.findByAccountNumberWithLock(ACCOUNT)).thenReturn(slots);
+
+        balanceSlotService.debit(ACCOUNT, new BigDecimal("90.00"));
+
+        var accountCaptor = ArgumentCaptor.forClass(AccountDomain.class);
+        verify(accountPersistencePort).update(accountCaptor.capture());
+        assertEquals(0, accountCaptor.getValue().getBalance().signum());
+        ArgumentCaptor<List<BalanceSlotDomain>> captor = ArgumentCaptor.forClass(List.class);
+        verify(slotPersistencePort).saveAll(captor.capture());
+        assertEquals(new BigDecimal("10.00"), BalanceSlotDomain.total(captor.getValue()));
+    }
+
+    @Test
+    @DisplayName("Should debit the row when the slots were removed concurrently")
+    void shouldDebitRowWithoutSlots() {
+        when(slotPersistencePort.findByAccountNumber(ACCOUNT)).thenReturn(List.of());
+        when(accountPersistencePort.findByAccountNumberWithLock(ACCOUNT))
+                .thenReturn(Optional.of(account(new BigDecimal("100.00"))));
+        when(slotPersistencePort.findByAccountNumberWithLock(ACCOUNT)).thenReturn(List.of());
+
+        balanceSlotService.debit(ACCOUNT, new BigDecimal("60.00"));
+
+        var accountCaptor = ArgumentCaptor.forClass(AccountDomain.class);
+        verify(accountPersistencePort).update(accountCaptor.capture());
+        assertEquals(new BigDecimal("40.00"), accountCaptor.getValue().getBalance());
+        verify(slotPersistencePort, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should reject debit above the total of all slots")
+    void shouldRejectInsufficientFunds() {
+        var slots = List.of(slot(0, "50.00"), slot(1, "50.00"));
+        when(slotPersistencePort.findByAccountNumber(ACCOUNT)).thenReturn(slots);
+        when(accountPersistencePort.findByAccountNumberWithLock(ACCOUNT))
+                .thenReturn(Optional.of(account(new BigDecimal("20.00"))));
+        when(slotPersistencePort.findByAccountNumberWithLock(ACCOUNT)).thenReturn(slots);
+
+        assertThrows(IllegalStateException.class,
+                () -> balanceSlotService.debit(ACCOUNT, new BigDecimal("150.00")));
+        verify(slotPersistencePort, never()).saveAll(any());
+    }
+
+    private AccountDomain account(final BigDecimal balance) {
+        return AccountDomain.create(ACCOUNT, "Hot Owner", balance, "BRL", null, "key-1");
+    }
+
+    private BalanceSlotDomain slot(final int index, final String balance) {
+        return BalanceSlotDomain.builder().id((long) index + 1).accountNumber(ACCOUNT)
+                .slotIndex(index).balance(new BigDecimal(balance)).build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.temporal.account.infrastructure.adapter.in.cdc;
+
+import com.example.temporal.account.config.AccountCdcProperties;
+import com.example.temporal.account.domain.model.AccountChangeEvent;
+import com.example.temporal.account.domain.port.out.AccountCachePort;
+import com.example.temporal.account.domain.port.out.AccountChangePublisherPort;
+import io.debezium.engine.DebeziumEngine;
+import io.debezium.engine.RecordChangeEvent;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountChangeEventHandler Unit Tests")
+class AccountChangeEventHandlerTest {
+
+    private static final Schema ROW = SchemaBuilder.struct().optional()
+            .field("account_number", Schema.STRING_SCHEMA)
+            .field("balance", Decimal.schema(2))
+            .field("currency", Schema.STRING_SCHEMA)
+            .build();
+    private static final Schema SOURCE = SchemaBuilder.struct()
+            .field("table", Schema.STRING_SCHEMA)
+            .field("ts_ms", Schema.INT64_SCHEMA)
+            .field("lsn", Schema.OPTIONAL_INT64_SCHEMA)
+            .build();
+    private static final Schema ENVELOPE = SchemaBuilder.struct()
+            .field("before", ROW)
+            .field("after", ROW)
+            .field("source", SOURCE)
+            .field("op", Schema.STRING_SCHEMA)
+            .build();
+
+    @Mock private AccountChangePublisherPort publisherPort;
+    @Mock private AccountCachePort accountCachePort;
+    @Mock private DebeziumEngine.RecordCommitter<RecordChangeEvent<SourceRecord>> committer;
+
+    private AccountChangeEventHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new AccountCdcProperties();
+        properties.setPublishRetryInitialBackoff(Duration.ofMillis(1));
+        properties.setPublishRetryMaxBackoff(Duration.ofMillis(2));
+        handler = new AccountChangeEventHandler(publisherPort, accountCachePort, properties);
+    }
+
+    @Test
+    @DisplayName("Should publish typed batch before committing offsets")
+    @SuppressWarnings("unchecked")
+    void shouldPublishBeforeCommitting() throws InterruptedException {
+        var update = event(envelope("u", row("123", "10.00"), row("123", "7.50")));
+        var tombstone = event(new SourceRecord(Map.of(), Map.of(), "banking.public.accounts", null, null));
+
+        handler.handleBatch(List.of(update, tombstone), committer);
+
+        ArgumentCaptor<List<AccountChangeEvent>> captor = ArgumentCaptor.forClass(List.class);
+        InOrder inOrder = inOrder(publisherPort, committer);
+        inOrder.verify(publisherPort).publish(captor.capture());
+        inOrder.verify(committer, times(2)).markProcessed(any());
+        inOrder.verify(committer).markBatchFinished();
+
+        var published = captor.getValue();
+        assertEquals(1, published.size());
+        assertEquals(AccountChangeEvent.Operation.UPDATE, published.get(0).getOperation());
+        assertEquals(new BigDecimal("10.00"), published.get(0).getBalanceBefore());
+        assertEquals(new BigDecimal("7.50"), published.get(0).getBalanceAfter());
+        assertEquals("accounts", published.get(0).getTable());
+        verify(accountCachePort).evictChanged(eq("123"), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Should evict before publishing and retry a failed publication before committing")
+    void shouldRetryFailedPublication() throws InterruptedException {
+        doThrow(new IllegalStateException("broker down"))
+                .doThrow(new IllegalStateException("broker down"))
+                .doNothing()
+                .when(publisherPort).publish(any());
+
+        handler.handleBatch(List.of(event(envelope("c", null, row("123", "1.00")))), committer);
+
+        InOrder inOrder = inOrder(accountCachePort, publisherPort, committer);
+        inOrder.verify(accountCachePort).evictChanged(eq("123"), any(Instant.class));
+        inOrder.verify(publisherPort, times(3)).publish(any());
+        inOrder.verify(committer).markProcessed(any());
+        inOrder.verify(committer).markBatchFinished();
+    }
+
+    @Test
+    @DisplayName("Should stop retrying without committing offsets when interrupted")
+    void shouldNotCommitWhenInterrupted() throws InterruptedException {
+        doThrow(new IllegalStateException("broker down")).when(publisherPort).publish(any());
+        var batch = List.of(event(envelope("c", null, row("123", "1.00"))));
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(InterruptedException.class, () -> handler.handleBatch(batch, committer));
+        } finally {
+            Thread.interrupted();
+        }
+
+        verify(accountCachePort).evictChanged(eq("123"), any(Instant.class));
+        verify(committer, never()).markProcessed(any());
+        verify(committer, never()).markBatchFinished();
+    }
+
+    private static Struct row(final String accountNumber, final String balance) {
+        return new Struct(ROW)
+                .put("account_number", accountNumber)
+                .put("balance", new BigDecimal(balance))
+                .put("currency", "BRL");
+    }
+
+    private static SourceRecord envelope(final String op, final Struct before, final Struct after) {
+        final Struct source = new Struct(SOURCE).put("table", "accounts").put("ts_ms", 1_700_000_000_000L);
+        final Struct value = new Struct(ENVELOPE)
+                .put("before", before)
+                .put("after", after)
+                .put("source", source)
+                .put("op", op);
+        return new SourceRecord(Map.of(), Map.of(), "banking.public.accounts", ENVELOPE, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RecordChangeEvent<SourceRecord> event(final SourceRecord record) {
+        final RecordChangeEvent<SourceRecord> event = mock(RecordChangeEvent.class);
+        when(event.record()).thenReturn(record);
+        return event;
+    }
+}
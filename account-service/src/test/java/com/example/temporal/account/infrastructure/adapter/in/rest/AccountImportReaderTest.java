@@ -0,0 +1,58 @@
+package com.example.temporal.account.infrastructure.adapter.in.rest;
+
+import com.example.temporal.account.domain.port.in.ImportAccountsUseCase.ImportLine;
+import com.example.temporal.account.infrastructure.adapter.in.rest.mapper.AccountRestMapperImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AccountImportReader Unit Tests")
+class AccountImportReaderTest {
+
+    private static final String HEADER = "accountNumber,ownerName,balance,currency\n";
+
+    private final AccountImportReader reader = new AccountImportReader(new ObjectMapper(), new AccountRestMapperImpl());
+
+    @Test
+    @DisplayName("Should keep commas and doubled quotes inside quoted fields")
+    void shouldReadQuotedFields() {
+        var lines = read(HEADER + "ACC001,\"Smith, John \"\"JJ\"\"\",100.00,BRL\n");
+
+        assertEquals(1, lines.size());
+        assertNull(lines.get(0).getParseError());
+        assertEquals("Smith, John \"JJ\"", lines.get(0).getCommand().getOwnerName());
+        assertEquals(new BigDecimal("100.00"), lines.get(0).getCommand().getInitialBalance());
+    }
+
+    @Test
+    @DisplayName("Should reject lines with more or fewer fields than the header")
+    void shouldRejectFieldCountMismatch() {
+        var lines = read(HEADER + "ACC001,Smith, John,100.00,BRL\nACC002,Doe,50.00\n");
+
+        assertEquals("Expected 4 columns but found 5", lines.get(0).getParseError());
+        assertEquals("Expected 4 columns but found 3", lines.get(1).getParseError());
+    }
+
+    @Test
+    @DisplayName("Should reject a quoted field left open")
+    void shouldRejectUnterminatedQuote() {
+        var lines = read(HEADER + "ACC001,\"Smith, John,100.00,BRL\nACC002,Doe,50.00,BRL\n");
+
+        assertEquals("Unterminated quoted field", lines.get(0).getParseError());
+        assertNull(lines.get(1).getParseError());
+    }
+
+    private List<ImportLine> read(final String body) {
+        final List<ImportLine> lines = new ArrayList<>();
+        reader.read(new BufferedReader(new StringReader(body)), true).forEachRemaining(lines::add);
+        return lines;
+    }
+}
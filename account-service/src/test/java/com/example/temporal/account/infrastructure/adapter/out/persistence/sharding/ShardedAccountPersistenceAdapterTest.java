@@ -0,0 +1,144 @@
+package com.example.temporal.account.infrastructure.adapter.out.persistence.sharding;
+
+import com.example.temporal.account.domain.model.AccountDomain;
+import com.example.temporal.account.domain.port.out.AccountCachePort;
+import com.example.temporal.account.domain.service.AccountService;
+import com.example.temporal.account.domain.service.BalanceSlotService;
+import com.example.temporal.account.infrastructure.adapter.out.persistence.AccountPersistenceAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ShardedAccountPersistenceAdapter Unit Tests")
+class ShardedAccountPersistenceAdapterTest {
+
+    @Mock private AccountPersistenceAdapter delegate;
+    @Mock private AccountShardResolver resolver;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private ShardRoutingDataSource shardRoutingDataSource;
+    @Mock private DataSource shardDataSource;
+    @Mock private Connection connection;
+    @Mock private PreparedStatement statement;
+    @Mock private ResultSet rows;
+    @Mock private BalanceSlotService balanceSlotService;
+    @Mock private AccountCachePort accountCachePort;
+
+    private ShardedAccountPersistenceAdapter adapter;
+    private AccountService accountService;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new ShardedAccountPersistenceAdapter(
+                delegate, resolver, new ShardTemplate(transactionManager, shardRoutingDataSource));
+        accountService = new AccountService(adapter, balanceSlotService, accountCachePort);
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        completeTransaction();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        ShardContext.set(null);
+    }
+
+    @Test
+    @DisplayName("Should lock an account on another shard until the transaction completes")
+    void shouldHoldCrossShardLockUntilCompletion() throws Exception {
+        final var first = account("ACC-A");
+        final var second = account("ACC-B");
+        when(resolver.shardFor("ACC-A")).thenReturn("s0");
+        when(resolver.shardFor("ACC-B")).thenReturn("s1");
+        when(delegate.findByAccountNumberWithLock("ACC-A")).thenReturn(Optional.of(first));
+        when(delegate.findByAccountNumber("ACC-B")).thenReturn(Optional.of(second));
+        stubLockedRow(true);
+
+        accountService.lockAccounts("ACC-B", "ACC-A");
+
+        final InOrder order = inOrder(delegate, statement);
+        order.verify(delegate).findByAccountNumberWithLock("ACC-A");
+        order.verify(statement).executeQuery();
+        order.verify(delegate).findByAccountNumber("ACC-B");
+        verify(statement).setString(1, "ACC-B");
+        verify(connection).setAutoCommit(false);
+        verify(connection, never()).rollback();
+        verify(connection, never()).close();
+        assertEquals("s0", ShardContext.current());
+
+        completeTransaction();
+
+        verify(connection).rollback();
+        verify(connection).close();
+        assertNull(ShardContext.current());
+    }
+
+    @Test
+    @DisplayName("Should report a missing account on another shard and still release the lock")
+    void shouldFailWhenCrossShardAccountIsMissing() throws Exception {
+        when(resolver.shardFor("ACC-A")).thenReturn("s0");
+        when(resolver.shardFor("ACC-B")).thenReturn("s1");
+        when(delegate.findByAccountNumberWithLock("ACC-A")).thenReturn(Optional.of(account("ACC-A")));
+        stubLockedRow(false);
+
+        assertThrows(IllegalArgumentException.class, () -> accountService.lockAccounts("ACC-A", "ACC-B"));
+        verify(delegate, never()).findByAccountNumber("ACC-B");
+
+        completeTransaction();
+
+        verify(connection).rollback();
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Should ignore copies of an account on shards that do not own it")
+    void shouldSkipStaleCopiesWhenFindingById() {
+        final var account = account("ACC-A");
+        when(resolver.shards()).thenReturn(List.of("s0", "s1"));
+        when(resolver.shardFor("ACC-A")).thenReturn("s1");
+        when(delegate.findById(7L)).thenReturn(Optional.of(account));
+
+        assertEquals(Optional.of(account), adapter.findById(7L));
+        verify(delegate, times(2)).findById(7L);
+    }
+
+    private void stubLockedRow(final boolean found) throws Exception {
+        when(shardRoutingDataSource.shard("s1")).thenReturn(shardDataSource);
+        when(shardDataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(rows);
+        when(rows.next()).thenReturn(found);
+    }
+
+    private static void completeTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        final List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(
+                TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private static AccountDomain account(final String accountNumber) {
+        return AccountDomain.builder().id(7L).accountNumber(accountNumber).build();
+    }
+}
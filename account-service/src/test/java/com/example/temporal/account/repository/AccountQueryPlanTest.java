@@ -0,0 +1,61 @@
+package com.example.temporal.account.repository;
+
+import com.example.temporal.common.schema.QueryPlanTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.List;
+
+@DisplayName("Account repository query plans")
+class AccountQueryPlanTest extends QueryPlanTestSupport {
+
+    @Configuration
+    @EntityScan(basePackages = {"com.example.temporal.common.model", "com.example.temporal.account.entity"})
+    @EnableJpaRepositories(basePackages = "com.example.temporal.account.repository")
+    static class JpaConfig {
+    }
+
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private AccountBalanceSlotRepository slotRepository;
+
+    @Test
+    @DisplayName("Should resolve accounts through the account number index")
+    void shouldUseAccountNumberIndex() {
+        assertUsesIndex("uk_accounts_account_number", () -> accountRepository.findByAccountNumber("ACC001"));
+        assertUsesIndex("uk_accounts_account_number", () -> accountRepository.findByAccountNumberWithLock("ACC001"));
+        assertUsesIndex("uk_accounts_account_number",
+                () -> accountRepository.findByAccountNumberIn(List.of("ACC001", "ACC002")));
+        assertUsesIndex("uk_accounts_account_number", () -> accountRepository.existsByAccountNumber("ACC001"));
+        assertUsesIndex("uk_accounts_account_number",
+                () -> accountRepository.findExistingAccountNumbers(List.of("ACC001", "ACC002")));
+        assertUsesIndex("uk_accounts_account_number",
+                () -> accountRepository.findAccountNumbersAfter("", PageRequest.of(0, 100)));
+    }
+
+    @Test
+    @DisplayName("Should resolve idempotency keys through their unique index")
+    void shouldUseIdempotencyKeyIndex() {
+        assertUsesIndex("accounts_idempotency_key_key", () -> accountRepository.findByIdempotencyKey("key"));
+        assertUsesIndex("accounts_idempotency_key_key", () -> accountRepository.existsByIdempotencyKey("key"));
+        assertUsesIndex("accounts_idempotency_key_key",
+                () -> accountRepository.findExistingIdempotencyKeys(List.of("key-1", "key-2")));
+    }
+
+    @Test
+    @DisplayName("Should resolve balance slots through the account/slot index")
+    void shouldUseBalanceSlotIndex() {
+        assertUsesIndex("uk_account_balance_slots_account_slot",
+                () -> slotRepository.findByAccountNumberOrderBySlotIndex("HOT001"));
+        assertUsesIndex("uk_account_balance_slots_account_slot",
+                () -> slotRepository.findByAccountNumberWithLock("HOT001"));
+        assertUsesIndex("uk_account_balance_slots_account_slot",
+                () -> slotRepository.sumBalanceByAccountNumber("HOT001"));
+        assertUsesIndex("uk_account_balance_slots_account_slot",
+                () -> slotRepository.sumBalanceByAccountNumberIn(List.of("HOT001", "HOT002")));
+    }
+}
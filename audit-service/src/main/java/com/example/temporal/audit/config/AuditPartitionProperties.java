@@ -0,0 +1,53 @@
+package com.example.temporal.audit.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuração da manutenção das partições mensais de audit_events
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "audit.partitions")
+public class AuditPartitionProperties {
+
+    /**
+     * O que fazer com partições expiradas
+     */
+    public enum ExpiredAction {
+        /**
+         * Desanexa a partição e a move para o schema de arquivo, para exportação externa
+         */
+        ARCHIVE,
+        /**
+         * Remove a partição e seus dados
+         */
+        DROP
+    }
+
+    /**
+     * Habilita a criação e a retenção automáticas de partições
+     */
+    private boolean enabled = true;
+
+    /**
+     * Meses à frente do atual com partição já criada
+     */
+    private int premakeMonths = 3;
+
+    /**
+     * Meses completos mantidos em audit_events antes de a partição expirar
+     */
+    private int retentionMonths = 84;
+
+    /**
+     * Destino das partições expiradas
+     */
+    private ExpiredAction expiredAction = ExpiredAction.ARCHIVE;
+
+    /**
+     * Schema que recebe as partições arquivadas
+     */
+    private String archiveSchema = "audit_archive";
+}
@@ -0,0 +1,41 @@
+package com.example.temporal.audit.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+/**
+ * Error handling of the CDC listener.
+ * <p>
+ * Spring Boot applies this handler to the default container factory. A failed
+ * poll is sought back to its first uncommitted record and redelivered with
+ * exponential backoff, without a retry limit: while the audit database is
+ * down the listener waits, instead of skipping records after a few attempts
+ * like the default handler does.
+ * </p>
+ */
+@Slf4j
+@Configuration
+public class CdcIngestionConfig {
+
+    @Bean
+    public DefaultErrorHandler cdcErrorHandler(CdcIngestionProperties properties) {
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(retryBackOff(properties));
+        errorHandler.setRetryListeners((record, ex, deliveryAttempt) -> log.warn(
+                "CDC ingestion failed (attempt {}), redelivering from {}-{}@{}: {}", deliveryAttempt,
+                record.topic(), record.partition(), record.offset(), ex.getMessage()));
+        return errorHandler;
+    }
+
+    /**
+     * Doubles from the initial backoff up to the maximum, and never gives up
+     */
+    static ExponentialBackOff retryBackOff(CdcIngestionProperties properties) {
+        ExponentialBackOff backOff = new ExponentialBackOff(properties.getRetryInitialBackoff().toMillis(), 2.0);
+        backOff.setMaxInterval(properties.getRetryMaxBackoff().toMillis());
+        backOff.setMaxElapsedTime(Long.MAX_VALUE);
+        return backOff;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.temporal.audit.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuração do pipeline de ingestão de eventos CDC (parse → map → insert em lote)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "audit.cdc.ingestion")
+public class CdcIngestionProperties {
+
+    /**
+     * Eventos por lote inserido; o offset é confirmado a cada lote gravado
+     */
+    private int batchSize = 500;
+
+    /**
+     * Lotes que cabem no buffer entre dois estágios antes de o estágio anterior esperar
+     */
+    private int bufferCapacity = 4;
+
+    /**
+     * Tempo máximo para gravar os registros de um poll antes de devolvê-los ao Kafka
+     */
+    private Duration timeout = Duration.ofSeconds(30);
+
+    /**
+     * Espera antes de reentregar um poll cuja gravação falhou; dobra a cada nova falha
+     */
+    private Duration retryInitialBackoff = Duration.ofSeconds(1);
+
+    /**
+     * Espera máxima entre duas reentregas; as tentativas não têm limite, pois um evento
+     * de auditoria nunca é descartado por uma indisponibilidade do banco
+     */
+    private Duration retryMaxBackoff = Duration.ofMinutes(1);
+}
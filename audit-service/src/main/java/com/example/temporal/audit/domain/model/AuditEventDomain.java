@@ -6,6 +6,7 @@ import lombok.With;
 
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Pure domain model for Audit Event - framework independent
@@ -21,6 +22,12 @@ public class AuditEventDomain {
     String entityId;
     Map<String, Object> beforeState;
     Map<String, Object> afterState;
+    /**
+     * Row states as captured, as JSON text; set on events built from CDC and
+     * stored as is, while the maps are filled when events are read back
+     */
+    String beforeJson;
+    String afterJson;
     String userId;
     LocalDateTime timestamp;
     String idempotencyKey;
@@ -68,6 +75,10 @@ public class AuditEventDomain {
      * Business rule: has the entity changed?
      */
     public boolean hasChanges() {
+        if (beforeJson != null || afterJson != null) {
+            // Debezium writes both rows with the same converter, so equal text is an equal row
+            return !Objects.equals(beforeJson, afterJson);
+        }
         if (beforeState == null && afterState == null) {
             return false;
         }
@@ -79,24 +90,26 @@ public class AuditEventDomain {
 
     /**
      * Creates a new audit event
+     * The timestamp is the given occurrence time, or now when it is not known
      */
     public static AuditEventDomain create(
             String eventType,
             String entityType,
             String entityId,
-            Map<String, Object> beforeState,
-            Map<String, Object> afterState,
+            String beforeJson,
+            String afterJson,
             String userId,
-            String idempotencyKey) {
+            String idempotencyKey,
+            LocalDateTime occurredAt) {
 
         AuditEventDomain event = AuditEventDomain.builder()
                 .eventType(eventType)
                 .entityType(entityType)
                 .entityId(entityId)
-                .beforeState(beforeState)
-                .afterState(afterState)
+                .beforeJson(beforeJson)
+                .afterJson(afterJson)
                 .userId(userId)
-                .timestamp(LocalDateTime.now())
+                .timestamp(occurredAt != null ? occurredAt : LocalDateTime.now())
                 .idempotencyKey(idempotencyKey)
                 .build();
 
@@ -4,7 +4,6 @@ import com.example.temporal.audit.domain.model.AuditEventDomain;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -20,17 +19,34 @@ public interface ProcessCDCEventUseCase {
      */
     ProcessCDCEventResult processCDCEvent(ProcessCDCEventCommand command);
 
+    /**
+     * Builds the audit event for a CDC event without saving it
+     * @param command the CDC event command
+     * @return the audit event, or empty when the event changes nothing worth auditing
+     */
+    Optional<AuditEventDomain> toAuditEvent(ProcessCDCEventCommand command);
+
+    /**
+     * Saves audit events built by {@link #toAuditEvent} in one transaction,
+     * skipping any whose idempotency key is already recorded
+     * @param events the audit events to save
+     * @return the number of audit events saved
+     */
+    int recordAuditEvents(List<AuditEventDomain> events);
+
     /**
      * Command object for processing CDC events
+     * The occurrence time is when the change was committed at the source, if known
      */
     record ProcessCDCEventCommand(
             String topic,
             String operation,
             String entityType,
             String entityId,
-            Map<String, Object> beforeState,
-            Map<String, Object> afterState,
-            String idempotencyKey
+            String beforeJson,
+            String afterJson,
+            String idempotencyKey,
+            LocalDateTime occurredAt
     ) {
         public ProcessCDCEventCommand {
             if (topic == null || topic.trim().isEmpty()) {
@@ -52,17 +68,19 @@ public interface ProcessCDCEventUseCase {
                 String operation,
                 String entityType,
                 String entityId,
-                Map<String, Object> beforeState,
-                Map<String, Object> afterState,
-                String idempotencyKey) {
+                String beforeJson,
+                String afterJson,
+                String idempotencyKey,
+                LocalDateTime occurredAt) {
             return new ProcessCDCEventCommand(
                     topic,
                     operation,
                     entityType,
                     entityId,
-                    beforeState,
-                    afterState,
-                    idempotencyKey
+                    beforeJson,
+                    afterJson,
+                    idempotencyKey,
+                    occurredAt
             );
         }
     }
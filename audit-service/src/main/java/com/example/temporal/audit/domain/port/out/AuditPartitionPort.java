@@ -0,0 +1,44 @@
+package com.example.temporal.audit.domain.port.out;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Port for the monthly partitions of the audit event table
+ * Defines what the domain needs to keep partitions ahead of time and retire expired ones
+ */
+public interface AuditPartitionPort {
+
+    /**
+     * Lists the months that currently have a partition
+     * @return the partitioned months, oldest first
+     */
+    List<YearMonth> findPartitions();
+
+    /**
+     * Lists the months of the rows held by the default partition, which receives
+     * events whose month has no partition of its own
+     * @return the months, oldest first
+     */
+    List<YearMonth> findDefaultPartitionMonths();
+
+    /**
+     * Creates the partition for a month, with its indexes, if it does not exist yet,
+     * moving in the rows of that month held by the default partition
+     * @param month the month
+     * @return true if the partition was created
+     */
+    boolean createPartition(YearMonth month);
+
+    /**
+     * Detaches a month's partition and keeps it as a standalone table in the archive schema
+     * @param month the month
+     */
+    void archivePartition(YearMonth month);
+
+    /**
+     * Drops a month's partition and its rows
+     * @param month the month
+     */
+    void dropPartition(YearMonth month);
+}
@@ -19,6 +19,28 @@ public interface AuditPersistencePort {
      */
     AuditEventDomain save(AuditEventDomain event);
 
+    /**
+     * Saves audit events in one transaction, letting the inserts be batched
+     * @param events the audit events to save
+     * @return the saved audit events
+     */
+    List<AuditEventDomain> saveAll(List<AuditEventDomain> events);
+
+    /**
+     * Reserves IDs from the audit event sequence, in blocks shared with JPA inserts
+     * @param count the number of IDs needed
+     * @return the reserved IDs
+     */
+    List<Long> reserveIds(int count);
+
+    /**
+     * Inserts audit events that already carry their IDs in one batch, skipping any
+     * whose idempotency key is already stored
+     * @param events the audit events to insert
+     * @return the number of rows inserted
+     */
+    int insertAll(List<AuditEventDomain> events);
+
     /**
      * Finds an audit event by ID
      * @param id the audit event ID
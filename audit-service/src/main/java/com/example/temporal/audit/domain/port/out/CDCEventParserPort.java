@@ -1,6 +1,6 @@
 package com.example.temporal.audit.domain.port.out;
 
-import java.util.Map;
+import java.time.LocalDateTime;
 
 /**
  * Port for CDC event parsing operations
@@ -18,18 +18,23 @@ public interface CDCEventParserPort {
 
     /**
      * Parsed CDC event DTO
+     * The row states are the JSON text of the message's before and after objects, unchanged;
+     * the source LSN is the WAL position Debezium read the change from, and the occurrence time the
+ * commit time of the change at the source, when the message carries them
      */
     record ParsedCDCEvent(
             String topic,
             String operation,
             String entityType,
             String entityId,
-            Map<String, Object> beforeState,
-            Map<String, Object> afterState,
+            String beforeJson,
+            String afterJson,
+            String sourceLsn,
+            LocalDateTime occurredAt,
             boolean isValid
     ) {
         public static ParsedCDCEvent invalid(String reason) {
-            return new ParsedCDCEvent(null, null, null, null, null, null, false);
+            return new ParsedCDCEvent(null, null, null, null, null, null, null, null, false);
         }
 
         public static ParsedCDCEvent valid(
@@ -37,9 +42,12 @@ public interface CDCEventParserPort {
                 String operation,
                 String entityType,
                 String entityId,
-                Map<String, Object> beforeState,
-                Map<String, Object> afterState) {
-            return new ParsedCDCEvent(topic, operation, entityType, entityId, beforeState, afterState, true);
+                String beforeJson,
+                String afterJson,
+                String sourceLsn,
+                LocalDateTime occurredAt) {
+            return new ParsedCDCEvent(topic, operation, entityType, entityId, beforeJson, afterJson, sourceLsn,
+                    occurredAt, true);
         }
     }
 }
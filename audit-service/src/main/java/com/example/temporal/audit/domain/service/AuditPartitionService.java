@@ -0,0 +1,81 @@
+package com.example.temporal.audit.domain.service;
+
+import com.example.temporal.audit.config.AuditPartitionProperties;
+import com.example.temporal.audit.domain.port.out.AuditPartitionPort;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+
+/**
+ * Keeps the monthly audit partitions ahead of the clock and retires expired ones.
+ * <p>
+ * The current month and {@code premakeMonths} after it always have a
+ * partition; events of any other month land in the default partition, and
+ * each run gives those months a partition of their own, which moves the rows
+ * out of it. A missed run is covered by the next. Months older than
+ * {@code retentionMonths} before the current one are archived or dropped
+ * whole, which costs a catalog change instead of a delete over the expired
+ * rows.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuditPartitionService {
+
+    private final AuditPartitionPort auditPartitionPort;
+    private final AuditPartitionProperties properties;
+
+    /**
+     * Runs the maintenance at startup and then daily.
+     */
+    @PostConstruct
+    @Scheduled(cron = "${audit.partitions.maintenance-cron:0 15 3 * * *}")
+    public void maintain() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            maintain(YearMonth.now());
+        } catch (final Exception e) {
+            log.error("Error maintaining audit partitions: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates the partitions of the months found in the default partition and the missing ones
+     * from the current month on, then retires the expired ones.
+     *
+     * @param current the current month
+     */
+    void maintain(final YearMonth current) {
+        for (final YearMonth month : auditPartitionPort.findDefaultPartitionMonths()) {
+            if (auditPartitionPort.createPartition(month)) {
+                log.warn("Created audit partition for {} from rows held by the default partition", month);
+            }
+        }
+
+        for (int ahead = 0; ahead <= properties.getPremakeMonths(); ahead++) {
+            final YearMonth month = current.plusMonths(ahead);
+            if (auditPartitionPort.createPartition(month)) {
+                log.info("Created audit partition for {}", month);
+            }
+        }
+
+        final YearMonth oldestKept = current.minusMonths(properties.getRetentionMonths());
+        for (final YearMonth month : auditPartitionPort.findPartitions()) {
+            if (!month.isBefore(oldestKept)) {
+                break;
+            }
+            switch (properties.getExpiredAction()) {
+                case ARCHIVE -> auditPartitionPort.archivePartition(month);
+                case DROP -> auditPartitionPort.dropPartition(month);
+            }
+            log.info("Retired audit partition for {} ({})", month, properties.getExpiredAction());
+        }
+    }
+}
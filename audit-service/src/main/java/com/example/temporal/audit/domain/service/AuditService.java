@@ -14,6 +14,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Domain service implementing audit use cases
@@ -34,43 +36,20 @@ public class AuditService implements ProcessCDCEventUseCase, QueryAuditUseCase {
                 command.topic(), command.operation(), command.entityType(), command.entityId());
 
         try {
-            // Check for duplicate event (idempotency based on Kafka offset)
-            String idempotencyKey = command.idempotencyKey() != null
-                    ? command.idempotencyKey()
-                    : command.topic() + "-" + command.entityId() + "-" + System.currentTimeMillis();
-
-            var existingEvent = auditPersistencePort.findByIdempotencyKey(idempotencyKey);
-            if (existingEvent.isPresent()) {
-                log.info("Audit event already exists for idempotency key: {}", idempotencyKey);
-                return ProcessCDCEventResult.success(existingEvent.get().getId());
+            Optional<AuditEventDomain> auditEvent = toAuditEvent(command);
+            if (auditEvent.isEmpty()) {
+                return ProcessCDCEventResult.success(null);
             }
 
-            // Determine event type based on operation
-            String eventType = determineEventType(command.operation(), command.entityType());
-
-            // Create audit event domain object
-            AuditEventDomain auditEvent = AuditEventDomain.create(
-                    eventType,
-                    command.entityType(),
-                    command.entityId(),
-                    command.beforeState(),
-                    command.afterState(),
-                    "SYSTEM", // In a real system, this would come from security context
-                    idempotencyKey
-            );
-
-            // Validate that there are actual changes (for update events)
-            if (auditEvent.isUpdateEvent() && !auditEvent.hasChanges()) {
-                log.debug("Skipping audit for update with no changes: {}/{}", 
-                        command.entityType(), command.entityId());
+            // Insert audit event; a redelivered event hits the idempotency key and is skipped
+            AuditEventDomain savedEvent = withReservedIds(List.of(auditEvent.get())).get(0);
+            if (auditPersistencePort.insertAll(List.of(savedEvent)) == 0) {
+                log.info("Audit event already exists for idempotency key: {}", savedEvent.getIdempotencyKey());
                 return ProcessCDCEventResult.success(null);
             }
 
-            // Save audit event
-            AuditEventDomain savedEvent = auditPersistencePort.save(auditEvent);
-
             log.info("Audit event recorded: {} for {}/{}", 
-                    eventType, command.entityType(), command.entityId());
+                    savedEvent.getEventType(), command.entityType(), command.entityId());
 
             return ProcessCDCEventResult.success(savedEvent.getId());
 
@@ -83,6 +62,56 @@ public class AuditService implements ProcessCDCEventUseCase, QueryAuditUseCase {
         }
     }
 
+    @Override
+    public Optional<AuditEventDomain> toAuditEvent(ProcessCDCEventCommand command) {
+        String idempotencyKey = command.idempotencyKey() != null
+                ? command.idempotencyKey()
+                : command.topic() + "-" + command.entityId() + "-" + System.currentTimeMillis();
+
+        // Determine event type based on operation
+        String eventType = determineEventType(command.operation(), command.entityType());
+
+        AuditEventDomain auditEvent = AuditEventDomain.create(
+                eventType,
+                command.entityType(),
+                command.entityId(),
+                command.beforeJson(),
+                command.afterJson(),
+                "SYSTEM", // In a real system, this would come from security context
+                idempotencyKey,
+                command.occurredAt()
+        );
+
+        // Validate that there are actual changes (for update events)
+        if (auditEvent.isUpdateEvent() && !auditEvent.hasChanges()) {
+            log.debug("Skipping audit for update with no changes: {}/{}", 
+                    command.entityType(), command.entityId());
+            return Optional.empty();
+        }
+        return Optional.of(auditEvent);
+    }
+
+    @Override
+    @Transactional
+    public int recordAuditEvents(final List<AuditEventDomain> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        final int inserted = auditPersistencePort.insertAll(withReservedIds(events));
+        log.debug("Recorded {} audit events, {} already recorded", inserted, events.size() - inserted);
+        return inserted;
+    }
+
+    /**
+     * Assigns ids from one sequence reservation, so the batch needs no per-row id lookups
+     */
+    private List<AuditEventDomain> withReservedIds(final List<AuditEventDomain> events) {
+        final List<Long> ids = auditPersistencePort.reserveIds(events.size());
+        return IntStream.range(0, events.size())
+                .mapToObj(i -> events.get(i).withId(ids.get(i)))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<AuditEventDomain> getAuditEventById(final Long auditEventId) {
         log.debug("Getting audit event by ID: {}", auditEventId);
@@ -1,5 +1,6 @@
 package com.example.temporal.audit.entity;
 
+import com.example.temporal.common.model.IdAllocation;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.experimental.Accessors;
@@ -18,7 +19,9 @@ import java.time.LocalDateTime;
 public class AuditEventEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_events_seq")
+    @SequenceGenerator(name = "audit_events_seq", sequenceName = "audit_events_seq",
+            allocationSize = IdAllocation.ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "event_type", nullable = false)
@@ -44,7 +47,7 @@ public class AuditEventEntity {
     @Column(name = "timestamp", nullable = false)
     private LocalDateTime timestamp;
 
-    @Column(name = "idempotency_key", length = 200, unique = true)
+    @Column(name = "idempotency_key", length = 200)
     private String idempotencyKey;
 
     @PrePersist
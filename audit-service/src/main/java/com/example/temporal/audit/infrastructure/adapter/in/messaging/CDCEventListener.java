@@ -1,86 +1,41 @@
 package com.example.temporal.audit.infrastructure.adapter.in.messaging;
 
-import com.example.temporal.audit.domain.port.in.ProcessCDCEventUseCase;
-import com.example.temporal.audit.domain.port.out.CDCEventParserPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Kafka listener adapter for CDC events
- * Consumes Debezium CDC events and processes them for audit
+ * Consumes Debezium CDC events in batches and hands them to the ingestion pipeline
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CDCEventListener {
 
-    private final ProcessCDCEventUseCase processCDCEventUseCase;
-    private final CDCEventParserPort cdcEventParserPort;
+    private final CDCIngestionPipeline cdcIngestionPipeline;
 
     /**
-     * Handles CDC events from Kafka
-     * Listens to Debezium topics for accounts and transfers tables
+     * Handles a poll of CDC events from Kafka
+     * Listens to Debezium topics for accounts and transfers tables; the offsets
+     * of each chunk are committed once its audit events are written
      */
     @KafkaListener(
             topics = {"banking.public.accounts", "banking.public.transfers"},
             groupId = "audit-service",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "kafkaListenerContainerFactory",
+            batch = "true"
     )
-    public void handleCdcEvent(
-            @Payload String message,
-            @Header("kafka_receivedTopic") String topic,
+    public void handleCdcEvents(
+            List<ConsumerRecord<String, String>> records,
             Acknowledgment acknowledgment) {
 
-        log.info("Received CDC event from topic: {}", topic);
-        log.debug("Raw message: {}", message);
-
-        try {
-            // Parse the CDC event
-            var parsedEvent = cdcEventParserPort.parse(message, topic);
-
-            if (!parsedEvent.isValid()) {
-                log.warn("Invalid CDC event from topic: {}", topic);
-                acknowledgment.acknowledge();
-                return;
-            }
-
-            // Generate idempotency key from topic and entity ID
-            String idempotencyKey = topic + "-" + parsedEvent.entityId() + "-" + System.currentTimeMillis();
-
-            // Create command and process event
-            var command = ProcessCDCEventUseCase.ProcessCDCEventCommand.of(
-                    parsedEvent.topic(),
-                    parsedEvent.operation(),
-                    parsedEvent.entityType(),
-                    parsedEvent.entityId(),
-                    parsedEvent.beforeState(),
-                    parsedEvent.afterState(),
-                    idempotencyKey
-            );
-
-            var result = processCDCEventUseCase.processCDCEvent(command);
-
-            if (result.success()) {
-                log.info("Successfully processed CDC event: {} for {}/{}", 
-                        parsedEvent.operation(), parsedEvent.entityType(), parsedEvent.entityId());
-            } else {
-                log.warn("Failed to process CDC event: {}. Error: {}", 
-                        parsedEvent.entityId(), result.errorMessage());
-            }
-
-            // Acknowledge the message
-            acknowledgment.acknowledge();
-
-        } catch (Exception e) {
-            log.error("Error processing CDC event from topic {}: {}", topic, e.getMessage(), e);
-            log.debug("Problematic message: {}", message);
-            // Acknowledge even on error to avoid infinite loop
-            acknowledgment.acknowledge();
-        }
+        log.debug("Received {} CDC events", records.size());
+        cdcIngestionPipeline.ingest(records, acknowledgment::acknowledge);
     }
 }
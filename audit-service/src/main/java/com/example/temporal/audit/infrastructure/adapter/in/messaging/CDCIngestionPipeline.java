@@ -0,0 +1,341 @@
+package com.example.temporal.audit.infrastructure.adapter.in.messaging;
+
+import com.example.temporal.audit.config.CdcIngestionProperties;
+import com.example.temporal.audit.domain.model.AuditEventDomain;
+import com.example.temporal.audit.domain.port.in.ProcessCDCEventUseCase;
+import com.example.temporal.audit.domain.port.in.ProcessCDCEventUseCase.ProcessCDCEventCommand;
+import com.example.temporal.audit.domain.port.out.CDCEventParserPort;
+import com.example.temporal.audit.domain.port.out.CDCEventParserPort.ParsedCDCEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.record.RecordBatch;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Staged ingestion of CDC records.
+ * <p>
+ * A parse, a map and a write thread are connected by bounded buffers, so the
+ * next chunk of a poll is parsed and mapped while the previous one is being
+ * inserted. {@link #ingest} splits a poll into chunks of {@code batchSize}
+ * records and reports each chunk, in order, once its audit events are
+ * committed, so the listener can commit that chunk's offsets. When a chunk
+ * fails or the poll outlives {@code timeout}, the chunks behind it are
+ * abandoned and a {@link BatchListenerFailedException} points the error
+ * handler at the first record not yet committed. Events and write batches are
+ * published under {@code audit.cdc.*}.
+ * </p>
+ */
+@Slf4j
+@Component
+public class CDCIngestionPipeline {
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final CDCEventParserPort cdcEventParserPort;
+    private final ProcessCDCEventUseCase processCDCEventUseCase;
+    private final CdcIngestionProperties properties;
+
+    private final BlockingQueue<Chunk> parseQueue;
+    private final BlockingQueue<Chunk> mapQueue;
+    private final BlockingQueue<Chunk> writeQueue;
+    private final List<Thread> stages = new ArrayList<>();
+    private volatile boolean running;
+
+    private final Counter recorded;
+    private final Counter skipped;
+    private final Counter invalid;
+    private final Timer writeTimer;
+
+    public CDCIngestionPipeline(final CDCEventParserPort cdcEventParserPort,
+                                final ProcessCDCEventUseCase processCDCEventUseCase,
+                                final CdcIngestionProperties properties,
+                                final MeterRegistry meterRegistry) {
+        this.cdcEventParserPort = cdcEventParserPort;
+        this.processCDCEventUseCase = processCDCEventUseCase;
+        this.properties = properties;
+        this.parseQueue = new ArrayBlockingQueue<>(properties.getBufferCapacity());
+        this.mapQueue = new ArrayBlockingQueue<>(properties.getBufferCapacity());
+        this.writeQueue = new ArrayBlockingQueue<>(properties.getBufferCapacity());
+
+        this.recorded = events(meterRegistry, "recorded", "CDC events saved as audit events");
+        this.skipped = events(meterRegistry, "skipped", "CDC events with nothing to audit");
+        this.invalid = events(meterRegistry, "invalid", "CDC events that could not be parsed or mapped");
+        this.writeTimer = Timer.builder("audit.cdc.batch.write")
+                .description("Time to insert the audit events of one chunk")
+                .register(meterRegistry);
+        backlog(meterRegistry, "parse", parseQueue);
+        backlog(meterRegistry, "map", mapQueue);
+        backlog(meterRegistry, "write", writeQueue);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        stages.add(stage("cdc-parse", parseQueue, mapQueue, this::parse));
+        stages.add(stage("cdc-map", mapQueue, writeQueue, this::map));
+        stages.add(stage("cdc-write", writeQueue, null, this::write));
+        stages.forEach(Thread::start);
+    }
+
+    /**
+     * Stops the stages; chunks still buffered are abandoned and their records
+     * are redelivered to the next consumer of the partition.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (final Thread stage : stages) {
+            stage.interrupt();
+        }
+        for (final Thread stage : stages) {
+            stage.join(properties.getTimeout().toMillis());
+        }
+        stages.clear();
+        for (final BlockingQueue<Chunk> queue : List.of(parseQueue, mapQueue, writeQueue)) {
+            final List<Chunk> abandoned = new ArrayList<>();
+            queue.drainTo(abandoned);
+            abandoned.forEach(chunk -> chunk.durable.cancel(false));
+        }
+    }
+
+    /**
+     * Runs one poll through the pipeline.
+     *
+     * @param records the records of the poll
+     * @param onDurable called on the calling thread with the index of the last
+     *                  record of each chunk, in order, once the chunk is committed
+     * @throws BatchListenerFailedException if a chunk could not be written in time
+     */
+    public void ingest(final List<ConsumerRecord<String, String>> records, final IntConsumer onDurable) {
+        final long deadline = System.nanoTime() + properties.getTimeout().toNanos();
+        final AtomicBoolean abandoned = new AtomicBoolean();
+        final List<Chunk> chunks = new ArrayList<>();
+        int acknowledged = 0;
+        int next = 0;
+
+        try {
+            while (next < records.size()) {
+                final int end = Math.min(next + properties.getBatchSize(), records.size());
+                final Chunk chunk = new Chunk(records.subList(next, end), next, abandoned);
+                if (!parseQueue.offer(chunk, remaining(deadline), TimeUnit.NANOSECONDS)) {
+                    throw new TimeoutException("CDC pipeline buffer stayed full");
+                }
+                chunks.add(chunk);
+                next = end;
+                while (acknowledged < chunks.size() && chunks.get(acknowledged).durable.isDone()) {
+                    awaitDurable(chunks.get(acknowledged), deadline, onDurable);
+                    acknowledged++;
+                }
+            }
+            while (acknowledged < chunks.size()) {
+                awaitDurable(chunks.get(acknowledged), deadline, onDurable);
+                acknowledged++;
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failed(abandoned, records, chunks, acknowledged, next, e);
+        } catch (final ExecutionException e) {
+            throw failed(abandoned, records, chunks, acknowledged, next, e.getCause());
+        } catch (final TimeoutException | RuntimeException e) {
+            throw failed(abandoned, records, chunks, acknowledged, next, e);
+        }
+    }
+
+    private void awaitDurable(final Chunk chunk, final long deadline, final IntConsumer onDurable)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        chunk.durable.get(remaining(deadline), TimeUnit.NANOSECONDS);
+        onDurable.accept(chunk.lastIndex());
+    }
+
+    /**
+     * Abandons the chunks still in flight and names the first record that was
+     * not committed, so the error handler seeks back to it.
+     */
+    private BatchListenerFailedException failed(final AtomicBoolean abandoned,
+                                                final List<ConsumerRecord<String, String>> records,
+                                                final List<Chunk> chunks,
+                                                final int failedChunk,
+                                                final int notSubmitted,
+                                                final Throwable cause) {
+        abandoned.set(true);
+        final int index = failedChunk < chunks.size() ? chunks.get(failedChunk).firstIndex : notSubmitted;
+        log.error("CDC ingestion failed at record {} of {}: {}", index, records.size(), cause.getMessage(), cause);
+        return new BatchListenerFailedException("CDC ingestion failed", cause, index);
+    }
+
+    private void parse(final Chunk chunk) {
+        final List<ParsedCDCEvent> parsed = new ArrayList<>(chunk.records.size());
+        for (final ConsumerRecord<String, String> record : chunk.records) {
+            final ParsedCDCEvent event = cdcEventParserPort.parse(record.value(), record.topic());
+            if (!event.isValid()) {
+                invalid.increment();
+                log.warn("Invalid CDC event from topic {} at offset {}", record.topic(), record.offset());
+            }
+            parsed.add(event.isValid() ? event : null);
+        }
+        chunk.parsed = parsed;
+    }
+
+    private void map(final Chunk chunk) {
+        final List<AuditEventDomain> events = new ArrayList<>(chunk.records.size());
+        for (int i = 0; i < chunk.records.size(); i++) {
+            final ParsedCDCEvent event = chunk.parsed.get(i);
+            if (event == null) {
+                continue;
+            }
+            try {
+                processCDCEventUseCase.toAuditEvent(ProcessCDCEventCommand.of(
+                        event.topic(),
+                        event.operation(),
+                        event.entityType(),
+                        event.entityId(),
+                        event.beforeJson(),
+                        event.afterJson(),
+                        idempotencyKey(chunk.records.get(i), event),
+                        occurredAt(chunk.records.get(i), event)
+                )).ifPresentOrElse(events::add, skipped::increment);
+            } catch (final IllegalArgumentException e) {
+                invalid.increment();
+                log.warn("Invalid CDC event for {}/{}: {}", event.entityType(), event.entityId(), e.getMessage());
+            }
+        }
+        chunk.events = events;
+    }
+
+    private void write(final Chunk chunk) {
+        final int saved = writeTimer.record(() -> processCDCEventUseCase.recordAuditEvents(chunk.events));
+        recorded.increment(saved);
+        chunk.durable.complete(saved);
+    }
+
+    /**
+     * Names the change rather than the delivery, so a replayed event maps to the
+     * row already written. Debezium's LSN survives the connector re-publishing
+     * after a restart. A primary key update is published as a delete and a create
+     * with the same LSN, so the operation is part of the key. Snapshot reads share
+     * one LSN, so they fall back to the record's partition and offset.
+     */
+    static String idempotencyKey(final ConsumerRecord<String, String> record, final ParsedCDCEvent event) {
+        if (event.sourceLsn() != null && !"r".equals(event.operation())) {
+            return record.topic() + "-lsn-" + event.sourceLsn() + "-" + event.operation();
+        }
+        return record.topic() + "-" + record.partition() + "-" + record.offset();
+    }
+
+    /**
+     * The source commit time, or else the record's timestamp. The audit rows are unique per
+     * idempotency key and timestamp, so a redelivered record must map to the same time;
+     * only a record without a timestamp (pre-0.10 message format) falls back to the clock.
+     */
+    static LocalDateTime occurredAt(final ConsumerRecord<String, String> record, final ParsedCDCEvent event) {
+        if (event.occurredAt() != null) {
+            return event.occurredAt();
+        }
+        if (record.timestamp() == RecordBatch.NO_TIMESTAMP) {
+            return LocalDateTime.now();
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(record.timestamp()), ZoneId.systemDefault());
+    }
+
+    private Thread stage(final String name,
+                         final BlockingQueue<Chunk> in,
+                         final BlockingQueue<Chunk> out,
+                         final Consumer<Chunk> work) {
+        return Thread.ofPlatform()
+                .name(name)
+                .daemon()
+                .unstarted(() -> {
+                    try {
+                        while (running) {
+                            final Chunk chunk = in.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                            if (chunk == null) {
+                                continue;
+                            }
+                            if (chunk.abandoned.get()) {
+                                chunk.durable.cancel(false);
+                                continue;
+                            }
+                            try {
+                                work.accept(chunk);
+                            } catch (final RuntimeException e) {
+                                // Later chunks of the poll must not be written past a gap
+                                chunk.abandoned.set(true);
+                                chunk.durable.completeExceptionally(e);
+                                continue;
+                            }
+                            if (out != null) {
+                                out.put(chunk);
+                            }
+                        }
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+    }
+
+    private static long remaining(final long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    private static Counter events(final MeterRegistry meterRegistry, final String outcome, final String description) {
+        return Counter.builder("audit.cdc.events")
+                .tag("outcome", outcome)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    private static void backlog(final MeterRegistry meterRegistry, final String stage, final BlockingQueue<Chunk> queue) {
+        Gauge.builder("audit.cdc.pipeline.backlog", queue, BlockingQueue::size)
+                .tag("stage", stage)
+                .description("Chunks waiting for a CDC pipeline stage")
+                .register(meterRegistry);
+    }
+
+    /**
+     * A slice of one poll on its way through the stages. Each stage hands the
+     * chunk to the next through a queue, which publishes the fields it set.
+     */
+    private static final class Chunk {
+
+        private final List<ConsumerRecord<String, String>> records;
+        private final int firstIndex;
+        private final AtomicBoolean abandoned;
+        private final CompletableFuture<Integer> durable = new CompletableFuture<>();
+        private List<ParsedCDCEvent> parsed;
+        private List<AuditEventDomain> events;
+
+        private Chunk(final List<ConsumerRecord<String, String>> records,
+                      final int firstIndex,
+                      final AtomicBoolean abandoned) {
+            this.records = records;
+            this.firstIndex = firstIndex;
+            this.abandoned = abandoned;
+        }
+
+        private int lastIndex() {
+            return firstIndex + records.size() - 1;
+        }
+    }
+}
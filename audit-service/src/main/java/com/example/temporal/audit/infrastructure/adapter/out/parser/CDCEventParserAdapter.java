@@ -1,101 +1,215 @@
 package com.example.temporal.audit.infrastructure.adapter.out.parser;
 
 import com.example.temporal.audit.domain.port.out.CDCEventParserPort;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Adapter for parsing CDC events from Debezium
- * Implements the CDCEventParserPort using Jackson ObjectMapper
+ * Implements the CDCEventParserPort with a streaming Jackson parser
+ * <p>
+ * The message is read token by token: {@code op}, the row {@code id}, the
+ * source LSN and the source commit time are extracted, and the {@code before} and {@code after} objects
+ * are cut out of the message as text, to be stored in the jsonb columns
+ * without building a tree or maps. The message format depends on the
+ * connector's converter, so it is detected on the first message of each
+ * topic and detected again only after a message does not fit it.
+ * </p>
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class CDCEventParserAdapter implements CDCEventParserPort {
 
-    private final ObjectMapper objectMapper;
+    private final JsonFactory jsonFactory;
+    private final Map<String, TopicFormat> formats = new ConcurrentHashMap<>();
+
+    public CDCEventParserAdapter(final ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
 
     @Override
     public ParsedCDCEvent parse(String message, String topic) {
+        // Validate message
+        if (message == null || message.trim().isEmpty()) {
+            log.warn("Received empty message from topic: {}", topic);
+            return ParsedCDCEvent.invalid("Empty message");
+        }
+
+        TopicFormat format = formats.get(topic);
         try {
-            // Validate message
-            if (message == null || message.trim().isEmpty()) {
-                log.warn("Received empty message from topic: {}", topic);
-                return ParsedCDCEvent.invalid("Empty message");
+            if (format == null) {
+                format = detectFormat(message, topic);
+                if (format == null) {
+                    log.warn("Unknown message format from topic: {}", topic);
+                    return ParsedCDCEvent.invalid("Unknown message format");
+                }
+                formats.put(topic, format);
+                log.info("Detected {} CDC message format for topic: {}", format.format(), topic);
             }
 
-            JsonNode eventNode = objectMapper.readTree(message);
-            log.debug("Parsing CDC event from topic: {}", topic);
-
-            // Try different Debezium message formats
-            JsonNode payload = null;
-            String operation = null;
-            JsonNode after = null;
-            JsonNode before = null;
-
-            // Standard Debezium Connect format with payload
-            if (eventNode.has("payload")) {
-                payload = eventNode.get("payload");
-                operation = payload.has("op") ? payload.get("op").asText() : null;
-                after = payload.get("after");
-                before = payload.get("before");
+            ParsedCDCEvent event = read(message, topic, format);
+            if (!event.isValid()) {
+                formats.remove(topic, format);
             }
-            // Alternative format - direct message with op
-            else if (eventNode.has("op")) {
-                operation = eventNode.get("op").asText();
-                after = eventNode.get("after");
-                before = eventNode.get("before");
+            return event;
+
+        } catch (IOException | RuntimeException e) {
+            if (format != null) {
+                formats.remove(topic, format);
+            }
+            log.error("Error parsing CDC event from topic {}: {}", topic, e.getMessage());
+            return ParsedCDCEvent.invalid("Parse error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Detects the message format from the top-level fields of a message
+     */
+    private TopicFormat detectFormat(String message, String topic) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
             }
-            // Unwrapped format - direct table data (no op, assume CREATE)
-            else if (eventNode.has("id") || eventNode.size() > 0) {
-                operation = "c"; // Assume CREATE by default
-                after = eventNode;
-                before = null;
-                log.debug("Processing unwrapped message as CREATE operation");
+            boolean hasFields = false;
+            boolean hasOperation = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                hasFields = true;
+                if ("payload".equals(name)) {
+                    return new TopicFormat(MessageFormat.ENVELOPE, extractTableName(topic));
+                }
+                hasOperation |= "op".equals(name);
+                parser.nextToken();
+                parser.skipChildren();
             }
-            // Unknown format
-            else {
-                log.warn("Unknown message format from topic: {}. Keys: {}", 
-                        topic, eventNode.fieldNames());
-                return ParsedCDCEvent.invalid("Unknown message format");
+            if (hasOperation) {
+                return new TopicFormat(MessageFormat.FLAT, extractTableName(topic));
             }
+            return hasFields ? new TopicFormat(MessageFormat.UNWRAPPED, extractTableName(topic)) : null;
+        }
+    }
 
-            if (operation == null) {
-                log.warn("No operation found in CDC event from topic: {}", topic);
-                return ParsedCDCEvent.invalid("No operation found");
+    private ParsedCDCEvent read(String message, String topic, TopicFormat format) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return ParsedCDCEvent.invalid("Not a JSON object");
             }
 
-            // Extract table name from topic
-            String entityType = extractTableName(topic);
+            Change change = new Change();
+            switch (format.format()) {
+                // Standard Debezium Connect format with payload
+                case ENVELOPE -> {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String name = parser.currentName();
+                        if (parser.nextToken() == JsonToken.START_OBJECT && "payload".equals(name)) {
+                            readChange(parser, message, change);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                }
+                // Alternative format - direct message with op
+                case FLAT -> readChange(parser, message, change);
+                // Unwrapped format - direct table data (no op, assume CREATE)
+                case UNWRAPPED -> {
+                    change.operation = "c";
+                    change.after = readRow(parser, message);
+                }
+            }
 
-            // Convert before/after states to Maps
-            Map<String, Object> beforeState = convertJsonNodeToMap(before);
-            Map<String, Object> afterState = convertJsonNodeToMap(after);
+            if (change.operation == null) {
+                log.warn("No operation found in CDC event from topic: {}", topic);
+                return ParsedCDCEvent.invalid("No operation found");
+            }
 
-            // Extract entity ID
-            String entityId = extractEntityId(afterState, beforeState);
+            String entityId = change.after != null && change.after.id() != null ? change.after.id()
+                    : change.before != null && change.before.id() != null ? change.before.id()
+                    : "unknown";
 
-            log.debug("Parsed CDC event: operation={}, entityType={}, entityId={}", 
-                    operation, entityType, entityId);
+            log.debug("Parsed CDC event: operation={}, entityType={}, entityId={}",
+                    change.operation, format.entityType(), entityId);
 
             return ParsedCDCEvent.valid(
                     topic,
-                    operation,
-                    entityType,
+                    change.operation,
+                    format.entityType(),
                     entityId,
-                    beforeState,
-                    afterState
+                    change.before != null ? change.before.json() : null,
+                    change.after != null ? change.after.json() : null,
+                    change.lsn,
+                    change.occurredAt
             );
+        }
+    }
 
-        } catch (Exception e) {
-            log.error("Error parsing CDC event from topic {}: {}", topic, e.getMessage());
-            return ParsedCDCEvent.invalid("Parse error: " + e.getMessage());
+    /**
+     * Reads the fields of a change object; the parser is on its START_OBJECT
+     */
+    private void readChange(JsonParser parser, String message, Change change) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (name) {
+                case "op" -> change.operation = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                case "before" -> change.before = value == JsonToken.START_OBJECT ? readRow(parser, message) : null;
+                case "after" -> change.after = value == JsonToken.START_OBJECT ? readRow(parser, message) : null;
+                case "source" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        readSource(parser, change);
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Cuts a row object out of the message and picks up its id on the way;
+     * the parser is on the row's START_OBJECT and is left on its END_OBJECT
+     */
+    private Row readRow(JsonParser parser, String message) throws IOException {
+        int start = (int) parser.currentTokenLocation().getCharOffset();
+        String id = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("id".equals(name) && value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+                id = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        int end = (int) parser.currentTokenLocation().getCharOffset() + 1;
+        return new Row(message.substring(start, end), id);
+    }
+
+    /**
+     * Extracts the WAL position and the commit time from the Debezium source block;
+     * the commit time is what a redelivered change keeps, unlike the time it is consumed
+     */
+    private void readSource(JsonParser parser, Change change) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("lsn".equals(name) && value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+                change.lsn = parser.getText();
+            } else if ("ts_ms".equals(name) && value == JsonToken.VALUE_NUMBER_INT) {
+                change.occurredAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(parser.getLongValue()),
+                        ZoneId.systemDefault());
+            } else {
+                parser.skipChildren();
+            }
         }
     }
 
@@ -109,31 +223,28 @@ public class CDCEventParserAdapter implements CDCEventParserPort {
     }
 
     /**
-     * Extracts entity ID from before/after states
+     * How a topic's messages are laid out, which depends on the connector's converter
      */
-    private String extractEntityId(Map<String, Object> afterState, Map<String, Object> beforeState) {
-        if (afterState != null && afterState.containsKey("id")) {
-            return afterState.get("id").toString();
-        } else if (beforeState != null && beforeState.containsKey("id")) {
-            return beforeState.get("id").toString();
-        }
-        return "unknown";
+    private enum MessageFormat {
+        /** JSON converter with schemas: the change sits under {@code payload} */
+        ENVELOPE,
+        /** JSON converter without schemas: {@code op}, {@code before} and {@code after} at the top */
+        FLAT,
+        /** New-record-state extraction: the message is the row itself */
+        UNWRAPPED
     }
 
-    /**
-     * Converts JsonNode to Map
-     */
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> convertJsonNodeToMap(JsonNode node) {
-        if (node == null || node.isNull()) {
-            return null;
-        }
-        try {
-            return objectMapper.convertValue(node, 
-                new com.fasterxml.jackson.core.type.TypeReference<Map<String, Object>>() {});
-        } catch (Exception e) {
-            log.warn("Error converting JsonNode to Map: {}", e.getMessage());
-            return new HashMap<>();
-        }
+    private record TopicFormat(MessageFormat format, String entityType) {
+    }
+
+    private record Row(String json, String id) {
+    }
+
+    private static final class Change {
+        private String operation;
+        private Row before;
+        private Row after;
+        private String lsn;
+        private LocalDateTime occurredAt;
     }
 }
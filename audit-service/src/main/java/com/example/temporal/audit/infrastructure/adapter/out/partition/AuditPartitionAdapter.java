@@ -0,0 +1,121 @@
+package com.example.temporal.audit.infrastructure.adapter.out.partition;
+
+import com.example.temporal.audit.config.AuditPartitionProperties;
+import com.example.temporal.audit.domain.port.out.AuditPartitionPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Partition adapter for the audit event table
+ * Implements the AuditPartitionPort with DDL through JdbcTemplate
+ * <p>
+ * Partitions are named {@code audit_events_YYYY_MM} and created by the
+ * {@code audit_events_create_partition} function of the schema migrations,
+ * which also builds their indexes and moves in the rows of the month from
+ * {@code audit_events_default}. Every change takes a transaction-scoped
+ * advisory lock first, so instances running maintenance at the same time
+ * take turns, and gives up on table locks after {@link #LOCK_TIMEOUT} rather
+ * than queueing the inserts behind it.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditPartitionAdapter implements AuditPartitionPort {
+
+    private static final long MAINTENANCE_LOCK_KEY = 0x61756469745f7074L;
+    private static final String LOCK_TIMEOUT = "10s";
+
+    private static final String PREFIX = "audit_events_";
+    private static final Pattern PARTITION_NAME = Pattern.compile(PREFIX + "\\d{4}_\\d{2}");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final String PARTITIONS_SQL =
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = 'audit_events'::regclass";
+
+    private static final String DEFAULT_PARTITION_MONTHS_SQL =
+            "SELECT DISTINCT to_char(timestamp, 'YYYY_MM') AS month FROM audit_events_default ORDER BY month";
+
+    private static final String CREATE_PARTITION_SQL = "SELECT audit_events_create_partition(CAST(? AS date))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditPartitionProperties properties;
+
+    @Override
+    public List<YearMonth> findPartitions() {
+        return jdbcTemplate.queryForList(PARTITIONS_SQL, String.class).stream()
+                .filter(name -> PARTITION_NAME.matcher(name).matches())
+                .map(name -> YearMonth.parse(name.substring(PREFIX.length()), SUFFIX))
+                .sorted()
+                .toList();
+    }
+
+    @Override
+    public List<YearMonth> findDefaultPartitionMonths() {
+        return jdbcTemplate.queryForList(DEFAULT_PARTITION_MONTHS_SQL, String.class).stream()
+                .map(month -> YearMonth.parse(month, SUFFIX))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public boolean createPartition(final YearMonth month) {
+        lock();
+        return jdbcTemplate.queryForObject(CREATE_PARTITION_SQL, String.class, month.atDay(1)) != null;
+    }
+
+    @Override
+    @Transactional
+    public void archivePartition(final YearMonth month) {
+        lock();
+        final String partition = partitionName(month);
+        if (!attached(partition)) {
+            return;
+        }
+        final String schema = quote(properties.getArchiveSchema());
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + schema);
+        jdbcTemplate.execute("ALTER TABLE audit_events DETACH PARTITION " + partition);
+        jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + schema);
+        log.info("Archived audit partition {} to schema {}", partition, properties.getArchiveSchema());
+    }
+
+    @Override
+    @Transactional
+    public void dropPartition(final YearMonth month) {
+        lock();
+        final String partition = partitionName(month);
+        if (!attached(partition)) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE audit_events DETACH PARTITION " + partition);
+        jdbcTemplate.execute("DROP TABLE " + partition);
+        log.info("Dropped audit partition {}", partition);
+    }
+
+    private void lock() {
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '" + LOCK_TIMEOUT + "'");
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?)", MAINTENANCE_LOCK_KEY);
+    }
+
+    private boolean attached(final String partition) {
+        return jdbcTemplate.queryForList(PARTITIONS_SQL, String.class).contains(partition);
+    }
+
+    private static String partitionName(final YearMonth month) {
+        return PREFIX + month.format(SUFFIX);
+    }
+
+    private static String quote(final String identifier) {
+        return '"' + Objects.requireNonNull(identifier).replace("\"", "\"\"") + '"';
+    }
+}
@@ -34,8 +34,10 @@ public class AuditEventMapper {
         entity.setEventType(domain.getEventType());
         entity.setEntityType(domain.getEntityType());
         entity.setEntityId(domain.getEntityId());
-        entity.setBeforeState(mapToJson(domain.getBeforeState()));
-        entity.setAfterState(mapToJson(domain.getAfterState()));
+        entity.setBeforeState(domain.getBeforeJson() != null
+                ? domain.getBeforeJson() : mapToJson(domain.getBeforeState()));
+        entity.setAfterState(domain.getAfterJson() != null
+                ? domain.getAfterJson() : mapToJson(domain.getAfterState()));
         entity.setUserId(domain.getUserId());
         entity.setTimestamp(domain.getTimestamp());
         entity.setIdempotencyKey(domain.getIdempotencyKey());
@@ -4,12 +4,19 @@ import com.example.temporal.audit.domain.model.AuditEventDomain;
 import com.example.temporal.audit.domain.port.out.AuditPersistencePort;
 import com.example.temporal.audit.entity.AuditEventEntity;
 import com.example.temporal.audit.repository.AuditEventRepository;
+import com.example.temporal.common.model.IdAllocation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -20,8 +27,33 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AuditPersistenceAdapter implements AuditPersistencePort {
 
+    /**
+     * Reserves blocks of ids from the pooled-lo audit sequence in one round trip;
+     * each value is the first id of a block of {@link IdAllocation#ALLOCATION_SIZE}
+     */
+    private static final String RESERVE_ID_BLOCKS_SQL =
+            "SELECT nextval('audit_events_seq') FROM generate_series(1, ?)";
+
+    /**
+     * Inserts a whole chunk as one statement over column arrays; RETURNING yields
+     * only the rows actually inserted, so conflicts are counted exactly
+     */
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_events (id, event_type, entity_type, entity_id, before_state, " +
+            "after_state, user_id, timestamp, idempotency_key) " +
+            "SELECT id, event_type, entity_type, entity_id, CAST(before_state AS jsonb), " +
+            "CAST(after_state AS jsonb), user_id, timestamp, idempotency_key " +
+            "FROM unnest(CAST(? AS bigint[]), CAST(? AS varchar[]), CAST(? AS varchar[]), " +
+            "CAST(? AS varchar[]), CAST(? AS text[]), CAST(? AS text[]), CAST(? AS varchar[]), " +
+            "CAST(? AS timestamp[]), CAST(? AS varchar[])) " +
+            "AS e(id, event_type, entity_type, entity_id, before_state, after_state, user_id, " +
+            "timestamp, idempotency_key) " +
+            "ON CONFLICT (idempotency_key, timestamp) DO NOTHING " +
+            "RETURNING id";
+
     private final AuditEventRepository repository;
     private final AuditEventMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public AuditEventDomain save(final AuditEventDomain domain) {
@@ -30,6 +62,64 @@ public class AuditPersistenceAdapter implements AuditPersistencePort {
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    @Transactional
+    public List<AuditEventDomain> saveAll(final List<AuditEventDomain> domains) {
+        final List<AuditEventEntity> entities = domains.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList());
+        return repository.saveAll(entities)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Long> reserveIds(final int count) {
+        final int blocks = (count + IdAllocation.ALLOCATION_SIZE - 1) / IdAllocation.ALLOCATION_SIZE;
+        final List<Long> blockStarts = jdbcTemplate.queryForList(RESERVE_ID_BLOCKS_SQL, Long.class, blocks);
+
+        final List<Long> ids = new ArrayList<>(count);
+        for (final Long blockStart : blockStarts) {
+            for (int i = 0; i < IdAllocation.ALLOCATION_SIZE && ids.size() < count; i++) {
+                ids.add(blockStart + i);
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    @Transactional
+    public int insertAll(final List<AuditEventDomain> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        final List<AuditEventEntity> entities = events.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList());
+        final List<Long> inserted = jdbcTemplate.query(connection -> {
+            final PreparedStatement ps = connection.prepareStatement(INSERT_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint",
+                    entities.stream().map(AuditEventEntity::getId).toArray(Long[]::new)));
+            ps.setArray(2, connection.createArrayOf("varchar", text(entities, AuditEventEntity::getEventType)));
+            ps.setArray(3, connection.createArrayOf("varchar", text(entities, AuditEventEntity::getEntityType)));
+            ps.setArray(4, connection.createArrayOf("varchar", text(entities, AuditEventEntity::getEntityId)));
+            ps.setArray(5, connection.createArrayOf("text", text(entities, AuditEventEntity::getBeforeState)));
+            ps.setArray(6, connection.createArrayOf("text", text(entities, AuditEventEntity::getAfterState)));
+            ps.setArray(7, connection.createArrayOf("varchar", text(entities, AuditEventEntity::getUserId)));
+            ps.setArray(8, connection.createArrayOf("timestamp", entities.stream()
+                    .map(entity -> Timestamp.valueOf(entity.getTimestamp())).toArray(Timestamp[]::new)));
+            ps.setArray(9, connection.createArrayOf("varchar", text(entities, AuditEventEntity::getIdempotencyKey)));
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1));
+        return inserted.size();
+    }
+
+    private static String[] text(final List<AuditEventEntity> entities,
+                                 final Function<AuditEventEntity, String> column) {
+        return entities.stream().map(column).toArray(String[]::new);
+    }
+
     @Override
     public Optional<AuditEventDomain> findById(final Long id) {
         return repository.findById(id).map(mapper::toDomain);
@@ -0,0 +1,31 @@
+-- Audit service schema. Tables use IF NOT EXISTS so databases created by
+-- hibernate ddl-auto are baselined in place; the indexes are the new part.
+
+CREATE TABLE IF NOT EXISTS audit_events (
+    id              BIGSERIAL PRIMARY KEY,
+    event_type      VARCHAR(255) NOT NULL,
+    entity_type     VARCHAR(255) NOT NULL,
+    entity_id       VARCHAR(255) NOT NULL,
+    user_id         VARCHAR(255) NOT NULL,
+    before_state    JSONB,
+    after_state     JSONB,
+    idempotency_key VARCHAR(200) UNIQUE,
+    timestamp       TIMESTAMP(6) NOT NULL
+);
+
+-- Entity history, newest first
+CREATE INDEX IF NOT EXISTS idx_audit_events_entity
+    ON audit_events (entity_type, entity_id, timestamp DESC);
+
+-- Range queries by entity type and event type
+CREATE INDEX IF NOT EXISTS idx_audit_events_type_timestamp
+    ON audit_events (entity_type, event_type, timestamp DESC);
+
+CREATE INDEX IF NOT EXISTS idx_audit_events_timestamp
+    ON audit_events (timestamp);
+
+CREATE INDEX IF NOT EXISTS idx_audit_events_event_type
+    ON audit_events (event_type);
+
+CREATE INDEX IF NOT EXISTS idx_audit_events_user_id
+    ON audit_events (user_id);
@@ -0,0 +1,11 @@
+-- Moves the audit service ids from identity columns to pooled-lo sequences so
+-- Hibernate can reserve ids in blocks and batch inserts. INCREMENT BY must
+-- match IdAllocation.ALLOCATION_SIZE; the column default keeps ad-hoc inserts
+-- working (each one simply consumes a whole block).
+
+CREATE SEQUENCE IF NOT EXISTS audit_events_seq INCREMENT BY 50;
+SELECT setval('audit_events_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM audit_events), false);
+ALTER TABLE audit_events ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE audit_events ALTER COLUMN id SET DEFAULT nextval('audit_events_seq');
+ALTER SEQUENCE audit_events_seq OWNED BY audit_events.id;
+DROP SEQUENCE IF EXISTS audit_events_id_seq;
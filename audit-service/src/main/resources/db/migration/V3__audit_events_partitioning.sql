@@ -0,0 +1,111 @@
+-- Turns audit_events into a table partitioned by month on timestamp, so range
+-- queries prune to the months they cover and expired months are detached or
+-- dropped whole instead of deleted row by row.
+--
+-- Postgres requires unique keys of a partitioned table to include the
+-- partition column: the primary key becomes (id, timestamp) and the
+-- idempotency key is unique per (idempotency_key, timestamp). CDC events take
+-- their timestamp from the source commit time, so a replayed change lands on
+-- the same row and is still skipped by ON CONFLICT.
+--
+-- Partitions are built as standalone tables with their own named indexes and
+-- then attached, which links those indexes to the parent's partitioned ones.
+-- AuditPartitionService keeps the months ahead created and retires expired
+-- ones; existing rows are copied into their months here.
+
+ALTER SEQUENCE audit_events_seq OWNED BY NONE;
+ALTER TABLE audit_events RENAME TO audit_events_legacy;
+DROP INDEX IF EXISTS idx_audit_events_entity;
+DROP INDEX IF EXISTS idx_audit_events_type_timestamp;
+DROP INDEX IF EXISTS idx_audit_events_timestamp;
+DROP INDEX IF EXISTS idx_audit_events_event_type;
+DROP INDEX IF EXISTS idx_audit_events_user_id;
+ALTER INDEX IF EXISTS audit_events_pkey RENAME TO audit_events_legacy_pkey;
+ALTER INDEX IF EXISTS audit_events_idempotency_key_key RENAME TO audit_events_legacy_idempotency_key_key;
+
+CREATE TABLE audit_events (
+    id              BIGINT       NOT NULL DEFAULT nextval('audit_events_seq'),
+    event_type      VARCHAR(255) NOT NULL,
+    entity_type     VARCHAR(255) NOT NULL,
+    entity_id       VARCHAR(255) NOT NULL,
+    user_id         VARCHAR(255) NOT NULL,
+    before_state    JSONB,
+    after_state     JSONB,
+    idempotency_key VARCHAR(200),
+    timestamp       TIMESTAMP(6) NOT NULL,
+    CONSTRAINT audit_events_pkey PRIMARY KEY (id, timestamp),
+    CONSTRAINT audit_events_idempotency_key_key UNIQUE (idempotency_key, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+ALTER SEQUENCE audit_events_seq OWNED BY audit_events.id;
+
+-- Rows arrive in time order, so a BRIN index stays a few pages per month
+CREATE INDEX idx_audit_events_timestamp ON audit_events USING brin (timestamp);
+
+-- Entity history, newest first
+CREATE INDEX idx_audit_events_entity ON audit_events (entity_type, entity_id, timestamp DESC);
+
+-- Range queries by entity type and event type
+CREATE INDEX idx_audit_events_type_timestamp ON audit_events (entity_type, event_type, timestamp DESC);
+
+CREATE INDEX idx_audit_events_event_type ON audit_events (event_type);
+
+CREATE INDEX idx_audit_events_user_id ON audit_events (user_id);
+
+-- Expired partitions are moved here when retention archives instead of dropping
+CREATE SCHEMA IF NOT EXISTS audit_archive;
+
+-- Creates the partition for the month of the given date, named audit_events_YYYY_MM,
+-- and returns its name, or NULL when it already exists
+CREATE OR REPLACE FUNCTION audit_events_create_partition(for_date DATE) RETURNS TEXT AS $$
+DECLARE
+    first_day DATE := date_trunc('month', for_date)::date;
+    next_day  DATE := (date_trunc('month', for_date) + INTERVAL '1 month')::date;
+    suffix    TEXT := to_char(first_day, 'YYYY_MM');
+    part_name TEXT := 'audit_events_' || suffix;
+BEGIN
+    IF to_regclass(part_name) IS NOT NULL THEN
+        RETURN NULL;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE audit_events INCLUDING DEFAULTS)', part_name);
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I PRIMARY KEY (id, timestamp)',
+                   part_name, part_name || '_pkey');
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I UNIQUE (idempotency_key, timestamp)',
+                   part_name, 'audit_events_idempotency_key_key_' || suffix);
+    EXECUTE format('CREATE INDEX %I ON %I USING brin (timestamp)',
+                   'idx_audit_events_timestamp_' || suffix, part_name);
+    EXECUTE format('CREATE INDEX %I ON %I (entity_type, entity_id, timestamp DESC)',
+                   'idx_audit_events_entity_' || suffix, part_name);
+    EXECUTE format('CREATE INDEX %I ON %I (entity_type, event_type, timestamp DESC)',
+                   'idx_audit_events_type_timestamp_' || suffix, part_name);
+    EXECUTE format('CREATE INDEX %I ON %I (event_type)',
+                   'idx_audit_events_event_type_' || suffix, part_name);
+    EXECUTE format('CREATE INDEX %I ON %I (user_id)',
+                   'idx_audit_events_user_id_' || suffix, part_name);
+    EXECUTE format('ALTER TABLE audit_events ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   part_name, first_day, next_day);
+    RETURN part_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Every month holding existing rows, through three months ahead
+DO $$
+DECLARE
+    next_month DATE := date_trunc('month', COALESCE((SELECT MIN(timestamp) FROM audit_events_legacy), now()))::date;
+    last_month DATE := (date_trunc('month', GREATEST((SELECT MAX(timestamp) FROM audit_events_legacy), now()))
+                        + INTERVAL '3 months')::date;
+BEGIN
+    WHILE next_month <= last_month LOOP
+        PERFORM audit_events_create_partition(next_month);
+        next_month := (next_month + INTERVAL '1 month')::date;
+    END LOOP;
+END;
+$$;
+
+INSERT INTO audit_events (id, event_type, entity_type, entity_id, user_id, before_state, after_state,
+                          idempotency_key, timestamp)
+SELECT id, event_type, entity_type, entity_id, user_id, before_state, after_state, idempotency_key, timestamp
+FROM audit_events_legacy;
+
+DROP TABLE audit_events_legacy;
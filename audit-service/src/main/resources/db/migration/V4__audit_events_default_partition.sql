@@ -0,0 +1,51 @@
+-- Adds a DEFAULT partition to audit_events, so an event whose month has no
+-- partition yet (a missed maintenance run, a replayed change older than the
+-- oldest month) is stored instead of failing the whole CDC chunk.
+--
+-- Attaching a month while the default partition holds rows of that month
+-- fails, so audit_events_create_partition now moves those rows into the new
+-- partition before attaching it. AuditPartitionService creates the months
+-- found in the default partition on every run, which keeps it empty.
+
+CREATE TABLE audit_events_default PARTITION OF audit_events DEFAULT;
+
+-- Creates the partition for the month of the given date, named audit_events_YYYY_MM,
+-- moving in the rows of that month held by the default partition, and returns its
+-- name, or NULL when it already exists
+CREATE OR REPLACE FUNCTION audit_events_create_partition(for_date DATE) RETURNS TEXT AS $$
+DECLARE
+    first_day DATE := date_trunc('month', for_date)::date;
+    next_day  DATE := (date_trunc('month', for_date) + INTERVAL '1 month')::date;
+    suffix    TEXT := to_char(first_day, 'YYYY_MM');
+    part_name TEXT := 'audit_events_' || suffix;
+BEGIN
+    IF to_regclass(part_name) IS NOT NULL THEN
+        RETURN NULL;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE audit_events INCLUDING DEFAULTS)', part_name);
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I PRIMARY KEY (id, timestamp)',
+                   part_name, part_name || '_pkey');
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I UNIQUE (idempotency_key, timestamp)',
+                   part_name, 'audit_events_idempotency_key_key_' || suffix);
+    EXECUTE format('CREATE INDEX %I ON %I USING brin (timestamp)',
+                   'idx_audit_events_timestamp_' || suffix, part_name);
+    EXECUTE format('CREATE INDEX %I ON %I (entity_type, entity_id, timestamp DESC)',
+                   'idx_audit_events_entity_' || suffix, part_name);
+    EXECUTE format('CREATE INDEX %I ON %I (entity_type, event_type, timestamp DESC)',
+                   'idx_audit_events_type_timestamp_' || suffix, part_name);
+    EXECUTE format('CREATE INDEX %I ON %I (event_type)',
+                   'idx_audit_events_event_type_' || suffix, part_name);
+    EXECUTE format('CREATE INDEX %I ON %I (user_id)',
+                   'idx_audit_events_user_id_' || suffix, part_name);
+    EXECUTE format('WITH moved AS (DELETE FROM audit_events_default WHERE timestamp >= %L AND timestamp < %L '
+                   'RETURNING id, event_type, entity_type, entity_id, user_id, before_state, after_state, '
+                   'idempotency_key, timestamp) '
+                   'INSERT INTO %I (id, event_type, entity_type, entity_id, user_id, before_state, after_state, '
+                   'idempotency_key, timestamp) SELECT * FROM moved',
+                   first_day, next_day, part_name);
+    EXECUTE format('ALTER TABLE audit_events ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   part_name, first_day, next_day);
+    RETURN part_name;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,167 @@
+package com.example.temporal.audit.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.temporal.audit.config.CdcIngestionProperties;
+import com.example.temporal.audit.domain.model.AuditEventDomain;
+import com.example.temporal.audit.domain.port.in.ProcessCDCEventUseCase.ProcessCDCEventCommand;
+import com.example.temporal.audit.domain.port.out.AuditPersistencePort;
+import com.example.temporal.audit.domain.port.out.CDCEventParserPort.ParsedCDCEvent;
+import com.example.temporal.audit.domain.service.AuditService;
+import com.example.temporal.audit.infrastructure.adapter.in.messaging.CDCIngestionPipeline;
+import com.example.temporal.audit.infrastructure.adapter.out.parser.CDCEventParserAdapter;
+import com.example.temporal.audit.infrastructure.adapter.out.persistence.AuditEventMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.LongStream;
+
+/**
+ * CDC ingestion throughput, in events per second, for one poll of
+ * {@value #POLL_SIZE} Debezium update events: the pipeline at several chunk
+ * sizes against the former one-event-per-transaction path.
+ * <p>
+ * Parsing and mapping are the real adapters; persistence serializes each
+ * entity like the JDBC adapter and then waits {@value #ROUND_TRIP_NANOS} ns
+ * per transaction plus {@value #PER_ROW_NANOS} ns per row, standing in for
+ * the database round trip and commit.
+ * </p>
+ * <p>
+ * Run with {@code mvn -pl audit-service test-compile} and then
+ * {@code java -cp <test classpath> com.example.temporal.audit.benchmark.CdcIngestionBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CdcIngestionBenchmark {
+
+    private static final int POLL_SIZE = 1000;
+    private static final long ROUND_TRIP_NANOS = 500_000;
+    private static final long PER_ROW_NANOS = 5_000;
+    private static final String TOPIC = "banking.public.transfers";
+
+    @Param({"1", "10", "100", "1000"})
+    private int batchSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong offsets = new AtomicLong();
+
+    private CDCEventParserAdapter parser;
+    private AuditService auditService;
+    private CDCIngestionPipeline pipeline;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        parser = new CDCEventParserAdapter(objectMapper);
+        auditService = new AuditService(simulatedDatabase(new AuditEventMapper(objectMapper)), parser);
+
+        final CdcIngestionProperties properties = new CdcIngestionProperties();
+        properties.setBatchSize(batchSize);
+        pipeline = new CDCIngestionPipeline(parser, auditService, properties, new SimpleMeterRegistry());
+        pipeline.start();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        pipeline.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POLL_SIZE)
+    public void pipeline(final Blackhole blackhole) {
+        pipeline.ingest(poll(), blackhole::consume);
+    }
+
+    /**
+     * The listener before the pipeline: parse, map and save one event per transaction
+     */
+    @Benchmark
+    @OperationsPerInvocation(POLL_SIZE)
+    public void perEvent(final Blackhole blackhole) {
+        for (final ConsumerRecord<String, String> record : poll()) {
+            final ParsedCDCEvent event = parser.parse(record.value(), record.topic());
+            blackhole.consume(auditService.processCDCEvent(ProcessCDCEventCommand.of(
+                    event.topic(), event.operation(), event.entityType(), event.entityId(),
+                    event.beforeJson(), event.afterJson(),
+                    record.topic() + "-" + record.partition() + "-" + record.offset(), event.occurredAt())));
+        }
+    }
+
+    private List<ConsumerRecord<String, String>> poll() {
+        final List<ConsumerRecord<String, String>> records = new ArrayList<>(POLL_SIZE);
+        for (int i = 0; i < POLL_SIZE; i++) {
+            final long offset = offsets.incrementAndGet();
+            records.add(new ConsumerRecord<>(TOPIC, 0, offset, null, transferUpdate(offset)));
+        }
+        return records;
+    }
+
+    private static String transferUpdate(final long offset) {
+        final String row = "\"id\":" + offset % 10_000 + ",\"source_account_number\":\"123456\","
+                + "\"destination_account_number\":\"789012\",\"amount\":\"150.00\",\"currency\":\"BRL\","
+                + "\"idempotency_key\":\"transfer-" + offset + "\",\"created_at\":1760000000000,";
+        return "{\"payload\":{\"op\":\"u\","
+                + "\"before\":{" + row + "\"status\":\"PENDING\"},"
+                + "\"after\":{" + row + "\"status\":\"COMPLETED\"},"
+                + "\"source\":{\"lsn\":" + offset + ",\"table\":\"transfers\"}}}";
+    }
+
+    /**
+     * Persistence that converts each event like the JDBC adapter and then waits
+     * out a simulated round trip per insert; id reservations are treated as free
+     */
+    private static AuditPersistencePort simulatedDatabase(final AuditEventMapper mapper) {
+        final AtomicLong ids = new AtomicLong();
+        return (AuditPersistencePort) Proxy.newProxyInstance(AuditPersistencePort.class.getClassLoader(),
+                new Class<?>[]{AuditPersistencePort.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "reserveIds" -> {
+                        final long first = ids.getAndAdd((Integer) args[0]);
+                        yield LongStream.range(first, first + (Integer) args[0]).boxed().toList();
+                    }
+                    case "insertAll" -> {
+                        @SuppressWarnings("unchecked")
+                        final List<AuditEventDomain> events = (List<AuditEventDomain>) args[0];
+                        events.forEach(mapper::toEntity);
+                        LockSupport.parkNanos(ROUND_TRIP_NANOS + PER_ROW_NANOS * events.size());
+                        yield events.size();
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    public static void main(final String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(CdcIngestionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.temporal.audit.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.temporal.audit.domain.model.AuditEventDomain;
+import com.example.temporal.audit.domain.port.out.CDCEventParserPort.ParsedCDCEvent;
+import com.example.temporal.audit.entity.AuditEventEntity;
+import com.example.temporal.audit.infrastructure.adapter.out.parser.CDCEventParserAdapter;
+import com.example.temporal.audit.infrastructure.adapter.out.persistence.AuditEventMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning one Debezium message into the row written to audit_events:
+ * the streaming parser that cuts the row states out of the message, against
+ * the former tree → {@code Map} → JSON round trip. The GC profiler's
+ * {@code gc.alloc.rate.norm} is the allocation per event.
+ * <p>
+ * Run with {@code mvn -pl audit-service test-compile} and then
+ * {@code java -cp <test classpath> com.example.temporal.audit.benchmark.CdcParserBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CdcParserBenchmark {
+
+    private static final String TOPIC = "banking.public.transfers";
+
+    /**
+     * The JSON converter with schemas enabled, as configured for the connector, or without them
+     */
+    @Param({"true", "false"})
+    private boolean schemas;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AuditEventMapper mapper = new AuditEventMapper(objectMapper);
+    private CDCEventParserAdapter parser;
+    private String message;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        parser = new CDCEventParserAdapter(objectMapper);
+
+        final String row = "\"id\":48213,\"source_account_number\":\"123456\","
+                + "\"destination_account_number\":\"789012\",\"amount\":\"150.00\",\"currency\":\"BRL\","
+                + "\"idempotency_key\":\"transfer-2f9c3f0e-6f1d-4c55-9a43-0d4b8c6a1e27\","
+                + "\"created_at\":1760000000000000,\"updated_at\":1760000004500000,";
+        final String change = "{\"before\":{" + row + "\"status\":\"PENDING\"},"
+                + "\"after\":{" + row + "\"status\":\"COMPLETED\"},"
+                + "\"source\":{\"version\":\"2.5.0.Final\",\"connector\":\"postgresql\",\"name\":\"banking\","
+                + "\"ts_ms\":1760000004512,\"db\":\"banking\",\"schema\":\"public\",\"table\":\"transfers\","
+                + "\"txId\":7781,\"lsn\":24023128},\"op\":\"u\",\"ts_ms\":1760000004530}";
+        message = schemas ? "{\"schema\":" + schema() + ",\"payload\":" + change + "}" : change;
+    }
+
+    @Benchmark
+    public AuditEventEntity streaming() {
+        final ParsedCDCEvent event = parser.parse(message, TOPIC);
+        return mapper.toEntity(AuditEventDomain.create("TRANSFERS_UPDATED", event.entityType(), event.entityId(),
+                event.beforeJson(), event.afterJson(), "SYSTEM", TOPIC + "-lsn-" + event.sourceLsn(), event.occurredAt()));
+    }
+
+    /**
+     * The parser before the streaming path: a tree, two maps and two serializations per event
+     */
+    @Benchmark
+    public AuditEventEntity treeAndMaps() throws Exception {
+        JsonNode node = objectMapper.readTree(message);
+        if (node.has("payload")) {
+            node = node.get("payload");
+        }
+        final TypeReference<Map<String, Object>> mapType = new TypeReference<>() {
+        };
+        final Map<String, Object> before = objectMapper.convertValue(node.get("before"), mapType);
+        final Map<String, Object> after = objectMapper.convertValue(node.get("after"), mapType);
+        return mapper.toEntity(AuditEventDomain.builder()
+                .eventType("TRANSFERS_UPDATED")
+                .entityType("transfers")
+                .entityId(after.get("id").toString())
+                .beforeState(before)
+                .afterState(after)
+                .userId("SYSTEM")
+                .timestamp(LocalDateTime.now())
+                .idempotencyKey(TOPIC + "-lsn-" + node.get("source").get("lsn").asText())
+                .build());
+    }
+
+    private static String schema() {
+        final StringBuilder fields = new StringBuilder();
+        for (final String field : new String[]{"id", "source_account_number", "destination_account_number",
+                "amount", "currency", "idempotency_key", "created_at", "updated_at", "status"}) {
+            if (!fields.isEmpty()) {
+                fields.append(',');
+            }
+            fields.append("{\"type\":\"string\",\"optional\":true,\"field\":\"").append(field).append("\"}");
+        }
+        final String row = "{\"type\":\"struct\",\"fields\":[" + fields + "],\"optional\":true,"
+                + "\"name\":\"banking.public.transfers.Value\",\"field\":\"%s\"}";
+        return "{\"type\":\"struct\",\"fields\":[" + row.formatted("before") + "," + row.formatted("after")
+                + "],\"optional\":false,\"name\":\"banking.public.transfers.Envelope\"}";
+    }
+
+    public static void main(final String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(CdcParserBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
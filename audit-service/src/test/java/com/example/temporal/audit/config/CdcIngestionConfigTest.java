@@ -0,0 +1,74 @@
+package com.example.temporal.audit.config;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.util.backoff.BackOffExecution;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CdcIngestionConfig Unit Tests")
+class CdcIngestionConfigTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("banking.public.transfers", 0);
+
+    @Test
+    @DisplayName("Should back off exponentially up to the maximum without ever giving up")
+    void shouldBackOffWithoutLimit() {
+        var execution = CdcIngestionConfig.retryBackOff(new CdcIngestionProperties()).start();
+
+        assertEquals(1_000, execution.nextBackOff());
+        assertEquals(2_000, execution.nextBackOff());
+        for (int i = 0; i < 10_000; i++) {
+            long backOff = execution.nextBackOff();
+            assertNotEquals(BackOffExecution.STOP, backOff);
+            assertTrue(backOff <= 60_000);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep redelivering a failed poll from its first unwritten record instead of skipping it")
+    void shouldNeverSkipFailedRecords() {
+        var properties = new CdcIngestionProperties();
+        properties.setRetryInitialBackoff(Duration.ofMillis(1));
+        properties.setRetryMaxBackoff(Duration.ofMillis(1));
+        var errorHandler = new CdcIngestionConfig().cdcErrorHandler(properties);
+
+        var consumer = new MockConsumer<String, String>(OffsetResetStrategy.EARLIEST);
+        consumer.assign(List.of(PARTITION));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        var container = mock(MessageListenerContainer.class);
+        when(container.isRunning()).thenReturn(true);
+        when(container.getContainerProperties()).thenReturn(new ContainerProperties(PARTITION.topic()));
+        var records = IntStream.range(0, 4)
+                .mapToObj(offset -> new ConsumerRecord<>(PARTITION.topic(), 0, offset, "key", "value"))
+                .toList();
+        var data = new ConsumerRecords<>(Map.of(PARTITION, records));
+
+        // Twice the attempts after which the default handler gives up and skips the record
+        for (int attempt = 0; attempt < 20; attempt++) {
+            consumer.seek(PARTITION, 4);
+            var failure = new BatchListenerFailedException("database down", new IllegalStateException(), 2);
+
+            assertThrows(RuntimeException.class,
+                    () -> errorHandler.handleBatch(failure, data, consumer, container, () -> { }));
+
+            assertEquals(2, consumer.position(PARTITION));
+        }
+        assertEquals(2, consumer.committed(Set.of(PARTITION)).get(PARTITION).offset());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.temporal.audit.domain.service;
+
+import com.example.temporal.audit.config.AuditPartitionProperties;
+import com.example.temporal.audit.config.AuditPartitionProperties.ExpiredAction;
+import com.example.temporal.audit.domain.port.out.AuditPartitionPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditPartitionService Unit Tests")
+class AuditPartitionServiceTest {
+
+    private static final YearMonth CURRENT = YearMonth.of(2026, 10);
+
+    @Mock private AuditPartitionPort auditPartitionPort;
+
+    private final AuditPartitionProperties properties = new AuditPartitionProperties();
+    private AuditPartitionService service;
+
+    @BeforeEach
+    void setUp() {
+        properties.setPremakeMonths(2);
+        properties.setRetentionMonths(12);
+        service = new AuditPartitionService(auditPartitionPort, properties);
+    }
+
+    @Test
+    @DisplayName("Should create the current month and the months ahead")
+    void shouldCreateMonthsAhead() {
+        when(auditPartitionPort.findPartitions()).thenReturn(List.of(CURRENT));
+
+        service.maintain(CURRENT);
+
+        InOrder order = inOrder(auditPartitionPort);
+        order.verify(auditPartitionPort).createPartition(YearMonth.of(2026, 10));
+        order.verify(auditPartitionPort).createPartition(YearMonth.of(2026, 11));
+        order.verify(auditPartitionPort).createPartition(YearMonth.of(2026, 12));
+        verify(auditPartitionPort, times(3)).createPartition(any());
+        verify(auditPartitionPort, never()).archivePartition(any());
+        verify(auditPartitionPort, never()).dropPartition(any());
+    }
+
+    @Test
+    @DisplayName("Should give the months held by the default partition their own partition")
+    void shouldCreateMonthsFoundInDefaultPartition() {
+        when(auditPartitionPort.findDefaultPartitionMonths()).thenReturn(List.of(YearMonth.of(2027, 10)));
+        when(auditPartitionPort.findPartitions()).thenReturn(List.of(CURRENT, YearMonth.of(2027, 10)));
+
+        service.maintain(CURRENT);
+
+        InOrder order = inOrder(auditPartitionPort);
+        order.verify(auditPartitionPort).findDefaultPartitionMonths();
+        order.verify(auditPartitionPort).createPartition(YearMonth.of(2027, 10));
+        order.verify(auditPartitionPort).createPartition(CURRENT);
+        verify(auditPartitionPort, times(4)).createPartition(any());
+    }
+
+    @Test
+    @DisplayName("Should archive only the months older than the retention")
+    void shouldArchiveExpiredMonths() {
+        when(auditPartitionPort.findPartitions()).thenReturn(List.of(
+                YearMonth.of(2025, 8), YearMonth.of(2025, 9), YearMonth.of(2025, 10), CURRENT));
+
+        service.maintain(CURRENT);
+
+        verify(auditPartitionPort).archivePartition(YearMonth.of(2025, 8));
+        verify(auditPartitionPort).archivePartition(YearMonth.of(2025, 9));
+        verify(auditPartitionPort, never()).archivePartition(YearMonth.of(2025, 10));
+        verify(auditPartitionPort, never()).dropPartition(any());
+    }
+
+    @Test
+    @DisplayName("Should drop expired months when configured to")
+    void shouldDropExpiredMonths() {
+        properties.setExpiredAction(ExpiredAction.DROP);
+        when(auditPartitionPort.findPartitions()).thenReturn(List.of(YearMonth.of(2025, 9), CURRENT));
+
+        service.maintain(CURRENT);
+
+        verify(auditPartitionPort).dropPartition(YearMonth.of(2025, 9));
+        verify(auditPartitionPort, never()).archivePartition(any());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when disabled")
+    void shouldSkipWhenDisabled() {
+        properties.setEnabled(false);
+
+        service.maintain();
+
+        verifyNoInteractions(auditPartitionPort);
+    }
+}
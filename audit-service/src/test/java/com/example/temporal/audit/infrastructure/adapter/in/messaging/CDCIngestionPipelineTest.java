@@ -0,0 +1,172 @@
+package com.example.temporal.audit.infrastructure.adapter.in.messaging;
+
+import com.example.temporal.audit.config.CdcIngestionProperties;
+import com.example.temporal.audit.domain.model.AuditEventDomain;
+import com.example.temporal.audit.domain.port.out.AuditPersistencePort;
+import com.example.temporal.audit.domain.service.AuditService;
+import com.example.temporal.audit.infrastructure.adapter.out.parser.CDCEventParserAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CDCIngestionPipeline Unit Tests")
+class CDCIngestionPipelineTest {
+
+    private static final String TOPIC = "banking.public.transfers";
+
+    @Mock private AuditPersistencePort auditPersistencePort;
+
+    private CDCIngestionPipeline pipeline;
+    private final List<Integer> acknowledged = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        var parser = new CDCEventParserAdapter(new ObjectMapper());
+        var properties = new CdcIngestionProperties();
+        properties.setBatchSize(2);
+        pipeline = new CDCIngestionPipeline(parser, new AuditService(auditPersistencePort, parser),
+                properties, new SimpleMeterRegistry());
+        pipeline.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pipeline.stop();
+    }
+
+    @Test
+    @DisplayName("Should write each chunk in one call and acknowledge it once written")
+    void shouldAcknowledgeEachChunkAfterWrite() {
+        stubInserts();
+
+        pipeline.ingest(records(5), acknowledged::add);
+
+        assertEquals(List.of(1, 3, 4), acknowledged);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AuditEventDomain>> batches = ArgumentCaptor.forClass(List.class);
+        verify(auditPersistencePort, times(3)).insertAll(batches.capture());
+        assertEquals(List.of(2, 2, 1), batches.getAllValues().stream().map(List::size).toList());
+        assertEquals(List.of("banking.public.transfers-0-0", "banking.public.transfers-0-1"),
+                batches.getAllValues().get(0).stream().map(AuditEventDomain::getIdempotencyKey).toList());
+    }
+
+    @Test
+    @DisplayName("Should skip unparseable records and still acknowledge them")
+    void shouldSkipInvalidRecords() {
+        stubInserts();
+        var records = new ArrayList<>(records(2));
+        records.add(1, new ConsumerRecord<>(TOPIC, 0, 99, null, "not json"));
+
+        pipeline.ingest(records, acknowledged::add);
+
+        assertEquals(List.of(1, 2), acknowledged);
+        verify(auditPersistencePort, times(2)).insertAll(argThat(events -> events.size() == 1));
+    }
+
+    @Test
+    @DisplayName("Should stop at the first chunk that fails and point at its first record")
+    void shouldFailAtFirstUnwrittenChunk() {
+        when(auditPersistencePort.reserveIds(anyInt())).thenAnswer(invocation -> ids(invocation.getArgument(0)));
+        when(auditPersistencePort.insertAll(anyList()))
+                .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size())
+                .thenThrow(new IllegalStateException("connection lost"));
+
+        var exception = assertThrows(BatchListenerFailedException.class,
+                () -> pipeline.ingest(records(6), acknowledged::add));
+
+        assertEquals(2, exception.getIndex());
+        assertEquals(List.of(1), acknowledged);
+        verify(auditPersistencePort, times(2)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should key changes by their Debezium LSN and operation and snapshot rows by their offset")
+    void shouldKeyByLsnUnlessSnapshot() {
+        stubInserts();
+        var records = List.of(
+                new ConsumerRecord<>(TOPIC, 0, 7, (String) null,
+                        "{\"op\":\"u\",\"before\":{\"id\":1},\"after\":{\"id\":1,\"status\":\"COMPLETED\"},"
+                                + "\"source\":{\"lsn\":24023128}}"),
+                new ConsumerRecord<>(TOPIC, 0, 8, (String) null,
+                        "{\"op\":\"r\",\"after\":{\"id\":2},\"source\":{\"lsn\":24023000}}"),
+                // A primary key update: a delete and a create sharing one LSN
+                new ConsumerRecord<>(TOPIC, 0, 9, (String) null,
+                        "{\"op\":\"d\",\"before\":{\"id\":3},\"after\":null,\"source\":{\"lsn\":24023200}}"),
+                new ConsumerRecord<>(TOPIC, 0, 10, (String) null,
+                        "{\"op\":\"c\",\"before\":null,\"after\":{\"id\":4},\"source\":{\"lsn\":24023200}}"));
+
+        pipeline.ingest(records, acknowledged::add);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AuditEventDomain>> batches = ArgumentCaptor.forClass(List.class);
+        verify(auditPersistencePort, times(2)).insertAll(batches.capture());
+        var events = batches.getAllValues().stream().flatMap(List::stream).toList();
+        assertEquals(List.of("banking.public.transfers-lsn-24023128-u", "banking.public.transfers-0-8",
+                        "banking.public.transfers-lsn-24023200-d", "banking.public.transfers-lsn-24023200-c"),
+                events.stream().map(AuditEventDomain::getIdempotencyKey).toList());
+        assertEquals(List.of(100L, 101L), batches.getAllValues().get(0).stream().map(AuditEventDomain::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should time a change without a source commit time by its record, the same on every delivery")
+    void shouldTimeChangesWithoutSourceTimestampByRecord() {
+        stubInserts();
+        long recordTime = 1_790_000_000_000L;
+        var value = "{\"op\":\"u\",\"before\":{\"id\":1},\"after\":{\"id\":1,\"status\":\"COMPLETED\"},"
+                + "\"source\":{\"lsn\":24023128}}";
+        var record = new ConsumerRecord<>(TOPIC, 0, 7, recordTime, TimestampType.CREATE_TIME, 0, value.length(),
+                (String) null, value, new RecordHeaders(), Optional.<Integer>empty());
+
+        pipeline.ingest(List.of(record), acknowledged::add);
+        pipeline.ingest(List.of(record), acknowledged::add);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AuditEventDomain>> batches = ArgumentCaptor.forClass(List.class);
+        verify(auditPersistencePort, times(2)).insertAll(batches.capture());
+        var expected = LocalDateTime.ofInstant(Instant.ofEpochMilli(recordTime), ZoneId.systemDefault());
+        batches.getAllValues().forEach(batch -> assertEquals(expected, batch.get(0).getTimestamp()));
+    }
+
+    private void stubInserts() {
+        when(auditPersistencePort.reserveIds(anyInt())).thenAnswer(invocation -> ids(invocation.getArgument(0)));
+        when(auditPersistencePort.insertAll(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+    }
+
+    private static List<Long> ids(int count) {
+        return LongStream.range(100, 100 + count).boxed().toList();
+    }
+
+    private static List<ConsumerRecord<String, String>> records(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(offset -> new ConsumerRecord<>(TOPIC, 0, offset, (String) null,
+                        "{\"op\":\"c\",\"before\":null,\"after\":{\"id\":" + offset + ",\"status\":\"PENDING\"}}"))
+                .toList();
+    }
+}
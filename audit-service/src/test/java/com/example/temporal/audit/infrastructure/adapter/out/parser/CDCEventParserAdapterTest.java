@@ -0,0 +1,86 @@
+package com.example.temporal.audit.infrastructure.adapter.out.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CDCEventParserAdapter Unit Tests")
+class CDCEventParserAdapterTest {
+
+    private static final String TOPIC = "banking.public.transfers";
+    private static final String BEFORE = "{\"id\":42,\"status\":\"PENDING\",\"meta\":{\"id\":\"nested\"}}";
+    private static final String AFTER = "{\"id\":42,\"status\":\"COMPLETED\",\"meta\":{\"id\":\"nested\"}}";
+
+    private final CDCEventParserAdapter parser = new CDCEventParserAdapter(new ObjectMapper());
+
+    @Test
+    @DisplayName("Should cut the row states out of an enveloped message as written")
+    void shouldParseEnvelope() {
+        var event = parser.parse("{\"schema\":{\"type\":\"struct\",\"fields\":[{\"field\":\"before\"}]},"
+                + "\"payload\":{\"before\":" + BEFORE + ",\"after\":" + AFTER + ","
+                + "\"source\":{\"db\":\"banking\",\"ts_ms\":1760000004512,\"lsn\":24023128},\"op\":\"u\"}}", TOPIC);
+
+        assertTrue(event.isValid());
+        assertEquals("u", event.operation());
+        assertEquals("transfers", event.entityType());
+        assertEquals("42", event.entityId());
+        assertEquals(BEFORE, event.beforeJson());
+        assertEquals(AFTER, event.afterJson());
+        assertEquals("24023128", event.sourceLsn());
+        assertEquals(LocalDateTime.ofInstant(Instant.ofEpochMilli(1760000004512L), ZoneId.systemDefault()),
+                event.occurredAt());
+    }
+
+    @Test
+    @DisplayName("Should parse messages without schemas and take the id from the deleted row")
+    void shouldParseFlatMessage() {
+        var event = parser.parse("{\"op\":\"d\",\"before\":" + BEFORE + ",\"after\":null}", TOPIC);
+
+        assertTrue(event.isValid());
+        assertEquals("d", event.operation());
+        assertEquals("42", event.entityId());
+        assertEquals(BEFORE, event.beforeJson());
+        assertNull(event.afterJson());
+        assertNull(event.sourceLsn());
+        assertNull(event.occurredAt());
+    }
+
+    @Test
+    @DisplayName("Should treat an unwrapped row as a create")
+    void shouldParseUnwrappedRow() {
+        var event = parser.parse(AFTER, "banking.public.accounts");
+
+        assertTrue(event.isValid());
+        assertEquals("c", event.operation());
+        assertEquals("accounts", event.entityType());
+        assertNull(event.beforeJson());
+        assertEquals(AFTER, event.afterJson());
+    }
+
+    @Test
+    @DisplayName("Should detect the format again when a message no longer fits the topic's format")
+    void shouldRedetectFormat() {
+        assertTrue(parser.parse("{\"op\":\"c\",\"after\":" + AFTER + "}", TOPIC).isValid());
+        assertFalse(parser.parse("{\"after\":" + AFTER + "}", TOPIC).isValid());
+
+        var event = parser.parse(AFTER, TOPIC);
+
+        assertTrue(event.isValid());
+        assertEquals("c", event.operation());
+    }
+
+    @Test
+    @DisplayName("Should reject empty and malformed messages")
+    void shouldRejectInvalidMessages() {
+        assertFalse(parser.parse(null, TOPIC).isValid());
+        assertFalse(parser.parse("  ", TOPIC).isValid());
+        assertFalse(parser.parse("{}", TOPIC).isValid());
+        assertFalse(parser.parse("{\"op\":\"c\",\"after\":{\"id\":", TOPIC).isValid());
+    }
+}
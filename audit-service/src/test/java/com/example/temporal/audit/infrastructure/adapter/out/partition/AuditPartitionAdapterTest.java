@@ -0,0 +1,94 @@
+package com.example.temporal.audit.infrastructure.adapter.out.partition;
+
+import com.example.temporal.audit.config.AuditPartitionProperties;
+import com.example.temporal.common.schema.QueryPlanTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AuditPartitionAdapter Integration Tests")
+class AuditPartitionAdapterTest extends QueryPlanTestSupport {
+
+    @Configuration
+    @Import({AuditPartitionAdapter.class, AuditPartitionProperties.class})
+    static class PartitionConfig {
+    }
+
+    @Autowired private AuditPartitionAdapter adapter;
+
+    @Test
+    @DisplayName("Should partition audit_events by month from the current month through three months ahead")
+    void shouldMigrateToMonthlyPartitions() {
+        var current = YearMonth.now();
+
+        assertEquals(List.of(current, current.plusMonths(1), current.plusMonths(2), current.plusMonths(3)),
+                adapter.findPartitions());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_partitioned_table WHERE partrelid = 'audit_events'::regclass", Integer.class));
+        assertEquals("audit_events_default", jdbcTemplate.queryForObject(
+                "SELECT c.relname FROM pg_partitioned_table p JOIN pg_class c ON c.oid = p.partdefid "
+                        + "WHERE p.partrelid = 'audit_events'::regclass", String.class));
+        assertTrue(adapter.findDefaultPartitionMonths().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep events of a month without a partition and move them in when it is created")
+    void shouldMoveRowsOutOfDefaultPartition() {
+        var later = YearMonth.now().plusMonths(12);
+        insert(1L, "later-1", later);
+        insert(2L, "later-2", later);
+
+        assertEquals(List.of(later), adapter.findDefaultPartitionMonths());
+
+        assertTrue(adapter.createPartition(later));
+        assertFalse(adapter.createPartition(later));
+
+        assertTrue(adapter.findPartitions().contains(later));
+        assertTrue(adapter.findDefaultPartitionMonths().isEmpty());
+        assertEquals(2, count(partition(later)));
+        assertEquals(0, count("audit_events_default"));
+        assertEquals(2, count("audit_events"));
+    }
+
+    @Test
+    @DisplayName("Should archive or drop expired months without touching the others")
+    void shouldRetireExpiredMonths() {
+        var earlier = YearMonth.now().minusMonths(12);
+        var older = YearMonth.now().minusMonths(13);
+        assertTrue(adapter.createPartition(earlier));
+        assertTrue(adapter.createPartition(older));
+        insert(1L, "earlier", earlier);
+        insert(2L, "current", YearMonth.now());
+
+        adapter.archivePartition(earlier);
+        adapter.dropPartition(older);
+
+        assertFalse(adapter.findPartitions().contains(earlier));
+        assertFalse(adapter.findPartitions().contains(older));
+        assertEquals(1, count("audit_archive." + partition(earlier)));
+        assertEquals(1, count("audit_events"));
+        assertNull(jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class, partition(older)));
+    }
+
+    private void insert(long id, String idempotencyKey, YearMonth month) {
+        jdbcTemplate.update("INSERT INTO audit_events (id, event_type, entity_type, entity_id, user_id, "
+                        + "idempotency_key, timestamp) VALUES (?, 'TRANSFERS_UPDATED', 'transfers', '1', 'system', ?, ?)",
+                id, idempotencyKey, Timestamp.valueOf(month.atDay(15).atStartOfDay()));
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Integer.class);
+    }
+
+    private static String partition(YearMonth month) {
+        return String.format("audit_events_%04d_%02d", month.getYear(), month.getMonthValue());
+    }
+}
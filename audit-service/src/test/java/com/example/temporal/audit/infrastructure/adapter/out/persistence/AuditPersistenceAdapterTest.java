@@ -0,0 +1,68 @@
+package com.example.temporal.audit.infrastructure.adapter.out.persistence;
+
+import com.example.temporal.audit.domain.model.AuditEventDomain;
+import com.example.temporal.common.schema.QueryPlanTestSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AuditPersistenceAdapter Integration Tests")
+class AuditPersistenceAdapterTest extends QueryPlanTestSupport {
+
+    @Configuration
+    @EntityScan(basePackages = "com.example.temporal.audit.entity")
+    @EnableJpaRepositories(basePackages = "com.example.temporal.audit.repository")
+    @Import({AuditPersistenceAdapter.class, AuditEventMapper.class})
+    static class JpaConfig {
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+
+    @Autowired private AuditPersistenceAdapter adapter;
+
+    @Test
+    @DisplayName("Should count only the rows actually inserted, skipping stored idempotency keys")
+    void shouldCountInsertedRows() {
+        var ids = adapter.reserveIds(5);
+        var at = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        assertEquals(2, adapter.insertAll(List.of(event(ids.get(0), "lsn-1-u", at), event(ids.get(1), "lsn-2-u", at))));
+        assertEquals(1, adapter.insertAll(List.of(
+                event(ids.get(2), "lsn-1-u", at),
+                event(ids.get(3), "lsn-3-d", at),
+                event(ids.get(4), "lsn-2-u", at))));
+
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT count(*) FROM audit_events", Integer.class));
+        var stored = adapter.findByIdempotencyKey("lsn-3-d").orElseThrow();
+        assertEquals("PENDING", stored.getAfterState().get("status"));
+    }
+
+    private static AuditEventDomain event(long id, String idempotencyKey, LocalDateTime at) {
+        return AuditEventDomain.builder()
+                .id(id)
+                .eventType("TRANSFERS_UPDATED")
+                .entityType("transfers")
+                .entityId("1")
+                .beforeJson(null)
+                .afterJson("{\"id\":1,\"status\":\"PENDING\"}")
+                .userId("system")
+                .timestamp(at)
+                .idempotencyKey(idempotencyKey)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.temporal.audit.repository;
+
+import com.example.temporal.common.schema.QueryPlanTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@DisplayName("Audit repository query plans")
+class AuditQueryPlanTest extends QueryPlanTestSupport {
+
+    @Configuration
+    @EntityScan(basePackages = "com.example.temporal.audit.entity")
+    @EnableJpaRepositories(basePackages = "com.example.temporal.audit.repository")
+    static class JpaConfig {
+    }
+
+    @Autowired private AuditEventRepository auditEventRepository;
+
+    @Test
+    @DisplayName("Should use the entity index for entity history")
+    void shouldUseEntityIndex() {
+        assertUsesIndex("idx_audit_events_entity",
+                () -> auditEventRepository.findByEntityTypeAndEntityId("accounts", "ACC001"));
+        assertUsesIndex("audit_events_idempotency_key_key",
+                () -> auditEventRepository.findByIdempotencyKey("key"));
+    }
+
+    @Test
+    @DisplayName("Should use indexes for event type, user and time range lookups")
+    void shouldUseLookupIndexes() {
+        assertUsesIndex("idx_audit_events_event_type", () -> auditEventRepository.findByEventType("UPDATE"));
+        assertUsesIndex("idx_audit_events_user_id", () -> auditEventRepository.findByUserId("system"));
+        assertUsesIndex("idx_audit_events_", () -> auditEventRepository.findByEntityType("accounts"));
+        assertUsesIndex("idx_audit_events_", () -> auditEventRepository.findByEntityTypeAndEventTypesInRange(
+                "accounts", List.of("INSERT", "UPDATE"), LocalDateTime.now().minusDays(1), LocalDateTime.now()));
+    }
+}
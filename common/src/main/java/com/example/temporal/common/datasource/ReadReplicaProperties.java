@@ -0,0 +1,50 @@
+package com.example.temporal.common.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuração das réplicas de leitura usadas por transações read-only
+ */
+@Data
+@ConfigurationProperties(prefix = "banking.datasource.read-replica")
+public class ReadReplicaProperties {
+
+    /**
+     * Habilita o roteamento de transações read-only para as réplicas
+     */
+    private boolean enabled = false;
+
+    /**
+     * URLs JDBC das réplicas (usadas em round-robin)
+     */
+    private List<String> urls = new ArrayList<>();
+
+    private String username;
+
+    private String password;
+
+    /**
+     * Tamanho máximo do pool de conexões de cada réplica
+     */
+    private int maximumPoolSize = 10;
+
+    /**
+     * Atraso de replicação acima do qual a réplica deixa de receber leituras
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * Intervalo entre verificações de atraso
+     */
+    private Duration lagCheckInterval = Duration.ofSeconds(2);
+
+    /**
+     * Consulta que retorna o atraso da réplica em segundos
+     */
+    private String lagQuery = ReplicaLagMonitor.POSTGRES_LAG_QUERY;
+}
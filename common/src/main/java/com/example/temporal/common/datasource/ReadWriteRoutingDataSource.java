@@ -0,0 +1,65 @@
+package com.example.temporal.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Routes connections of read-only transactions to a healthy read replica and
+ * everything else to the primary.
+ * <p>
+ * Must be wrapped in a {@code LazyConnectionDataSourceProxy}: transaction
+ * managers fetch the connection before the read-only flag is exposed, so the
+ * physical connection has to be resolved at the first statement.
+ * </p>
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final AtomicLong primaryConnections = new AtomicLong();
+    private final AtomicLong replicaConnections = new AtomicLong();
+
+    public ReadWriteRoutingDataSource(final DataSource primary, final ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+
+        final Map<Object, Object> targets = new HashMap<>(replicaLagMonitor.dataSources());
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            final String replica = replicaLagMonitor.nextHealthyReplica().orElse(null);
+            if (replica != null) {
+                replicaConnections.incrementAndGet();
+                return replica;
+            }
+        }
+        primaryConnections.incrementAndGet();
+        return PRIMARY;
+    }
+
+    /**
+     * Connections handed out from the primary since startup.
+     */
+    public long getPrimaryConnections() {
+        return primaryConnections.get();
+    }
+
+    /**
+     * Connections handed out from replicas since startup.
+     */
+    public long getReplicaConnections() {
+        return replicaConnections.get();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.temporal.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the service DataSource with a read/write routing one when
+ * {@code banking.datasource.read-replica.enabled=true}.
+ * The primary keeps using {@code spring.datasource.*}. Backs off when the
+ * service defines its own DataSource.
+ */
+@AutoConfiguration(before = DataSourceAutoConfiguration.class)
+@ConditionalOnMissingBean(DataSource.class)
+@ConditionalOnProperty(prefix = "banking.datasource.read-replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties({DataSourceProperties.class, ReadReplicaProperties.class})
+public class ReadWriteRoutingDataSourceAutoConfiguration {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(final ReadReplicaProperties properties) {
+        final List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getUrls().size(); i++) {
+            final HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(properties.getUrls().get(i));
+            replica.setUsername(properties.getUsername());
+            replica.setPassword(properties.getPassword());
+            replica.setMaximumPoolSize(properties.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReplicaLagMonitor(
+                replicas, properties.getMaxLag(), properties.getLagCheckInterval(), properties.getLagQuery());
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            @Qualifier("primaryDataSource") final DataSource primaryDataSource,
+            final ReplicaLagMonitor replicaLagMonitor) {
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaLagMonitor);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(final ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+}
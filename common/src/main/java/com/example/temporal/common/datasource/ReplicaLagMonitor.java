@@ -0,0 +1,148 @@
+package com.example.temporal.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks replication lag of the read replicas and hands out healthy ones in round-robin.
+ * <p>
+ * A replica is healthy while its lag query succeeds and reports a lag up to
+ * {@code maxLag}. Replicas start unhealthy until their first successful check.
+ * </p>
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    /**
+     * Lag in seconds of a Postgres streaming replica; 0 when fully replayed or not in recovery
+     */
+    public static final String POSTGRES_LAG_QUERY =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() "
+            + "THEN 0 ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    private final List<Replica> replicas;
+    private final double maxLagSeconds;
+    private final Duration checkInterval;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(
+            final List<DataSource> replicaDataSources,
+            final Duration maxLag,
+            final Duration checkInterval,
+            final String lagQuery) {
+        final List<Replica> list = new ArrayList<>(replicaDataSources.size());
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            list.add(new Replica("replica-" + i, replicaDataSources.get(i)));
+        }
+        this.replicas = Collections.unmodifiableList(list);
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.checkInterval = checkInterval;
+        this.lagQuery = lagQuery;
+    }
+
+    /**
+     * Runs a first check synchronously and schedules the following ones.
+     */
+    public void start() {
+        checkAll();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkAll,
+                checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Checks the lag of every replica once.
+     */
+    public void checkAll() {
+        replicas.forEach(this::check);
+    }
+
+    /**
+     * Lookup key of the next healthy replica, empty when none is healthy.
+     */
+    public Optional<String> nextHealthyReplica() {
+        final int size = replicas.size();
+        final int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            final Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return Optional.of(replica.key);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Replica data sources by lookup key.
+     */
+    public Map<String, DataSource> dataSources() {
+        final Map<String, DataSource> map = new LinkedHashMap<>();
+        replicas.forEach(replica -> map.put(replica.key, replica.dataSource));
+        return map;
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        for (final Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (final Exception e) {
+                    log.warn("Error closing {}: {}", replica.key, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void check(final Replica replica) {
+        boolean healthy;
+        try (Connection connection = replica.dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            final double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : Double.MAX_VALUE;
+            healthy = lagSeconds <= maxLagSeconds;
+            if (!healthy) {
+                log.warn("{} lagging {}s behind primary, routing reads to primary", replica.key, lagSeconds);
+            }
+        } catch (final Exception e) {
+            healthy = false;
+            log.warn("{} lag check failed, routing reads to primary: {}", replica.key, e.getMessage());
+        }
+        replica.healthy = healthy;
+    }
+
+    private static final class Replica {
+        private final String key;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+
+        private Replica(final String key, final DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.temporal.common.exception;
+
+/**
+ * No validation decision could be made (an account lookup, the database or the
+ * validating thread failed), as opposed to a {@link ValidationException}, which
+ * is a decision; worth retrying
+ */
+public class ValidationUnavailableException extends RuntimeException {
+    public ValidationUnavailableException(String message) {
+        super(message);
+    }
+
+    public ValidationUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -12,8 +12,16 @@ import java.time.LocalDateTime;
 @Accessors(chain = true)
 @Table(name = "accounts")
 public class Account {
+
+    /**
+     * Account type used when none is given; transfer limits are configured per type
+     */
+    public static final String DEFAULT_ACCOUNT_TYPE = "STANDARD";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "accounts_seq")
+    @SequenceGenerator(name = "accounts_seq", sequenceName = "accounts_seq",
+            allocationSize = IdAllocation.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -28,6 +36,9 @@ public class Account {
     @Column(nullable = false)
     private String currency;
 
+    @Column(nullable = false, length = 50)
+    private String accountType = DEFAULT_ACCOUNT_TYPE;
+
     @Column(unique = true, length = 100)
     private String idempotencyKey;
 
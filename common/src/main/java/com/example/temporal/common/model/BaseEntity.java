@@ -26,8 +26,11 @@ import java.util.Objects;
 @MappedSuperclass
 public abstract class BaseEntity {
 
+    /**
+     * Drawn from a pooled-lo sequence per table ({@code <table>_seq})
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     /**
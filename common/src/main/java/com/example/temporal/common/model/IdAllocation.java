@@ -0,0 +1,22 @@
+package com.example.temporal.common.model;
+
+/**
+ * Sequence allocation shared by all entities.
+ * <p>
+ * Entity ids come from pooled-lo sequences: each {@code nextval} returns the
+ * first id of a block of {@link #ALLOCATION_SIZE} ids, so Hibernate reaches the
+ * database once per block and can batch the inserts. The database sequences
+ * are created with {@code INCREMENT BY} the same value. The transfer outbox is
+ * the exception: it is published in id order, so it takes one id per call.
+ * </p>
+ */
+public final class IdAllocation {
+
+    /**
+     * Ids reserved per sequence call; must match the sequences' INCREMENT BY
+     */
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdAllocation() {
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.temporal.common.schema;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * An index a service needs, written as {@code [UNIQUE] table(column, ...)}.
+ * <p>
+ * An existing index satisfies it when its leading key columns are the
+ * required ones, in order; a unique requirement also needs a unique index
+ * on exactly those columns.
+ * </p>
+ */
+public record RequiredIndex(String table, List<String> columns, boolean unique) {
+
+    public static RequiredIndex parse(final String spec) {
+        String text = spec.trim();
+        final boolean unique = text.toUpperCase(Locale.ROOT).startsWith("UNIQUE ");
+        if (unique) {
+            text = text.substring("UNIQUE ".length()).trim();
+        }
+        final int open = text.indexOf('(');
+        if (open <= 0 || !text.endsWith(")")) {
+            throw new IllegalArgumentException("Invalid required index: " + spec);
+        }
+        final List<String> columns = Arrays.stream(text.substring(open + 1, text.length() - 1).split(","))
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .filter(column -> !column.isEmpty())
+                .toList();
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("Invalid required index: " + spec);
+        }
+        return new RequiredIndex(text.substring(0, open).trim().toLowerCase(Locale.ROOT), columns, unique);
+    }
+
+    /**
+     * Whether an index with the given key columns satisfies this requirement.
+     */
+    public boolean isSatisfiedBy(final List<String> indexColumns, final boolean indexUnique) {
+        if (unique) {
+            return indexUnique && indexColumns.equals(columns);
+        }
+        return indexColumns.size() >= columns.size()
+                && indexColumns.subList(0, columns.size()).equals(columns);
+    }
+
+    @Override
+    public String toString() {
+        return (unique ? "UNIQUE " : "") + table + "(" + String.join(", ", columns) + ")";
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.temporal.common.schema;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fails startup when a required index is missing.
+ * <p>
+ * Runs once every singleton (including the Flyway migrations) is initialized
+ * and before the web server accepts traffic, so a service never serves its
+ * hot paths with sequential scans.
+ * </p>
+ */
+@Slf4j
+public class RequiredIndexVerifier implements SmartInitializingSingleton {
+
+    /**
+     * Key columns (in order) and uniqueness of every index on a visible table
+     */
+    private static final String INDEXES_SQL =
+            "SELECT i.indisunique, array_to_string(ARRAY("
+            + "  SELECT a.attname FROM unnest(i.indkey::int2[]) WITH ORDINALITY AS k(attnum, ord)"
+            + "  JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = k.attnum"
+            + "  ORDER BY k.ord), ',') "
+            + "FROM pg_index i JOIN pg_class t ON t.oid = i.indrelid "
+            + "WHERE t.relname = ? AND pg_table_is_visible(t.oid)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<RequiredIndex> requiredIndexes;
+
+    public RequiredIndexVerifier(final JdbcTemplate jdbcTemplate, final List<String> requiredIndexes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiredIndexes = requiredIndexes.stream().map(RequiredIndex::parse).toList();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        final List<RequiredIndex> missing = requiredIndexes.stream()
+                .filter(required -> !exists(required))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Missing required indexes: " + missing);
+        }
+        log.info("All {} required indexes present", requiredIndexes.size());
+    }
+
+    private boolean exists(final RequiredIndex required) {
+        return jdbcTemplate.query(INDEXES_SQL, (rs, rowNum) -> required.isSatisfiedBy(
+                        Arrays.asList(rs.getString(2).split(",")), rs.getBoolean(1)), required.table())
+                .contains(Boolean.TRUE);
+    }
+}
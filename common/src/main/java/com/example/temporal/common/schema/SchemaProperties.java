@@ -0,0 +1,25 @@
+package com.example.temporal.common.schema;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuração da verificação de schema na inicialização
+ */
+@Data
+@ConfigurationProperties(prefix = "banking.schema")
+public class SchemaProperties {
+
+    /**
+     * Falha a inicialização quando algum índice obrigatório não existe
+     */
+    private boolean verifyIndexes = true;
+
+    /**
+     * Índices obrigatórios no formato "[UNIQUE] tabela(coluna, ...)"
+     */
+    private List<String> requiredIndexes = new ArrayList<>();
+}
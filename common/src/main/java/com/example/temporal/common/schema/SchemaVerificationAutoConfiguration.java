@@ -0,0 +1,26 @@
+package com.example.temporal.common.schema;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Verifies the indexes listed in {@code banking.schema.required-indexes} at startup.
+ */
+@AutoConfiguration(after = JdbcTemplateAutoConfiguration.class)
+@ConditionalOnBean(JdbcTemplate.class)
+@ConditionalOnProperty(prefix = "banking.schema", name = "verify-indexes", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SchemaProperties.class)
+public class SchemaVerificationAutoConfiguration {
+
+    @Bean
+    public RequiredIndexVerifier requiredIndexVerifier(
+            final JdbcTemplate jdbcTemplate,
+            final SchemaProperties schemaProperties) {
+        return new RequiredIndexVerifier(jdbcTemplate, schemaProperties.getRequiredIndexes());
+    }
+}
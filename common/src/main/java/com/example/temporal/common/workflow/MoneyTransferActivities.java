@@ -45,4 +45,12 @@ public interface MoneyTransferActivities {
 
     @ActivityMethod
     void updateTransferStatusWithReason(final Long transferId, final TransferStatus status, final String reason);
+
+    /**
+     * Updates the transfer status and records its notification event in the
+     * transactional outbox, as one local transaction. Replaces the
+     * updateTransferStatus + notifyTransfer* pair.
+     */
+    @ActivityMethod
+    void updateTransferStatusAndNotify(final Long transferId, final TransferStatus status, final String reason);
 }
@@ -0,0 +1,97 @@
+package com.example.temporal.common.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Read/write routing data source")
+class ReadWriteRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+    @Mock
+    private Connection primaryConnection;
+    @Mock
+    private DataSource replica;
+    @Mock
+    private Connection replicaConnection;
+    @Mock
+    private Statement lagStatement;
+    @Mock
+    private ResultSet lagResult;
+
+    private ReplicaLagMonitor monitor;
+    private ReadWriteRoutingDataSource routing;
+    private DataSource dataSource;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(primaryConnection.getAutoCommit()).thenReturn(true);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.getAutoCommit()).thenReturn(true);
+        when(replicaConnection.createStatement()).thenReturn(lagStatement);
+        when(lagStatement.executeQuery(anyString())).thenReturn(lagResult);
+        when(lagResult.next()).thenReturn(true);
+
+        monitor = new ReplicaLagMonitor(List.of(replica), Duration.ofSeconds(5), Duration.ofSeconds(1), "lag");
+        routing = new ReadWriteRoutingDataSource(primary, monitor);
+        routing.afterPropertiesSet();
+
+        dataSource = new LazyConnectionDataSourceProxy(routing);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    @DisplayName("Should route read-only transactions to a healthy replica")
+    void shouldRouteReadOnlyTransactionsToReplica() throws SQLException {
+        when(lagResult.getDouble(1)).thenReturn(0.5);
+        monitor.checkAll();
+
+        assertSame(replicaConnection, connectionUsed(true));
+        assertSame(primaryConnection, connectionUsed(false));
+        assertEquals(1, routing.getReplicaConnections());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when the replica lags")
+    void shouldFallBackToPrimaryWhenReplicaLags() throws SQLException {
+        when(lagResult.getDouble(1)).thenReturn(30.0);
+        monitor.checkAll();
+
+        assertSame(primaryConnection, connectionUsed(true));
+        assertEquals(0, routing.getReplicaConnections());
+    }
+
+    private Connection connectionUsed(final boolean readOnly) {
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                ((ConnectionProxy) DataSourceUtils.getConnection(dataSource)).getTargetConnection());
+    }
+}
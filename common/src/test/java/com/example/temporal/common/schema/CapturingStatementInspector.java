@@ -0,0 +1,33 @@
+package com.example.temporal.common.schema;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the SQL Hibernate sends while a capture is open on the current thread.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    static void start() {
+        CAPTURED.set(new ArrayList<>());
+    }
+
+    static List<String> stop() {
+        final List<String> captured = CAPTURED.get();
+        CAPTURED.remove();
+        return captured != null ? captured : List.of();
+    }
+
+    @Override
+    public String inspect(final String sql) {
+        final List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.temporal.common.schema;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Base class for tests that capture the query plans of repository methods.
+ * <p>
+ * Runs the module's Flyway migrations on a throwaway Postgres, records the SQL
+ * Hibernate issues for a repository call and explains it as a generic plan
+ * with sequential scans disabled, so the plan shows whether a usable index
+ * exists regardless of table size. Plans are written to
+ * {@code target/query-plans/<test class>.txt}. Skipped when Docker is not available.
+ * </p>
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.example.temporal.common.schema.CapturingStatementInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class QueryPlanTestSupport {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    /**
+     * Asserts that the plan of every statement issued by the call uses the given index.
+     */
+    protected void assertUsesIndex(final String index, final Runnable repositoryCall) {
+        final String plan = explain(repositoryCall);
+        assertTrue(plan.contains(index), () -> "Expected " + index + " in plan:\n" + plan);
+    }
+
+    /**
+     * Explains the statements issued by a repository call and records the plans.
+     */
+    protected String explain(final Runnable repositoryCall) {
+        CapturingStatementInspector.start();
+        final List<String> statements;
+        try {
+            repositoryCall.run();
+        } finally {
+            statements = CapturingStatementInspector.stop();
+        }
+
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        final StringBuilder plan = new StringBuilder();
+        for (final String sql : statements) {
+            if (sql.trim().toLowerCase(Locale.ROOT).startsWith("insert")) {
+                continue;
+            }
+            plan.append(sql.trim()).append('\n');
+            jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + positional(sql), String.class)
+                    .forEach(line -> plan.append("    ").append(line).append('\n'));
+            plan.append('\n');
+        }
+        record(plan.toString());
+        return plan.toString();
+    }
+
+    /**
+     * Replaces JDBC placeholders with the numbered ones EXPLAIN (GENERIC_PLAN) expects.
+     */
+    private static String positional(final String sql) {
+        final StringBuilder result = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        for (final char c : sql.toCharArray()) {
+            if (c == '?') {
+                result.append('$').append(++parameter);
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private void record(final String plan) {
+        try {
+            final Path file = Path.of("target", "query-plans", getClass().getSimpleName() + ".txt");
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, plan, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
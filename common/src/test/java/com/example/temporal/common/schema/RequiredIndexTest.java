@@ -0,0 +1,40 @@
+package com.example.temporal.common.schema;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RequiredIndex Unit Tests")
+class RequiredIndexTest {
+
+    @Test
+    @DisplayName("Should be satisfied by an index with the same leading columns")
+    void shouldMatchLeadingColumns() {
+        RequiredIndex required = RequiredIndex.parse("audit_events(entity_type, entity_id)");
+
+        assertEquals("audit_events", required.table());
+        assertTrue(required.isSatisfiedBy(List.of("entity_type", "entity_id", "timestamp"), false));
+        assertFalse(required.isSatisfiedBy(List.of("entity_id", "entity_type"), false));
+        assertFalse(required.isSatisfiedBy(List.of("entity_type"), false));
+    }
+
+    @Test
+    @DisplayName("Should require a unique index on exactly the columns")
+    void shouldRequireUniqueIndex() {
+        RequiredIndex required = RequiredIndex.parse("UNIQUE accounts(account_number)");
+
+        assertTrue(required.isSatisfiedBy(List.of("account_number"), true));
+        assertFalse(required.isSatisfiedBy(List.of("account_number"), false));
+        assertFalse(required.isSatisfiedBy(List.of("account_number", "currency"), true));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed specs")
+    void shouldRejectMalformedSpec() {
+        assertThrows(IllegalArgumentException.class, () -> RequiredIndex.parse("accounts"));
+        assertThrows(IllegalArgumentException.class, () -> RequiredIndex.parse("accounts()"));
+    }
+}
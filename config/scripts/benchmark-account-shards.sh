@@ -0,0 +1,67 @@
+#!/bin/bash
+
+# Benchmark de sharding de contas: créditos concorrentes espalhados por
+# muitas contas. Rode uma vez por configuração de account.sharding.shards
+# (1, 2, 4...) e compare as vazões.
+#
+# Uso: ./benchmark-account-shards.sh [shards] [contas] [requisicoes] [concorrencia]
+#
+# Os bancos banking_shard_1..N-1 são criados com o schema de banking_demo
+# (o shard 0 é o próprio banking_demo).
+
+ACCOUNT_URL="http://localhost:8081/api/accounts"
+SHARDS=${1:-2}
+ACCOUNTS=${2:-200}
+REQUESTS=${3:-5000}
+CONCURRENCY=${4:-64}
+PREFIX="SHD$(date +%s)"
+PGHOST=${PGHOST:-localhost}
+PGUSER=${PGUSER:-postgres}
+export PGPASSWORD=${PGPASSWORD:-postgres}
+
+echo "🧩 === Benchmark de Sharding de Contas ($SHARDS shards) ==="
+
+echo "1. 🗄️  Preparando bancos dos shards..."
+for i in $(seq 1 $((SHARDS - 1))); do
+    DB="banking_shard_$i"
+    if ! psql -h "$PGHOST" -U "$PGUSER" -tAc "SELECT 1 FROM pg_database WHERE datname = '$DB'" | grep -q 1; then
+        psql -h "$PGHOST" -U "$PGUSER" -c "CREATE DATABASE $DB" > /dev/null
+        pg_dump -h "$PGHOST" -U "$PGUSER" --schema-only -t accounts -t account_balance_slots banking_demo \
+            | psql -h "$PGHOST" -U "$PGUSER" -d "$DB" > /dev/null
+        echo "   ✅ $DB criado"
+    fi
+done
+
+echo "2. 🔍 Verificando account-service..."
+if ! curl -s http://localhost:8081/actuator/health > /dev/null; then
+    echo "❌ Account-service não está rodando (porta 8081)"
+    echo "   Suba com account.sharding.enabled=true e $SHARDS shards configurados"
+    exit 1
+fi
+
+echo "3. 🏦 Criando $ACCOUNTS contas..."
+seq 1 "$ACCOUNTS" | xargs -P 16 -I{} \
+    curl -s -o /dev/null -X POST "$ACCOUNT_URL" \
+      -H "Content-Type: application/json" \
+      -d "{\"accountNumber\": \"$PREFIX-{}\", \"ownerName\": \"Benchmark\", \"balance\": 1000.00, \"currency\": \"BRL\"}"
+
+echo "   Distribuição por shard:"
+for i in $(seq 1 "$ACCOUNTS"); do
+    curl -s "$ACCOUNT_URL/$PREFIX-$i/shard" | jq -r '.shard'
+done | sort | uniq -c | sed 's/^/   /'
+
+echo "4. ⏱️  Executando $REQUESTS créditos com concorrência $CONCURRENCY"
+START=$(date +%s.%N)
+seq 1 "$REQUESTS" | xargs -P "$CONCURRENCY" -I{} sh -c \
+    "curl -s -o /dev/null -X POST \"$ACCOUNT_URL/$PREFIX-\$(( {} % $ACCOUNTS + 1 ))/credit\" \
+       -H 'Content-Type: application/json' \
+       -d '{\"amount\": 1.00, \"idempotencyKey\": \"bench-$PREFIX-{}\"}'"
+END=$(date +%s.%N)
+
+ELAPSED=$(echo "$END - $START" | bc)
+THROUGHPUT=$(echo "scale=1; $REQUESTS / $ELAPSED" | bc)
+
+printf "%-8s %-12s %-12s\n" "shards" "tempo (s)" "req/s"
+printf "%-8s %-12s %-12s\n" "$SHARDS" "$ELAPSED" "$THROUGHPUT"
+
+echo "✅ Benchmark concluído"
@@ -0,0 +1,53 @@
+#!/bin/bash
+
+# Benchmark de conta "quente": créditos concorrentes na mesma conta
+# variando o número de slots de saldo (0 = sem sharding).
+#
+# Uso: ./benchmark-hot-account.sh [requisicoes] [concorrencia]
+
+ACCOUNT_URL="http://localhost:8081/api/accounts"
+REQUESTS=${1:-2000}
+CONCURRENCY=${2:-32}
+ACCOUNT="HOT$(date +%s)"
+
+echo "🔥 === Benchmark de Conta Quente ==="
+
+echo "1. 🔍 Verificando account-service..."
+if ! curl -s http://localhost:8081/actuator/health > /dev/null; then
+    echo "❌ Account-service não está rodando (porta 8081)"
+    exit 1
+fi
+
+echo "2. 🏦 Criando conta $ACCOUNT..."
+curl -s -X POST "$ACCOUNT_URL" \
+  -H "Content-Type: application/json" \
+  -d "{
+    \"accountNumber\": \"$ACCOUNT\",
+    \"ownerName\": \"Benchmark\",
+    \"balance\": 1000.00,
+    \"currency\": \"BRL\"
+  }" > /dev/null
+
+echo "3. ⏱️  Executando $REQUESTS créditos com concorrência $CONCURRENCY"
+printf "%-8s %-12s %-12s %-16s\n" "slots" "tempo (s)" "req/s" "saldo"
+
+for SLOTS in 0 1 2 4 8 16; do
+    curl -s -X POST "$ACCOUNT_URL/$ACCOUNT/slots" \
+      -H "Content-Type: application/json" \
+      -d "{\"slotCount\": $SLOTS}" > /dev/null
+
+    START=$(date +%s.%N)
+    seq 1 "$REQUESTS" | xargs -P "$CONCURRENCY" -I{} \
+        curl -s -o /dev/null -X POST "$ACCOUNT_URL/$ACCOUNT/credit" \
+          -H "Content-Type: application/json" \
+          -d "{\"amount\": 1.00, \"idempotencyKey\": \"bench-$ACCOUNT-$SLOTS-{}\"}"
+    END=$(date +%s.%N)
+
+    ELAPSED=$(echo "$END - $START" | bc)
+    THROUGHPUT=$(echo "scale=1; $REQUESTS / $ELAPSED" | bc)
+    BALANCE=$(curl -s "$ACCOUNT_URL/$ACCOUNT/balance" | jq -r '.balance')
+
+    printf "%-8s %-12s %-12s %-16s\n" "$SLOTS" "$ELAPSED" "$THROUGHPUT" "$BALANCE"
+done
+
+echo "✅ Benchmark concluído"
@@ -0,0 +1,95 @@
+#!/bin/bash
+
+# Benchmark de escrita: dispara transferências concorrentes e mede quantas
+# linhas por segundo chegam em transfer_validations, notifications e
+# audit_events. Rode uma vez antes e outra depois de habilitar sequências
+# pooled-lo + batching do Hibernate e compare as vazões.
+#
+# Uso: ./benchmark-insert-batching.sh [transferencias] [concorrencia] [timeout_s]
+#
+# Com a extensão pg_stat_statements habilitada, também mostra quantos
+# INSERTs foram enviados por linha gravada (com batching, bem menos que 1).
+
+TRANSFER_URL="http://localhost:8082/api/transfers"
+ACCOUNT_URL="http://localhost:8081/api/accounts"
+TRANSFERS=${1:-1000}
+CONCURRENCY=${2:-32}
+TIMEOUT=${3:-300}
+PREFIX="BAT$(date +%s)"
+PGHOST=${PGHOST:-localhost}
+PGUSER=${PGUSER:-postgres}
+AUDIT_PGPORT=${AUDIT_PGPORT:-5433}
+export PGPASSWORD=${PGPASSWORD:-postgres}
+
+count_rows() {
+    local banking audit
+    banking=$(psql -h "$PGHOST" -U "$PGUSER" -d banking_demo -tAc \
+        "SELECT (SELECT count(*) FROM transfer_validations) + (SELECT count(*) FROM notifications)")
+    audit=$(psql -h "$PGHOST" -p "$AUDIT_PGPORT" -U "$PGUSER" -d audit_db -tAc \
+        "SELECT count(*) FROM audit_events")
+    echo $((banking + audit))
+}
+
+insert_stats() {
+    psql -h "$PGHOST" -U "$PGUSER" -d banking_demo -tAc \
+        "SELECT COALESCE(sum(calls), 0) || ' ' || COALESCE(sum(rows), 0) FROM pg_stat_statements
+          WHERE query ILIKE 'insert into transfer_validations%' OR query ILIKE 'insert into notifications%'" \
+        2>/dev/null
+}
+
+echo "📝 === Benchmark de Escrita em Lote ==="
+
+echo "1. 🔍 Verificando serviços..."
+for PORT in 8081 8082 8085 8086 8087; do
+    if ! curl -s "http://localhost:$PORT/actuator/health" > /dev/null; then
+        echo "❌ Serviço na porta $PORT não está rodando"
+        exit 1
+    fi
+done
+
+echo "2. 🏦 Criando contas de origem e destino..."
+for SUFFIX in SRC DST; do
+    curl -s -o /dev/null -X POST "$ACCOUNT_URL" \
+      -H "Content-Type: application/json" \
+      -d "{\"accountNumber\": \"$PREFIX-$SUFFIX\", \"ownerName\": \"Benchmark\", \"balance\": 1000000.00, \"currency\": \"BRL\"}"
+done
+
+ROWS_BEFORE=$(count_rows)
+STATS_BEFORE=$(insert_stats)
+
+echo "3. ⏱️  Executando $TRANSFERS transferências com concorrência $CONCURRENCY"
+START=$(date +%s.%N)
+seq 1 "$TRANSFERS" | xargs -P "$CONCURRENCY" -I{} \
+    curl -s -o /dev/null -X POST "$TRANSFER_URL" \
+      -H "Content-Type: application/json" \
+      -d "{\"sourceAccountNumber\": \"$PREFIX-SRC\", \"destinationAccountNumber\": \"$PREFIX-DST\", \"amount\": 1.00, \"currency\": \"BRL\", \"idempotencyKey\": \"$PREFIX-{}\"}"
+
+echo "4. ⏳ Aguardando validações, notificações e auditoria..."
+EXPECTED=$((TRANSFERS * 3))
+DEADLINE=$(( $(date +%s) + TIMEOUT ))
+while [ $(( $(count_rows) - ROWS_BEFORE )) -lt "$EXPECTED" ] && [ "$(date +%s)" -lt "$DEADLINE" ]; do
+    sleep 1
+done
+END=$(date +%s.%N)
+
+ROWS=$(( $(count_rows) - ROWS_BEFORE ))
+ELAPSED=$(echo "$END - $START" | bc)
+THROUGHPUT=$(echo "scale=1; $ROWS / $ELAPSED" | bc)
+
+printf "%-10s %-12s %-12s\n" "linhas" "tempo (s)" "linhas/s"
+printf "%-10s %-12s %-12s\n" "$ROWS" "$ELAPSED" "$THROUGHPUT"
+
+STATS_AFTER=$(insert_stats)
+if [ -n "$STATS_BEFORE" ] && [ -n "$STATS_AFTER" ]; then
+    read -r CALLS_BEFORE INSERTED_BEFORE <<< "$STATS_BEFORE"
+    read -r CALLS_AFTER INSERTED_AFTER <<< "$STATS_AFTER"
+    CALLS=$((CALLS_AFTER - CALLS_BEFORE))
+    INSERTED=$((INSERTED_AFTER - INSERTED_BEFORE))
+    if [ "$INSERTED" -gt 0 ]; then
+        echo "   INSERTs por linha: $(echo "scale=3; $CALLS / $INSERTED" | bc) ($CALLS comandos, $INSERTED linhas)"
+    fi
+else
+    echo "   ℹ️  pg_stat_statements indisponível, sem contagem de comandos"
+fi
+
+echo "✅ Benchmark concluído"
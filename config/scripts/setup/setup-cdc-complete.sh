@@ -8,10 +8,14 @@ docker exec banking-postgres psql -U postgres -d banking_demo -c "
 DO \$\$
 BEGIN
     IF NOT EXISTS (SELECT 1 FROM pg_publication WHERE pubname = 'dbz_publication') THEN
-        CREATE PUBLICATION dbz_publication FOR TABLE public.accounts, public.transfers;
+        CREATE PUBLICATION dbz_publication FOR TABLE public.accounts, public.account_balance_slots, public.transfers;
         RAISE NOTICE 'Publication dbz_publication created successfully';
     ELSE
         RAISE NOTICE 'Publication dbz_publication already exists';
+        IF NOT EXISTS (SELECT 1 FROM pg_publication_tables
+                       WHERE pubname = 'dbz_publication' AND tablename = 'account_balance_slots') THEN
+            ALTER PUBLICATION dbz_publication ADD TABLE public.account_balance_slots;
+        END IF;
     END IF;
 END \$\$;
 "
@@ -39,7 +43,8 @@ curl -X POST http://localhost:8083/connectors -H "Content-Type: application/json
         "database.password": "postgres",
         "database.dbname": "banking_demo",
         "topic.prefix": "banking",
-        "table.include.list": "public.accounts,public.transfers",
+        "table.include.list": "public.accounts,public.account_balance_slots,public.transfers",
+        "decimal.handling.mode": "string",
         "plugin.name": "pgoutput",
         "publication.name": "dbz_publication",
         "slot.name": "dbz_slot",
@@ -51,7 +56,11 @@ curl -X POST http://localhost:8083/connectors -H "Content-Type: application/json
         "transforms": "unwrap",
         "transforms.unwrap.type": "io.debezium.transforms.ExtractNewRecordState",
         "transforms.unwrap.drop.tombstones": "false",
-        "transforms.unwrap.delete.handling.mode": "rewrite"
+        "transforms.unwrap.delete.handling.mode": "rewrite",
+        "transforms.unwrap.add.fields": "source.ts_ms",
+        "topic.creation.default.replication.factor": "1",
+        "topic.creation.default.partitions": "1",
+        "topic.creation.default.cleanup.policy": "compact"
     }
 }'
 
@@ -18,6 +18,13 @@ public interface NotificationPersistencePort {
      */
     NotificationDomain save(NotificationDomain notification);
 
+    /**
+     * Saves notifications in one transaction, letting the inserts be batched
+     * @param notifications the notifications to save
+     * @return the saved notifications
+     */
+    List<NotificationDomain> saveAll(List<NotificationDomain> notifications);
+
     /**
      * Finds a notification by ID
      * @param id the notification ID
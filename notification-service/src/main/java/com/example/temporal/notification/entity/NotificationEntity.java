@@ -1,5 +1,6 @@
 package com.example.temporal.notification.entity;
 
+import com.example.temporal.common.model.IdAllocation;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.experimental.Accessors;
@@ -16,7 +17,9 @@ import java.time.LocalDateTime;
 public class NotificationEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_seq")
+    @SequenceGenerator(name = "notifications_seq", sequenceName = "notifications_seq",
+            allocationSize = IdAllocation.ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "event_type", nullable = false)
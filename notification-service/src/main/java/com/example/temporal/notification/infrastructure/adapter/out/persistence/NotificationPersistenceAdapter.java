@@ -6,6 +6,7 @@ import com.example.temporal.notification.entity.NotificationEntity;
 import com.example.temporal.notification.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +30,18 @@ public class NotificationPersistenceAdapter implements NotificationPersistencePo
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    @Transactional
+    public List<NotificationDomain> saveAll(final List<NotificationDomain> domains) {
+        final List<NotificationEntity> entities = domains.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList());
+        return repository.saveAll(entities)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<NotificationDomain> findById(final Long id) {
         return repository.findById(id).map(mapper::toDomain);
@@ -0,0 +1,24 @@
+-- Notification service schema. Tables use IF NOT EXISTS so databases created by
+-- hibernate ddl-auto are baselined in place; the indexes are the new part.
+
+CREATE TABLE IF NOT EXISTS notifications (
+    id                  BIGSERIAL PRIMARY KEY,
+    transfer_id         VARCHAR(255) NOT NULL,
+    account_number      VARCHAR(255),
+    event_type          VARCHAR(255) NOT NULL,
+    recipient           VARCHAR(255) NOT NULL,
+    message             TEXT         NOT NULL,
+    notification_status VARCHAR(255) NOT NULL,
+    idempotency_key     VARCHAR(100) UNIQUE,
+    created_at          TIMESTAMP(6),
+    sent_at             TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_transfer_id
+    ON notifications (transfer_id);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_account_number
+    ON notifications (account_number, created_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_status
+    ON notifications (notification_status, created_at);
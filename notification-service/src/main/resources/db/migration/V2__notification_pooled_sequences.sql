@@ -0,0 +1,11 @@
+-- Moves the notification service ids from identity columns to pooled-lo sequences so
+-- Hibernate can reserve ids in blocks and batch inserts. INCREMENT BY must
+-- match IdAllocation.ALLOCATION_SIZE; the column default keeps ad-hoc inserts
+-- working (each one simply consumes a whole block).
+
+CREATE SEQUENCE IF NOT EXISTS notifications_seq INCREMENT BY 50;
+SELECT setval('notifications_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM notifications), false);
+ALTER TABLE notifications ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE notifications ALTER COLUMN id SET DEFAULT nextval('notifications_seq');
+ALTER SEQUENCE notifications_seq OWNED BY notifications.id;
+DROP SEQUENCE IF EXISTS notifications_id_seq;
@@ -0,0 +1,40 @@
+package com.example.temporal.notification.repository;
+
+import com.example.temporal.common.schema.QueryPlanTestSupport;
+import com.example.temporal.notification.entity.NotificationEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+@DisplayName("Notification repository query plans")
+class NotificationQueryPlanTest extends QueryPlanTestSupport {
+
+    @Configuration
+    @EntityScan(basePackages = "com.example.temporal.notification.entity")
+    @EnableJpaRepositories(basePackages = "com.example.temporal.notification.repository")
+    static class JpaConfig {
+    }
+
+    @Autowired private NotificationRepository notificationRepository;
+
+    @Test
+    @DisplayName("Should use indexes for transfer, account, status and idempotency lookups")
+    void shouldUseNotificationIndexes() {
+        assertUsesIndex("idx_notifications_transfer_id", () -> notificationRepository.findByTransferId("1"));
+        assertUsesIndex("idx_notifications_account_number",
+                () -> notificationRepository.findByAccountNumber("ACC001"));
+        assertUsesIndex("idx_notifications_status",
+                () -> notificationRepository.findByNotificationStatus(NotificationEntity.NotificationStatus.PENDING));
+        assertUsesIndex("notifications_idempotency_key_key",
+                () -> notificationRepository.findByIdempotencyKey("key"));
+    }
+
+    @Test
+    @DisplayName("Should capture the plan of the event type lookup")
+    void shouldCaptureEventTypePlan() {
+        explain(() -> notificationRepository.findByEventType("TRANSFER_COMPLETED"));
+    }
+}
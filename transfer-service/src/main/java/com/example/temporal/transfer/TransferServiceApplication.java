@@ -5,10 +5,13 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableFeignClients
-@EntityScan(basePackages = {"com.example.temporal.common.model", "com.example.temporal.transfer.model"})
+@EnableScheduling
+@EntityScan(basePackages = {"com.example.temporal.common.model", "com.example.temporal.transfer.model",
+        "com.example.temporal.transfer.entity"})
 @EnableJpaRepositories(basePackages = {"com.example.temporal.transfer.repository"})
 public class TransferServiceApplication {
     public static void main(String[] args) {
@@ -0,0 +1,30 @@
+package com.example.temporal.transfer.activity;
+
+import io.temporal.activity.Activity;
+import io.temporal.activity.ActivityInfo;
+
+/**
+ * Idempotency keys for the calls an activity makes to other services.
+ * <p>
+ * The key is built from the workflow run and the activity ID, which Temporal
+ * keeps across retries of the same activity, so every attempt sends the same
+ * key and the callee can answer a retry with the outcome of an earlier attempt.
+ * A new run of the workflow (a reset, for instance) gets new keys.
+ * </p>
+ */
+public final class ActivityIdempotencyKeys {
+
+    private ActivityIdempotencyKeys() {
+    }
+
+    /**
+     * Builds the key of an operation for the activity running on this thread
+     * @param operation short name of the operation, so two calls from the same activity differ
+     * @return the key, at most 80 characters long
+     * @throws IllegalStateException if called outside an activity
+     */
+    public static String forCurrentActivity(final String operation) {
+        final ActivityInfo info = Activity.getExecutionContext().getInfo();
+        return operation + ":" + info.getRunId() + ":" + info.getActivityId();
+    }
+}
@@ -5,8 +5,9 @@ import com.example.temporal.common.exception.ValidationException;
 import com.example.temporal.common.model.TransferStatus;
 import com.example.temporal.common.workflow.MoneyTransferActivities;
 import com.example.temporal.transfer.client.AccountServiceClient;
-import com.example.temporal.transfer.client.ValidationServiceClient;
+import com.example.temporal.transfer.domain.model.TransferDomain;
 import com.example.temporal.transfer.domain.port.out.TransferPersistencePort;
+import com.example.temporal.transfer.domain.port.out.ValidationPort;
 import com.example.temporal.transfer.infrastructure.adapter.out.http.LockAccountsRequest;
 import com.example.temporal.transfer.infrastructure.adapter.out.http.OperationRequest;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +24,7 @@ import java.math.BigDecimal;
 public class MoneyTransferActivitiesImpl implements MoneyTransferActivities {
 
     private final AccountServiceClient accountServiceClient;
-    private final ValidationServiceClient validationServiceClient;
+    private final ValidationPort validationPort;
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final TransferPersistencePort transferPersistencePort;
 
@@ -32,6 +33,7 @@ public class MoneyTransferActivitiesImpl implements MoneyTransferActivities {
     private static final String TRANSFER_INITIATED_EVENT = "TRANSFER_INITIATED:%d";
     private static final String TRANSFER_COMPLETED_EVENT = "TRANSFER_COMPLETED:%d";
     private static final String TRANSFER_FAILED_EVENT = "TRANSFER_FAILED:%d:%s";
+    private static final String VALIDATE_OPERATION = "validate";
     
     // Mensagens de erro
     private static final String VALIDATION_FAILED_MSG = "Validation failed: %s";
@@ -44,44 +46,27 @@ public class MoneyTransferActivitiesImpl implements MoneyTransferActivities {
             throw new IllegalArgumentException("Transfer request cannot be null");
         }
         log.info("Validating transfer request: {}", request);
-        try {
-            validationServiceClient.validateTransfer(request);
-            log.info("Transfer validation successful for request: {}", request);
-        } catch (Exception e) {
-            log.warn("Transfer validation failed for request: {} - Error: {}", request, e.getMessage());
-            
-            // Distinguir entre erros temporários e permanentes
-            if (isTemporaryError(e)) {
-                log.info("Temporary error detected, will retry: {}", e.getMessage());
-                throw e; // Permite retry
-            } else if (isValidationError(e)) {
-                log.error("Business validation error, will not retry: {}", e.getMessage());
-                throw new ValidationException(String.format(VALIDATION_FAILED_MSG, e.getMessage()), e);
-            } else {
-                log.warn("Unknown error, will retry: {}", e.getMessage());
-                throw e; // Por segurança, permite retry para erros desconhecidos
-            }
+
+        // Rejections come back as results; exceptions are failures worth retrying, and the
+        // retries share one key so a decision already made is returned instead of redone
+        final ValidationPort.ValidationDecision decision = validationPort.validateTransfer(
+                toDomain(request), ActivityIdempotencyKeys.forCurrentActivity(VALIDATE_OPERATION));
+        if (!decision.approved()) {
+            log.error("Business validation error, will not retry: {}", decision.rejectionReason());
+            throw new ValidationException(String.format(VALIDATION_FAILED_MSG, decision.rejectionReason()));
         }
+        log.info("Transfer validation successful for request: {}", request);
     }
-    
-    private boolean isTemporaryError(final Exception e) {
-        String message = e.getMessage().toLowerCase();
-        return message.contains("connection refused") ||
-               message.contains("timeout") ||
-               message.contains("connection reset") ||
-               message.contains("network") ||
-               message.contains("unavailable") ||
-               e instanceof java.net.ConnectException ||
-               e instanceof java.net.SocketTimeoutException;
-    }
-    
-    private boolean isValidationError(final Exception e) {
-        String message = e.getMessage().toLowerCase();
-        return message.contains("insufficient funds") ||
-               message.contains("invalid account") ||
-               message.contains("account not found") ||
-               message.contains("invalid amount") ||
-               message.contains("validation failed");
+
+    private TransferDomain toDomain(final TransferRequest request) {
+        return TransferDomain.builder()
+                .id(request.getTransferId())
+                .sourceAccountNumber(request.getSourceAccountNumber())
+                .destinationAccountNumber(request.getDestinationAccountNumber())
+                .amount(request.getAmount())
+                .currency(request.getCurrency())
+                .idempotencyKey(request.getIdempotencyKey())
+                .build();
     }
 
     @Override
@@ -260,4 +245,21 @@ public class MoneyTransferActivitiesImpl implements MoneyTransferActivities {
             throw new RuntimeException(UPDATE_STATUS_FAILED_MSG, e);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public void updateTransferStatusAndNotify(final Long transferId, final TransferStatus status, final String reason) {
+        if (transferId == null) {
+            throw new IllegalArgumentException("Transfer ID cannot be null");
+        }
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+        log.info("Updating transfer {} status to {} with outbox event", transferId, status);
+        try {
+            transferPersistencePort.updateTransferStatusWithEvent(transferId, status, reason);
+        } catch (Exception e) {
+            log.error("Error updating transfer status with event: {}", e.getMessage(), e);
+            throw new RuntimeException(UPDATE_STATUS_FAILED_MSG, e);
+        }
+    }
+}
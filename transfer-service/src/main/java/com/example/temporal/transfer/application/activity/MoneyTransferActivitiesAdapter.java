@@ -4,6 +4,7 @@ import com.example.temporal.common.dto.TransferRequest;
 import com.example.temporal.common.exception.ValidationException;
 import com.example.temporal.common.model.TransferStatus;
 import com.example.temporal.common.workflow.MoneyTransferActivities;
+import com.example.temporal.transfer.activity.ActivityIdempotencyKeys;
 import com.example.temporal.transfer.domain.model.TransferDomain;
 import com.example.temporal.transfer.domain.port.out.*;
 import lombok.RequiredArgsConstructor;
@@ -38,8 +39,12 @@ public class MoneyTransferActivitiesAdapter implements MoneyTransferActivities {
             // Convert DTO to domain for validation
             TransferDomain transfer = toDomain(request);
 
-            // Use domain port for validation
-            validationPort.validateTransfer(transfer);
+            // Use domain port for validation; a rejection is not retried
+            ValidationPort.ValidationDecision decision = validationPort.validateTransfer(
+                    transfer, ActivityIdempotencyKeys.forCurrentActivity("validate"));
+            if (!decision.approved()) {
+                throw new ValidationException("Validation failed: " + decision.rejectionReason());
+            }
 
             log.info("Transfer validation successful for request: {}", request);
 
@@ -219,4 +224,23 @@ public class MoneyTransferActivitiesAdapter implements MoneyTransferActivities {
                 .idempotencyKey(request.getIdempotencyKey())
                 .build();
     }
+
+    @Override
+    public void updateTransferStatusAndNotify(final Long transferId, final TransferStatus status, final String reason) {
+        if (transferId == null) {
+            throw new IllegalArgumentException("Transfer ID cannot be null");
+        }
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+
+        log.info("Updating transfer {} status to {} with outbox event", transferId, status);
+
+        try {
+            persistencePort.updateTransferStatusWithEvent(transferId, status, reason);
+        } catch (Exception e) {
+            log.error("Error updating transfer status with event: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to update transfer status", e);
+        }
+    }
 }
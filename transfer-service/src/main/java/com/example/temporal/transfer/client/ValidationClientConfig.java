@@ -0,0 +1,51 @@
+package com.example.temporal.transfer.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Response;
+import feign.Util;
+import feign.codec.ErrorDecoder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+
+/**
+ * Feign configuration of the validation client only (deliberately not a
+ * {@code @Configuration}, so it does not replace the shared error decoder).
+ * A 400 carrying a validation body is a rejection and becomes a
+ * {@link ValidationRejectedException}; anything else keeps the default handling.
+ */
+public class ValidationClientConfig {
+
+    @Bean
+    public ErrorDecoder validationErrorDecoder(final ObjectMapper objectMapper) {
+        return new ValidationErrorDecoder(objectMapper);
+    }
+
+    public static class ValidationErrorDecoder implements ErrorDecoder {
+
+        private final ObjectMapper objectMapper;
+        private final ErrorDecoder defaultErrorDecoder = new Default();
+
+        public ValidationErrorDecoder(final ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public Exception decode(final String methodKey, final Response response) {
+            if (response.status() == HttpStatus.BAD_REQUEST.value() && response.body() != null) {
+                try {
+                    final byte[] body = Util.toByteArray(response.body().asInputStream());
+                    final ValidationResponse validation = objectMapper.readValue(body, ValidationResponse.class);
+                    if (Boolean.FALSE.equals(validation.approved())) {
+                        return new ValidationRejectedException(validation);
+                    }
+                    return defaultErrorDecoder.decode(methodKey, response.toBuilder().body(body).build());
+                } catch (final IOException e) {
+                    return defaultErrorDecoder.decode(methodKey, response);
+                }
+            }
+            return defaultErrorDecoder.decode(methodKey, response);
+        }
+    }
+}
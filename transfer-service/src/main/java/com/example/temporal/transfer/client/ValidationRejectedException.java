@@ -0,0 +1,18 @@
+package com.example.temporal.transfer.client;
+
+import lombok.Getter;
+
+/**
+ * Raised by the validation client when validation-service answers with a
+ * rejection; carries the decoded body so callers can return it as a result
+ */
+@Getter
+public class ValidationRejectedException extends RuntimeException {
+
+    private final transient ValidationResponse response;
+
+    public ValidationRejectedException(final ValidationResponse response) {
+        super("Validation rejected: " + response.rejectionReason());
+        this.response = response;
+    }
+}
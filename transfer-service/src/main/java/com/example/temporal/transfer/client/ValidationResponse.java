@@ -0,0 +1,12 @@
+package com.example.temporal.transfer.client;
+
+/**
+ * Body returned by validation-service for a transfer validation, on approval (200)
+ * and on rejection (400)
+ */
+public record ValidationResponse(
+        Long validationId,
+        Boolean approved,
+        String rejectionReason,
+        Integer fraudScore
+) {}
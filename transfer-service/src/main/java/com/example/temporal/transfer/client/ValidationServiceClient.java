@@ -4,10 +4,16 @@ import com.example.temporal.common.dto.TransferRequest;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
-@FeignClient(name = "validation-service", url = "${service.validation.url}")
+@FeignClient(name = "validation-service", url = "${service.validation.url}",
+        configuration = ValidationClientConfig.class)
 public interface ValidationServiceClient {
 
+    /**
+     * @throws ValidationRejectedException if the transfer was rejected
+     */
     @PostMapping("/api/validations")
-    void validateTransfer(@RequestBody TransferRequest request);
-}
\ No newline at end of file
+    ValidationResponse validateTransfer(@RequestBody TransferRequest request,
+                                        @RequestHeader(value = "X-Idempotency-Key", required = false) String idempotencyKey);
+}
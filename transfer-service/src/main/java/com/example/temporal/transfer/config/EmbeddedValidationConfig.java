@@ -0,0 +1,20 @@
+package com.example.temporal.transfer.config;
+
+import com.example.temporal.validation.config.ValidationCoreConfiguration;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Runs the validation domain inside transfer-service when the
+ * {@value #PROFILE} profile is active: transfers are validated in process,
+ * against the same database and with the limit, fraud rule and account
+ * activity caches kept in this JVM, instead of calling validation-service.
+ */
+@Configuration
+@Profile(EmbeddedValidationConfig.PROFILE)
+@Import(ValidationCoreConfiguration.class)
+public class EmbeddedValidationConfig {
+
+    public static final String PROFILE = "embedded-validation";
+}
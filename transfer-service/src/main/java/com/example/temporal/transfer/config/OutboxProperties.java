@@ -0,0 +1,36 @@
+package com.example.temporal.transfer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuração do relay do outbox transacional
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "transfer.outbox")
+public class OutboxProperties {
+
+    /**
+     * Habilita o relay que publica o outbox no Kafka
+     */
+    private boolean relayEnabled = true;
+
+    /**
+     * Número máximo de eventos publicados por batch
+     */
+    private int batchSize = 200;
+
+    /**
+     * Tempo máximo de espera pela confirmação de um batch no Kafka
+     */
+    private Duration publishTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Tempo de retenção de eventos já publicados
+     */
+    private Duration retention = Duration.ofDays(7);
+}
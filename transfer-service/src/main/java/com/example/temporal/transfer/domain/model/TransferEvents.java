@@ -0,0 +1,37 @@
+package com.example.temporal.transfer.domain.model;
+
+import com.example.temporal.common.model.TransferStatus;
+
+import java.util.Optional;
+
+/**
+ * Payloads of the transfer-events topic, as consumed by notification-service
+ */
+public final class TransferEvents {
+
+    public static final String TOPIC = "transfer-events";
+
+    private static final String TRANSFER_INITIATED_EVENT = "TRANSFER_INITIATED:%d";
+    private static final String TRANSFER_COMPLETED_EVENT = "TRANSFER_COMPLETED:%d";
+    private static final String TRANSFER_FAILED_EVENT = "TRANSFER_FAILED:%d:%s";
+
+    private TransferEvents() {
+    }
+
+    /**
+     * Event emitted when a transfer reaches the given status, if any.
+     *
+     * @param transferId the transfer ID
+     * @param status the new status
+     * @param reason the failure reason (used for FAILED and COMPENSATED)
+     * @return the event payload, empty for statuses without notification
+     */
+    public static Optional<String> forStatus(final Long transferId, final TransferStatus status, final String reason) {
+        return switch (status) {
+            case INITIATED -> Optional.of(String.format(TRANSFER_INITIATED_EVENT, transferId));
+            case COMPLETED -> Optional.of(String.format(TRANSFER_COMPLETED_EVENT, transferId));
+            case FAILED, COMPENSATED -> Optional.of(String.format(TRANSFER_FAILED_EVENT, transferId, reason));
+            default -> Optional.empty();
+        };
+    }
+}
@@ -56,4 +56,10 @@ public interface TransferPersistencePort {
      * Update transfer status with failure reason by ID
      */
     void updateTransferStatusWithReason(Long transferId, TransferStatus status, String reason);
+
+    /**
+     * Update transfer status (and failure reason, if not null) and append the
+     * matching transfer event to the outbox, in a single transaction
+     */
+    void updateTransferStatusWithEvent(Long transferId, TransferStatus status, String reason);
 }
@@ -1,17 +1,37 @@
 package com.example.temporal.transfer.domain.port.out;
 
-import com.example.temporal.common.exception.ValidationException;
 import com.example.temporal.transfer.domain.model.TransferDomain;
 
 /**
  * Output port (driven port) for transfer validation
- * Defines contract for validating transfers with external validation service
+ * Implemented over HTTP by default, or in process when validation is embedded
  */
 public interface ValidationPort {
 
     /**
      * Validate a transfer request
-     * @throws ValidationException if validation fails
+     * @param idempotencyKey key shared by every attempt of the same validation, so a retry
+     *                       gets the decision already made; null to always validate again
+     * @return the decision; a rejection is a result, not an error
+     * @throws RuntimeException if no decision could be obtained (worth retrying)
      */
-    void validateTransfer(TransferDomain transfer) throws ValidationException;
+    ValidationDecision validateTransfer(TransferDomain transfer, String idempotencyKey);
+
+    /**
+     * Outcome of a transfer validation
+     */
+    record ValidationDecision(
+            boolean approved,
+            Long validationId,
+            String rejectionReason,
+            Integer fraudScore
+    ) {
+        public static ValidationDecision approved(Long validationId, Integer fraudScore) {
+            return new ValidationDecision(true, validationId, null, fraudScore);
+        }
+
+        public static ValidationDecision rejected(Long validationId, String reason) {
+            return new ValidationDecision(false, validationId, reason, null);
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package com.example.temporal.transfer.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity for the transactional outbox.
+ * Rows are written in the same transaction as the transfer status change
+ * and drained to Kafka by the outbox relay in id order. Ids are drawn one at
+ * a time rather than in pooled blocks, which would interleave ranges across
+ * instances and let a later event of a transfer sort before an earlier one.
+ */
+@Data
+@Entity
+@Accessors(chain = true)
+@Table(name = "outbox_events")
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq",
+            allocationSize = 1)
+    private Long id;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private String aggregateId;
+
+    @Column(nullable = false)
+    private String topic;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
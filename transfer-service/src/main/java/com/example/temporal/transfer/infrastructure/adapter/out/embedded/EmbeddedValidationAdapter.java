@@ -0,0 +1,50 @@
+package com.example.temporal.transfer.infrastructure.adapter.out.embedded;
+
+import com.example.temporal.transfer.config.EmbeddedValidationConfig;
+import com.example.temporal.transfer.domain.model.TransferDomain;
+import com.example.temporal.transfer.domain.port.out.ValidationPort;
+import com.example.temporal.validation.domain.port.in.ValidateTransferUseCase;
+import com.example.temporal.validation.domain.port.in.ValidateTransferUseCase.ValidateTransferCommand;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process adapter for transfer validation
+ * Calls the validation use case directly: no HTTP hop, no JSON, and the
+ * decision comes back as a typed result. When no decision could be made the
+ * use case throws {@code ValidationUnavailableException}, which is left to
+ * escape so the activity is retried.
+ */
+@Slf4j
+@Component
+@Profile(EmbeddedValidationConfig.PROFILE)
+@RequiredArgsConstructor
+public class EmbeddedValidationAdapter implements ValidationPort {
+
+    private final ValidateTransferUseCase validateTransferUseCase;
+
+    @Override
+    public ValidationDecision validateTransfer(TransferDomain transfer, String idempotencyKey) {
+        log.debug("Validating transfer in process: {}", transfer.getId());
+
+        ValidateTransferCommand command;
+        try {
+            command = ValidateTransferCommand.of(
+                    transfer.getSourceAccountNumber(),
+                    transfer.getDestinationAccountNumber(),
+                    transfer.getAmount(),
+                    transfer.getCurrency(),
+                    idempotencyKey
+            );
+        } catch (IllegalArgumentException e) {
+            return ValidationDecision.rejected(null, e.getMessage());
+        }
+
+        var result = validateTransferUseCase.validateTransfer(command);
+        return result.approved()
+                ? ValidationDecision.approved(result.validationId(), result.fraudScore())
+                : ValidationDecision.rejected(result.validationId(), result.rejectionReason());
+    }
+}
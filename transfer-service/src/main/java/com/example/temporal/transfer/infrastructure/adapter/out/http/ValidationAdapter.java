@@ -1,63 +1,47 @@
 package com.example.temporal.transfer.infrastructure.adapter.out.http;
 
 import com.example.temporal.common.dto.TransferRequest;
-import com.example.temporal.common.exception.ValidationException;
+import com.example.temporal.transfer.client.ValidationRejectedException;
+import com.example.temporal.transfer.client.ValidationResponse;
 import com.example.temporal.transfer.client.ValidationServiceClient;
+import com.example.temporal.transfer.config.EmbeddedValidationConfig;
 import com.example.temporal.transfer.domain.model.TransferDomain;
 import com.example.temporal.transfer.domain.port.out.ValidationPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 /**
  * Adapter for validation service operations
- * Implements domain port using Feign client
+ * Implements domain port using Feign client; replaced by the in-process
+ * adapter when validation is embedded
  */
 @Slf4j
 @Component
+@Profile("!" + EmbeddedValidationConfig.PROFILE)
 @RequiredArgsConstructor
 public class ValidationAdapter implements ValidationPort {
 
     private final ValidationServiceClient validationServiceClient;
 
     @Override
-    public void validateTransfer(TransferDomain transfer) {
+    public ValidationDecision validateTransfer(TransferDomain transfer, String idempotencyKey) {
         log.debug("Validating transfer: {}", transfer.getId());
 
         try {
-            // Convert domain to DTO for validation service
-            TransferRequest request = toTransferRequest(transfer);
-
-            // Call validation service
-            validationServiceClient.validateTransfer(request);
-
+            ValidationResponse response = validationServiceClient.validateTransfer(
+                    toTransferRequest(transfer), idempotencyKey);
             log.debug("Transfer validation successful for ID: {}", transfer.getId());
+            return ValidationDecision.approved(response.validationId(), response.fraudScore());
 
-        } catch (Exception e) {
-            log.warn("Transfer validation failed for ID: {} - Error: {}", transfer.getId(), e.getMessage());
-
-            // Wrap in domain exception
-            if (isBusinessValidationError(e)) {
-                throw new ValidationException("Validation failed: " + e.getMessage(), e);
-            } else {
-                // Temporary error - let it propagate for retry
-                throw e;
-            }
+        } catch (ValidationRejectedException e) {
+            log.warn("Transfer validation rejected for ID: {} - Reason: {}",
+                    transfer.getId(), e.getResponse().rejectionReason());
+            return ValidationDecision.rejected(e.getResponse().validationId(), e.getResponse().rejectionReason());
         }
     }
 
-    /**
-     * Check if error is a business validation error (should not retry)
-     */
-    private boolean isBusinessValidationError(Exception e) {
-        String message = e.getMessage().toLowerCase();
-        return message.contains("insufficient funds") ||
-               message.contains("invalid account") ||
-               message.contains("account not found") ||
-               message.contains("invalid amount") ||
-               message.contains("validation failed");
-    }
-
     /**
      * Convert domain model to DTO for validation service
      */
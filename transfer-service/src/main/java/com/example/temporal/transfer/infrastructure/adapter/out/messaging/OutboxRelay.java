@@ -0,0 +1,103 @@
+package com.example.temporal.transfer.infrastructure.adapter.out.messaging;
+
+import com.example.temporal.transfer.config.OutboxProperties;
+import com.example.temporal.transfer.entity.OutboxEventEntity;
+import com.example.temporal.transfer.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains the transactional outbox to Kafka.
+ * <p>
+ * Each batch is read in id order under a transaction-scoped advisory lock, so
+ * only one relay publishes at a time and the events of a transfer keep the
+ * order they were written in (they are written under the transfer row lock
+ * and take ids one at a time from the outbox sequence).
+ * Events are keyed by transfer ID and marked published only after every send
+ * in the batch is acknowledged; a failed batch is retried on the next poll
+ * (at-least-once delivery).
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "transfer.outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final long RELAY_LOCK_KEY = 0x7472616e73666572L;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+
+    @Scheduled(fixedDelayString = "${transfer.outbox.poll-interval-ms:200}")
+    public void relay() {
+        try {
+            int published;
+            do {
+                published = transactionTemplate.execute(status -> publishBatch());
+            } while (published == properties.getBatchSize());
+        } catch (final Exception e) {
+            log.warn("Outbox relay failed, will retry on next poll: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${transfer.outbox.cleanup-interval-ms:3600000}")
+    public void cleanup() {
+        final LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        final Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(cutoff));
+        log.debug("Removed {} published outbox events", deleted);
+    }
+
+    private int publishBatch() {
+        if (!outboxEventRepository.tryRelayLock(RELAY_LOCK_KEY)) {
+            return 0;
+        }
+
+        final List<OutboxEventEntity> batch = outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(
+                PageRequest.of(0, properties.getBatchSize()));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        final CompletableFuture<?>[] sends = new CompletableFuture<?>[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            final OutboxEventEntity event = batch.get(i);
+            sends[i] = kafkaTemplate.send(event.getTopic(), event.getAggregateId(), event.getPayload());
+        }
+        awaitAcks(sends);
+
+        outboxEventRepository.markPublished(
+                batch.stream().map(OutboxEventEntity::getId).toList(),
+                LocalDateTime.now());
+
+        log.debug("Relayed {} outbox events", batch.size());
+        return batch.size();
+    }
+
+    private void awaitAcks(final CompletableFuture<?>[] sends) {
+        try {
+            CompletableFuture.allOf(sends).get(properties.getPublishTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while relaying outbox events", e);
+        } catch (final ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to relay outbox events: " + e.getMessage(), e);
+        }
+    }
+}
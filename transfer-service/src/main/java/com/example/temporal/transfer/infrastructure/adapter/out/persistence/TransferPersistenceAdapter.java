@@ -3,7 +3,10 @@ package com.example.temporal.transfer.infrastructure.adapter.out.persistence;
 import com.example.temporal.common.model.Transfer;
 import com.example.temporal.common.model.TransferStatus;
 import com.example.temporal.transfer.domain.model.TransferDomain;
+import com.example.temporal.transfer.domain.model.TransferEvents;
 import com.example.temporal.transfer.domain.port.out.TransferPersistencePort;
+import com.example.temporal.transfer.entity.OutboxEventEntity;
+import com.example.temporal.transfer.repository.OutboxEventRepository;
 import com.example.temporal.transfer.repository.TransferRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +28,7 @@ public class TransferPersistenceAdapter implements TransferPersistencePort {
 
     private final TransferRepository repository;
     private final TransferMapper mapper;
+    private final OutboxEventRepository outboxEventRepository;
 
     @Override
     public TransferDomain save(final TransferDomain domain) {
@@ -111,4 +115,31 @@ public class TransferPersistenceAdapter implements TransferPersistencePort {
         entity.setFailureReason(reason);
         repository.save(entity);
     }
+
+    @Override
+    @Transactional
+    public void updateTransferStatusWithEvent(
+            final Long transferId,
+            final TransferStatus status,
+            final String reason) {
+        log.debug("Updating transfer {} status to {} with outbox event", transferId, status);
+        final Transfer entity = repository.findByIdForUpdate(transferId)
+                .orElseThrow(() -> new IllegalArgumentException("Transfer not found: " + transferId));
+        if (entity.getStatus() == status) {
+            // A retried activity whose first attempt committed: its event is already in the outbox
+            log.debug("Transfer {} already {}, skipping outbox event", transferId, status);
+            return;
+        }
+        entity.setStatus(status);
+        if (reason != null) {
+            entity.setFailureReason(reason);
+        }
+        repository.save(entity);
+
+        TransferEvents.forStatus(transferId, status, reason).ifPresent(payload ->
+                outboxEventRepository.save(new OutboxEventEntity()
+                        .setAggregateId(String.valueOf(transferId))
+                        .setTopic(TransferEvents.TOPIC)
+                        .setPayload(payload)));
+    }
 }
@@ -0,0 +1,35 @@
+package com.example.temporal.transfer.repository;
+
+import com.example.temporal.transfer.entity.OutboxEventEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * Oldest unpublished events, in insertion order
+     */
+    List<OutboxEventEntity> findByPublishedAtIsNullOrderByIdAsc(Pageable pageable);
+
+    /**
+     * Transaction-scoped advisory lock so that a single relay drains the outbox at a time
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryRelayLock(@Param("key") long key);
+
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEventEntity e WHERE e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
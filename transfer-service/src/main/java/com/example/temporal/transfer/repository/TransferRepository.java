@@ -2,7 +2,9 @@ package com.example.temporal.transfer.repository;
 
 import com.example.temporal.common.model.Transfer;
 import com.example.temporal.common.model.TransferStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -23,6 +25,13 @@ public interface TransferRepository extends JpaRepository<Transfer, Long> {
     
     Optional<Transfer> findByIdAndStatus(Long id, TransferStatus status);
 
+    /**
+     * Find transfer by id with pessimistic lock (serializes concurrent status updates)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Transfer t WHERE t.id = :id")
+    Optional<Transfer> findByIdForUpdate(@Param("id") Long id);
+
     /**
      * Find transfer by idempotency key (for idempotent operations)
      */
@@ -28,6 +28,7 @@ public class MoneyTransferWorkflowImpl implements MoneyTransferWorkflow {
 
     // ========== Configuration Constants ==========
     private static final Duration DEFAULT_STEP_DELAY = Duration.ofSeconds(20);
+    private static final String OUTBOX_CHANGE_ID = "transactional-outbox";
 
     // ========== Workflow State ==========
     private TransferResponse currentResponse;
@@ -330,8 +331,12 @@ public class MoneyTransferWorkflowImpl implements MoneyTransferWorkflow {
     private void initializeTransfer(final Long transferId) {
         currentResponse.setStatus(TransferStatus.INITIATED);
         searchAttributesManager.updateStatusAttribute(TransferStatus.INITIATED);
-        persistenceActivities.updateTransferStatus(transferId, TransferStatus.INITIATED);
-        notificationActivities.notifyTransferInitiated(transferId);
+        if (usesOutbox()) {
+            persistenceActivities.updateTransferStatusAndNotify(transferId, TransferStatus.INITIATED, null);
+        } else {
+            persistenceActivities.updateTransferStatus(transferId, TransferStatus.INITIATED);
+            notificationActivities.notifyTransferInitiated(transferId);
+        }
     }
 
     /**
@@ -433,10 +438,15 @@ public class MoneyTransferWorkflowImpl implements MoneyTransferWorkflow {
         saga.compensate();
 
         currentResponse.setStatus(TransferStatus.COMPENSATED);
-        persistenceActivities.updateTransferStatusWithReason(
-                transferId, TransferStatus.COMPENSATED, e.getMessage());
+        if (usesOutbox()) {
+            persistenceActivities.updateTransferStatusAndNotify(
+                    transferId, TransferStatus.COMPENSATED, e.getMessage());
+        } else {
+            persistenceActivities.updateTransferStatusWithReason(
+                    transferId, TransferStatus.COMPENSATED, e.getMessage());
 
-        notificationActivities.notifyTransferFailed(transferId, e.getMessage());
+            notificationActivities.notifyTransferFailed(transferId, e.getMessage());
+        }
 
         Workflow.getLogger(MoneyTransferWorkflowImpl.class)
                 .info("Compensation completed for transfer ID: {}", transferId);
@@ -448,8 +458,12 @@ public class MoneyTransferWorkflowImpl implements MoneyTransferWorkflow {
     private void completeTransfer(final Long transferId) {
         currentResponse.setStatus(TransferStatus.COMPLETED);
         searchAttributesManager.updateStatusAttribute(TransferStatus.COMPLETED);
-        persistenceActivities.updateTransferStatus(transferId, TransferStatus.COMPLETED);
-        notificationActivities.notifyTransferCompleted(transferId);
+        if (usesOutbox()) {
+            persistenceActivities.updateTransferStatusAndNotify(transferId, TransferStatus.COMPLETED, null);
+        } else {
+            persistenceActivities.updateTransferStatus(transferId, TransferStatus.COMPLETED);
+            notificationActivities.notifyTransferCompleted(transferId);
+        }
     }
 
     // ========== Failure Handling ==========
@@ -460,8 +474,21 @@ public class MoneyTransferWorkflowImpl implements MoneyTransferWorkflow {
     private void handleTransferFailure(final Long transferId, final ActivityFailure e) {
         currentResponse.setStatus(TransferStatus.FAILED);
         final String truncatedError = truncateErrorMessage(e.getMessage());
-        persistenceActivities.updateTransferStatusWithReason(transferId, TransferStatus.FAILED, truncatedError);
-        notificationActivities.notifyTransferFailed(transferId, truncatedError);
+        if (usesOutbox()) {
+            persistenceActivities.updateTransferStatusAndNotify(transferId, TransferStatus.FAILED, truncatedError);
+        } else {
+            persistenceActivities.updateTransferStatusWithReason(transferId, TransferStatus.FAILED, truncatedError);
+            notificationActivities.notifyTransferFailed(transferId, truncatedError);
+        }
+    }
+
+    /**
+     * Whether status changes and their notifications go through the transactional outbox
+     * (one activity) rather than two separate activities. Versioned so that workflows
+     * started before the change replay deterministically.
+     */
+    private boolean usesOutbox() {
+        return Workflow.getVersion(OUTBOX_CHANGE_ID, Workflow.DEFAULT_VERSION, 1) == 1;
     }
 
     /**
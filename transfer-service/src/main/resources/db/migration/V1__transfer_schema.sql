@@ -0,0 +1,44 @@
+-- Transfer service schema. Tables use IF NOT EXISTS so databases created by
+-- hibernate ddl-auto are baselined in place; the indexes are the new part.
+
+CREATE TABLE IF NOT EXISTS transfers (
+    id                         BIGSERIAL PRIMARY KEY,
+    source_account_number      VARCHAR(255)   NOT NULL,
+    destination_account_number VARCHAR(255)   NOT NULL,
+    amount                     NUMERIC(38, 2) NOT NULL,
+    currency                   VARCHAR(255)   NOT NULL,
+    status                     VARCHAR(255)   NOT NULL,
+    failure_reason             VARCHAR(255),
+    idempotency_key            VARCHAR(200)   UNIQUE,
+    created_at                 TIMESTAMP(6)   NOT NULL,
+    updated_at                 TIMESTAMP(6)   NOT NULL
+);
+
+-- findByAccountNumber: source = ? OR destination = ? becomes a BitmapOr of both
+CREATE INDEX IF NOT EXISTS idx_transfers_source_account
+    ON transfers (source_account_number, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_transfers_destination_account
+    ON transfers (destination_account_number, created_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_transfers_status
+    ON transfers (status);
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id           BIGSERIAL PRIMARY KEY,
+    aggregate_id VARCHAR(255) NOT NULL,
+    topic        VARCHAR(255) NOT NULL,
+    payload      TEXT         NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    published_at TIMESTAMP(6)
+);
+
+-- The relay only ever reads unpublished events, in id order
+DROP INDEX IF EXISTS idx_outbox_events_unpublished;
+CREATE INDEX idx_outbox_events_unpublished
+    ON outbox_events (id)
+    WHERE published_at IS NULL;
+
+-- Cleanup of published events by age
+CREATE INDEX IF NOT EXISTS idx_outbox_events_published_at
+    ON outbox_events (published_at)
+    WHERE published_at IS NOT NULL;
@@ -0,0 +1,18 @@
+-- Moves the transfer service ids from identity columns to pooled-lo sequences so
+-- Hibernate can reserve ids in blocks and batch inserts. INCREMENT BY must
+-- match IdAllocation.ALLOCATION_SIZE; the column default keeps ad-hoc inserts
+-- working (each one simply consumes a whole block).
+
+CREATE SEQUENCE IF NOT EXISTS transfers_seq INCREMENT BY 50;
+SELECT setval('transfers_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM transfers), false);
+ALTER TABLE transfers ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE transfers ALTER COLUMN id SET DEFAULT nextval('transfers_seq');
+ALTER SEQUENCE transfers_seq OWNED BY transfers.id;
+DROP SEQUENCE IF EXISTS transfers_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS outbox_events_seq INCREMENT BY 50;
+SELECT setval('outbox_events_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM outbox_events), false);
+ALTER TABLE outbox_events ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE outbox_events ALTER COLUMN id SET DEFAULT nextval('outbox_events_seq');
+ALTER SEQUENCE outbox_events_seq OWNED BY outbox_events.id;
+DROP SEQUENCE IF EXISTS outbox_events_id_seq;
@@ -0,0 +1,7 @@
+-- The relay publishes the outbox in id order. Pooled-lo blocks hand each
+-- instance its own range of ids, so a later event written by one instance can
+-- get a lower id than an earlier one written by another. Back to one id per
+-- nextval: the events of a transfer are written under its row lock, so their
+-- ids follow their order again.
+
+ALTER SEQUENCE outbox_events_seq INCREMENT BY 1;
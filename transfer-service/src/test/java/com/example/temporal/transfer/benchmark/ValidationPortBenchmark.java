@@ -0,0 +1,281 @@
+package com.example.temporal.transfer.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.temporal.common.dto.TransferRequest;
+import com.example.temporal.transfer.client.ValidationClientConfig;
+import com.example.temporal.transfer.client.ValidationResponse;
+import com.example.temporal.transfer.client.ValidationServiceClient;
+import com.example.temporal.transfer.domain.model.TransferDomain;
+import com.example.temporal.transfer.domain.port.out.ValidationPort;
+import com.example.temporal.transfer.domain.port.out.ValidationPort.ValidationDecision;
+import com.example.temporal.transfer.infrastructure.adapter.out.embedded.EmbeddedValidationAdapter;
+import com.example.temporal.transfer.infrastructure.adapter.out.http.ValidationAdapter;
+import com.example.temporal.validation.config.ValidationActivityProperties;
+import com.example.temporal.validation.config.ValidationBatchProperties;
+import com.example.temporal.validation.config.ValidationDuplicateProperties;
+import com.example.temporal.validation.domain.model.TransferValidationDomain;
+import com.example.temporal.validation.domain.port.in.ValidateTransferUseCase.ValidateTransferCommand;
+import com.example.temporal.validation.domain.port.out.AccountServicePort;
+import com.example.temporal.validation.domain.port.out.AccountServicePort.AccountInfo;
+import com.example.temporal.validation.domain.port.out.DuplicateTransferPort;
+import com.example.temporal.validation.domain.port.out.FraudRulePort;
+import com.example.temporal.validation.domain.port.out.TransferLimitPort;
+import com.example.temporal.validation.domain.port.out.ValidationPersistencePort;
+import com.example.temporal.validation.domain.port.out.ValidationRecordPort;
+import com.example.temporal.validation.domain.port.out.ValidationResultCachePort;
+import com.example.temporal.validation.domain.service.AccountActivityService;
+import com.example.temporal.validation.domain.service.AccountFeatureService;
+import com.example.temporal.validation.domain.service.FraudRuleEngine;
+import com.example.temporal.validation.domain.service.TransferLimitCache;
+import com.example.temporal.validation.domain.service.ValidationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * One transfer validation through the in-process adapter versus the Feign
+ * adapter calling validation-service over loopback HTTP. Both sides run the
+ * same {@link ValidationService} on in-memory ports, so the difference is the
+ * HTTP hop, the two JSON conversions and the Feign plumbing; a real deployment
+ * adds the network latency between the services on top of the remote figure.
+ * <p>
+ * Run with {@code mvn -pl transfer-service test-compile} and then
+ * {@code java -cp <test classpath> com.example.temporal.transfer.benchmark.ValidationPortBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationPortBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ValidationService validationService;
+    private HttpServer server;
+    private ValidationPort embedded;
+    private ValidationPort remote;
+    private TransferDomain transfer;
+
+    @Setup
+    public void setUp() throws IOException {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        final ValidationPersistencePort persistence = emptyPort(ValidationPersistencePort.class);
+        final AccountActivityService activity = new AccountActivityService(persistence, new ValidationActivityProperties());
+        final AccountFeatureService features = new AccountFeatureService(persistence);
+        final FraudRuleEngine fraudRules = new FraudRuleEngine(new InMemoryFraudRules(), activity, features);
+        fraudRules.refresh();
+        final TransferLimitCache limits = new TransferLimitCache(new InMemoryLimits());
+        limits.refresh();
+        validationService = new ValidationService(persistence, new InMemoryRecords(), emptyPort(ValidationResultCachePort.class),
+                new InMemoryAccounts(), emptyPort(DuplicateTransferPort.class), limits, fraudRules, activity, features, new ValidationBatchProperties(),
+                new ValidationDuplicateProperties());
+
+        // Without TCP_NODELAY the JDK server's small responses wait on delayed ACKs
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/api/validations", this::handleValidation);
+        server.start();
+
+        embedded = new EmbeddedValidationAdapter(validationService);
+        remote = new ValidationAdapter(feignClient("http://127.0.0.1:" + server.getAddress().getPort()));
+        transfer = TransferDomain.builder()
+                .id(1L)
+                .sourceAccountNumber("123456")
+                .destinationAccountNumber("789012")
+                .amount(new BigDecimal("100.00"))
+                .currency("BRL")
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+        validationService.shutdown();
+    }
+
+    @Benchmark
+    public ValidationDecision embedded() {
+        return embedded.validateTransfer(transfer, null);
+    }
+
+    @Benchmark
+    public ValidationDecision remote() {
+        return remote.validateTransfer(transfer, null);
+    }
+
+    /**
+     * Stands in for validation-service's REST controller
+     */
+    private void handleValidation(final HttpExchange exchange) throws IOException {
+        final TransferRequest request = objectMapper.readValue(
+                exchange.getRequestBody().readAllBytes(), TransferRequest.class);
+        final var result = validationService.validateTransfer(ValidateTransferCommand.of(
+                request.getSourceAccountNumber(), request.getDestinationAccountNumber(),
+                request.getAmount(), request.getCurrency(), null));
+        final byte[] body = objectMapper.writeValueAsBytes(new ValidationResponse(
+                result.validationId(), result.approved(), result.rejectionReason(), result.fraudScore()));
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(result.approved() ? 200 : 400, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private ValidationServiceClient feignClient(final String url) {
+        final ObjectFactory<HttpMessageConverters> converters =
+                () -> new HttpMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper));
+        return Feign.builder()
+                .contract(new SpringMvcContract())
+                .encoder(new SpringEncoder(converters))
+                .decoder(new ResponseEntityDecoder(new SpringDecoder(converters)))
+                .errorDecoder(new ValidationClientConfig.ValidationErrorDecoder(objectMapper))
+                .target(ValidationServiceClient.class, url);
+    }
+
+    /**
+     * A port whose queries find nothing
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T emptyPort(final Class<T> port) {
+        return (T) Proxy.newProxyInstance(port.getClassLoader(), new Class<?>[]{port}, (proxy, method, args) -> {
+            final Class<?> type = method.getReturnType();
+            if (type == Optional.class) {
+                return Optional.empty();
+            }
+            if (type == List.class) {
+                return List.of();
+            }
+            if (type == boolean.class) {
+                return false;
+            }
+            return type == int.class ? 0 : null;
+        });
+    }
+
+    private static final class InMemoryRecords implements ValidationRecordPort {
+
+        private final AtomicLong ids = new AtomicLong();
+
+        @Override
+        public Recorded record(final TransferValidationDomain validation) {
+            return new Recorded(validation.withId(ids.incrementAndGet()), true);
+        }
+
+        @Override
+        public Optional<TransferValidationDomain> findPending(final String idempotencyKey) {
+            return Optional.empty();
+        }
+    }
+
+    private static final class InMemoryAccounts implements AccountServicePort {
+
+        private final Map<String, AccountInfo> accounts = Map.of(
+                "123456", new AccountInfo("123456", "Owner", new BigDecimal("1000000000.00"), "BRL", "STANDARD", true),
+                "789012", new AccountInfo("789012", "Owner", new BigDecimal("500.00"), "BRL", "STANDARD", true));
+
+        @Override
+        public Optional<AccountInfo> getAccount(final String accountNumber) {
+            return Optional.ofNullable(accounts.get(accountNumber));
+        }
+
+        @Override
+        public Map<String, AccountInfo> getAccounts(final Collection<String> accountNumbers) {
+            return accountNumbers.stream()
+                    .filter(accounts::containsKey)
+                    .distinct()
+                    .collect(Collectors.toMap(number -> number, accounts::get));
+        }
+
+        @Override
+        public boolean accountExists(final String accountNumber) {
+            return accounts.containsKey(accountNumber);
+        }
+
+        @Override
+        public Optional<BigDecimal> getBalance(final String accountNumber) {
+            return getAccount(accountNumber).map(AccountInfo::balance);
+        }
+
+        @Override
+        public Optional<String> getCurrency(final String accountNumber) {
+            return getAccount(accountNumber).map(AccountInfo::currency);
+        }
+    }
+
+    private static final class InMemoryFraudRules implements FraudRulePort {
+
+        @Override
+        public List<FraudRuleInfo> getActiveRules() {
+            return List.of(
+                    new FraudRuleInfo(1L, "large", "AMOUNT_THRESHOLD", new BigDecimal("10000.00"), 60, true, null),
+                    new FraudRuleInfo(2L, "very-large", "AMOUNT_THRESHOLD", new BigDecimal("50000.00"), 60, true, null));
+        }
+
+        @Override
+        public Optional<String> getRulesVersion() {
+            return Optional.of("1");
+        }
+    }
+
+    private static final class InMemoryLimits implements TransferLimitPort {
+
+        @Override
+        public List<TransferLimitInfo> getAllLimits() {
+            return List.of();
+        }
+
+        @Override
+        public Optional<String> getLimitsVersion() {
+            return Optional.of("1");
+        }
+    }
+
+    public static void main(final String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ValidationPortBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.temporal.transfer.repository;
+
+import com.example.temporal.common.model.TransferStatus;
+import com.example.temporal.common.schema.QueryPlanTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.LocalDateTime;
+
+@DisplayName("Transfer repository query plans")
+class TransferQueryPlanTest extends QueryPlanTestSupport {
+
+    @Configuration
+    @EntityScan(basePackages = {"com.example.temporal.common.model", "com.example.temporal.transfer.entity"})
+    @EnableJpaRepositories(basePackages = "com.example.temporal.transfer.repository")
+    static class JpaConfig {
+    }
+
+    @Autowired private TransferRepository transferRepository;
+    @Autowired private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    @DisplayName("Should combine the source and destination indexes for account history")
+    void shouldUseAccountIndexesForOrQuery() {
+        assertUsesIndex("idx_transfers_source_account", () -> transferRepository.findByAccountNumber("ACC001"));
+        assertUsesIndex("idx_transfers_destination_account", () -> transferRepository.findByAccountNumber("ACC001"));
+        assertUsesIndex("idx_transfers_destination_account",
+                () -> transferRepository.findBySourceAccountNumberOrDestinationAccountNumber("ACC001", "ACC001"));
+    }
+
+    @Test
+    @DisplayName("Should use indexes for status and idempotency lookups")
+    void shouldUseStatusAndIdempotencyIndexes() {
+        assertUsesIndex("idx_transfers_status", () -> transferRepository.findByStatus(TransferStatus.PROCESSING));
+        assertUsesIndex("transfers_idempotency_key_key", () -> transferRepository.findByIdempotencyKey("key"));
+        assertUsesIndex("transfers_idempotency_key_key", () -> transferRepository.existsByIdempotencyKey("key"));
+        assertUsesIndex("transfers_pkey", () -> transferRepository.findByIdAndStatus(1L, TransferStatus.PROCESSING));
+        assertUsesIndex("transfers_pkey", () -> transferRepository.findByIdForUpdate(1L));
+    }
+
+    @Test
+    @DisplayName("Should drain and clean up the outbox through partial indexes")
+    void shouldUseOutboxPartialIndexes() {
+        assertUsesIndex("idx_outbox_events_unpublished",
+                () -> outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(PageRequest.of(0, 200)));
+        assertUsesIndex("idx_outbox_events_published_at",
+                () -> outboxEventRepository.deletePublishedBefore(LocalDateTime.now()));
+    }
+}
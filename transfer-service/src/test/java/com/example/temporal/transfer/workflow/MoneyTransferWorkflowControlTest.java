@@ -221,5 +221,10 @@ public class MoneyTransferWorkflowControlTest {
         public void updateTransferStatusWithReason(Long transferId, com.example.temporal.common.model.TransferStatus status, String reason) {
             // Implementação vazia para teste
         }
+
+        @Override
+        public void updateTransferStatusAndNotify(Long transferId, com.example.temporal.common.model.TransferStatus status, String reason) {
+            // Implementação vazia para teste
+        }
     }
 }
\ No newline at end of file
@@ -94,6 +94,11 @@ public class MoneyTransferWorkflowTest {
         public void updateTransferStatusWithReason(Long transferId, TransferStatus status, String reason) {
             delegate.updateTransferStatusWithReason(transferId, status, reason);
         }
+
+        @Override
+        public void updateTransferStatusAndNotify(Long transferId, TransferStatus status, String reason) {
+            delegate.updateTransferStatusAndNotify(transferId, status, reason);
+        }
     }
 
 @Test
@@ -120,12 +125,12 @@ public class MoneyTransferWorkflowTest {
 
         // Verify activity executions in correct order
         var inOrder = Mockito.inOrder(activities);
-        inOrder.verify(activities).notifyTransferInitiated(any());
+        inOrder.verify(activities).updateTransferStatusAndNotify(any(), eq(TransferStatus.INITIATED), isNull());
         inOrder.verify(activities).validateTransfer(request);
         inOrder.verify(activities).lockAccounts(request.getSourceAccountNumber(), request.getDestinationAccountNumber());
         inOrder.verify(activities).debitAccount(request.getSourceAccountNumber(), request.getAmount());
         inOrder.verify(activities).creditAccount(request.getDestinationAccountNumber(), request.getAmount());
-        inOrder.verify(activities).notifyTransferCompleted(any());
+        inOrder.verify(activities).updateTransferStatusAndNotify(any(), eq(TransferStatus.COMPLETED), isNull());
         inOrder.verifyNoMoreInteractions();
     }
 
@@ -153,9 +158,9 @@ public class MoneyTransferWorkflowTest {
 
         // Verify activity executions in correct order
         var inOrder = Mockito.inOrder(activities);
-        inOrder.verify(activities).notifyTransferInitiated(any());
+        inOrder.verify(activities).updateTransferStatusAndNotify(any(), eq(TransferStatus.INITIATED), isNull());
         inOrder.verify(activities, atLeastOnce()).validateTransfer(request);
-        inOrder.verify(activities).notifyTransferFailed(any(), anyString());
+        inOrder.verify(activities).updateTransferStatusAndNotify(any(), eq(TransferStatus.FAILED), anyString());
         inOrder.verifyNoMoreInteractions();
 
         // Verify that account activities were never called
@@ -188,15 +193,15 @@ public class MoneyTransferWorkflowTest {
 
         // Verify activity executions in correct order
         var inOrder = Mockito.inOrder(activities);
-        inOrder.verify(activities).notifyTransferInitiated(any());
+        inOrder.verify(activities).updateTransferStatusAndNotify(any(), eq(TransferStatus.INITIATED), isNull());
         inOrder.verify(activities).validateTransfer(request);
         inOrder.verify(activities).lockAccounts(request.getSourceAccountNumber(), request.getDestinationAccountNumber());
         inOrder.verify(activities).debitAccount(request.getSourceAccountNumber(), request.getAmount());
         inOrder.verify(activities, atLeastOnce()).creditAccount(request.getDestinationAccountNumber(), request.getAmount());
         inOrder.verify(activities).compensateDebit(request.getSourceAccountNumber(), request.getAmount());
         inOrder.verify(activities).unlockAccounts(request.getSourceAccountNumber(), request.getDestinationAccountNumber());
-        inOrder.verify(activities).updateTransferStatusWithReason(any(), eq(TransferStatus.FAILED), anyString());
-        inOrder.verify(activities).notifyTransferFailed(any(), anyString());
+        inOrder.verify(activities).updateTransferStatusAndNotify(any(), eq(TransferStatus.COMPENSATED), anyString());
+        inOrder.verify(activities).updateTransferStatusAndNotify(any(), eq(TransferStatus.FAILED), anyString());
         inOrder.verifyNoMoreInteractions();
     }
 
@@ -223,7 +228,7 @@ public class MoneyTransferWorkflowTest {
         }
 
         // Verify basic flow happened (validateTransfer retries up to 20 times)
-        verify(activities).notifyTransferInitiated(any());
+        verify(activities).updateTransferStatusAndNotify(any(), eq(TransferStatus.INITIATED), isNull());
         verify(activities, atLeastOnce()).validateTransfer(request);
 
         // Verify what should NOT happen after validation failure
@@ -231,6 +236,10 @@ public class MoneyTransferWorkflowTest {
         verify(activities, never()).debitAccount(anyString(), any());
         verify(activities, never()).creditAccount(anyString(), any());
         verify(activities, never()).compensateDebit(anyString(), any());
+
+        // Notifications go through the outbox, never as separate activities
+        verify(activities, never()).notifyTransferInitiated(any());
+        verify(activities, never()).notifyTransferFailed(any(), anyString());
     }
 
     @Test
@@ -259,14 +268,15 @@ public class MoneyTransferWorkflowTest {
         }
 
         // Verify that the flow progressed to credit before cancellation
-        verify(activities).notifyTransferInitiated(any());
+        verify(activities).updateTransferStatusAndNotify(any(), eq(TransferStatus.INITIATED), isNull());
         verify(activities).validateTransfer(request);
         verify(activities).lockAccounts(request.getSourceAccountNumber(), request.getDestinationAccountNumber());
         verify(activities).debitAccount(request.getSourceAccountNumber(), request.getAmount());
         verify(activities, atLeastOnce()).creditAccount(request.getDestinationAccountNumber(), request.getAmount());
         
-        // IMPORTANT: No updateTransferStatusWithReason should be called for cancellation
+        // IMPORTANT: No status update should be recorded for cancellation
         verify(activities, never()).updateTransferStatusWithReason(any(), eq(TransferStatus.CANCELLED), anyString());
+        verify(activities, never()).updateTransferStatusAndNotify(any(), eq(TransferStatus.CANCELLED), any());
         
         // Note: Saga compensation and cancellation notifications may not be visible in test
         // environment due to asynchronous signal processing
@@ -0,0 +1,163 @@
+package com.example.temporal.transfer.workflow;
+
+import com.example.temporal.common.dto.TransferRequest;
+import com.example.temporal.common.exception.ValidationUnavailableException;
+import com.example.temporal.common.workflow.MoneyTransferActivities;
+import com.example.temporal.transfer.activity.MoneyTransferActivitiesImpl;
+import com.example.temporal.transfer.client.AccountServiceClient;
+import com.example.temporal.transfer.domain.port.out.TransferPersistencePort;
+import com.example.temporal.transfer.infrastructure.adapter.out.embedded.EmbeddedValidationAdapter;
+import com.example.temporal.validation.config.ValidationActivityProperties;
+import com.example.temporal.validation.config.ValidationBatchProperties;
+import com.example.temporal.validation.config.ValidationDuplicateProperties;
+import com.example.temporal.validation.domain.model.TransferValidationDomain;
+import com.example.temporal.validation.domain.port.out.AccountServicePort;
+import com.example.temporal.validation.domain.port.out.DuplicateTransferPort;
+import com.example.temporal.validation.domain.port.out.FraudRulePort;
+import com.example.temporal.validation.domain.port.out.TransferLimitPort;
+import com.example.temporal.validation.domain.port.out.ValidationPersistencePort;
+import com.example.temporal.validation.domain.port.out.ValidationRecordPort;
+import com.example.temporal.validation.domain.port.out.ValidationResultCachePort;
+import com.example.temporal.validation.domain.service.AccountActivityService;
+import com.example.temporal.validation.domain.service.AccountFeatureService;
+import com.example.temporal.validation.domain.service.FraudRuleEngine;
+import com.example.temporal.validation.domain.service.TransferLimitCache;
+import com.example.temporal.validation.domain.service.ValidationService;
+import io.temporal.testing.TestWorkflowEnvironment;
+import io.temporal.testing.TestWorkflowExtension;
+import io.temporal.worker.Worker;
+import io.temporal.workflow.Workflow;
+import io.temporal.workflow.WorkflowInterface;
+import io.temporal.workflow.WorkflowMethod;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the validation activity, with validation embedded, under the validation retry options
+ */
+@DisplayName("Validation activity retry")
+public class ValidationActivityRetryTest {
+
+    @RegisterExtension
+    public static final TestWorkflowExtension testWorkflow = TestWorkflowExtension.newBuilder()
+            .setWorkflowTypes(ValidateOnlyWorkflowImpl.class)
+            .setDoNotStart(true)
+            .build();
+
+    @WorkflowInterface
+    public interface ValidateOnlyWorkflow {
+        @WorkflowMethod
+        void validate(TransferRequest request);
+    }
+
+    public static class ValidateOnlyWorkflowImpl implements ValidateOnlyWorkflow {
+        private final MoneyTransferActivities activities = Workflow.newActivityStub(
+                MoneyTransferActivities.class, ActivityConfiguration.createValidationOptions());
+
+        @Override
+        public void validate(TransferRequest request) {
+            activities.validateTransfer(request);
+        }
+    }
+
+    private final AccountServicePort accountServicePort = mock(AccountServicePort.class);
+    private final ValidationRecordPort validationRecordPort = mock(ValidationRecordPort.class);
+    private final ValidationResultCachePort validationResultCachePort = mock(ValidationResultCachePort.class);
+    private ValidationService validationService;
+
+    @SuppressWarnings("unchecked")
+    private void setUp(TestWorkflowEnvironment testEnv, Worker worker) {
+        ValidationPersistencePort persistence = mock(ValidationPersistencePort.class);
+        AccountActivityService activity = new AccountActivityService(persistence, new ValidationActivityProperties());
+        AccountFeatureService features = new AccountFeatureService(persistence);
+        FraudRuleEngine fraudRules = new FraudRuleEngine(mock(FraudRulePort.class), activity, features);
+        fraudRules.refresh();
+        TransferLimitCache limits = new TransferLimitCache(mock(TransferLimitPort.class));
+        limits.refresh();
+        validationService = new ValidationService(persistence, validationRecordPort, validationResultCachePort,
+                accountServicePort, mock(DuplicateTransferPort.class), limits, fraudRules, activity, features,
+                new ValidationBatchProperties(), new ValidationDuplicateProperties());
+
+        worker.registerActivitiesImplementations(new MoneyTransferActivitiesImpl(mock(AccountServiceClient.class),
+                new EmbeddedValidationAdapter(validationService), mock(KafkaTemplate.class),
+                mock(TransferPersistencePort.class)));
+        testEnv.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (validationService != null) {
+            validationService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should retry the validation when the account lookup fails instead of rejecting the transfer")
+    public void shouldRetryFailedLookup(TestWorkflowEnvironment testEnv, Worker worker, ValidateOnlyWorkflow workflow) {
+        setUp(testEnv, worker);
+        when(accountServicePort.getAccounts(any()))
+                .thenThrow(new ValidationUnavailableException("Account lookup failed: timed out"))
+                .thenReturn(Map.of(
+                        "123456", account("123456", "1000.00"),
+                        "789012", account("789012", "500.00")));
+        when(validationRecordPort.record(any())).thenAnswer(invocation -> new ValidationRecordPort.Recorded(
+                invocation.<TransferValidationDomain>getArgument(0).withId(1L), true));
+
+        workflow.validate(request());
+
+        verify(accountServicePort, times(2)).getAccounts(List.of("123456", "789012"));
+        verify(validationRecordPort).record(argThat(TransferValidationDomain::isApproved));
+    }
+
+    @Test
+    @DisplayName("Should send the key of a failed attempt again and record the decision of the retry under it")
+    public void shouldRetryUnderSameKey(TestWorkflowEnvironment testEnv, Worker worker, ValidateOnlyWorkflow workflow) {
+        setUp(testEnv, worker);
+        when(accountServicePort.getAccounts(any()))
+                .thenThrow(new ValidationUnavailableException("Account lookup failed: timed out"))
+                .thenReturn(Map.of(
+                        "123456", account("123456", "1000.00"),
+                        "789012", account("789012", "500.00")));
+        when(validationRecordPort.record(any())).thenAnswer(invocation -> new ValidationRecordPort.Recorded(
+                invocation.<TransferValidationDomain>getArgument(0).withId(1L), true));
+
+        workflow.validate(request());
+
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        verify(validationResultCachePort, times(2)).get(keys.capture());
+        String key = keys.getAllValues().get(0);
+        assertTrue(key.startsWith("validate:"));
+        assertEquals(key, keys.getAllValues().get(1));
+        // The failed attempt left nothing behind for the retry to find
+        verify(validationRecordPort).record(argThat(validation ->
+                key.equals(validation.getIdempotencyKey()) && validation.isApproved()));
+        verify(validationResultCachePort).put(argThat(validation -> key.equals(validation.getIdempotencyKey())));
+    }
+
+    private static TransferRequest request() {
+        TransferRequest request = new TransferRequest();
+        request.setTransferId(1L);
+        request.setSourceAccountNumber("123456");
+        request.setDestinationAccountNumber("789012");
+        request.setAmount(new BigDecimal("100.00"));
+        request.setCurrency("BRL");
+        return request;
+    }
+
+    private static AccountServicePort.AccountInfo account(String accountNumber, String balance) {
+        return new AccountServicePort.AccountInfo(accountNumber, "Owner", new BigDecimal(balance), "BRL",
+                "STANDARD", true);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.temporal.validation.client;
+
+import java.util.List;
+
+/**
+ * Body of the account-service batch lookup
+ */
+public record AccountBatchRequest(List<String> accountNumbers) {
+}
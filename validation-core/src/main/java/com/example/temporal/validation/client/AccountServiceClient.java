@@ -4,14 +4,17 @@ import com.example.temporal.common.model.Account;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
-import java.util.Optional;
+import java.util.List;
 
 /**
  * Feign client for account service with error handling
  */
 @FeignClient(
-    name = "account-service", 
+    name = "account-service",
+    contextId = "validationAccountService",
     url = "${service.account.url:http://localhost:8081}",
     fallback = AccountServiceClientFallback.class
 )
@@ -19,4 +22,7 @@ public interface AccountServiceClient {
 
     @GetMapping("/api/accounts/{accountNumber}")
     Account getAccount(@PathVariable final String accountNumber);
+
+    @PostMapping("/api/accounts/batch")
+    List<Account> getAccounts(@RequestBody final AccountBatchRequest request);
 }
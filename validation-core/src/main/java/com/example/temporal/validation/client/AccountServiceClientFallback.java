@@ -4,9 +4,12 @@ import com.example.temporal.common.model.Account;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Fallback implementation for AccountServiceClient
- * Returns null when account service is unavailable
+ * Returns null for single lookups; batch lookups fail so callers can tell an
+ * unavailable account service from accounts that do not exist
  */
 @Slf4j
 @Component
@@ -17,4 +20,10 @@ public class AccountServiceClientFallback implements AccountServiceClient {
         log.error("Account service unavailable, returning null for account: {}", accountNumber);
         return null;
     }
+
+    @Override
+    public List<Account> getAccounts(AccountBatchRequest request) {
+        log.error("Account service unavailable, failing lookup of: {}", request.accountNumbers());
+        throw new IllegalStateException("Account service unavailable");
+    }
 }
@@ -0,0 +1,36 @@
+package com.example.temporal.validation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuração das consultas de conta ao account-service
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "service.account.lookup")
+public class AccountLookupProperties {
+
+    /**
+     * Agrupa consultas concorrentes de validações diferentes em uma única chamada batch
+     */
+    private boolean batchingEnabled = true;
+
+    /**
+     * Número máximo de contas por chamada batch
+     */
+    private int maxBatchSize = 100;
+
+    /**
+     * Tempo máximo que a primeira consulta espera por outras antes do envio do batch
+     */
+    private Duration maxWait = Duration.ofMillis(2);
+
+    /**
+     * Tempo máximo de espera pela resposta de uma consulta
+     */
+    private Duration timeout = Duration.ofSeconds(3);
+}
@@ -0,0 +1,48 @@
+package com.example.temporal.validation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuração da réplica local de contas alimentada pelo CDC do account-service
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "service.account.replica")
+public class AccountReplicaProperties {
+
+    /**
+     * Consome os tópicos de CDC e responde consultas de conta localmente
+     */
+    private boolean enabled = false;
+
+    /**
+     * Tópico Debezium da tabela accounts (formato desembrulhado, sem schema)
+     */
+    private String accountsTopic = "banking.public.accounts";
+
+    /**
+     * Tópico Debezium da tabela account_balance_slots, somada ao saldo das contas particionadas
+     */
+    private String slotsTopic = "banking.public.account_balance_slots";
+
+    /**
+     * Tópico de heartbeat do Debezium ({@code heartbeat.interval.ms} do conector, menor que max-lag);
+     * sem heartbeats, uma réplica ociosa não tem como saber se o conector segue publicando e
+     * só fica em dia enquanto aplica mudanças recentes
+     */
+    private String heartbeatTopic = "__debezium-heartbeat.banking";
+
+    /**
+     * Atraso máximo da réplica para responder sem consultar o account-service
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * Atraso máximo da réplica para responder quando o account-service está indisponível
+     */
+    private Duration outageMaxLag = Duration.ofMinutes(10);
+}
@@ -0,0 +1,33 @@
+package com.example.temporal.validation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuração das janelas de atividade usadas pelos limites diário/mensal e pela regra FREQUENCY
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "validation.activity")
+public class ValidationActivityProperties {
+
+    /**
+     * Alimenta as janelas pelo tópico CDC de transferências, para que todas as instâncias
+     * vejam as mesmas transferências; desligado, cada instância conta só o que aprovou
+     */
+    private boolean cdcEnabled = false;
+
+    /**
+     * Tópico Debezium da tabela transfers (formato desembrulhado, sem schema); a retenção
+     * precisa cobrir a janela mais longa, pois as janelas são reconstruídas a partir dele
+     */
+    private String transfersTopic = "banking.public.transfers";
+
+    /**
+     * Tempo em que uma aprovação reserva o valor enquanto a transferência não chega pelo CDC
+     */
+    private Duration reservationHold = Duration.ofMinutes(5);
+}
@@ -0,0 +1,19 @@
+package com.example.temporal.validation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuração da validação em lote de arquivos de transferências
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "validation.batch")
+public class ValidationBatchProperties {
+
+    /**
+     * Linhas por bloco: contas buscadas, validadas e gravadas juntas
+     */
+    private int chunkSize = 200;
+}
@@ -0,0 +1,23 @@
+package com.example.temporal.validation.config;
+
+import com.example.temporal.validation.client.AccountServiceClient;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Wires the validation domain, its caches and its driven adapters into a
+ * Spring Boot application: validation-service itself, or transfer-service
+ * when it validates in process. The host application must enable scheduling
+ * and point at the database holding the validation tables; the schema is
+ * migrated by validation-service.
+ */
+@Configuration
+@ComponentScan(basePackages = "com.example.temporal.validation")
+@EntityScan(basePackages = "com.example.temporal.validation.entity")
+@EnableJpaRepositories(basePackages = "com.example.temporal.validation.repository")
+@EnableFeignClients(clients = AccountServiceClient.class)
+public class ValidationCoreConfiguration {
+}
@@ -0,0 +1,47 @@
+package com.example.temporal.validation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuração da detecção de transferências duplicadas (mesma origem, destino, valor e moeda)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "validation.duplicates")
+public class ValidationDuplicateProperties {
+
+    /**
+     * Habilita a detecção de transferências suspeitas de duplicidade
+     */
+    private boolean enabled = true;
+
+    /**
+     * Pontos somados ao score de fraude de uma suspeita de duplicidade; sozinha não rejeita,
+     * pois o filtro admite falsos positivos, mas rejeita somada a outros sinais (limite 75)
+     */
+    private int score = 50;
+
+    /**
+     * Janela em que uma transferência idêntica é considerada duplicada
+     */
+    private Duration window = Duration.ofSeconds(30);
+
+    /**
+     * Fatias em que a janela é dividida; mais fatias expiram entradas com mais precisão
+     */
+    private int slices = 3;
+
+    /**
+     * Transferências aprovadas esperadas por janela; dimensiona os filtros
+     */
+    private long expectedPerWindow = 100_000;
+
+    /**
+     * Taxa de falsos positivos aceita com a carga esperada
+     */
+    private double falsePositiveRate = 0.0001;
+}
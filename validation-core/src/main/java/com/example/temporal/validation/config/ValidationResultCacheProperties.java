@@ -0,0 +1,31 @@
+package com.example.temporal.validation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuração do cache de decisões de validação por chave de idempotência
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "validation.result-cache")
+public class ValidationResultCacheProperties {
+
+    /**
+     * Habilita o cache de decisões; desabilitado, retentativas consultam o banco
+     */
+    private boolean enabled = true;
+
+    /**
+     * Número máximo de decisões mantidas em memória
+     */
+    private long maximumSize = 50_000;
+
+    /**
+     * Tempo de vida de uma decisão; deve cobrir a janela de retentativas da activity
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
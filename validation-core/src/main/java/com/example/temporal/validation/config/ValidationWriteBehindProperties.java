@@ -0,0 +1,46 @@
+package com.example.temporal.validation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuração da gravação assíncrona (write-behind) dos registros de validação
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "validation.write-behind")
+public class ValidationWriteBehindProperties {
+
+    /**
+     * Registros que podem aguardar gravação; com a fila cheia as validações esperam por vaga
+     */
+    private int capacity = 10_000;
+
+    /**
+     * Máximo de registros gravados em um único INSERT em lote
+     */
+    private int batchSize = 200;
+
+    /**
+     * Espera máxima por novos registros antes de verificar a fila de novo
+     */
+    private Duration flushInterval = Duration.ofMillis(50);
+
+    /**
+     * Quanto uma validação espera por vaga na fila cheia antes de descartar o registro
+     */
+    private Duration offerTimeout = Duration.ofMillis(20);
+
+    /**
+     * Tentativas de gravar um lote antes de descartá-lo
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * Pausa entre tentativas de gravar um lote que falhou
+     */
+    private Duration retryBackoff = Duration.ofSeconds(1);
+}
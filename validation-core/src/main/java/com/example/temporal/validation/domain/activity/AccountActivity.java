@@ -0,0 +1,139 @@
+package com.example.temporal.validation.domain.activity;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * Rolling activity of one account at three resolutions: minutes for short
+ * frequency windows, hours for the daily limit and days for the monthly one.
+ * Amounts are kept in cents. A query reads the finest ring that covers the
+ * window, so it costs at most one pass over that ring's buckets.
+ * <p>
+ * Pending reservations count in every window until they are confirmed or
+ * expire. Reserving and confirming lock the account, so a limit check and the
+ * amount it lets through are one step; plain adds stay lock-free.
+ * </p>
+ */
+final class AccountActivity {
+
+    private static final long MINUTE = Duration.ofMinutes(1).toMillis();
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+    private static final long DAY = Duration.ofDays(1).toMillis();
+
+    private final ActivityRing minutes = new ActivityRing(MINUTE, 60);
+    private final ActivityRing hours = new ActivityRing(HOUR, 25);
+    private final ActivityRing days = new ActivityRing(DAY, 32);
+
+    // Guarded by this; expiry times only grow, since every reservation is held as long
+    private final ArrayDeque<Reservation> reservations = new ArrayDeque<>();
+    private long reservedCents;
+
+    void add(final long epochMillis, final long nowMillis, final long cents, final long count) {
+        minutes.add(epochMillis, nowMillis, cents, count);
+        hours.add(epochMillis, nowMillis, cents, count);
+        days.add(epochMillis, nowMillis, cents, count);
+    }
+
+    /**
+     * Counts the amount unless it would take one of the windows past its limit.
+     * @param holdMillis how long the amount stays reserved waiting for {@link #confirm};
+     *                   0 records it as activity right away
+     * @return the index of the first window exceeded, or -1 once the amount is counted
+     */
+    synchronized int reserve(final long nowMillis, final long cents, final long holdMillis,
+                             final Duration[] windows, final long[] limitCents) {
+        for (int i = 0; i < windows.length; i++) {
+            if (amountWithin(windows[i], nowMillis) + cents > limitCents[i]) {
+                return i;
+            }
+        }
+        if (holdMillis > 0) {
+            reservations.addLast(new Reservation(cents, nowMillis + holdMillis));
+            reservedCents += cents;
+        } else {
+            add(nowMillis, nowMillis, cents, 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Records confirmed activity in place of the oldest pending reservation of the same amount, if any.
+     */
+    synchronized void confirm(final long epochMillis, final long nowMillis, final long cents) {
+        add(epochMillis, nowMillis, cents, 1);
+        for (final Iterator<Reservation> it = reservations.iterator(); it.hasNext(); ) {
+            final Reservation reservation = it.next();
+            if (reservation.cents() == cents) {
+                it.remove();
+                reservedCents -= cents;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Drops the oldest pending reservation of the amount, if any.
+     */
+    synchronized void release(final long cents) {
+        for (final Iterator<Reservation> it = reservations.iterator(); it.hasNext(); ) {
+            if (it.next().cents() == cents) {
+                it.remove();
+                reservedCents -= cents;
+                return;
+            }
+        }
+    }
+
+    long amountWithin(final Duration window, final long nowMillis) {
+        final ActivityRing ring = ringFor(window);
+        return ring.sumAmount(nowMillis, buckets(ring, window)) + reservedCents(nowMillis);
+    }
+
+    long countWithin(final Duration window, final long nowMillis) {
+        final ActivityRing ring = ringFor(window);
+        return ring.sumCount(nowMillis, buckets(ring, window)) + reservedCount(nowMillis);
+    }
+
+    boolean isIdle(final long nowMillis) {
+        return days.isIdle(nowMillis) && reservedCount(nowMillis) == 0;
+    }
+
+    private synchronized long reservedCents(final long nowMillis) {
+        expire(nowMillis);
+        return reservedCents;
+    }
+
+    private synchronized int reservedCount(final long nowMillis) {
+        expire(nowMillis);
+        return reservations.size();
+    }
+
+    private void expire(final long nowMillis) {
+        while (!reservations.isEmpty() && reservations.peekFirst().expiresAtMillis() <= nowMillis) {
+            reservedCents -= reservations.removeFirst().cents();
+        }
+    }
+
+    static Duration maxWindow() {
+        return Duration.ofDays(32);
+    }
+
+    private ActivityRing ringFor(final Duration window) {
+        final long millis = window.toMillis();
+        if (millis <= minutes.bucketMillis() * minutes.size()) {
+            return minutes;
+        }
+        if (millis <= hours.bucketMillis() * (hours.size() - 1)) {
+            return hours;
+        }
+        return days;
+    }
+
+    private static int buckets(final ActivityRing ring, final Duration window) {
+        return (int) Math.max(1, -Math.floorDiv(-window.toMillis(), ring.bucketMillis()));
+    }
+
+    private record Reservation(long cents, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.temporal.validation.domain.activity;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * Read access to the rolling per-account transfer activity.
+ */
+public interface AccountActivityView {
+
+    /**
+     * Sum of the amounts an account sent within the window
+     * @param accountNumber the source account
+     * @param window how far back to look
+     * @return the amount sent
+     */
+    BigDecimal amountWithin(String accountNumber, Duration window);
+
+    /**
+     * Number of transfers an account sent within the window
+     * @param accountNumber the source account
+     * @param window how far back to look
+     * @return the transfer count
+     */
+    long countWithin(String accountNumber, Duration window);
+}
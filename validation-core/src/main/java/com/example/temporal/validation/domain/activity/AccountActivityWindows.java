@@ -0,0 +1,118 @@
+package com.example.temporal.validation.domain.activity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Rolling activity windows of all accounts, keyed by account number.
+ * Times are passed in explicitly so callers control the clock.
+ */
+public final class AccountActivityWindows {
+
+    /**
+     * Longest window that can be queried
+     */
+    public static final Duration MAX_WINDOW = AccountActivity.maxWindow();
+
+    private final ConcurrentMap<String, AccountActivity> accounts = new ConcurrentHashMap<>();
+
+    public void add(final String accountNumber, final long epochMillis, final long nowMillis,
+                    final BigDecimal amount, final long count) {
+        accounts.computeIfAbsent(accountNumber, key -> new AccountActivity())
+                .add(epochMillis, nowMillis, toCents(amount), count);
+    }
+
+    /**
+     * Checks the amount against every limit and, when it fits all of them, counts it,
+     * in one step per account, so concurrent reservations cannot overshoot a limit together.
+     * @param holdMillis how long the amount stays reserved waiting for {@link #confirm};
+     *                   0 records it as activity right away
+     * @return the first limit the amount would exceed, or null once it is counted
+     */
+    public LimitBreach reserve(final String accountNumber, final BigDecimal amount, final long nowMillis,
+                               final long holdMillis, final List<WindowLimit> limits) {
+        final Duration[] windows = new Duration[limits.size()];
+        final long[] limitCents = new long[limits.size()];
+        for (int i = 0; i < limits.size(); i++) {
+            windows[i] = limits.get(i).window();
+            limitCents[i] = toCents(limits.get(i).limit());
+        }
+        final int exceeded = accounts.computeIfAbsent(accountNumber, key -> new AccountActivity())
+                .reserve(nowMillis, toCents(amount), holdMillis, windows, limitCents);
+        return exceeded < 0
+                ? null
+                : new LimitBreach(limits.get(exceeded), amountWithin(accountNumber, windows[exceeded], nowMillis));
+    }
+
+    /**
+     * Records confirmed activity, taking the place of a pending reservation of the same amount.
+     */
+    public void confirm(final String accountNumber, final long epochMillis, final long nowMillis,
+                        final BigDecimal amount) {
+        accounts.computeIfAbsent(accountNumber, key -> new AccountActivity())
+                .confirm(epochMillis, nowMillis, toCents(amount));
+    }
+
+    /**
+     * Drops a pending reservation of the amount, when the approval it backed did not go through.
+     */
+    public void release(final String accountNumber, final BigDecimal amount) {
+        final AccountActivity activity = accounts.get(accountNumber);
+        if (activity != null) {
+            activity.release(toCents(amount));
+        }
+    }
+
+    public BigDecimal amountWithin(final String accountNumber, final Duration window, final long nowMillis) {
+        final AccountActivity activity = accounts.get(accountNumber);
+        return activity == null
+                ? BigDecimal.ZERO
+                : BigDecimal.valueOf(activity.amountWithin(window, nowMillis), 2);
+    }
+
+    public long countWithin(final String accountNumber, final Duration window, final long nowMillis) {
+        final AccountActivity activity = accounts.get(accountNumber);
+        return activity == null ? 0 : activity.countWithin(window, nowMillis);
+    }
+
+    /**
+     * Removes accounts whose activity fell entirely out of the longest window.
+     * An account that received a transfer while being removed is put back.
+     * @return the number of accounts removed
+     */
+    public int evictIdle(final long nowMillis) {
+        int evicted = 0;
+        for (final var entry : accounts.entrySet()) {
+            final AccountActivity activity = entry.getValue();
+            if (activity.isIdle(nowMillis) && accounts.remove(entry.getKey(), activity)) {
+                if (activity.isIdle(nowMillis)) {
+                    evicted++;
+                } else {
+                    accounts.putIfAbsent(entry.getKey(), activity);
+                }
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Limit on the amount an account may send within a window
+     * @param name how the window is called in rejection reasons
+     */
+    public record WindowLimit(String name, Duration window, BigDecimal limit) {
+    }
+
+    /**
+     * A limit a reservation would have exceeded, with the amount already counted in its window
+     */
+    public record LimitBreach(WindowLimit limit, BigDecimal used) {
+    }
+
+    private static long toCents(final BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.temporal.validation.domain.activity;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed ring of time buckets holding an amount sum and a transfer count.
+ * <p>
+ * Each slot packs the bucket it belongs to (low {@value #TAG_BITS} bits of
+ * the bucket number) with its value in one long, so rolling a slot over to a
+ * new bucket and adding to it is a single CAS: no locks and no separate reset
+ * step that could lose a concurrent update. Reads skip slots whose tag does
+ * not match the bucket being read, which makes stale slots count as zero.
+ * </p>
+ */
+final class ActivityRing {
+
+    static final int TAG_BITS = 20;
+    private static final int VALUE_BITS = Long.SIZE - TAG_BITS;
+    private static final long TAG_MASK = (1L << TAG_BITS) - 1;
+    private static final long VALUE_MASK = (1L << VALUE_BITS) - 1;
+
+    private final long bucketMillis;
+    private final int size;
+    private final AtomicLongArray amounts;
+    private final AtomicLongArray counts;
+
+    ActivityRing(final long bucketMillis, final int size) {
+        this.bucketMillis = bucketMillis;
+        this.size = size;
+        this.amounts = new AtomicLongArray(size);
+        this.counts = new AtomicLongArray(size);
+    }
+
+    long bucketMillis() {
+        return bucketMillis;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long bucketOf(final long epochMillis) {
+        return Math.floorDiv(epochMillis, bucketMillis);
+    }
+
+    /**
+     * Adds to the bucket containing the given time, unless it already fell out of the ring.
+     * A negative value takes back an earlier add; a bucket never goes below zero.
+     */
+    void add(final long epochMillis, final long nowMillis, final long amount, final long count) {
+        final long bucket = bucketOf(epochMillis);
+        if (bucket <= bucketOf(nowMillis) - size) {
+            return;
+        }
+        final int slot = (int) Math.floorMod(bucket, (long) size);
+        add(amounts, slot, bucket, amount);
+        add(counts, slot, bucket, count);
+    }
+
+    /**
+     * Sums the last {@code buckets} buckets up to and including the current one.
+     */
+    long sumAmount(final long nowMillis, final int buckets) {
+        return sum(amounts, nowMillis, buckets);
+    }
+
+    long sumCount(final long nowMillis, final int buckets) {
+        return sum(counts, nowMillis, buckets);
+    }
+
+    /**
+     * Whether any bucket still inside the ring holds activity.
+     */
+    boolean isIdle(final long nowMillis) {
+        return sum(counts, nowMillis, size) == 0;
+    }
+
+    private long sum(final AtomicLongArray values, final long nowMillis, final int buckets) {
+        final long current = bucketOf(nowMillis);
+        final int span = Math.min(buckets, size);
+        long total = 0;
+        for (long bucket = current - span + 1; bucket <= current; bucket++) {
+            final long packed = values.get((int) Math.floorMod(bucket, (long) size));
+            if ((packed & TAG_MASK) == (bucket & TAG_MASK)) {
+                total += packed >>> TAG_BITS;
+            }
+        }
+        return total;
+    }
+
+    private static void add(final AtomicLongArray values, final int slot, final long bucket, final long delta) {
+        final long tag = bucket & TAG_MASK;
+        long current;
+        long next;
+        do {
+            current = values.get(slot);
+            final long base = (current & TAG_MASK) == tag ? current >>> TAG_BITS : 0;
+            next = ((Math.max(0, base + delta) & VALUE_MASK) << TAG_BITS) | tag;
+        } while (!values.compareAndSet(slot, current, next));
+    }
+}
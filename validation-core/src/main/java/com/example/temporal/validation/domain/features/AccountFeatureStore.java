@@ -0,0 +1,72 @@
+package com.example.temporal.validation.domain.features;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Streaming behaviour features of all source accounts, keyed by account number.
+ * Times are passed in explicitly so callers control the clock.
+ */
+public final class AccountFeatureStore {
+
+    /**
+     * How long an account without transfers keeps its features
+     */
+    public static final Duration RETENTION = Duration.ofDays(30);
+
+    private final ConcurrentMap<String, AccountFeatures> accounts = new ConcurrentHashMap<>();
+
+    public void add(final String accountNumber, final String counterparty, final BigDecimal amount,
+                    final long epochMillis) {
+        accounts.computeIfAbsent(accountNumber, key -> new AccountFeatures())
+                .add(counterparty.hashCode(), amount.doubleValue(), epochMillis);
+    }
+
+    public long transferCount(final String accountNumber) {
+        final AccountFeatures features = accounts.get(accountNumber);
+        return features == null ? 0 : features.count();
+    }
+
+    public double amountZScore(final String accountNumber, final BigDecimal amount) {
+        final AccountFeatures features = accounts.get(accountNumber);
+        return features == null ? 0 : features.zScore(amount.doubleValue());
+    }
+
+    public boolean isRecentCounterparty(final String accountNumber, final String counterparty) {
+        final AccountFeatures features = accounts.get(accountNumber);
+        return features != null && features.isRecentCounterparty(counterparty.hashCode());
+    }
+
+    public double counterpartyDiversity(final String accountNumber) {
+        final AccountFeatures features = accounts.get(accountNumber);
+        return features == null ? 0 : features.counterpartyDiversity();
+    }
+
+    public long millisSinceLastTransfer(final String accountNumber, final long nowMillis) {
+        final AccountFeatures features = accounts.get(accountNumber);
+        return features == null ? -1 : Math.max(0, nowMillis - features.lastTransferMillis());
+    }
+
+    /**
+     * Removes accounts without transfers for longer than {@link #RETENTION}.
+     * An account that sent a transfer while being removed is put back.
+     * @return the number of accounts removed
+     */
+    public int evictIdle(final long nowMillis) {
+        final long cutoff = nowMillis - RETENTION.toMillis();
+        int evicted = 0;
+        for (final var entry : accounts.entrySet()) {
+            final AccountFeatures features = entry.getValue();
+            if (features.lastTransferMillis() < cutoff && accounts.remove(entry.getKey(), features)) {
+                if (features.lastTransferMillis() < cutoff) {
+                    evicted++;
+                } else {
+                    accounts.putIfAbsent(entry.getKey(), features);
+                }
+            }
+        }
+        return evicted;
+    }
+}
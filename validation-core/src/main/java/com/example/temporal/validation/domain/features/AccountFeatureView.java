@@ -0,0 +1,47 @@
+package com.example.temporal.validation.domain.features;
+
+import java.math.BigDecimal;
+
+/**
+ * Read access to the streaming behaviour features of source accounts.
+ * Every feature is answered from memory in constant time.
+ */
+public interface AccountFeatureView {
+
+    /**
+     * Number of approved transfers the features were built from
+     * @param accountNumber the source account
+     * @return the transfer count, 0 for an unknown account
+     */
+    long transferCount(String accountNumber);
+
+    /**
+     * How many standard deviations an amount lies above the account's mean amount
+     * @param accountNumber the source account
+     * @param amount the amount being sent
+     * @return the z-score, 0 with fewer than two transfers
+     */
+    double amountZScore(String accountNumber, BigDecimal amount);
+
+    /**
+     * Whether the account sent to a counterparty among its recent ones
+     * @param accountNumber the source account
+     * @param counterparty the destination account
+     * @return true if the counterparty is a recent one
+     */
+    boolean isRecentCounterparty(String accountNumber, String counterparty);
+
+    /**
+     * Share of distinct counterparties among the account's recent transfers
+     * @param accountNumber the source account
+     * @return from 0 (no transfers) to 1 (every recent transfer to someone else)
+     */
+    double counterpartyDiversity(String accountNumber);
+
+    /**
+     * Time since the account's last approved transfer
+     * @param accountNumber the source account
+     * @return the elapsed milliseconds, or -1 for an unknown account
+     */
+    long millisSinceLastTransfer(String accountNumber);
+}
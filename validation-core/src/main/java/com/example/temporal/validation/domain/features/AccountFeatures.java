@@ -0,0 +1,87 @@
+package com.example.temporal.validation.domain.features;
+
+/**
+ * Streaming behaviour features of one account, in a fixed number of primitives.
+ * <p>
+ * Mean and variance of the amounts are kept with Welford's algorithm, so an
+ * update is O(1) and numerically stable. Recent counterparties are the hashes
+ * of the last {@value #RECENT_COUNTERPARTIES} destinations in a ring; a hash
+ * collision can only make a new counterparty look known. Updates and reads of
+ * one account are serialized on the instance, which is uncontended in practice.
+ * </p>
+ */
+final class AccountFeatures {
+
+    static final int RECENT_COUNTERPARTIES = 16;
+
+    /**
+     * Lower bound of the standard deviation, relative to the mean: an account that
+     * always sends the same amount should not flag a slightly different one
+     */
+    private static final double MIN_RELATIVE_DEVIATION = 0.05;
+
+    /**
+     * Absolute lower bound of the standard deviation (one cent)
+     */
+    private static final double MIN_DEVIATION = 0.01;
+
+    private final int[] counterparties = new int[RECENT_COUNTERPARTIES];
+    private int recentCounterparties;
+    private long count;
+    private double mean;
+    private double squaredDeviations;
+    private long lastTransferMillis;
+
+    synchronized void add(final int counterpartyHash, final double amount, final long epochMillis) {
+        count++;
+        final double delta = amount - mean;
+        mean += delta / count;
+        squaredDeviations += delta * (amount - mean);
+
+        counterparties[(int) ((count - 1) % RECENT_COUNTERPARTIES)] = counterpartyHash;
+        recentCounterparties = (int) Math.min(count, RECENT_COUNTERPARTIES);
+        lastTransferMillis = Math.max(lastTransferMillis, epochMillis);
+    }
+
+    synchronized long count() {
+        return count;
+    }
+
+    synchronized double zScore(final double amount) {
+        if (count < 2) {
+            return 0;
+        }
+        final double deviation = Math.sqrt(squaredDeviations / (count - 1));
+        return (amount - mean) / Math.max(deviation, Math.max(Math.abs(mean) * MIN_RELATIVE_DEVIATION, MIN_DEVIATION));
+    }
+
+    synchronized boolean isRecentCounterparty(final int counterpartyHash) {
+        for (int i = 0; i < recentCounterparties; i++) {
+            if (counterparties[i] == counterpartyHash) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized double counterpartyDiversity() {
+        if (recentCounterparties == 0) {
+            return 0;
+        }
+        int distinct = 0;
+        for (int i = 0; i < recentCounterparties; i++) {
+            boolean seen = false;
+            for (int j = 0; j < i && !seen; j++) {
+                seen = counterparties[j] == counterparties[i];
+            }
+            if (!seen) {
+                distinct++;
+            }
+        }
+        return (double) distinct / recentCounterparties;
+    }
+
+    synchronized long lastTransferMillis() {
+        return lastTransferMillis;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.temporal.validation.domain.fraud;
+
+import com.example.temporal.validation.domain.port.in.ValidateTransferUseCase.ValidateTransferCommand;
+
+import java.math.BigDecimal;
+
+/**
+ * Fires when the transfer amount exceeds the rule threshold.
+ */
+public record AmountThresholdRule(long ruleId, BigDecimal threshold, int weight) implements CompiledFraudRule {
+
+    @Override
+    public int cost() {
+        return 1;
+    }
+
+    @Override
+    public int score(final ValidateTransferCommand command) {
+        return command.amount().compareTo(threshold) > 0 ? weight : 0;
+    }
+}
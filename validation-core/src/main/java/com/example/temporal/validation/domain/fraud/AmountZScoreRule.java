@@ -0,0 +1,30 @@
+package com.example.temporal.validation.domain.fraud;
+
+import com.example.temporal.validation.domain.features.AccountFeatureView;
+import com.example.temporal.validation.domain.port.in.ValidateTransferUseCase.ValidateTransferCommand;
+
+/**
+ * Fires when the amount lies more than {@code maxZScore} standard deviations
+ * above what the source account usually sends. Accounts with fewer than
+ * {@code minHistory} transfers have no usual amount yet and never fire.
+ */
+public record AmountZScoreRule(
+        long ruleId,
+        double maxZScore,
+        long minHistory,
+        int weight,
+        AccountFeatureView features
+) implements CompiledFraudRule {
+
+    @Override
+    public int cost() {
+        return 2;
+    }
+
+    @Override
+    public int score(final ValidateTransferCommand command) {
+        final String account = command.sourceAccountNumber();
+        return features.transferCount(account) >= minHistory
+                && features.amountZScore(account, command.amount()) > maxZScore ? weight : 0;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.temporal.validation.domain.fraud;
+
+import com.example.temporal.validation.domain.port.in.ValidateTransferUseCase.ValidateTransferCommand;
+
+/**
+ * A fraud rule compiled into a score function.
+ * Implementations must be immutable and must not allocate per evaluation.
+ */
+public interface CompiledFraudRule {
+
+    /**
+     * Relative evaluation cost; cheaper rules run first
+     */
+    int cost();
+
+    /**
+     * Score added when the rule fires
+     */
+    int weight();
+
+    /**
+     * Scores a transfer
+     * @param command the transfer being validated
+     * @return {@link #weight()} if the rule fires, 0 otherwise
+     */
+    int score(ValidateTransferCommand command);
+}
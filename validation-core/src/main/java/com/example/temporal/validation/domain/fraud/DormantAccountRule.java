@@ -0,0 +1,31 @@
+package com.example.temporal.validation.domain.fraud;
+
+import com.example.temporal.validation.domain.features.AccountFeatureView;
+import com.example.temporal.validation.domain.port.in.ValidateTransferUseCase.ValidateTransferCommand;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * Fires when an account that sent nothing for at least {@code idle} suddenly
+ * sends more than the threshold. Accounts without any known transfer never fire.
+ */
+public record DormantAccountRule(
+        long ruleId,
+        BigDecimal threshold,
+        Duration idle,
+        int weight,
+        AccountFeatureView features
+) implements CompiledFraudRule {
+
+    @Override
+    public int cost() {
+        return 2;
+    }
+
+    @Override
+    public int score(final ValidateTransferCommand command) {
+        return command.amount().compareTo(threshold) > 0
+                && features.millisSinceLastTransfer(command.sourceAccountNumber()) >= idle.toMillis() ? weight : 0;
+    }
+}
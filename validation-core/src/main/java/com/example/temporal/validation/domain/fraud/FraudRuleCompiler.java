@@ -0,0 +1,82 @@
+package com.example.temporal.validation.domain.fraud;
+
+import com.example.temporal.validation.domain.activity.AccountActivityView;
+import com.example.temporal.validation.domain.features.AccountFeatureView;
+import com.example.temporal.validation.domain.port.out.FraudRulePort.FraudRuleInfo;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Compiles fraud rule definitions into score functions.
+ */
+@Slf4j
+public final class FraudRuleCompiler {
+
+    /**
+     * Score added by an amount threshold rule
+     */
+    static final int AMOUNT_THRESHOLD_WEIGHT = 50;
+
+    /**
+     * Score added by a frequency rule
+     */
+    static final int FREQUENCY_WEIGHT = 50;
+
+    /**
+     * Score added by an amount z-score rule
+     */
+    static final int AMOUNT_ZSCORE_WEIGHT = 40;
+
+    /**
+     * Score added by a new counterparty rule
+     */
+    static final int NEW_COUNTERPARTY_WEIGHT = 30;
+
+    /**
+     * Score added by a dormant account rule
+     */
+    static final int DORMANT_ACCOUNT_WEIGHT = 30;
+
+    /**
+     * Transfers an account needs before its usual behaviour is trusted
+     */
+    static final long MIN_HISTORY = 10;
+
+    private FraudRuleCompiler() {
+    }
+
+    /**
+     * Compiles a rule definition.
+     * @param rule the rule as stored
+     * @param activity rolling account activity, used by FREQUENCY rules
+     * @param features streaming account features, used by AMOUNT_ZSCORE, NEW_COUNTERPARTY
+     *                 and DORMANT_ACCOUNT rules
+     * @return the compiled rule, or empty when the rule type has no evaluator
+     */
+    public static Optional<CompiledFraudRule> compile(final FraudRuleInfo rule, final AccountActivityView activity,
+                                                      final AccountFeatureView features) {
+        return switch (rule.ruleType()) {
+            case "AMOUNT_THRESHOLD" -> Optional.of(
+                    new AmountThresholdRule(rule.id(), rule.threshold(), AMOUNT_THRESHOLD_WEIGHT));
+            case "FREQUENCY" -> Optional.of(new FrequencyRule(rule.id(), rule.threshold().longValue(),
+                    Duration.ofMinutes(rule.timeWindowMinutes()), FREQUENCY_WEIGHT, activity));
+            // The threshold is the number of standard deviations
+            case "AMOUNT_ZSCORE" -> Optional.of(new AmountZScoreRule(rule.id(), rule.threshold().doubleValue(),
+                    MIN_HISTORY, AMOUNT_ZSCORE_WEIGHT, features));
+            case "NEW_COUNTERPARTY" -> Optional.of(new NewCounterpartyRule(rule.id(), rule.threshold(),
+                    MIN_HISTORY, NEW_COUNTERPARTY_WEIGHT, features));
+            case "DORMANT_ACCOUNT" -> Optional.of(new DormantAccountRule(rule.id(), rule.threshold(),
+                    Duration.ofMinutes(rule.timeWindowMinutes()), DORMANT_ACCOUNT_WEIGHT, features));
+            case "LOCATION" -> {
+                log.debug("No evaluator for {} rule {}, skipping", rule.ruleType(), rule.ruleName());
+                yield Optional.empty();
+            }
+            default -> {
+                log.warn("Unknown fraud rule type: {}", rule.ruleType());
+                yield Optional.empty();
+            }
+        };
+    }
+}
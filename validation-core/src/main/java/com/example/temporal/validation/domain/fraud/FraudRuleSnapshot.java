@@ -0,0 +1,84 @@
+package com.example.temporal.validation.domain.fraud;
+
+import com.example.temporal.validation.domain.activity.AccountActivityView;
+import com.example.temporal.validation.domain.features.AccountFeatureView;
+import com.example.temporal.validation.domain.port.in.ValidateTransferUseCase.ValidateTransferCommand;
+import com.example.temporal.validation.domain.port.out.FraudRulePort.FraudRuleInfo;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable, compiled set of active fraud rules.
+ * <p>
+ * Rules are ordered by cost, then by weight (heaviest first), and
+ * evaluation stops as soon as the score reaches {@link #REJECT_SCORE}:
+ * cheap rules that can reject on their own run before expensive ones.
+ * Evaluation walks a plain array and sums ints, so it allocates nothing.
+ * </p>
+ */
+public final class FraudRuleSnapshot {
+
+    /**
+     * Score from which a transfer is rejected; evaluation stops there
+     */
+    public static final int REJECT_SCORE = 75;
+
+    private static final Comparator<CompiledFraudRule> EVALUATION_ORDER =
+            Comparator.comparingInt(CompiledFraudRule::cost)
+                    .thenComparing(Comparator.comparingInt(CompiledFraudRule::weight).reversed());
+
+    private final String version;
+    private final CompiledFraudRule[] rules;
+
+    private FraudRuleSnapshot(final String version, final CompiledFraudRule[] rules) {
+        this.version = version;
+        this.rules = rules;
+    }
+
+    /**
+     * Compiles rule definitions into a snapshot.
+     * @param version the version of the rule set, used to detect changes
+     * @param definitions the active rules
+     * @param activity rolling account activity, used by stateful rules
+     * @param features streaming account features, used by behavioural rules
+     * @return the snapshot
+     */
+    public static FraudRuleSnapshot compile(
+            final String version,
+            final List<FraudRuleInfo> definitions,
+            final AccountActivityView activity,
+            final AccountFeatureView features) {
+        final CompiledFraudRule[] compiled = definitions.stream()
+                .map(definition -> FraudRuleCompiler.compile(definition, activity, features))
+                .flatMap(Optional::stream)
+                .sorted(EVALUATION_ORDER)
+                .toArray(CompiledFraudRule[]::new);
+        return new FraudRuleSnapshot(version, compiled);
+    }
+
+    /**
+     * Scores a transfer against every rule, stopping once it would be rejected.
+     * @param command the transfer being validated
+     * @return the fraud score, saturating at the first value reaching {@link #REJECT_SCORE}
+     */
+    public int score(final ValidateTransferCommand command) {
+        int score = 0;
+        for (final CompiledFraudRule rule : rules) {
+            score += rule.score(command);
+            if (score >= REJECT_SCORE) {
+                break;
+            }
+        }
+        return score;
+    }
+
+    public String version() {
+        return version;
+    }
+
+    public int size() {
+        return rules.length;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.temporal.validation.domain.fraud;
+
+import com.example.temporal.validation.domain.activity.AccountActivityView;
+import com.example.temporal.validation.domain.port.in.ValidateTransferUseCase.ValidateTransferCommand;
+
+import java.time.Duration;
+
+/**
+ * Fires when the source account would exceed {@code maxTransfers} transfers
+ * within the rule window, counting the transfer being validated.
+ */
+public record FrequencyRule(
+        long ruleId,
+        long maxTransfers,
+        Duration window,
+        int weight,
+        AccountActivityView activity
+) implements CompiledFraudRule {
+
+    @Override
+    public int cost() {
+        return 2;
+    }
+
+    @Override
+    public int score(final ValidateTransferCommand command) {
+        return activity.countWithin(command.sourceAccountNumber(), window) + 1 > maxTransfers ? weight : 0;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.temporal.validation.domain.fraud;
+
+import com.example.temporal.validation.domain.features.AccountFeatureView;
+import com.example.temporal.validation.domain.port.in.ValidateTransferUseCase.ValidateTransferCommand;
+
+import java.math.BigDecimal;
+
+/**
+ * Fires when an account with at least {@code minHistory} transfers sends more
+ * than the threshold to a destination that is not among its recent counterparties.
+ */
+public record NewCounterpartyRule(
+        long ruleId,
+        BigDecimal threshold,
+        long minHistory,
+        int weight,
+        AccountFeatureView features
+) implements CompiledFraudRule {
+
+    @Override
+    public int cost() {
+        return 2;
+    }
+
+    @Override
+    public int score(final ValidateTransferCommand command) {
+        final String account = command.sourceAccountNumber();
+        return command.amount().compareTo(threshold) > 0
+                && features.transferCount(account) >= minHistory
+                && !features.isRecentCounterparty(account, command.destinationAccountNumber()) ? weight : 0;
+    }
+}
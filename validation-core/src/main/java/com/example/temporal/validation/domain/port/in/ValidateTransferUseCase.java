@@ -1,6 +1,7 @@
 package com.example.temporal.validation.domain.port.in;
 
-import com.example.temporal.validation.domain.model.TransferValidationDomain;
+import java.util.Iterator;
+import java.util.function.Consumer;
 
 /**
  * Use case for validating transfers
@@ -11,10 +12,22 @@ public interface ValidateTransferUseCase {
     /**
      * Validates a transfer request
      * @param command the validation command
-     * @return the validation result
+     * @return the validation result; a rejection is a decision and is final
+     * @throws com.example.temporal.common.exception.ValidationUnavailableException if no decision
+     *         could be made (an account lookup or the database failed), worth retrying
      */
     ValidationResult validateTransfer(ValidateTransferCommand command);
 
+    /**
+     * Validates the lines of a bulk transfer file chunk by chunk, reporting each
+     * line as soon as its chunk is persisted. Lines whose idempotency key was
+     * already validated report the stored result.
+     * @param lines the lines to validate
+     * @param resultListener receives one result per line
+     * @return the batch summary
+     */
+    BatchSummary validateBatch(Iterator<BatchLine> lines, Consumer<BatchLineResult> resultListener);
+
     /**
      * Command object for transfer validation
      */
@@ -59,6 +72,43 @@ public interface ValidateTransferUseCase {
         }
     }
 
+    /**
+     * One line of a batch; lines that could not be parsed carry the parse error instead of a command
+     */
+    record BatchLine(
+            long lineNumber,
+            ValidateTransferCommand command,
+            String parseError
+    ) {
+        public static BatchLine of(long lineNumber, ValidateTransferCommand command) {
+            return new BatchLine(lineNumber, command, null);
+        }
+
+        public static BatchLine invalid(long lineNumber, String parseError) {
+            return new BatchLine(lineNumber, null, parseError);
+        }
+    }
+
+    /**
+     * Outcome of one batch line
+     */
+    record BatchLineResult(
+            long lineNumber,
+            String idempotencyKey,
+            ValidationResult result
+    ) {}
+
+    /**
+     * Totals of a batch
+     */
+    record BatchSummary(
+            long received,
+            long approved,
+            long rejected,
+            long elapsedMillis,
+            double linesPerSecond
+    ) {}
+
     /**
      * Result object for validation
      */
@@ -1,6 +1,8 @@
 package com.example.temporal.validation.domain.port.out;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -16,6 +18,15 @@ public interface AccountServicePort {
      */
     Optional<AccountInfo> getAccount(String accountNumber);
 
+    /**
+     * Gets several accounts in one round trip
+     * @param accountNumbers the account numbers
+     * @return the accounts found, keyed by account number
+     * @throws com.example.temporal.common.exception.ValidationUnavailableException if the accounts
+     *         could not be looked up
+     */
+    Map<String, AccountInfo> getAccounts(Collection<String> accountNumbers);
+
     /**
      * Checks if account exists
      * @param accountNumber the account number
@@ -45,6 +56,7 @@ public interface AccountServicePort {
             String ownerName,
             BigDecimal balance,
             String currency,
+            String accountType,
             boolean active
     ) {}
 }
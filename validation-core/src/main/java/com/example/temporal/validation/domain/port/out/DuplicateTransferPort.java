@@ -0,0 +1,28 @@
+package com.example.temporal.validation.domain.port.out;
+
+import java.math.BigDecimal;
+
+/**
+ * Port for spotting near-duplicate transfers: same source, destination, amount
+ * and currency within a short window, typically a client retrying without an
+ * idempotency key
+ */
+public interface DuplicateTransferPort {
+
+    /**
+     * Tells whether an identical transfer was remembered recently, without remembering this one
+     * @param sourceAccountNumber the source account
+     * @param destinationAccountNumber the destination account
+     * @param amount the transfer amount
+     * @param currency the currency
+     * @return true if the transfer is a suspected duplicate; may rarely be a false positive
+     */
+    boolean seenRecently(String sourceAccountNumber, String destinationAccountNumber,
+                         BigDecimal amount, String currency);
+
+    /**
+     * Remembers an approved transfer once its decision is final and recorded
+     */
+    void record(String sourceAccountNumber, String destinationAccountNumber,
+                BigDecimal amount, String currency);
+}
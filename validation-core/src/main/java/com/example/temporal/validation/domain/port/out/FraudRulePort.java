@@ -2,6 +2,7 @@ package com.example.temporal.validation.domain.port.out;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Port for fraud rule operations
@@ -15,6 +16,12 @@ public interface FraudRulePort {
      */
     List<FraudRuleInfo> getActiveRules();
 
+    /**
+     * Gets a version of the rule set that changes whenever a rule is added, changed or removed
+     * @return the rules version, if it can be determined
+     */
+    Optional<String> getRulesVersion();
+
     /**
      * Fraud rule information DTO
      */
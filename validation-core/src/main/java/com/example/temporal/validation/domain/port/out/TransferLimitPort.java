@@ -1,6 +1,7 @@
 package com.example.temporal.validation.domain.port.out;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -10,12 +11,16 @@ import java.util.Optional;
 public interface TransferLimitPort {
 
     /**
-     * Gets transfer limit by account type and currency
-     * @param accountType the account type
-     * @param currency the currency
-     * @return the transfer limit if configured
+     * Gets every configured transfer limit profile
+     * @return the limits of all account types and currencies
      */
-    Optional<TransferLimitInfo> getByAccountTypeAndCurrency(String accountType, String currency);
+    List<TransferLimitInfo> getAllLimits();
+
+    /**
+     * Gets a version of the limits that changes whenever a limit is added, changed or removed
+     * @return the limits version, if it can be determined
+     */
+    Optional<String> getLimitsVersion();
 
     /**
      * Transfer limit information DTO
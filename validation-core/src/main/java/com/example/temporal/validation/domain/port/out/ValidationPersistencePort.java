@@ -0,0 +1,121 @@
+package com.example.temporal.validation.domain.port.out;
+
+import com.example.temporal.validation.domain.model.TransferValidationDomain;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Port for validation persistence operations
+ * Defines what the domain needs from the infrastructure
+ */
+public interface ValidationPersistencePort {
+
+    /**
+     * Saves a validation
+     * @param validation the validation to save
+     * @return the saved validation
+     */
+    TransferValidationDomain save(TransferValidationDomain validation);
+
+    /**
+     * Saves validations in one transaction, letting the inserts be batched
+     * @param validations the validations to save
+     * @return the saved validations
+     */
+    List<TransferValidationDomain> saveAll(List<TransferValidationDomain> validations);
+
+    /**
+     * Reserves IDs from the validation sequence, in blocks shared with JPA inserts
+     * @param count the number of IDs needed
+     * @return the reserved IDs
+     */
+    List<Long> reserveIds(int count);
+
+    /**
+     * Inserts validations that already carry their IDs in one batch, skipping any
+     * whose idempotency key is already stored
+     * @param validations the validations to insert
+     * @return the number of rows inserted
+     */
+    int insertAll(List<TransferValidationDomain> validations);
+
+    /**
+     * Finds a validation by ID
+     * @param id the validation ID
+     * @return the validation if found
+     */
+    Optional<TransferValidationDomain> findById(Long id);
+
+    /**
+     * Finds a validation by idempotency key
+     * @param idempotencyKey the idempotency key
+     * @return the validation if found
+     */
+    Optional<TransferValidationDomain> findByIdempotencyKey(String idempotencyKey);
+
+    /**
+     * Finds the validations of several idempotency keys in one query
+     * @param idempotencyKeys the idempotency keys
+     * @return the validations found
+     */
+    List<TransferValidationDomain> findByIdempotencyKeys(Collection<String> idempotencyKeys);
+
+    /**
+     * Finds validations by transfer ID
+     * @param transferId the transfer ID
+     * @return list of validations
+     */
+    List<TransferValidationDomain> findByTransferId(String transferId);
+
+    /**
+     * Finds validations by account number (source or destination)
+     * @param accountNumber the account number
+     * @return list of validations
+     */
+    List<TransferValidationDomain> findByAccountNumber(String accountNumber);
+
+    /**
+     * Finds pending validations
+     * @return list of pending validations
+     */
+    List<TransferValidationDomain> findPendingValidations();
+
+    /**
+     * Aggregates approved validations per source account and minute
+     * @param since only validations at or after this time
+     * @return the amount and count of approved transfers per account and minute
+     */
+    List<ApprovedActivity> findApprovedActivitySince(LocalDateTime since);
+
+    /**
+     * Streams the approved validations since a time, oldest first, without holding them in memory
+     * @param since only validations at or after this time
+     * @param consumer receives each approved transfer
+     */
+    void forEachApprovedTransferSince(LocalDateTime since, Consumer<ApprovedTransfer> consumer);
+
+    /**
+     * Approved transfers of one source account within one minute
+     */
+    record ApprovedActivity(
+            String accountNumber,
+            LocalDateTime minute,
+            BigDecimal amount,
+            long count
+    ) {}
+
+    /**
+     * One approved transfer
+     */
+    record ApprovedTransfer(
+            String sourceAccountNumber,
+            String destinationAccountNumber,
+            BigDecimal amount,
+            LocalDateTime validatedAt
+    ) {}
+}
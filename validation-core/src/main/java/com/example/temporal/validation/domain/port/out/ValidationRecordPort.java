@@ -0,0 +1,37 @@
+package com.example.temporal.validation.domain.port.out;
+
+import com.example.temporal.validation.domain.model.TransferValidationDomain;
+
+import java.util.Optional;
+
+/**
+ * Port for recording validation decisions off the request path
+ * The record is persisted asynchronously, after the decision has been returned
+ */
+public interface ValidationRecordPort {
+
+    /**
+     * Assigns an ID to the validation and queues it for persistence
+     * @param validation the decided validation
+     * @return the queued validation with its ID, or the validation without ID if it was
+     *         dropped; when another validation is already queued under the same idempotency
+     *         key, that one, marked as not inserted
+     */
+    Recorded record(TransferValidationDomain validation);
+
+    /**
+     * Finds a validation queued but not yet persisted
+     * @param idempotencyKey the idempotency key
+     * @return the queued validation if found
+     */
+    Optional<TransferValidationDomain> findPending(String idempotencyKey);
+
+    /**
+     * Outcome of {@link #record}
+     * @param validation the validation that stands for the idempotency key
+     * @param inserted false when the validation passed in lost to one already queued under
+     *                 its key, whose decision is returned instead
+     */
+    record Recorded(TransferValidationDomain validation, boolean inserted) {
+    }
+}
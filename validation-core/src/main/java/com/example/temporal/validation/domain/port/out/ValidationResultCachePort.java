@@ -0,0 +1,25 @@
+package com.example.temporal.validation.domain.port.out;
+
+import com.example.temporal.validation.domain.model.TransferValidationDomain;
+
+import java.util.Optional;
+
+/**
+ * Port for the short-lived cache of validation decisions by idempotency key
+ * Lets a retried request get its earlier verdict without running the checks or querying the database
+ */
+public interface ValidationResultCachePort {
+
+    /**
+     * Finds a recent decision
+     * @param idempotencyKey the caller-supplied idempotency key
+     * @return the decided validation if still cached
+     */
+    Optional<TransferValidationDomain> get(String idempotencyKey);
+
+    /**
+     * Caches a decision under its idempotency key
+     * @param validation the decided validation
+     */
+    void put(TransferValidationDomain validation);
+}
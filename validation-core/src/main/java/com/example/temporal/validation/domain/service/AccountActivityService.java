@@ -0,0 +1,164 @@
+package com.example.temporal.validation.domain.service;
+
+import com.example.temporal.validation.config.ValidationActivityProperties;
+import com.example.temporal.validation.domain.activity.AccountActivityView;
+import com.example.temporal.validation.domain.activity.AccountActivityWindows;
+import com.example.temporal.validation.domain.activity.AccountActivityWindows.LimitBreach;
+import com.example.temporal.validation.domain.activity.AccountActivityWindows.WindowLimit;
+import com.example.temporal.validation.domain.port.out.ValidationPersistencePort;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory rolling activity of source accounts.
+ * <p>
+ * An approval reserves its amount against the daily/monthly limits in the same
+ * step that checks them, so concurrent validations of one account cannot
+ * overshoot a limit. Where the activity comes from depends on
+ * {@code validation.activity.cdc-enabled}:
+ * </p>
+ * <ul>
+ *     <li>off: rebuilt on startup from the approved validations of the last
+ *     month, and each reservation is recorded as activity right away. Only
+ *     this instance's approvals count.</li>
+ *     <li>on: fed by the transfers CDC topic, so every instance counts every
+ *     transfer. A reservation holds its amount until the transfer shows up on
+ *     the topic, or until the hold expires when it never does.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountActivityService implements AccountActivityView {
+
+    private final ValidationPersistencePort validationPersistencePort;
+    private final ValidationActivityProperties properties;
+    private final AccountActivityWindows windows = new AccountActivityWindows();
+    private final ConcurrentMap<Long, CountedTransfer> countedTransfers = new ConcurrentHashMap<>();
+
+    /**
+     * Loads the approved validations still inside the longest window, unless the CDC topic replays them.
+     */
+    @PostConstruct
+    public void rebuild() {
+        if (properties.isCdcEnabled()) {
+            log.info("Account activity is fed by {}", properties.getTransfersTopic());
+            return;
+        }
+        final LocalDateTime since = LocalDateTime.now().minus(AccountActivityWindows.MAX_WINDOW);
+        final long now = System.currentTimeMillis();
+        int buckets = 0;
+        for (final var activity : validationPersistencePort.findApprovedActivitySince(since)) {
+            windows.add(activity.accountNumber(), toEpochMillis(activity.minute()), now,
+                    activity.amount(), activity.count());
+            buckets++;
+        }
+        log.info("Account activity rebuilt from {} minute buckets since {}", buckets, since);
+    }
+
+    /**
+     * Counts an approved transfer against the source account's limits, unless it would exceed one.
+     * @param accountNumber the source account
+     * @param amount the transfer amount
+     * @param limits the limits of the account
+     * @return the limit exceeded, or null when the amount was reserved
+     */
+    public LimitBreach reserve(final String accountNumber, final BigDecimal amount, final List<WindowLimit> limits) {
+        final long holdMillis = properties.isCdcEnabled() ? properties.getReservationHold().toMillis() : 0;
+        return windows.reserve(accountNumber, amount, System.currentTimeMillis(), holdMillis, limits);
+    }
+
+    /**
+     * Gives back an amount reserved for an approval that was not stored.
+     * @param accountNumber the source account
+     * @param amount the reserved amount
+     */
+    public void release(final String accountNumber, final BigDecimal amount) {
+        if (properties.isCdcEnabled()) {
+            windows.release(accountNumber, amount);
+        } else {
+            final long now = System.currentTimeMillis();
+            windows.add(accountNumber, now, now, amount.negate(), -1);
+        }
+    }
+
+    /**
+     * Applies the state of a transfer read from the CDC topic. A transfer counts once,
+     * from the first event in which it counts until one in which it no longer does.
+     * @param transferId the transfer id
+     * @param accountNumber the source account
+     * @param amount the transfer amount
+     * @param createdAt when the transfer was created, in epoch millis
+     * @param counts whether the transfer counts against the limits in this state
+     */
+    public void applyTransfer(final long transferId, final String accountNumber, final BigDecimal amount,
+                              final long createdAt, final boolean counts) {
+        final long now = System.currentTimeMillis();
+        if (createdAt <= now - AccountActivityWindows.MAX_WINDOW.toMillis()) {
+            countedTransfers.remove(transferId);
+            return;
+        }
+        if (counts) {
+            final CountedTransfer counted = new CountedTransfer(accountNumber, amount, createdAt);
+            if (countedTransfers.putIfAbsent(transferId, counted) == null) {
+                windows.confirm(accountNumber, createdAt, now, amount);
+            }
+        } else {
+            removeTransfer(transferId);
+        }
+    }
+
+    /**
+     * Takes a transfer back out of the windows, if it was counted.
+     * @param transferId the transfer id
+     */
+    public void removeTransfer(final long transferId) {
+        final CountedTransfer counted = countedTransfers.remove(transferId);
+        if (counted != null) {
+            windows.add(counted.accountNumber(), counted.createdAt(), System.currentTimeMillis(),
+                    counted.amount().negate(), -1);
+        }
+    }
+
+    @Override
+    public BigDecimal amountWithin(final String accountNumber, final Duration window) {
+        return windows.amountWithin(accountNumber, window, System.currentTimeMillis());
+    }
+
+    @Override
+    public long countWithin(final String accountNumber, final Duration window) {
+        return windows.countWithin(accountNumber, window, System.currentTimeMillis());
+    }
+
+    /**
+     * Drops accounts without activity in the longest window, and transfers that left it.
+     */
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1H")
+    public void evictIdle() {
+        final long now = System.currentTimeMillis();
+        countedTransfers.values().removeIf(counted ->
+                counted.createdAt() <= now - AccountActivityWindows.MAX_WINDOW.toMillis());
+        final int evicted = windows.evictIdle(now);
+        if (evicted > 0) {
+            log.debug("Evicted {} idle accounts from activity windows", evicted);
+        }
+    }
+
+    private static long toEpochMillis(final LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record CountedTransfer(String accountNumber, BigDecimal amount, long createdAt) {
+    }
+}
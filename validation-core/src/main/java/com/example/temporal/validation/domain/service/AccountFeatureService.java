@@ -0,0 +1,98 @@
+package com.example.temporal.validation.domain.service;
+
+import com.example.temporal.validation.domain.features.AccountFeatureStore;
+import com.example.temporal.validation.domain.features.AccountFeatureView;
+import com.example.temporal.validation.domain.port.out.ValidationPersistencePort;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * In-memory behaviour features of source accounts, fed by approved validations.
+ * <p>
+ * Rebuilt on startup by replaying the approved validations of the last month,
+ * then updated in O(1) as validations are approved, so behavioural fraud
+ * rules (amount z-score, new counterparty, dormant account) never query
+ * transfer history.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountFeatureService implements AccountFeatureView {
+
+    private final ValidationPersistencePort validationPersistencePort;
+    private final AccountFeatureStore store = new AccountFeatureStore();
+
+    /**
+     * Replays the approved validations still inside the retention period.
+     */
+    @PostConstruct
+    public void rebuild() {
+        final LocalDateTime since = LocalDateTime.now().minus(AccountFeatureStore.RETENTION);
+        final long[] transfers = new long[1];
+        validationPersistencePort.forEachApprovedTransferSince(since, transfer -> {
+            store.add(transfer.sourceAccountNumber(), transfer.destinationAccountNumber(), transfer.amount(),
+                    toEpochMillis(transfer.validatedAt()));
+            transfers[0]++;
+        });
+        log.info("Account features rebuilt from {} approved transfers since {}", transfers[0], since);
+    }
+
+    /**
+     * Records an approved transfer.
+     * @param sourceAccountNumber the source account
+     * @param destinationAccountNumber the destination account
+     * @param amount the transfer amount
+     */
+    public void record(final String sourceAccountNumber, final String destinationAccountNumber,
+                       final BigDecimal amount) {
+        store.add(sourceAccountNumber, destinationAccountNumber, amount, System.currentTimeMillis());
+    }
+
+    @Override
+    public long transferCount(final String accountNumber) {
+        return store.transferCount(accountNumber);
+    }
+
+    @Override
+    public double amountZScore(final String accountNumber, final BigDecimal amount) {
+        return store.amountZScore(accountNumber, amount);
+    }
+
+    @Override
+    public boolean isRecentCounterparty(final String accountNumber, final String counterparty) {
+        return store.isRecentCounterparty(accountNumber, counterparty);
+    }
+
+    @Override
+    public double counterpartyDiversity(final String accountNumber) {
+        return store.counterpartyDiversity(accountNumber);
+    }
+
+    @Override
+    public long millisSinceLastTransfer(final String accountNumber) {
+        return store.millisSinceLastTransfer(accountNumber, System.currentTimeMillis());
+    }
+
+    /**
+     * Drops accounts without transfers in the retention period.
+     */
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1H")
+    public void evictIdle() {
+        final int evicted = store.evictIdle(System.currentTimeMillis());
+        if (evicted > 0) {
+            log.debug("Evicted {} idle accounts from account features", evicted);
+        }
+    }
+
+    private static long toEpochMillis(final LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.temporal.validation.domain.service;
+
+import com.example.temporal.common.exception.ValidationUnavailableException;
+import com.example.temporal.validation.domain.activity.AccountActivityView;
+import com.example.temporal.validation.domain.features.AccountFeatureView;
+import com.example.temporal.validation.domain.fraud.FraudRuleSnapshot;
+import com.example.temporal.validation.domain.port.in.ValidateTransferUseCase.ValidateTransferCommand;
+import com.example.temporal.validation.domain.port.out.FraudRulePort;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Evaluates transfers against an in-memory snapshot of the active fraud rules.
+ * <p>
+ * The snapshot is compiled once and swapped atomically when the rules version
+ * stored in the database changes, so validations never query the rules table.
+ * If reloading fails, the previous snapshot stays in place. Until a first
+ * snapshot loads no transfer is scored, since no rules would pass every one.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FraudRuleEngine {
+
+    private final FraudRulePort fraudRulePort;
+    private final AccountActivityView accountActivity;
+    private final AccountFeatureView accountFeatures;
+
+    private volatile FraudRuleSnapshot snapshot;
+
+    /**
+     * Scores a transfer with the current rules.
+     * @param command the transfer being validated
+     * @return the fraud score
+     * @throws ValidationUnavailableException if the rules never loaded
+     */
+    public int score(final ValidateTransferCommand command) {
+        final FraudRuleSnapshot current = snapshot;
+        if (current == null) {
+            throw new ValidationUnavailableException("Fraud rules not loaded yet");
+        }
+        return current.score(command);
+    }
+
+    /**
+     * Reloads the rules when their version changed.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${validation.fraud-rules.refresh-interval-ms:5000}",
+            initialDelayString = "${validation.fraud-rules.refresh-interval-ms:5000}")
+    public void refresh() {
+        final FraudRuleSnapshot current = snapshot;
+        try {
+            final String version = fraudRulePort.getRulesVersion().orElse(null);
+            if (current != null && version != null && version.equals(current.version())) {
+                return;
+            }
+
+            final FraudRuleSnapshot loaded = FraudRuleSnapshot.compile(
+                    version, fraudRulePort.getActiveRules(), accountActivity, accountFeatures);
+            snapshot = loaded;
+            log.info("Fraud rules loaded: {} compiled rules, version {}", loaded.size(), version);
+        } catch (final Exception e) {
+            if (current == null) {
+                log.error("Error loading fraud rules, transfers cannot be scored until they load: {}", e.getMessage());
+            } else {
+                log.error("Error reloading fraud rules, keeping version {}: {}", current.version(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.temporal.validation.domain.service;
+
+import com.example.temporal.common.exception.ValidationUnavailableException;
+import com.example.temporal.validation.domain.port.out.TransferLimitPort;
+import com.example.temporal.validation.domain.port.out.TransferLimitPort.TransferLimitInfo;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Near-cache of the transfer limit profiles, keyed by account type and currency.
+ * <p>
+ * The whole limits table is small, so it is loaded at once and swapped atomically
+ * when the limits version stored in the database changes. A lookup for a pair
+ * without a profile is answered from the same snapshot, so unconfigured
+ * currencies never reach the database either. If reloading fails, the previous
+ * profiles stay in place. Until the profiles first load no lookup is answered,
+ * since every pair would read as not configured.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransferLimitCache {
+
+    private final TransferLimitPort transferLimitPort;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Gets the limits of an account type in a currency.
+     * @param accountType the account type
+     * @param currency the currency
+     * @return the limits, or empty when that pair is not configured
+     * @throws ValidationUnavailableException if the profiles never loaded
+     */
+    public Optional<TransferLimitInfo> get(final String accountType, final String currency) {
+        final Snapshot current = snapshot;
+        if (current == null) {
+            throw new ValidationUnavailableException("Transfer limits not loaded yet");
+        }
+        return Optional.ofNullable(current.limits().get(new LimitKey(accountType, currency)));
+    }
+
+    /**
+     * Reloads the limits when their version changed.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${validation.transfer-limits.refresh-interval-ms:5000}",
+            initialDelayString = "${validation.transfer-limits.refresh-interval-ms:5000}")
+    public void refresh() {
+        final Snapshot current = snapshot;
+        try {
+            final String version = transferLimitPort.getLimitsVersion().orElse(null);
+            if (current != null && version != null && version.equals(current.version())) {
+                return;
+            }
+
+            final List<TransferLimitInfo> limits = transferLimitPort.getAllLimits();
+            snapshot = new Snapshot(version, limits.stream().collect(Collectors.toUnmodifiableMap(
+                    limit -> new LimitKey(limit.accountType(), limit.currency()), Function.identity())));
+            log.info("Transfer limits loaded: {} profiles, version {}", limits.size(), version);
+        } catch (final Exception e) {
+            if (current == null) {
+                log.error("Error loading transfer limits, transfers cannot be checked until they load: {}",
+                        e.getMessage());
+            } else {
+                log.error("Error reloading transfer limits, keeping version {}: {}", current.version(), e.getMessage());
+            }
+        }
+    }
+
+    private record LimitKey(String accountType, String currency) {}
+
+    private record Snapshot(String version, Map<LimitKey, TransferLimitInfo> limits) {}
+}
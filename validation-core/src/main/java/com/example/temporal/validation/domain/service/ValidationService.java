@@ -0,0 +1,677 @@
+package com.example.temporal.validation.domain.service;
+
+import com.example.temporal.common.exception.ValidationUnavailableException;
+import com.example.temporal.validation.config.ValidationBatchProperties;
+import com.example.temporal.validation.config.ValidationDuplicateProperties;
+import com.example.temporal.validation.domain.activity.AccountActivityWindows.WindowLimit;
+import com.example.temporal.validation.domain.fraud.FraudRuleSnapshot;
+import com.example.temporal.validation.domain.model.TransferValidationDomain;
+import com.example.temporal.validation.domain.port.in.ValidateTransferUseCase;
+import com.example.temporal.validation.domain.port.in.QueryValidationUseCase;
+import com.example.temporal.validation.domain.port.out.AccountServicePort;
+import com.example.temporal.validation.domain.port.out.DuplicateTransferPort;
+import com.example.temporal.validation.domain.port.out.ValidationPersistencePort;
+import com.example.temporal.validation.domain.port.out.ValidationRecordPort;
+import com.example.temporal.validation.domain.port.out.ValidationResultCachePort;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Domain service implementing transfer validation use cases
+ * Contains pure business logic without framework dependencies
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ValidationService implements ValidateTransferUseCase, QueryValidationUseCase {
+
+    private static final Duration DAILY_WINDOW = Duration.ofDays(1);
+    private static final Duration MONTHLY_WINDOW = Duration.ofDays(30);
+    private static final String DUPLICATE_REASON = "suspected duplicate of a transfer approved moments ago";
+
+    private final ValidationPersistencePort validationPersistencePort;
+    private final ValidationRecordPort validationRecordPort;
+    private final ValidationResultCachePort validationResultCachePort;
+    private final AccountServicePort accountServicePort;
+    private final DuplicateTransferPort duplicateTransferPort;
+    private final TransferLimitCache transferLimitCache;
+    private final FraudRuleEngine fraudRuleEngine;
+    private final AccountActivityService accountActivityService;
+    private final AccountFeatureService accountFeatureService;
+    private final ValidationBatchProperties batchProperties;
+    private final ValidationDuplicateProperties duplicateProperties;
+    private final ExecutorService checkExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @PreDestroy
+    public void shutdown() {
+        checkExecutor.shutdownNow();
+    }
+
+    @Override
+    public ValidateTransferUseCase.ValidationResult validateTransfer(ValidateTransferCommand command) {
+        log.info("Validating transfer: {}", command);
+
+        try {
+            // Check for duplicate validation (idempotency); a generated key cannot match anything
+            String idempotencyKey = command.idempotencyKey() != null
+                    ? command.idempotencyKey()
+                    : UUID.randomUUID().toString();
+
+            if (command.idempotencyKey() != null) {
+                // A retry usually lands within seconds, while the decision is still cached
+                var cachedValidation = validationResultCachePort.get(idempotencyKey);
+                if (cachedValidation.isPresent()) {
+                    log.info("Returning cached validation for idempotency key: {}", idempotencyKey);
+                    return toResult(cachedValidation.get());
+                }
+                var existingValidation = validationRecordPort.findPending(idempotencyKey)
+                        .or(() -> validationPersistencePort.findByIdempotencyKey(command.idempotencyKey()));
+                if (existingValidation.isPresent()) {
+                    log.info("Validation already exists for idempotency key: {}", idempotencyKey);
+                    validationResultCachePort.put(existingValidation.get());
+                    return toResult(existingValidation.get());
+                }
+            }
+
+            // Create pending validation
+            TransferValidationDomain validation = TransferValidationDomain.createPending(
+                    command.sourceAccountNumber(),
+                    command.destinationAccountNumber(),
+                    command.amount(),
+                    command.currency(),
+                    idempotencyKey
+            );
+
+            // Perform validations concurrently; the first rejection wins
+            var checkResult = withinLimits(command, withDuplicateCheck(command, runChecks(command)));
+
+            // Update validation based on results; the record is written behind the response
+            if (!checkResult.approved) {
+                validation = validation.reject(checkResult.reason);
+                if (checkResult.fraudScore != null) {
+                    validation = validation.withFraudScore(checkResult.fraudScore);
+                }
+                return toResult(remember(command, validationRecordPort.record(validation).validation()));
+            }
+
+            // All validations passed - approve
+            validation = validation.approve()
+                    .withFraudScore(checkResult.fraudScore);
+            var recorded = validationRecordPort.record(validation);
+            TransferValidationDomain recordedValidation = remember(command, recorded.validation());
+            if (!recorded.inserted()) {
+                // A concurrent call with the same key decided first and counted its own approval
+                log.info("Validation raced another one for idempotency key: {}", idempotencyKey);
+                accountActivityService.release(command.sourceAccountNumber(), command.amount());
+                return toResult(recordedValidation);
+            }
+            accountFeatureService.record(command.sourceAccountNumber(), command.destinationAccountNumber(),
+                    command.amount());
+            duplicateTransferPort.record(command.sourceAccountNumber(), command.destinationAccountNumber(),
+                    command.amount(), command.currency());
+
+            log.info("Transfer validation approved with ID: {}", recordedValidation.getId());
+
+            return toResult(recordedValidation);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Validation interrupted: {}", command);
+            throw new ValidationUnavailableException("Validation interrupted", e);
+        } catch (IllegalArgumentException e) {
+            log.error("Validation error: {}", e.getMessage());
+            return ValidateTransferUseCase.ValidationResult.rejected(null, e.getMessage());
+        } catch (Exception e) {
+            // Nothing was decided, so the caller may retry; a rejection would be final
+            log.error("Error validating transfer: {}", e.getMessage(), e);
+            throw new ValidationUnavailableException("Validation unavailable: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public BatchSummary validateBatch(Iterator<BatchLine> lines, Consumer<BatchLineResult> resultListener) {
+        long start = System.nanoTime();
+        int chunkSize = Math.max(1, batchProperties.getChunkSize());
+        List<BatchLine> chunk = new ArrayList<>(chunkSize);
+
+        long received = 0;
+        long approved = 0;
+        boolean interrupted = false;
+
+        while (lines.hasNext() && !interrupted) {
+            chunk.add(lines.next());
+            if (chunk.size() < chunkSize && lines.hasNext()) {
+                continue;
+            }
+
+            List<BatchLineResult> results;
+            try {
+                results = validateChunk(chunk);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                interrupted = true;
+                results = rejectChunk(chunk, "Validation interrupted");
+            } catch (Exception e) {
+                log.error("Error validating batch chunk of {} lines: {}", chunk.size(), e.getMessage(), e);
+                results = rejectChunk(chunk, "Validation failed: " + e.getMessage());
+            }
+
+            for (BatchLineResult result : results) {
+                if (result.result().approved()) {
+                    approved++;
+                }
+                resultListener.accept(result);
+            }
+            received += chunk.size();
+            chunk.clear();
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("Batch validation finished: {} lines, {} approved, {} rejected in {} ms",
+                received, approved, received - approved, elapsedMillis);
+
+        return new BatchSummary(received, approved, received - approved, elapsedMillis,
+                elapsedMillis > 0 ? received * 1000.0 / elapsedMillis : received);
+    }
+
+    /**
+     * Validates one chunk of a batch: one idempotency query, one account lookup for every
+     * account involved and one batched insert. Limits and fraud rules are already in memory.
+     * Lines are grouped by source account; groups run in parallel on virtual threads and the
+     * lines of a group run in order, so each line sees the balance and limits used by the
+     * earlier lines of the same payer.
+     * @return the results, in line order
+     */
+    private List<BatchLineResult> validateChunk(List<BatchLine> chunk) throws Exception {
+        BatchLineResult[] results = new BatchLineResult[chunk.size()];
+        String[] keys = new String[chunk.size()];
+
+        for (int i = 0; i < chunk.size(); i++) {
+            var command = chunk.get(i).command();
+            if (command != null) {
+                keys[i] = command.idempotencyKey() != null ? command.idempotencyKey() : UUID.randomUUID().toString();
+            }
+        }
+        // Only supplied keys can match a stored or queued validation
+        Map<String, TransferValidationDomain> existing = new HashMap<>();
+        List<String> suppliedKeys = chunk.stream()
+                .map(BatchLine::command)
+                .filter(command -> command != null && command.idempotencyKey() != null)
+                .map(ValidateTransferCommand::idempotencyKey)
+                .distinct()
+                .toList();
+        suppliedKeys.forEach(key -> validationResultCachePort.get(key)
+                .ifPresent(validation -> existing.put(key, validation)));
+        List<String> uncachedKeys = suppliedKeys.stream().filter(key -> !existing.containsKey(key)).toList();
+        if (!uncachedKeys.isEmpty()) {
+            validationPersistencePort.findByIdempotencyKeys(uncachedKeys)
+                    .forEach(validation -> existing.put(validation.getIdempotencyKey(), validation));
+            uncachedKeys.forEach(key -> validationRecordPort.findPending(key)
+                    .ifPresent(validation -> existing.put(key, validation)));
+        }
+
+        Map<String, List<Integer>> linesBySource = new LinkedHashMap<>();
+        Set<String> accountNumbers = new HashSet<>();
+        Set<String> batchKeys = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            var line = chunk.get(i);
+            if (line.command() == null) {
+                results[i] = new BatchLineResult(line.lineNumber(), null,
+                        ValidateTransferUseCase.ValidationResult.rejected(null, line.parseError()));
+            } else if (existing.containsKey(keys[i])) {
+                results[i] = new BatchLineResult(line.lineNumber(), keys[i], toResult(existing.get(keys[i])));
+            } else if (!batchKeys.add(keys[i])) {
+                results[i] = new BatchLineResult(line.lineNumber(), keys[i],
+                        ValidateTransferUseCase.ValidationResult.rejected(null, "Duplicate idempotency key in batch"));
+            } else {
+                linesBySource.computeIfAbsent(line.command().sourceAccountNumber(), source -> new ArrayList<>()).add(i);
+                accountNumbers.add(line.command().sourceAccountNumber());
+                accountNumbers.add(line.command().destinationAccountNumber());
+            }
+        }
+        if (linesBySource.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        var accounts = accountServicePort.getAccounts(accountNumbers);
+        TransferValidationDomain[] validations = new TransferValidationDomain[chunk.size()];
+        List<Callable<Void>> groups = linesBySource.values().stream()
+                .<Callable<Void>>map(indexes -> () -> {
+                    validateSourceLines(chunk, keys, indexes, accounts, validations);
+                    return null;
+                })
+                .toList();
+        for (Future<Void> group : checkExecutor.invokeAll(groups)) {
+            group.get();
+        }
+
+        List<Integer> pending = linesBySource.values().stream().flatMap(List::stream).sorted().toList();
+        List<TransferValidationDomain> saved;
+        try {
+            saved = validationPersistencePort.saveAll(pending.stream().map(i -> validations[i]).toList());
+        } catch (RuntimeException e) {
+            // Nothing was stored, so nothing the chunk approved may count against the limits
+            for (int i : pending) {
+                if (validations[i].isApproved()) {
+                    var command = chunk.get(i).command();
+                    accountActivityService.release(command.sourceAccountNumber(), command.amount());
+                }
+            }
+            throw e;
+        }
+        for (int j = 0; j < pending.size(); j++) {
+            int i = pending.get(j);
+            var command = chunk.get(i).command();
+            if (saved.get(j).isApproved()) {
+                accountFeatureService.record(command.sourceAccountNumber(), command.destinationAccountNumber(),
+                        command.amount());
+                duplicateTransferPort.record(command.sourceAccountNumber(), command.destinationAccountNumber(),
+                        command.amount(), command.currency());
+            }
+            results[i] = new BatchLineResult(chunk.get(i).lineNumber(), keys[i],
+                    toResult(remember(command, saved.get(j))));
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Validates, in order, the lines of one source account; approved amounts are deducted
+     * from the available balance and reserved against the limits before the next line is
+     * checked. Features and the duplicate filter learn of the approvals only once the chunk
+     * is stored.
+     */
+    private void validateSourceLines(List<BatchLine> chunk, String[] keys, List<Integer> indexes,
+                                     Map<String, AccountServicePort.AccountInfo> accounts,
+                                     TransferValidationDomain[] validations) {
+        BigDecimal spent = BigDecimal.ZERO;
+        List<ValidateTransferCommand> approved = new ArrayList<>();
+        for (int i : indexes) {
+            var command = chunk.get(i).command();
+            var lineAccounts = new HashMap<String, AccountServicePort.AccountInfo>();
+            var source = accounts.get(command.sourceAccountNumber());
+            if (source != null) {
+                lineAccounts.put(source.accountNumber(), withBalance(source, source.balance().subtract(spent)));
+            }
+            var destination = accounts.get(command.destinationAccountNumber());
+            if (destination != null) {
+                lineAccounts.put(destination.accountNumber(), destination);
+            }
+
+            var result = withinLimits(command, withBatchDuplicateCheck(command, approved,
+                    evaluate(command, lineAccounts)));
+            var validation = TransferValidationDomain.createPending(
+                    command.sourceAccountNumber(),
+                    command.destinationAccountNumber(),
+                    command.amount(),
+                    command.currency(),
+                    keys[i]
+            );
+            if (result.approved) {
+                validation = validation.approve().withFraudScore(result.fraudScore);
+                spent = spent.add(command.amount());
+                approved.add(command);
+            } else {
+                validation = validation.reject(result.reason);
+                if (result.fraudScore != null) {
+                    validation = validation.withFraudScore(result.fraudScore);
+                }
+            }
+            validations[i] = validation;
+        }
+    }
+
+    /**
+     * Runs the account, limit and fraud checks one after the other on data already in memory
+     * @return the first rejection, or an approval carrying the fraud score
+     */
+    private InternalValidationResult evaluate(
+            ValidateTransferCommand command, Map<String, AccountServicePort.AccountInfo> accounts) {
+        try {
+            validateAccounts(command, accounts);
+        } catch (IllegalArgumentException e) {
+            return new InternalValidationResult(false, e.getMessage(), null);
+        }
+        var limits = validateTransferLimits(command, accounts);
+        return limits.approved ? validateFraudRules(command).withWindowLimits(limits.windowLimits) : limits;
+    }
+
+    /**
+     * Caches a decided validation when the caller supplied its key, so a retry can find it;
+     * a generated key is never sent again
+     * @return the validation
+     */
+    private TransferValidationDomain remember(ValidateTransferCommand command, TransferValidationDomain validation) {
+        if (command.idempotencyKey() != null) {
+            validationResultCachePort.put(validation);
+        }
+        return validation;
+    }
+
+    /**
+     * Adds the duplicate suspicion to the fraud score when an identical transfer was approved
+     * within the duplicate window; the transfer is remembered only once its approval is recorded,
+     * so a rejected one never raises the score of a retry
+     */
+    private InternalValidationResult withDuplicateCheck(ValidateTransferCommand command,
+                                                        InternalValidationResult result) {
+        if (!result.approved) {
+            return result;
+        }
+        return withDuplicateScore(command, result, duplicateTransferPort.seenRecently(
+                command.sourceAccountNumber(), command.destinationAccountNumber(), command.amount(),
+                command.currency()));
+    }
+
+    /**
+     * Adds the duplicate suspicion to the fraud score when an identical transfer was approved
+     * within the duplicate window or earlier in the same batch; nothing is remembered until the
+     * batch is stored
+     * @param approved the transfers of the same source account approved earlier in the batch
+     */
+    private InternalValidationResult withBatchDuplicateCheck(ValidateTransferCommand command,
+                                                             List<ValidateTransferCommand> approved,
+                                                             InternalValidationResult result) {
+        if (!result.approved) {
+            return result;
+        }
+        // Lines of one batch are compared exactly; only earlier approvals go through the filter
+        boolean inBatch = approved.stream().anyMatch(earlier ->
+                earlier.destinationAccountNumber().equals(command.destinationAccountNumber())
+                        && earlier.amount().compareTo(command.amount()) == 0
+                        && earlier.currency().equals(command.currency()));
+        return withDuplicateScore(command, result, inBatch || duplicateTransferPort.seenRecently(
+                command.sourceAccountNumber(), command.destinationAccountNumber(), command.amount(),
+                command.currency()));
+    }
+
+    /**
+     * A suspected duplicate raises the fraud score rather than rejecting outright, since the
+     * filter behind it admits false positives; the approval is turned into a rejection only when
+     * the raised score reaches the reject score
+     */
+    private InternalValidationResult withDuplicateScore(ValidateTransferCommand command,
+                                                        InternalValidationResult result, boolean suspected) {
+        if (!suspected) {
+            return result;
+        }
+        int fraudScore = (result.fraudScore != null ? result.fraudScore : 0) + duplicateProperties.getScore();
+        log.warn("Suspected duplicate transfer from {} to {} of {} {}, fraud score {}", command.sourceAccountNumber(),
+                command.destinationAccountNumber(), command.amount(), command.currency(), fraudScore);
+        if (fraudScore >= FraudRuleSnapshot.REJECT_SCORE) {
+            return new InternalValidationResult(false, "High fraud score: " + fraudScore + " (" + DUPLICATE_REASON + ")",
+                    fraudScore);
+        }
+        return new InternalValidationResult(true, null, fraudScore, result.windowLimits);
+    }
+
+    /**
+     * Counts an approved amount as activity of the source account, checking it against the
+     * daily/monthly limits in the same step; turns the approval into a rejection when the
+     * amount would exceed a limit
+     */
+    private InternalValidationResult withinLimits(ValidateTransferCommand command, InternalValidationResult result) {
+        if (!result.approved) {
+            return result;
+        }
+        var breach = accountActivityService.reserve(command.sourceAccountNumber(), command.amount(),
+                result.windowLimits);
+        if (breach == null) {
+            return result;
+        }
+        String reason = "Transfer amount (" + command.amount() + ") would exceed " + breach.limit().name()
+                + " transfer limit (" + breach.limit().limit() + "), already transferred " + breach.used();
+        log.warn("Transfer limit validation failed: {}", reason);
+        return new InternalValidationResult(false, reason, result.fraudScore);
+    }
+
+    private List<BatchLineResult> rejectChunk(List<BatchLine> chunk, String reason) {
+        return chunk.stream()
+                .map(line -> new BatchLineResult(line.lineNumber(),
+                        line.command() != null ? line.command().idempotencyKey() : null,
+                        ValidateTransferUseCase.ValidationResult.rejected(null, reason)))
+                .toList();
+    }
+
+    private static ValidateTransferUseCase.ValidationResult toResult(TransferValidationDomain validation) {
+        return validation.isApproved()
+                ? ValidateTransferUseCase.ValidationResult.approved(validation.getId(), validation.getFraudScore())
+                : ValidateTransferUseCase.ValidationResult.rejected(validation.getId(), validation.getRejectionReason());
+    }
+
+    private static AccountServicePort.AccountInfo withBalance(AccountServicePort.AccountInfo account, BigDecimal balance) {
+        return new AccountServicePort.AccountInfo(account.accountNumber(), account.ownerName(), balance,
+                account.currency(), account.accountType(), account.active());
+    }
+
+    /**
+     * Runs the account, limit and fraud checks concurrently on virtual threads.
+     * The account and limit checks share one account lookup, so a validation takes
+     * as long as the slowest check; the first rejection (or failure) cancels the
+     * checks still running.
+     * @return the first rejection, or an approval carrying the fraud score
+     */
+    private InternalValidationResult runChecks(ValidateTransferCommand command) throws Exception {
+        CompletionService<InternalValidationResult> completion = new ExecutorCompletionService<>(checkExecutor);
+        // Fetch both accounts in one round trip
+        Future<Map<String, AccountServicePort.AccountInfo>> accounts = checkExecutor.submit(
+                () -> accountServicePort.getAccounts(
+                        List.of(command.sourceAccountNumber(), command.destinationAccountNumber())));
+        List<Future<InternalValidationResult>> checks = List.of(
+                completion.submit(() -> validateAccounts(command, accounts.get())),
+                completion.submit(() -> validateTransferLimits(command, accounts.get())),
+                completion.submit(() -> validateFraudRules(command)));
+
+        try {
+            Integer fraudScore = null;
+            List<WindowLimit> windowLimits = List.of();
+            for (int i = 0; i < checks.size(); i++) {
+                var result = completion.take().get();
+                if (!result.approved) {
+                    return result;
+                }
+                if (result.fraudScore != null) {
+                    fraudScore = result.fraudScore;
+                }
+                if (!result.windowLimits.isEmpty()) {
+                    windowLimits = result.windowLimits;
+                }
+            }
+            return new InternalValidationResult(true, null, fraudScore, windowLimits);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } finally {
+            accounts.cancel(true);
+            checks.forEach(check -> check.cancel(true));
+        }
+    }
+
+    /**
+     * Validates account-related checks
+     * @return an approval; rejections are thrown as IllegalArgumentException
+     */
+    private InternalValidationResult validateAccounts(
+            ValidateTransferCommand command, Map<String, AccountServicePort.AccountInfo> accounts) {
+        log.debug("Validating accounts for transfer");
+
+        // Check source account exists and is valid
+        var sourceAccount = Optional.ofNullable(accounts.get(command.sourceAccountNumber()));
+        if (sourceAccount.isEmpty()) {
+            throw new IllegalArgumentException("Source account does not exist: " + command.sourceAccountNumber());
+        }
+
+        // Check destination account exists and is valid
+        var destAccount = Optional.ofNullable(accounts.get(command.destinationAccountNumber()));
+        if (destAccount.isEmpty()) {
+            throw new IllegalArgumentException("Destination account does not exist: " + command.destinationAccountNumber());
+        }
+
+        // Check currencies match
+        if (!sourceAccount.get().currency().equals(command.currency())) {
+            throw new IllegalArgumentException(
+                    "Source account currency (" + sourceAccount.get().currency() + 
+                    ") does not match transfer currency (" + command.currency() + ")");
+        }
+
+        if (!destAccount.get().currency().equals(command.currency())) {
+            throw new IllegalArgumentException(
+                    "Destination account currency (" + destAccount.get().currency() + 
+                    ") does not match transfer currency (" + command.currency() + ")");
+        }
+
+        // Check sufficient funds
+        if (sourceAccount.get().balance().compareTo(command.amount()) < 0) {
+            throw new IllegalArgumentException("Insufficient funds in source account");
+        }
+
+        // Check accounts are not the same
+        if (command.sourceAccountNumber().equals(command.destinationAccountNumber())) {
+            throw new IllegalArgumentException("Source and destination accounts cannot be the same");
+        }
+
+        log.debug("Account validation passed");
+        return new InternalValidationResult(true, null, null);
+    }
+
+    /**
+     * Validates the single transfer limit; the daily and monthly limits are returned with
+     * the approval, to be reserved once every check passed
+     * @return validation result with reason if rejected
+     */
+    private InternalValidationResult validateTransferLimits(
+            ValidateTransferCommand command, Map<String, AccountServicePort.AccountInfo> accounts) {
+        log.debug("Validating transfer limits");
+
+        // A missing source account is rejected by the account check
+        var sourceAccount = accounts.get(command.sourceAccountNumber());
+        if (sourceAccount == null) {
+            return new InternalValidationResult(true, null, null);
+        }
+
+        // Get transfer limit for the source account type from the in-memory profiles;
+        // throws while they never loaded, so a missing profile means not configured
+        var accountType = sourceAccount.accountType();
+        var limitInfo = transferLimitCache.get(accountType, command.currency());
+
+        if (limitInfo.isPresent()) {
+            var limit = limitInfo.get();
+            
+            // Check single transfer limit
+            if (command.amount().compareTo(limit.singleTransferLimit()) > 0) {
+                String reason = "Transfer amount (" + command.amount() + 
+                               ") exceeds single transfer limit (" + limit.singleTransferLimit() + ")";
+                log.warn("Transfer limit validation failed: {}", reason);
+                return new InternalValidationResult(false, reason, null);
+            }
+
+            var windowLimits = new ArrayList<WindowLimit>(2);
+            if (limit.dailyTransferLimit() != null) {
+                windowLimits.add(new WindowLimit("daily", DAILY_WINDOW, limit.dailyTransferLimit()));
+            }
+            if (limit.monthlyTransferLimit() != null) {
+                windowLimits.add(new WindowLimit("monthly", MONTHLY_WINDOW, limit.monthlyTransferLimit()));
+            }
+            log.debug("Single transfer limit validation passed");
+            return new InternalValidationResult(true, null, null, windowLimits);
+        } else {
+            log.warn("Transfer limit not configured for {}/{}", accountType, command.currency());
+            // Don't reject - allow transfer if limits not configured (demo behavior)
+        }
+
+        log.debug("Transfer limit validation passed");
+        return new InternalValidationResult(true, null, null);
+    }
+
+    /**
+     * Validates fraud rules against the compiled in-memory rule snapshot
+     * @return validation result with fraud score
+     */
+    private InternalValidationResult validateFraudRules(ValidateTransferCommand command) {
+        log.debug("Validating fraud rules");
+
+        int fraudScore = fraudRuleEngine.score(command);
+
+        if (fraudScore >= FraudRuleSnapshot.REJECT_SCORE) {
+            String reason = "High fraud score: " + fraudScore;
+            log.warn("Transfer rejected due to high fraud score: {}", fraudScore);
+            return new InternalValidationResult(false, reason, fraudScore);
+        }
+
+        log.debug("Fraud validation passed with score: {}", fraudScore);
+        return new InternalValidationResult(true, null, fraudScore);
+    }
+
+    /**
+     * Internal validation result for sub-validations; an approval carries the
+     * daily/monthly limits still to reserve
+     */
+    private record InternalValidationResult(
+            boolean approved,
+            String reason,
+            Integer fraudScore,
+            List<WindowLimit> windowLimits
+    ) {
+        InternalValidationResult(boolean approved, String reason, Integer fraudScore) {
+            this(approved, reason, fraudScore, List.of());
+        }
+
+        InternalValidationResult withWindowLimits(List<WindowLimit> windowLimits) {
+            return new InternalValidationResult(approved, reason, fraudScore, windowLimits);
+        }
+    }
+
+    // ========== QueryValidationUseCase Implementation ==========
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<TransferValidationDomain> getValidationById(Long validationId) {
+        log.debug("Getting validation by ID: {}", validationId);
+        return validationPersistencePort.findById(validationId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TransferValidationDomain> getValidationsByTransferId(String transferId) {
+        log.debug("Getting validations by transfer ID: {}", transferId);
+        return validationPersistencePort.findByTransferId(transferId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TransferValidationDomain> getValidationsByAccount(String accountNumber) {
+        log.debug("Getting validations by account: {}", accountNumber);
+        return validationPersistencePort.findByAccountNumber(accountNumber);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TransferValidationDomain> getPendingValidations() {
+        log.debug("Getting pending validations");
+        return validationPersistencePort.findPendingValidations();
+    }
+}
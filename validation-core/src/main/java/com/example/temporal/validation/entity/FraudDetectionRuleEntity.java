@@ -1,5 +1,6 @@
 package com.example.temporal.validation.entity;
 
+import com.example.temporal.common.model.IdAllocation;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.experimental.Accessors;
@@ -16,7 +17,9 @@ import java.math.BigDecimal;
 public class FraudDetectionRuleEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fraud_detection_rules_seq")
+    @SequenceGenerator(name = "fraud_detection_rules_seq", sequenceName = "fraud_detection_rules_seq",
+            allocationSize = IdAllocation.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
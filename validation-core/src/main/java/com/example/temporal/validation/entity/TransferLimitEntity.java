@@ -1,5 +1,6 @@
 package com.example.temporal.validation.entity;
 
+import com.example.temporal.common.model.IdAllocation;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.experimental.Accessors;
@@ -16,7 +17,9 @@ import java.math.BigDecimal;
 public class TransferLimitEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transfer_limits_seq")
+    @SequenceGenerator(name = "transfer_limits_seq", sequenceName = "transfer_limits_seq",
+            allocationSize = IdAllocation.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
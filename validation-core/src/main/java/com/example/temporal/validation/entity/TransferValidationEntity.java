@@ -1,5 +1,6 @@
 package com.example.temporal.validation.entity;
 
+import com.example.temporal.common.model.IdAllocation;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.experimental.Accessors;
@@ -17,7 +18,9 @@ import java.time.LocalDateTime;
 public class TransferValidationEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transfer_validations_seq")
+    @SequenceGenerator(name = "transfer_validations_seq", sequenceName = "transfer_validations_seq",
+            allocationSize = IdAllocation.ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "transfer_id")
@@ -0,0 +1,166 @@
+package com.example.temporal.validation.infrastructure.adapter.in.messaging;
+
+import com.example.temporal.common.model.Account;
+import com.example.temporal.validation.config.AccountReplicaProperties;
+import com.example.temporal.validation.infrastructure.adapter.out.replica.AccountReplica;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Kafka listener adapter feeding the local account replica
+ * <p>
+ * Consumes the Debezium topics of accounts and balance slots in the unwrapped
+ * format (ExtractNewRecordState with {@code delete.handling.mode=rewrite} and
+ * {@code add.fields=source.ts_ms}, decimals as strings). Every instance uses its
+ * own consumer group and reads from the beginning, so each holds the full table.
+ * </p>
+ * <p>
+ * The lag is measured on the source clock: each applied change carries its
+ * commit time, and while nothing changes, Debezium heartbeats (consumed by a
+ * separate container, so they never keep the change consumer busy) tell up to
+ * when the connector was publishing. When the change consumer goes idle with
+ * its position at the end offsets of every partition, the replica holds every
+ * change up to the heartbeat read before those offsets were fetched.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "service.account.replica", name = "enabled", havingValue = "true")
+public class AccountReplicaListener {
+
+    static final String LISTENER_ID = "account-replica";
+    static final String HEARTBEAT_LISTENER_ID = "account-heartbeat";
+
+    private final AccountReplica accountReplica;
+    private final AccountReplicaProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            id = LISTENER_ID,
+            topics = {"${service.account.replica.accounts-topic:banking.public.accounts}",
+                    "${service.account.replica.slots-topic:banking.public.account_balance_slots}"},
+            groupId = "${service.account.replica.group-id:validation-account-replica-${random.uuid}}",
+            properties = "auto.offset.reset=earliest"
+    )
+    public void handleChange(ConsumerRecord<String, String> record) {
+        if (record.value() == null) {
+            return; // tombstone following a delete
+        }
+
+        try {
+            JsonNode row = objectMapper.readTree(record.value());
+            long id = row.path("id").asLong();
+            boolean deleted = row.path("__deleted").asBoolean(false);
+
+            if (record.topic().equals(properties.getSlotsTopic())) {
+                applySlot(id, deleted, row);
+            } else {
+                applyAccount(id, deleted, row);
+            }
+
+            long committedAt = row.hasNonNull("__source_ts_ms")
+                    ? row.get("__source_ts_ms").asLong()
+                    : record.timestamp();
+            accountReplica.applied(committedAt);
+        } catch (JsonProcessingException | NumberFormatException e) {
+            log.error("Skipping unreadable change from {} at offset {}: {}",
+                    record.topic(), record.offset(), e.getMessage());
+        }
+    }
+
+    @KafkaListener(
+            id = HEARTBEAT_LISTENER_ID,
+            topics = "${service.account.replica.heartbeat-topic:__debezium-heartbeat.banking}",
+            groupId = "${service.account.replica.group-id:validation-account-replica-${random.uuid}}-heartbeat",
+            properties = "auto.offset.reset=latest"
+    )
+    public void handleHeartbeat(ConsumerRecord<String, String> record) {
+        if (record.value() == null) {
+            return;
+        }
+        try {
+            JsonNode heartbeat = objectMapper.readTree(record.value());
+            accountReplica.heartbeat(heartbeat.hasNonNull("ts_ms") ? heartbeat.get("ts_ms").asLong() : record.timestamp());
+        } catch (JsonProcessingException e) {
+            log.error("Skipping unreadable heartbeat at offset {}: {}", record.offset(), e.getMessage());
+        }
+    }
+
+    /**
+     * The consumer polled nothing for the idle interval. If it also read up to the end of
+     * every partition, the replica holds every change the connector published up to the
+     * last heartbeat; an idle consumer that still lags, or without heartbeats, proves nothing.
+     * Runs on the consumer thread, so the event's consumer can be used.
+     */
+    @EventListener(condition = "event.listenerId.startsWith('" + LISTENER_ID + "')")
+    public void handleIdle(ListenerContainerIdleEvent event) {
+        // Read before the end offsets, so every change published before it is below them
+        long heartbeatAt = accountReplica.lastHeartbeat();
+        if (heartbeatAt == 0) {
+            return;
+        }
+        Consumer<?, ?> consumer = event.getConsumer();
+        Set<TopicPartition> partitions = consumer.assignment();
+        if (partitions.isEmpty()) {
+            return;
+        }
+        Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+        boolean drained = endOffsets.entrySet().stream()
+                .allMatch(end -> consumer.position(end.getKey()) >= end.getValue());
+        if (drained) {
+            accountReplica.caughtUp(heartbeatAt);
+        } else {
+            log.debug("Account replica idle but behind the end offsets {}", endOffsets);
+        }
+    }
+
+    private void applyAccount(long id, boolean deleted, JsonNode row) {
+        if (deleted) {
+            accountReplica.removeAccount(id);
+            return;
+        }
+        String accountType = row.path("account_type").asText(null);
+        accountReplica.putAccount(
+                id,
+                row.path("account_number").asText(),
+                row.path("owner_name").asText(null),
+                decimal(row.get("balance")),
+                row.path("currency").asText(),
+                accountType != null ? accountType : Account.DEFAULT_ACCOUNT_TYPE
+        );
+    }
+
+    private void applySlot(long id, boolean deleted, JsonNode row) {
+        if (deleted) {
+            accountReplica.removeSlot(id);
+            return;
+        }
+        accountReplica.putSlot(id, row.path("account_number").asText(), decimal(row.get("balance")));
+    }
+
+    /**
+     * Reads a NUMERIC column published with {@code decimal.handling.mode} string or double
+     */
+    private static BigDecimal decimal(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return BigDecimal.ZERO;
+        }
+        return node.isNumber() ? node.decimalValue() : new BigDecimal(node.asText());
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.temporal.validation.infrastructure.adapter.in.messaging;
+
+import com.example.temporal.common.model.TransferStatus;
+import com.example.temporal.validation.domain.service.AccountActivityService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka listener adapter feeding the account activity windows from the transfers table
+ * <p>
+ * Consumes the Debezium topic of transfers in the unwrapped format, like the
+ * account replica. A transfer counts against the limits of its source account
+ * from validation until it fails, is cancelled or is compensated. Every instance
+ * uses its own consumer group and reads from the beginning, so each counts every
+ * transfer still inside the longest window.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "validation.activity", name = "cdc-enabled", havingValue = "true")
+public class TransferActivityListener {
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private static final Set<TransferStatus> COUNTED = EnumSet.of(
+            TransferStatus.VALIDATED,
+            TransferStatus.PROCESSING,
+            TransferStatus.COMPLETED,
+            TransferStatus.COMPENSATING);
+
+    private final AccountActivityService accountActivityService;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            id = "transfer-activity",
+            topics = "${validation.activity.transfers-topic:banking.public.transfers}",
+            groupId = "${validation.activity.group-id:validation-transfer-activity-${random.uuid}}",
+            properties = "auto.offset.reset=earliest"
+    )
+    public void handleChange(ConsumerRecord<String, String> record) {
+        if (record.value() == null) {
+            return; // tombstone following a delete
+        }
+
+        try {
+            JsonNode row = objectMapper.readTree(record.value());
+            long id = row.path("id").asLong();
+            if (row.path("__deleted").asBoolean(false)) {
+                accountActivityService.removeTransfer(id);
+                return;
+            }
+            accountActivityService.applyTransfer(
+                    id,
+                    row.path("source_account_number").asText(),
+                    decimal(row.get("amount")),
+                    epochMillis(row.get("created_at")),
+                    COUNTED.contains(TransferStatus.valueOf(row.path("status").asText())));
+        } catch (JsonProcessingException | IllegalArgumentException | DateTimeException e) {
+            log.error("Skipping unreadable transfer change at offset {}: {}", record.offset(), e.getMessage());
+        }
+    }
+
+    /**
+     * Reads a NUMERIC column published with {@code decimal.handling.mode} string or double
+     */
+    private static BigDecimal decimal(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return BigDecimal.ZERO;
+        }
+        return node.isNumber() ? node.decimalValue() : new BigDecimal(node.asText());
+    }
+
+    /**
+     * Reads a TIMESTAMP column, published as microseconds of the wall-clock time
+     * (Debezium's MicroTimestamp) or as an ISO-8601 string
+     */
+    private static long epochMillis(JsonNode node) {
+        if (node == null || node.isNull()) {
+            throw new IllegalArgumentException("Transfer without created_at");
+        }
+        LocalDateTime time = node.isNumber()
+                ? LocalDateTime.ofEpochSecond(
+                        Math.floorDiv(node.asLong(), MICROS_PER_SECOND),
+                        (int) TimeUnit.MICROSECONDS.toNanos(Math.floorMod(node.asLong(), MICROS_PER_SECOND)),
+                        ZoneOffset.UTC)
+                : LocalDateTime.parse(node.asText().replace(' ', 'T'));
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
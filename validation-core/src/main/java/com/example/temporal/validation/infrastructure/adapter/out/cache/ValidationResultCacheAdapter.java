@@ -0,0 +1,52 @@
+package com.example.temporal.validation.infrastructure.adapter.out.cache;
+
+import com.example.temporal.validation.config.ValidationResultCacheProperties;
+import com.example.temporal.validation.domain.model.TransferValidationDomain;
+import com.example.temporal.validation.domain.port.out.ValidationResultCachePort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Adapter for the validation decision cache using Caffeine.
+ * <p>
+ * Decisions are immutable once recorded, so entries are never invalidated;
+ * they only expire, after the retry window of the calling activity. Hit, miss
+ * and eviction counts are published under {@code cache.*} with
+ * {@code cache=validation-results}.
+ * </p>
+ */
+@Component
+public class ValidationResultCacheAdapter implements ValidationResultCachePort {
+
+    private final boolean enabled;
+    private final Cache<String, TransferValidationDomain> cache;
+
+    public ValidationResultCacheAdapter(final ValidationResultCacheProperties properties,
+                                        final MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "validation-results");
+    }
+
+    @Override
+    public Optional<TransferValidationDomain> get(final String idempotencyKey) {
+        return enabled ? Optional.ofNullable(cache.getIfPresent(idempotencyKey)) : Optional.empty();
+    }
+
+    @Override
+    public void put(final TransferValidationDomain validation) {
+        if (enabled && validation.getIdempotencyKey() != null) {
+            cache.put(validation.getIdempotencyKey(), validation);
+        }
+    }
+}
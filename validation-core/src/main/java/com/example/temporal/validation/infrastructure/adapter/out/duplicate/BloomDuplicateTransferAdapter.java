@@ -0,0 +1,90 @@
+package com.example.temporal.validation.infrastructure.adapter.out.duplicate;
+
+import com.example.temporal.validation.config.ValidationDuplicateProperties;
+import com.example.temporal.validation.domain.port.out.DuplicateTransferPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Near-duplicate detection with a rotating Bloom filter keyed on source,
+ * destination, amount and currency.
+ * <p>
+ * Memory is fixed by the expected volume and the false-positive rate, and a
+ * check costs a handful of bit probes per live slice, whatever the traffic.
+ * Checked and suspected transfers are published under
+ * {@code validation.duplicates.*}, with the false-positive rate configured
+ * and the rate estimated from how full the filters currently are.
+ * </p>
+ */
+@Slf4j
+@Component
+public class BloomDuplicateTransferAdapter implements DuplicateTransferPort {
+
+    private final boolean enabled;
+    private final RotatingBloomFilter filter;
+    private final Counter checked;
+    private final Counter suspected;
+
+    public BloomDuplicateTransferAdapter(final ValidationDuplicateProperties properties,
+                                         final MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.filter = new RotatingBloomFilter(properties.getWindow().toMillis(), properties.getSlices(),
+                properties.getExpectedPerWindow(), properties.getFalsePositiveRate());
+
+        this.checked = Counter.builder("validation.duplicates.checked")
+                .description("Approved transfers checked against the recent-transfer filter")
+                .register(meterRegistry);
+        this.suspected = Counter.builder("validation.duplicates.suspected")
+                .description("Transfers identical to one approved within the duplicate window")
+                .register(meterRegistry);
+        Gauge.builder("validation.duplicates.false-positive-rate.configured", properties::getFalsePositiveRate)
+                .description("False-positive rate the filters are sized for at the expected volume")
+                .register(meterRegistry);
+        Gauge.builder("validation.duplicates.false-positive-rate.estimated", filter,
+                        f -> f.estimatedFalsePositiveRate(System.currentTimeMillis()))
+                .description("False-positive rate implied by the current fill of the live filters")
+                .register(meterRegistry);
+
+        log.info("Duplicate filter: window {}, {} slices of {} bits with {} hashes",
+                properties.getWindow(), properties.getSlices(), filter.bitsPerSlice(), filter.hashes());
+    }
+
+    @Override
+    public boolean seenRecently(final String sourceAccountNumber, final String destinationAccountNumber,
+                                final BigDecimal amount, final String currency) {
+        if (!enabled) {
+            return false;
+        }
+        return counted(filter.mightContain(key(sourceAccountNumber, destinationAccountNumber, amount, currency),
+                System.currentTimeMillis()));
+    }
+
+    @Override
+    public void record(final String sourceAccountNumber, final String destinationAccountNumber,
+                       final BigDecimal amount, final String currency) {
+        if (enabled) {
+            filter.add(key(sourceAccountNumber, destinationAccountNumber, amount, currency),
+                    System.currentTimeMillis());
+        }
+    }
+
+    private boolean counted(final boolean duplicate) {
+        checked.increment();
+        if (duplicate) {
+            suspected.increment();
+        }
+        return duplicate;
+    }
+
+    private static String key(final String sourceAccountNumber, final String destinationAccountNumber,
+                              final BigDecimal amount, final String currency) {
+        return sourceAccountNumber + '|' + destinationAccountNumber + '|'
+                + amount.setScale(2, RoundingMode.HALF_UP).toPlainString() + '|' + currency;
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.temporal.validation.infrastructure.adapter.out.duplicate;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bloom filter over a sliding time window, in fixed memory.
+ * <p>
+ * The window is split into {@code slices} time slices, each with its own
+ * Bloom filter; one more slot holds the slice being filled, so a key stays
+ * visible for at least the whole window and at most one slice longer. A key
+ * is added to the current slice and looked up in every live one. When time
+ * moves into a new slice, its slot gets a fresh, empty filter; nothing is
+ * cleared in place, so a rotation never races with concurrent lookups.
+ * </p>
+ * <p>
+ * Each slice is sized for its share of the expected keys at
+ * {@code falsePositiveRate / slices}, so the union of the live slices stays
+ * near the requested rate. Bits are set with atomic ORs; two threads adding
+ * the same key at the same instant may both see it as new.
+ * </p>
+ */
+final class RotatingBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final long sliceMillis;
+    private final int bits;
+    private final int hashes;
+    private final AtomicReferenceArray<Slice> slots;
+
+    RotatingBloomFilter(final long windowMillis, final int slices, final long expectedPerWindow,
+                        final double falsePositiveRate) {
+        if (slices < 1 || windowMillis < slices || expectedPerWindow < 1
+                || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Invalid duplicate filter configuration");
+        }
+        final double perSliceKeys = Math.max(1.0, (double) expectedPerWindow / slices);
+        final double perSliceRate = falsePositiveRate / slices;
+        final long optimalBits = (long) Math.ceil(-perSliceKeys * Math.log(perSliceRate) / (LN2 * LN2));
+
+        this.sliceMillis = windowMillis / slices;
+        this.bits = (int) Math.min(Integer.MAX_VALUE - Long.SIZE, Math.max(Long.SIZE, optimalBits));
+        this.hashes = Math.max(1, (int) Math.round(bits / perSliceKeys * LN2));
+        this.slots = new AtomicReferenceArray<>(slices + 1);
+    }
+
+    /**
+     * Adds a key and tells whether it may have been added within the window.
+     * @param key the key
+     * @param nowMillis the current time
+     * @return true if every bit of the key was already set in a live slice
+     */
+    boolean add(final CharSequence key, final long nowMillis) {
+        final long hash = hash(key);
+        final long slice = Math.floorDiv(nowMillis, sliceMillis);
+        final boolean present = mightContain(hash, slice);
+        current(slice).set(hash, bits, hashes);
+        return present;
+    }
+
+    /**
+     * Looks a key up without adding it.
+     * @param key the key
+     * @param nowMillis the current time
+     * @return true if the key may have been added within the window
+     */
+    boolean mightContain(final CharSequence key, final long nowMillis) {
+        return mightContain(hash(key), Math.floorDiv(nowMillis, sliceMillis));
+    }
+
+    /**
+     * Number of bits of each slice
+     */
+    int bitsPerSlice() {
+        return bits;
+    }
+
+    int hashes() {
+        return hashes;
+    }
+
+    /**
+     * Estimated false-positive rate of a lookup now, from how full the live slices are.
+     * @param nowMillis the current time
+     * @return the probability that a new key is reported as seen
+     */
+    double estimatedFalsePositiveRate(final long nowMillis) {
+        final long slice = Math.floorDiv(nowMillis, sliceMillis);
+        double missAll = 1;
+        for (int i = 0; i < slots.length(); i++) {
+            final Slice candidate = slots.get(i);
+            if (isLive(candidate, slice)) {
+                missAll *= 1 - Math.pow((double) candidate.bitCount() / bits, hashes);
+            }
+        }
+        return 1 - missAll;
+    }
+
+    private boolean mightContain(final long hash, final long slice) {
+        for (int i = 0; i < slots.length(); i++) {
+            final Slice candidate = slots.get(i);
+            if (isLive(candidate, slice) && candidate.contains(hash, bits, hashes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isLive(final Slice candidate, final long slice) {
+        return candidate != null && candidate.number() > slice - slots.length() && candidate.number() <= slice;
+    }
+
+    private Slice current(final long slice) {
+        final int slot = (int) Math.floorMod(slice, (long) slots.length());
+        while (true) {
+            final Slice existing = slots.get(slot);
+            if (existing != null && existing.number() >= slice) {
+                return existing;
+            }
+            final Slice fresh = new Slice(slice, new AtomicLongArray((bits + Long.SIZE - 1) / Long.SIZE));
+            if (slots.compareAndSet(slot, existing, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a over the characters, finished with the MurmurHash3 mixer
+     */
+    private static long hash(final CharSequence key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private record Slice(long number, AtomicLongArray words) {
+
+        /**
+         * Double hashing: the i-th probe is {@code h1 + i * h2}
+         */
+        void set(final long hash, final int bits, final int hashes) {
+            final int h1 = (int) hash;
+            final int h2 = (int) (hash >>> 32) | 1;
+            for (int i = 0; i < hashes; i++) {
+                final int bit = Math.floorMod(h1 + i * h2, bits);
+                final long mask = 1L << bit;
+                final int word = bit >>> 6;
+                long current;
+                do {
+                    current = words.get(word);
+                } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean contains(final long hash, final int bits, final int hashes) {
+            final int h1 = (int) hash;
+            final int h2 = (int) (hash >>> 32) | 1;
+            for (int i = 0; i < hashes; i++) {
+                final int bit = Math.floorMod(h1 + i * h2, bits);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long bitCount() {
+            long count = 0;
+            for (int i = 0; i < words.length(); i++) {
+                count += Long.bitCount(words.get(i));
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.temporal.validation.infrastructure.adapter.out.http;
+
+import com.example.temporal.common.model.Account;
+import com.example.temporal.validation.client.AccountBatchRequest;
+import com.example.temporal.validation.client.AccountServiceClient;
+import com.example.temporal.validation.config.AccountLookupProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Merges account lookups issued concurrently by different validations into
+ * micro-batches sent through the account-service batch endpoint.
+ * <p>
+ * The first queued lookup waits at most {@code maxWait} for others to join;
+ * the batch is then fetched on a virtual thread so the next one can start
+ * collecting immediately. With batching disabled every call goes straight
+ * to the batch endpoint.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountLookupBatcher {
+
+    private final AccountServiceClient accountServiceClient;
+    private final AccountLookupProperties properties;
+
+    private final BlockingQueue<PendingLookup> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService fetchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile Thread dispatcher;
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isBatchingEnabled()) {
+            return;
+        }
+        // Published before it runs: the loop exits once the field is cleared
+        final Thread thread = Thread.ofPlatform()
+                .name("account-lookup-batcher")
+                .daemon()
+                .unstarted(this::dispatchLoop);
+        dispatcher = thread;
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        final Thread thread = dispatcher;
+        dispatcher = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        fetchExecutor.shutdown();
+    }
+
+    /**
+     * Looks up accounts, sharing the round trip with concurrent callers.
+     *
+     * @param accountNumbers the account numbers
+     * @return the accounts found, keyed by account number
+     * @throws ExecutionException if the batch call failed
+     * @throws TimeoutException if no answer arrived within the configured timeout
+     */
+    public Map<String, Account> lookup(final Collection<String> accountNumbers)
+            throws ExecutionException, TimeoutException, InterruptedException {
+        if (dispatcher == null) {
+            return fetch(accountNumbers);
+        }
+
+        final List<PendingLookup> pending = accountNumbers.stream()
+                .distinct()
+                .map(PendingLookup::new)
+                .toList();
+        queue.addAll(pending);
+
+        final long deadline = System.nanoTime() + properties.getTimeout().toNanos();
+        final Map<String, Account> accounts = new HashMap<>();
+        for (final PendingLookup lookup : pending) {
+            final Account account = lookup.result.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (account != null) {
+                accounts.put(lookup.accountNumber, account);
+            }
+        }
+        return accounts;
+    }
+
+    private void dispatchLoop() {
+        final long maxWaitNanos = properties.getMaxWait().toNanos();
+        try {
+            while (dispatcher != null) {
+                final List<PendingLookup> batch = new ArrayList<>();
+                batch.add(queue.take());
+
+                final long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < properties.getMaxBatchSize()) {
+                    final PendingLookup next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                fetchExecutor.execute(() -> complete(batch));
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        final List<PendingLookup> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(lookup -> lookup.result.cancel(false));
+    }
+
+    private void complete(final List<PendingLookup> batch) {
+        try {
+            final Map<String, Account> accounts = fetch(batch.stream().map(PendingLookup::accountNumber).toList());
+            log.debug("Fetched account batch: {} lookups, {} accounts", batch.size(), accounts.size());
+            batch.forEach(lookup -> lookup.result.complete(accounts.get(lookup.accountNumber)));
+        } catch (final Exception e) {
+            log.error("Error fetching account batch of {}: {}", batch.size(), e.getMessage());
+            batch.forEach(lookup -> lookup.result.completeExceptionally(e));
+        }
+    }
+
+    private Map<String, Account> fetch(final Collection<String> accountNumbers) {
+        final List<Account> accounts = accountServiceClient.getAccounts(
+                new AccountBatchRequest(accountNumbers.stream().distinct().toList()));
+
+        final Map<String, Account> byNumber = new HashMap<>();
+        if (accounts != null) {
+            accounts.forEach(account -> byNumber.put(account.getAccountNumber(), account));
+        }
+        return byNumber;
+    }
+
+    private record PendingLookup(String accountNumber, CompletableFuture<Account> result) {
+
+        PendingLookup(final String accountNumber) {
+            this(accountNumber, new CompletableFuture<>());
+        }
+    }
+}
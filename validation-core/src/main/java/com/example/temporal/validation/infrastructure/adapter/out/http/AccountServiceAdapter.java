@@ -0,0 +1,93 @@
+package com.example.temporal.validation.infrastructure.adapter.out.http;
+
+import com.example.temporal.common.exception.ValidationUnavailableException;
+import com.example.temporal.common.model.Account;
+import com.example.temporal.validation.domain.port.out.AccountServicePort;
+import com.example.temporal.validation.infrastructure.adapter.out.replica.AccountReplica;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Adapter for account service HTTP client
+ * Implements the AccountServicePort using Feign client, through the lookup batcher.
+ * While the CDC-fed account replica is current it answers without the remote hop,
+ * and it keeps answering (within a looser bound) when account-service is down;
+ * otherwise a failed lookup is thrown, never answered as accounts that do not exist.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountServiceAdapter implements AccountServicePort {
+
+    private final AccountLookupBatcher accountLookupBatcher;
+    private final AccountReplica accountReplica;
+
+    @Override
+    public Optional<AccountInfo> getAccount(String accountNumber) {
+        return Optional.ofNullable(getAccounts(List.of(accountNumber)).get(accountNumber));
+    }
+
+    @Override
+    public Map<String, AccountInfo> getAccounts(Collection<String> accountNumbers) {
+        if (accountReplica.isCurrent()) {
+            final Map<String, AccountInfo> replicated = accountReplica.find(accountNumbers);
+            // Accounts missing locally may have been created after the last applied change
+            if (replicated.keySet().containsAll(accountNumbers)) {
+                return replicated;
+            }
+        }
+
+        try {
+            final Map<String, AccountInfo> accounts = new HashMap<>();
+            accountLookupBatcher.lookup(accountNumbers)
+                    .forEach((accountNumber, account) -> accounts.put(accountNumber, toAccountInfo(account)));
+            return accounts;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted fetching accounts {}", accountNumbers);
+            throw new ValidationUnavailableException("Interrupted fetching accounts", e);
+        } catch (Exception e) {
+            log.error("Error fetching accounts {}: {}", accountNumbers, e.getMessage());
+            if (accountReplica.isUsableDuringOutage()) {
+                log.warn("Answering accounts {} from the local replica", accountNumbers);
+                return accountReplica.find(accountNumbers);
+            }
+            // An empty answer would read as accounts that do not exist
+            throw new ValidationUnavailableException("Account lookup failed: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean accountExists(String accountNumber) {
+        return getAccount(accountNumber).isPresent();
+    }
+
+    @Override
+    public Optional<BigDecimal> getBalance(String accountNumber) {
+        return getAccount(accountNumber).map(AccountInfo::balance);
+    }
+
+    @Override
+    public Optional<String> getCurrency(String accountNumber) {
+        return getAccount(accountNumber).map(AccountInfo::currency);
+    }
+
+    private AccountInfo toAccountInfo(Account account) {
+        return new AccountInfo(
+                account.getAccountNumber(),
+                account.getOwnerName(),
+                account.getBalance(),
+                account.getCurrency(),
+                account.getAccountType() != null ? account.getAccountType() : Account.DEFAULT_ACCOUNT_TYPE,
+                true // Assume active since Account model doesn't have isActive field
+        );
+    }
+}
@@ -4,17 +4,17 @@ import com.example.temporal.validation.domain.port.out.FraudRulePort;
 import com.example.temporal.validation.entity.FraudDetectionRuleEntity;
 import com.example.temporal.validation.repository.FraudDetectionRuleRepository;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * Adapter for fraud rule persistence
- * Implements the FraudRulePort using JPA repository
+ * Implements the FraudRulePort using JPA repository; failures propagate so the
+ * rule engine keeps its previous snapshot instead of loading an empty one
  */
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class FraudRulePersistenceAdapter implements FraudRulePort {
@@ -23,16 +23,15 @@ public class FraudRulePersistenceAdapter implements FraudRulePort {
 
     @Override
     public List<FraudRuleInfo> getActiveRules() {
-        try {
-            List<FraudDetectionRuleEntity> rules = fraudDetectionRuleRepository.findByIsActiveTrue();
+        return fraudDetectionRuleRepository.findByIsActiveTrue()
+                .stream()
+                .map(this::toFraudRuleInfo)
+                .collect(Collectors.toList());
+    }
 
-            return rules.stream()
-                    .map(this::toFraudRuleInfo)
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.error("Error fetching active fraud rules: {}", e.getMessage());
-            return List.of();
-        }
+    @Override
+    public Optional<String> getRulesVersion() {
+        return Optional.ofNullable(fraudDetectionRuleRepository.findRulesVersion()).map(String::valueOf);
     }
 
     private FraudRuleInfo toFraudRuleInfo(FraudDetectionRuleEntity rule) {
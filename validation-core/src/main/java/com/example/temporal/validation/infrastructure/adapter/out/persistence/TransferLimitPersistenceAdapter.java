@@ -4,16 +4,16 @@ import com.example.temporal.validation.domain.port.out.TransferLimitPort;
 import com.example.temporal.validation.entity.TransferLimitEntity;
 import com.example.temporal.validation.repository.TransferLimitRepository;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Adapter for transfer limit persistence
- * Implements the TransferLimitPort using JPA repository
+ * Implements the TransferLimitPort using JPA repository; failures propagate so the
+ * limit cache keeps its previous profiles instead of loading an empty set
  */
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class TransferLimitPersistenceAdapter implements TransferLimitPort {
@@ -21,16 +21,16 @@ public class TransferLimitPersistenceAdapter implements TransferLimitPort {
     private final TransferLimitRepository transferLimitRepository;
 
     @Override
-    public Optional<TransferLimitInfo> getByAccountTypeAndCurrency(String accountType, String currency) {
-        try {
-            return transferLimitRepository
-                    .findByAccountTypeAndCurrency(accountType, currency)
-                    .map(this::toTransferLimitInfo);
-        } catch (Exception e) {
-            log.error("Error fetching transfer limit for {}/{}: {}",
-                     accountType, currency, e.getMessage());
-            return Optional.empty();
-        }
+    public List<TransferLimitInfo> getAllLimits() {
+        return transferLimitRepository.findAll()
+                .stream()
+                .map(this::toTransferLimitInfo)
+                .toList();
+    }
+
+    @Override
+    public Optional<String> getLimitsVersion() {
+        return Optional.ofNullable(transferLimitRepository.findLimitsVersion()).map(String::valueOf);
     }
 
     private TransferLimitInfo toTransferLimitInfo(TransferLimitEntity limit) {
@@ -0,0 +1,206 @@
+package com.example.temporal.validation.infrastructure.adapter.out.persistence;
+
+import com.example.temporal.common.model.IdAllocation;
+import com.example.temporal.validation.domain.model.TransferValidationDomain;
+import com.example.temporal.validation.domain.port.out.ValidationPersistencePort;
+import com.example.temporal.validation.entity.TransferValidationEntity;
+import com.example.temporal.validation.repository.TransferValidationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Persistence adapter for validation
+ * Implements the ValidationPersistencePort using JPA
+ */
+@Component
+@RequiredArgsConstructor
+public class ValidationPersistenceAdapter implements ValidationPersistencePort {
+
+    /**
+     * Reserves blocks of ids from the pooled-lo validations sequence in one round trip;
+     * each value is the first id of a block of {@link IdAllocation#ALLOCATION_SIZE}
+     */
+    private static final String RESERVE_ID_BLOCKS_SQL =
+            "SELECT nextval('transfer_validations_seq') FROM generate_series(1, ?)";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO transfer_validations (id, transfer_id, source_account_number, " +
+            "destination_account_number, amount, currency, validation_result, rejection_reason, " +
+            "fraud_score, validated_at, idempotency_key) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (idempotency_key) DO NOTHING";
+
+    private static final String APPROVED_TRANSFERS_SQL =
+            "SELECT source_account_number, destination_account_number, amount, validated_at " +
+            "FROM transfer_validations WHERE validation_result = 'APPROVED' AND validated_at >= ? " +
+            "ORDER BY validated_at";
+
+    /**
+     * Rows fetched per round trip when streaming; the driver only uses a cursor inside a transaction
+     */
+    private static final int STREAM_FETCH_SIZE = 1_000;
+
+    private final TransferValidationRepository repository;
+    private final ValidationMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public TransferValidationDomain save(final TransferValidationDomain domain) {
+        final var entity = mapper.toEntity(domain);
+        final var savedEntity = repository.save(entity);
+        return mapper.toDomain(savedEntity);
+    }
+
+    @Override
+    @Transactional
+    public List<TransferValidationDomain> saveAll(final List<TransferValidationDomain> domains) {
+        final List<TransferValidationEntity> entities = domains.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList());
+        return repository.saveAll(entities)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Long> reserveIds(final int count) {
+        final int blocks = (count + IdAllocation.ALLOCATION_SIZE - 1) / IdAllocation.ALLOCATION_SIZE;
+        final List<Long> blockStarts = jdbcTemplate.queryForList(RESERVE_ID_BLOCKS_SQL, Long.class, blocks);
+
+        final List<Long> ids = new ArrayList<>(count);
+        for (final Long blockStart : blockStarts) {
+            for (int i = 0; i < IdAllocation.ALLOCATION_SIZE && ids.size() < count; i++) {
+                ids.add(blockStart + i);
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    @Transactional
+    public int insertAll(final List<TransferValidationDomain> validations) {
+        if (validations.isEmpty()) {
+            return 0;
+        }
+        final int[] counts = jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(final PreparedStatement ps, final int i) throws SQLException {
+                final TransferValidationDomain validation = validations.get(i);
+                ps.setLong(1, validation.getId());
+                ps.setString(2, validation.getTransferId());
+                ps.setString(3, validation.getSourceAccountNumber());
+                ps.setString(4, validation.getDestinationAccountNumber());
+                ps.setBigDecimal(5, validation.getAmount());
+                ps.setString(6, validation.getCurrency());
+                ps.setString(7, validation.getValidationResult().name());
+                ps.setString(8, validation.getRejectionReason());
+                ps.setObject(9, validation.getFraudScore(), Types.INTEGER);
+                ps.setTimestamp(10, validation.getValidatedAt() != null
+                        ? Timestamp.valueOf(validation.getValidatedAt()) : null);
+                ps.setString(11, validation.getIdempotencyKey());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return validations.size();
+            }
+        });
+        // The driver reports SUCCESS_NO_INFO (-2) for rewritten batches; count those as inserted
+        return Arrays.stream(counts).map(count -> count < 0 ? 1 : count).sum();
+    }
+
+    @Override
+    public Optional<TransferValidationDomain> findById(final Long id) {
+        return repository.findById(id).map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<TransferValidationDomain> findByIdempotencyKey(
+            final String idempotencyKey) {
+        return repository.findByIdempotencyKey(idempotencyKey).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<TransferValidationDomain> findByIdempotencyKeys(final Collection<String> idempotencyKeys) {
+        return repository.findByIdempotencyKeyIn(idempotencyKeys)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<TransferValidationDomain> findByTransferId(final String transferId) {
+        return repository.findByTransferId(transferId)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<TransferValidationDomain> findByAccountNumber(final String accountNumber) {
+        return repository.findBySourceAccountNumberOrDestinationAccountNumber(
+                accountNumber, accountNumber)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<TransferValidationDomain> findPendingValidations() {
+        return repository.findByValidationResult(
+                TransferValidationEntity.ValidationResult.PENDING)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ApprovedActivity> findApprovedActivitySince(final LocalDateTime since) {
+        return repository.sumApprovedPerAccountAndMinuteSince(since)
+                .stream()
+                .map(row -> new ApprovedActivity(
+                        (String) row[0],
+                        toLocalDateTime(row[1]),
+                        (BigDecimal) row[2],
+                        ((Number) row[3]).longValue()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachApprovedTransferSince(final LocalDateTime since, final Consumer<ApprovedTransfer> consumer) {
+        jdbcTemplate.query(connection -> {
+            final PreparedStatement ps = connection.prepareStatement(APPROVED_TRANSFERS_SQL);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            ps.setTimestamp(1, Timestamp.valueOf(since));
+            return ps;
+        }, rs -> {
+            consumer.accept(new ApprovedTransfer(
+                    rs.getString(1),
+                    rs.getString(2),
+                    rs.getBigDecimal(3),
+                    rs.getTimestamp(4).toLocalDateTime()));
+        });
+    }
+
+    private static LocalDateTime toLocalDateTime(final Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+}
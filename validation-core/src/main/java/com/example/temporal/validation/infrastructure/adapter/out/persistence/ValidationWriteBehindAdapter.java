@@ -0,0 +1,283 @@
+package com.example.temporal.validation.infrastructure.adapter.out.persistence;
+
+import com.example.temporal.common.model.IdAllocation;
+import com.example.temporal.validation.config.ValidationWriteBehindProperties;
+import com.example.temporal.validation.domain.model.TransferValidationDomain;
+import com.example.temporal.validation.domain.port.out.ValidationPersistencePort;
+import com.example.temporal.validation.domain.port.out.ValidationRecordPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind recorder for validation decisions.
+ * <p>
+ * Validations get their id from a local block of the pooled-lo sequence and
+ * are queued in a bounded queue; a single flusher thread drains whatever is
+ * queued, up to {@code batchSize}, into one batched insert and keeps the next
+ * id block reserved, so a validation never waits on the database. When the
+ * queue is full the caller waits up to {@code offerTimeout} for room, then the
+ * record is dropped. Queued, written, dropped and failed records are published
+ * under {@code validation.records.*}.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ValidationWriteBehindAdapter implements ValidationRecordPort {
+
+    private final ValidationPersistencePort persistencePort;
+    private final ValidationWriteBehindProperties properties;
+
+    private final BlockingQueue<TransferValidationDomain> queue;
+    private final Map<String, TransferValidationDomain> pendingByKey = new ConcurrentHashMap<>();
+    private final Deque<Long> ids = new ArrayDeque<>();
+    private volatile Thread flusher;
+
+    private final Counter queued;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Timer flushTimer;
+
+    public ValidationWriteBehindAdapter(final ValidationPersistencePort persistencePort,
+                                        final ValidationWriteBehindProperties properties,
+                                        final MeterRegistry meterRegistry) {
+        this.persistencePort = persistencePort;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getCapacity());
+
+        this.queued = Counter.builder("validation.records.queued")
+                .description("Validation records handed to the write-behind queue")
+                .register(meterRegistry);
+        this.written = Counter.builder("validation.records.written")
+                .description("Validation records inserted by the write-behind flusher")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("validation.records.dropped")
+                .description("Validation records dropped because the queue stayed full or no id could be reserved")
+                .register(meterRegistry);
+        this.failed = Counter.builder("validation.records.failed")
+                .description("Validation records dropped after every insert attempt failed")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("validation.records.flush")
+                .description("Time to insert one write-behind batch")
+                .register(meterRegistry);
+        Gauge.builder("validation.records.backlog", queue, BlockingQueue::size)
+                .description("Validation records waiting in the write-behind queue")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        // Published before it runs: the loop exits once the field is cleared
+        final Thread thread = Thread.ofPlatform()
+                .name("validation-write-behind")
+                .daemon()
+                .unstarted(this::flushLoop);
+        flusher = thread;
+        thread.start();
+    }
+
+    /**
+     * Stops the flusher and writes what is still queued.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        final Thread thread = flusher;
+        flusher = null;
+        if (thread != null) {
+            thread.interrupt();
+            thread.join(properties.getRetryBackoff().toMillis() * properties.getMaxAttempts() + 1_000);
+        }
+        drain();
+    }
+
+    @Override
+    public Recorded record(final TransferValidationDomain validation) {
+        final Long id = nextId();
+        if (id == null) {
+            return new Recorded(drop(validation), true);
+        }
+        final TransferValidationDomain withId = validation.withId(id);
+
+        final String key = withId.getIdempotencyKey();
+        if (key != null) {
+            final TransferValidationDomain existing = pendingByKey.putIfAbsent(key, withId);
+            if (existing != null) {
+                return new Recorded(existing, false);
+            }
+        }
+
+        boolean accepted;
+        try {
+            accepted = queue.offer(withId, properties.getOfferTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+
+        if (!accepted) {
+            if (key != null) {
+                pendingByKey.remove(key, withId);
+            }
+            return new Recorded(drop(validation), true);
+        }
+        queued.increment();
+        return new Recorded(withId, true);
+    }
+
+    @Override
+    public Optional<TransferValidationDomain> findPending(final String idempotencyKey) {
+        return Optional.ofNullable(pendingByKey.get(idempotencyKey));
+    }
+
+    private TransferValidationDomain drop(final TransferValidationDomain validation) {
+        dropped.increment();
+        log.warn("Validation record dropped, write-behind queue full or no ids available: {}",
+                validation.getIdempotencyKey());
+        return validation;
+    }
+
+    private void flushLoop() {
+        final long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        try {
+            while (flusher != null) {
+                final TransferValidationDomain first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    final List<TransferValidationDomain> batch = new ArrayList<>(properties.getBatchSize());
+                    batch.add(first);
+                    queue.drainTo(batch, properties.getBatchSize() - 1);
+                    flush(batch);
+                }
+                topUpIds();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes everything still queued, without retries; used on shutdown.
+     */
+    private void drain() {
+        final List<TransferValidationDomain> batch = new ArrayList<>(properties.getBatchSize());
+        while (queue.drainTo(batch, properties.getBatchSize()) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Inserts one batch, retrying while the flusher is running; on shutdown the
+     * batch gets one last attempt.
+     */
+    private void flush(final List<TransferValidationDomain> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                insert(batch);
+                return;
+            } catch (final RuntimeException e) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    discard(batch, e);
+                    return;
+                }
+                log.warn("Error writing {} validation records (attempt {}): {}", batch.size(), attempt, e.getMessage());
+            }
+            try {
+                Thread.sleep(properties.getRetryBackoff().toMillis());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                write(batch);
+                return;
+            }
+        }
+    }
+
+    private void write(final List<TransferValidationDomain> batch) {
+        try {
+            insert(batch);
+        } catch (final RuntimeException e) {
+            discard(batch, e);
+        }
+    }
+
+    private void insert(final List<TransferValidationDomain> batch) {
+        flushTimer.record(() -> persistencePort.insertAll(batch));
+        written.increment(batch.size());
+        release(batch);
+        log.debug("Wrote {} validation records", batch.size());
+    }
+
+    private void discard(final List<TransferValidationDomain> batch, final RuntimeException e) {
+        failed.increment(batch.size());
+        release(batch);
+        log.error("Dropped {} validation records after write failure: {}", batch.size(), e.getMessage(), e);
+    }
+
+    private void release(final List<TransferValidationDomain> batch) {
+        batch.forEach(validation -> {
+            if (validation.getIdempotencyKey() != null) {
+                pendingByKey.remove(validation.getIdempotencyKey(), validation);
+            }
+        });
+    }
+
+    /**
+     * Takes the next id from the local block, reserving a block inline only when
+     * the flusher has not kept one ready (startup, or a burst larger than a block).
+     *
+     * @return the id, or null if the sequence could not be reached
+     */
+    private Long nextId() {
+        synchronized (ids) {
+            final Long id = ids.pollFirst();
+            if (id != null) {
+                return id;
+            }
+        }
+        try {
+            final List<Long> reserved = persistencePort.reserveIds(IdAllocation.ALLOCATION_SIZE);
+            synchronized (ids) {
+                ids.addAll(reserved.subList(1, reserved.size()));
+            }
+            return reserved.get(0);
+        } catch (final RuntimeException e) {
+            log.error("Error reserving validation ids: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Keeps at least one block of ids ready so validations do not reach the sequence.
+     */
+    private void topUpIds() {
+        synchronized (ids) {
+            if (ids.size() >= IdAllocation.ALLOCATION_SIZE) {
+                return;
+            }
+        }
+        try {
+            final List<Long> reserved = persistencePort.reserveIds(IdAllocation.ALLOCATION_SIZE);
+            synchronized (ids) {
+                ids.addAll(reserved);
+            }
+        } catch (final RuntimeException e) {
+            log.debug("Error reserving validation ids: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.temporal.validation.infrastructure.adapter.out.replica;
+
+import com.example.temporal.validation.config.AccountReplicaProperties;
+import com.example.temporal.validation.domain.port.out.AccountServicePort.AccountInfo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-only local copy of the accounts (and balance slots) of account-service,
+ * applied from its CDC topics by a single listener thread and read concurrently
+ * by validations.
+ * <p>
+ * The replica tracks up to which commit time on the source it is known to hold
+ * every change: the commit time of each applied change, or, once the consumer
+ * has read everything published, the time of the last Debezium heartbeat read
+ * before. An idle consumer alone proves nothing, since the connector may have
+ * stopped publishing. Callers decide from the lag whether the copy is recent
+ * enough for their purpose.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountReplica {
+
+    private final AccountReplicaProperties properties;
+
+    private final ConcurrentMap<String, ReplicatedAccount> accounts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, String> accountNumbersById = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<Long, BigDecimal>> slotsByAccount = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, String> slotAccountsById = new ConcurrentHashMap<>();
+
+    private final AtomicLong caughtUpToMillis = new AtomicLong();
+    private final AtomicLong lastHeartbeatMillis = new AtomicLong();
+
+    /**
+     * Inserts or replaces an account row.
+     */
+    public void putAccount(final long id, final String accountNumber, final String ownerName,
+                           final BigDecimal balance, final String currency, final String accountType) {
+        final String previous = accountNumbersById.put(id, accountNumber);
+        if (previous != null && !previous.equals(accountNumber)) {
+            accounts.remove(previous);
+        }
+        accounts.put(accountNumber, new ReplicatedAccount(ownerName, balance, currency, accountType));
+    }
+
+    /**
+     * Removes an account row; deletes only carry the primary key.
+     */
+    public void removeAccount(final long id) {
+        final String accountNumber = accountNumbersById.remove(id);
+        if (accountNumber != null) {
+            accounts.remove(accountNumber);
+        }
+    }
+
+    /**
+     * Inserts or replaces a balance slot of a sharded account.
+     */
+    public void putSlot(final long id, final String accountNumber, final BigDecimal balance) {
+        slotAccountsById.put(id, accountNumber);
+        slotsByAccount.computeIfAbsent(accountNumber, key -> new ConcurrentHashMap<>()).put(id, balance);
+    }
+
+    /**
+     * Removes a balance slot; deletes only carry the primary key.
+     */
+    public void removeSlot(final long id) {
+        final String accountNumber = slotAccountsById.remove(id);
+        if (accountNumber == null) {
+            return;
+        }
+        final ConcurrentMap<Long, BigDecimal> slots = slotsByAccount.get(accountNumber);
+        if (slots != null) {
+            slots.remove(id);
+        }
+    }
+
+    /**
+     * Records that a change committed at {@code committedAtMillis} on the source was applied.
+     */
+    public void applied(final long committedAtMillis) {
+        caughtUp(committedAtMillis);
+    }
+
+    /**
+     * Records a Debezium heartbeat: the connector was publishing up to {@code emittedAtMillis}.
+     */
+    public void heartbeat(final long emittedAtMillis) {
+        lastHeartbeatMillis.accumulateAndGet(emittedAtMillis, Math::max);
+    }
+
+    /**
+     * @return when the last heartbeat read was emitted, or 0 before the first one
+     */
+    public long lastHeartbeat() {
+        return lastHeartbeatMillis.get();
+    }
+
+    /**
+     * Records that the replica holds every change committed on the source up to {@code sourceMillis}.
+     */
+    public void caughtUp(final long sourceMillis) {
+        caughtUpToMillis.accumulateAndGet(sourceMillis, Math::max);
+    }
+
+    /**
+     * @return true if the replica can answer instead of account-service
+     */
+    public boolean isCurrent() {
+        return properties.isEnabled() && lagMillis() <= properties.getMaxLag().toMillis();
+    }
+
+    /**
+     * @return true if the replica can answer while account-service is unavailable
+     */
+    public boolean isUsableDuringOutage() {
+        return properties.isEnabled() && lagMillis() <= properties.getOutageMaxLag().toMillis();
+    }
+
+    /**
+     * Looks up accounts, with the balance of sharded accounts including their slots.
+     * @param accountNumbers the account numbers
+     * @return the accounts present in the replica, keyed by account number
+     */
+    public Map<String, AccountInfo> find(final Collection<String> accountNumbers) {
+        final Map<String, AccountInfo> found = new HashMap<>();
+        for (final String accountNumber : accountNumbers) {
+            final ReplicatedAccount account = accounts.get(accountNumber);
+            if (account != null) {
+                found.put(accountNumber, new AccountInfo(accountNumber, account.ownerName(),
+                        account.balance().add(slotBalance(accountNumber)), account.currency(),
+                        account.accountType(), true));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @return the number of replicated accounts
+     */
+    public int size() {
+        return accounts.size();
+    }
+
+    private BigDecimal slotBalance(final String accountNumber) {
+        final ConcurrentMap<Long, BigDecimal> slots = slotsByAccount.get(accountNumber);
+        if (slots == null) {
+            return BigDecimal.ZERO;
+        }
+        return slots.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private long lagMillis() {
+        final long caughtUpTo = caughtUpToMillis.get();
+        return caughtUpTo == 0 ? Long.MAX_VALUE : System.currentTimeMillis() - caughtUpTo;
+    }
+
+    private record ReplicatedAccount(String ownerName, BigDecimal balance, String currency, String accountType) {}
+}
@@ -2,6 +2,7 @@ package com.example.temporal.validation.repository;
 
 import com.example.temporal.validation.entity.FraudDetectionRuleEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,4 +11,10 @@ import java.util.List;
 public interface FraudDetectionRuleRepository extends JpaRepository<FraudDetectionRuleEntity, Long> {
     List<FraudDetectionRuleEntity> findByIsActiveTrue();
     List<FraudDetectionRuleEntity> findByRuleTypeAndIsActiveTrue(final String ruleType);
+
+    /**
+     * Version counter bumped by a trigger on every change to the rules table
+     */
+    @Query(value = "SELECT version FROM fraud_detection_rules_version WHERE id = 1", nativeQuery = true)
+    Long findRulesVersion();
 }
\ No newline at end of file
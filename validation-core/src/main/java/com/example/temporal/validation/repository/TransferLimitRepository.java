@@ -2,6 +2,7 @@ package com.example.temporal.validation.repository;
 
 import com.example.temporal.validation.entity.TransferLimitEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,4 +10,10 @@ import java.util.Optional;
 @Repository
 public interface TransferLimitRepository extends JpaRepository<TransferLimitEntity, Long> {
     Optional<TransferLimitEntity> findByAccountTypeAndCurrency(String accountType, String currency);
-}
\ No newline at end of file
+
+    /**
+     * Version counter bumped by a trigger on every change to the limits table
+     */
+    @Query(value = "SELECT version FROM transfer_limits_version WHERE id = 1", nativeQuery = true)
+    Long findLimitsVersion();
+}
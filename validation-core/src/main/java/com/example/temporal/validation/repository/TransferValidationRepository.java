@@ -2,8 +2,12 @@ package com.example.temporal.validation.repository;
 
 import com.example.temporal.validation.entity.TransferValidationEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +22,11 @@ public interface TransferValidationRepository extends JpaRepository<TransferVali
      */
     Optional<TransferValidationEntity> findByIdempotencyKey(String idempotencyKey);
 
+    /**
+     * Finds the validations of several idempotency keys
+     */
+    List<TransferValidationEntity> findByIdempotencyKeyIn(Collection<String> idempotencyKeys);
+
     /**
      * Finds validations by transfer ID
      */
@@ -34,4 +43,13 @@ public interface TransferValidationRepository extends JpaRepository<TransferVali
      */
     List<TransferValidationEntity> findByValidationResult(
             TransferValidationEntity.ValidationResult validationResult);
+
+    /**
+     * Sums approved validations per source account and minute
+     */
+    @Query(value = "SELECT source_account_number, date_trunc('minute', validated_at), sum(amount), count(*) " +
+                   "FROM transfer_validations " +
+                   "WHERE validation_result = 'APPROVED' AND validated_at >= :since " +
+                   "GROUP BY 1, 2", nativeQuery = true)
+    List<Object[]> sumApprovedPerAccountAndMinuteSince(@Param("since") LocalDateTime since);
 }
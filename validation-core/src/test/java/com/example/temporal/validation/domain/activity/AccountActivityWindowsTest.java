@@ -0,0 +1,149 @@
+package com.example.temporal.validation.domain.activity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AccountActivityWindows Unit Tests")
+class AccountActivityWindowsTest {
+
+    private static final long NOW = Duration.ofDays(20_000).toMillis();
+    private static final String ACCOUNT = "123456";
+
+    private AccountActivityWindows windows;
+
+    @BeforeEach
+    void setUp() {
+        windows = new AccountActivityWindows();
+    }
+
+    @Test
+    @DisplayName("Should sum amounts and counts inside each window only")
+    void shouldSumInsideWindow() {
+        add(NOW - Duration.ofMinutes(5).toMillis(), "10.00");
+        add(NOW - Duration.ofHours(3).toMillis(), "20.00");
+        add(NOW - Duration.ofDays(3).toMillis(), "40.00");
+
+        assertAmount("10.00", Duration.ofMinutes(10));
+        assertAmount("30.00", Duration.ofDays(1));
+        assertAmount("70.00", Duration.ofDays(30));
+        assertEquals(1, windows.countWithin(ACCOUNT, Duration.ofMinutes(10), NOW));
+        assertEquals(3, windows.countWithin(ACCOUNT, Duration.ofDays(30), NOW));
+    }
+
+    @Test
+    @DisplayName("Should forget activity once it leaves the window")
+    void shouldExpireOldActivity() {
+        add(NOW, "10.00");
+
+        final long later = NOW + Duration.ofHours(2).toMillis();
+        assertEquals(0, windows.countWithin(ACCOUNT, Duration.ofMinutes(60), later));
+        assertEquals(0, new BigDecimal("10.00").compareTo(
+                windows.amountWithin(ACCOUNT, Duration.ofDays(1), later)));
+    }
+
+    @Test
+    @DisplayName("Should ignore activity older than the longest window")
+    void shouldIgnoreActivityBeyondMaxWindow() {
+        add(NOW - AccountActivityWindows.MAX_WINDOW.toMillis() - Duration.ofDays(1).toMillis(), "10.00");
+
+        assertEquals(0, windows.countWithin(ACCOUNT, Duration.ofDays(30), NOW));
+    }
+
+    @Test
+    @DisplayName("Should evict accounts idle for longer than the longest window")
+    void shouldEvictIdleAccounts() {
+        add(NOW, "10.00");
+        windows.add("789012", NOW, NOW, new BigDecimal("5.00"), 1);
+
+        final long later = NOW + AccountActivityWindows.MAX_WINDOW.toMillis() + Duration.ofDays(1).toMillis();
+        windows.add("789012", later, later, new BigDecimal("5.00"), 1);
+
+        assertEquals(1, windows.evictIdle(later));
+        assertEquals(1, windows.countWithin("789012", Duration.ofDays(1), later));
+    }
+
+    @Test
+    @DisplayName("Should not lose updates under concurrent adds")
+    void shouldCountConcurrentAdds() throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 10_000; i++) {
+            executor.execute(() -> add(NOW, "1.00"));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(10_000, windows.countWithin(ACCOUNT, Duration.ofMinutes(1), NOW));
+        assertAmount("10000.00", Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Should reserve only what fits the limits, even under concurrent reservations")
+    void shouldReserveWithinLimitsAtomically() throws InterruptedException {
+        final var limits = List.of(new AccountActivityWindows.WindowLimit("daily", Duration.ofDays(1),
+                new BigDecimal("100.00")));
+        final AtomicInteger reserved = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1_000; i++) {
+            executor.execute(() -> {
+                if (windows.reserve(ACCOUNT, new BigDecimal("1.00"), NOW, 0, limits) == null) {
+                    reserved.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(100, reserved.get());
+        assertAmount("100.00", Duration.ofDays(1));
+        final var breach = windows.reserve(ACCOUNT, new BigDecimal("1.00"), NOW, 0, limits);
+        assertEquals("daily", breach.limit().name());
+        assertEquals(0, new BigDecimal("100.00").compareTo(breach.used()));
+    }
+
+    @Test
+    @DisplayName("Should hold a reservation until it is confirmed or expires")
+    void shouldHoldReservationUntilConfirmedOrExpired() {
+        final long hold = Duration.ofMinutes(5).toMillis();
+        assertNull(windows.reserve(ACCOUNT, new BigDecimal("10.00"), NOW, hold, List.of()));
+        assertNull(windows.reserve(ACCOUNT, new BigDecimal("20.00"), NOW, hold, List.of()));
+        assertAmount("30.00", Duration.ofDays(1));
+        assertEquals(2, windows.countWithin(ACCOUNT, Duration.ofMinutes(10), NOW));
+
+        windows.confirm(ACCOUNT, NOW, NOW, new BigDecimal("10.00"));
+        assertAmount("30.00", Duration.ofDays(1));
+        assertEquals(2, windows.countWithin(ACCOUNT, Duration.ofMinutes(10), NOW));
+
+        final long later = NOW + hold;
+        assertEquals(0, new BigDecimal("10.00").compareTo(windows.amountWithin(ACCOUNT, Duration.ofDays(1), later)));
+    }
+
+    @Test
+    @DisplayName("Should take back activity with a negative add")
+    void shouldRemoveActivity() {
+        add(NOW, "10.00");
+        windows.add(ACCOUNT, NOW, NOW, new BigDecimal("-10.00"), -1);
+
+        assertAmount("0.00", Duration.ofDays(1));
+        assertEquals(0, windows.countWithin(ACCOUNT, Duration.ofDays(1), NOW));
+    }
+
+    private void add(final long epochMillis, final String amount) {
+        windows.add(ACCOUNT, epochMillis, NOW, new BigDecimal(amount), 1);
+    }
+
+    private void assertAmount(final String expected, final Duration window) {
+        assertEquals(0, new BigDecimal(expected).compareTo(windows.amountWithin(ACCOUNT, window, NOW)),
+                () -> "amount within " + window);
+    }
+}
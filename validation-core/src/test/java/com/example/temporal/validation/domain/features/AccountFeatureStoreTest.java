@@ -0,0 +1,85 @@
+package com.example.temporal.validation.domain.features;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AccountFeatureStore Unit Tests")
+class AccountFeatureStoreTest {
+
+    private static final long NOW = Duration.ofDays(20_000).toMillis();
+    private static final String ACCOUNT = "123456";
+
+    private AccountFeatureStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new AccountFeatureStore();
+    }
+
+    @Test
+    @DisplayName("Should score amounts against the running mean and deviation")
+    void shouldComputeAmountZScore() {
+        for (final String amount : new String[]{"90.00", "100.00", "110.00", "100.00", "100.00"}) {
+            store.add(ACCOUNT, "789012", new BigDecimal(amount), NOW);
+        }
+
+        // mean 100, sample deviation sqrt(50) ≈ 7.07
+        assertEquals(5, store.transferCount(ACCOUNT));
+        assertEquals(0, store.amountZScore(ACCOUNT, new BigDecimal("100.00")), 1e-9);
+        assertEquals(100 / Math.sqrt(50), store.amountZScore(ACCOUNT, new BigDecimal("200.00")), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should not flag small changes of an account that always sends the same amount")
+    void shouldBoundDeviationOfConstantAmounts() {
+        for (int i = 0; i < 10; i++) {
+            store.add(ACCOUNT, "789012", new BigDecimal("100.00"), NOW);
+        }
+
+        assertTrue(store.amountZScore(ACCOUNT, new BigDecimal("101.00")) < 1);
+        assertTrue(store.amountZScore(ACCOUNT, new BigDecimal("1000.00")) > 100);
+    }
+
+    @Test
+    @DisplayName("Should have no features for an unknown account")
+    void shouldAnswerUnknownAccount() {
+        assertEquals(0, store.transferCount(ACCOUNT));
+        assertEquals(0, store.amountZScore(ACCOUNT, new BigDecimal("100.00")));
+        assertFalse(store.isRecentCounterparty(ACCOUNT, "789012"));
+        assertEquals(-1, store.millisSinceLastTransfer(ACCOUNT, NOW));
+    }
+
+    @Test
+    @DisplayName("Should remember only the most recent counterparties")
+    void shouldTrackRecentCounterparties() {
+        store.add(ACCOUNT, "first", BigDecimal.TEN, NOW);
+        store.add(ACCOUNT, "first", BigDecimal.TEN, NOW);
+        assertEquals(0.5, store.counterpartyDiversity(ACCOUNT), 1e-9);
+
+        for (int i = 0; i < AccountFeatures.RECENT_COUNTERPARTIES; i++) {
+            store.add(ACCOUNT, "payee-" + i, BigDecimal.TEN, NOW);
+        }
+
+        assertFalse(store.isRecentCounterparty(ACCOUNT, "first"));
+        assertTrue(store.isRecentCounterparty(ACCOUNT, "payee-0"));
+        assertEquals(1.0, store.counterpartyDiversity(ACCOUNT), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should measure time since the last transfer and evict idle accounts")
+    void shouldTrackLastTransferAndEvictIdle() {
+        store.add(ACCOUNT, "789012", BigDecimal.TEN, NOW - Duration.ofHours(5).toMillis());
+        store.add("654321", "789012", BigDecimal.TEN, NOW - AccountFeatureStore.RETENTION.toMillis() - 1);
+
+        assertEquals(Duration.ofHours(5).toMillis(), store.millisSinceLastTransfer(ACCOUNT, NOW));
+        assertEquals(1, store.evictIdle(NOW));
+        assertEquals(0, store.transferCount("654321"));
+        assertEquals(1, store.transferCount(ACCOUNT));
+    }
+}
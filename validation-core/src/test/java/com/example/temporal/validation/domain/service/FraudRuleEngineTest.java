@@ -0,0 +1,155 @@
+package com.example.temporal.validation.domain.service;
+
+import com.example.temporal.common.exception.ValidationUnavailableException;
+import com.example.temporal.validation.domain.activity.AccountActivityView;
+import com.example.temporal.validation.domain.features.AccountFeatureView;
+import com.example.temporal.validation.domain.port.in.ValidateTransferUseCase;
+import com.example.temporal.validation.domain.port.out.FraudRulePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FraudRuleEngine Unit Tests")
+class FraudRuleEngineTest {
+
+    @Mock private FraudRulePort fraudRulePort;
+    @Mock private AccountActivityView accountActivity;
+    @Mock private AccountFeatureView accountFeatures;
+
+    private FraudRuleEngine fraudRuleEngine;
+
+    @BeforeEach
+    void setUp() {
+        fraudRuleEngine = new FraudRuleEngine(fraudRulePort, accountActivity, accountFeatures);
+    }
+
+    @Test
+    @DisplayName("Should score amount thresholds and skip rule types without evaluator")
+    void shouldScoreCompiledRules() {
+        when(fraudRulePort.getRulesVersion()).thenReturn(Optional.of("1"));
+        when(fraudRulePort.getActiveRules()).thenReturn(List.of(
+                rule(1L, "AMOUNT_THRESHOLD", "1000.00"),
+                rule(2L, "AMOUNT_THRESHOLD", "5000.00"),
+                rule(3L, "LOCATION", "10")));
+
+        fraudRuleEngine.refresh();
+
+        assertEquals(0, fraudRuleEngine.score(command("500.00")));
+        assertEquals(50, fraudRuleEngine.score(command("2000.00")));
+        assertEquals(100, fraudRuleEngine.score(command("9000.00")));
+    }
+
+    @Test
+    @DisplayName("Should flag accounts exceeding the transfer count of a frequency rule")
+    void shouldScoreFrequencyRules() {
+        when(fraudRulePort.getRulesVersion()).thenReturn(Optional.of("1"));
+        when(fraudRulePort.getActiveRules()).thenReturn(List.of(rule(1L, "FREQUENCY", "10")));
+        when(accountActivity.countWithin("123456", Duration.ofMinutes(60))).thenReturn(9L, 10L);
+
+        fraudRuleEngine.refresh();
+
+        assertEquals(0, fraudRuleEngine.score(command("500.00")));
+        assertEquals(50, fraudRuleEngine.score(command("500.00")));
+    }
+
+    @Test
+    @DisplayName("Should flag amounts far above the account's usual amount once it has enough history")
+    void shouldScoreAmountZScoreRules() {
+        when(fraudRulePort.getRulesVersion()).thenReturn(Optional.of("1"));
+        when(fraudRulePort.getActiveRules()).thenReturn(List.of(rule(1L, "AMOUNT_ZSCORE", "3")));
+        when(accountFeatures.transferCount("123456")).thenReturn(3L, 50L, 50L);
+        when(accountFeatures.amountZScore(eq("123456"), any())).thenReturn(8.0, 1.5);
+
+        fraudRuleEngine.refresh();
+
+        assertEquals(0, fraudRuleEngine.score(command("9000.00")));
+        assertEquals(40, fraudRuleEngine.score(command("9000.00")));
+        assertEquals(0, fraudRuleEngine.score(command("600.00")));
+    }
+
+    @Test
+    @DisplayName("Should flag large transfers to new counterparties and from dormant accounts")
+    void shouldScoreCounterpartyAndDormancyRules() {
+        when(fraudRulePort.getRulesVersion()).thenReturn(Optional.of("1"));
+        when(fraudRulePort.getActiveRules()).thenReturn(List.of(
+                rule(1L, "NEW_COUNTERPARTY", "1000.00"),
+                rule(2L, "DORMANT_ACCOUNT", "1000.00")));
+        when(accountFeatures.transferCount("123456")).thenReturn(20L);
+        when(accountFeatures.isRecentCounterparty("123456", "789012")).thenReturn(false);
+        when(accountFeatures.millisSinceLastTransfer("123456")).thenReturn(Duration.ofHours(2).toMillis());
+
+        fraudRuleEngine.refresh();
+
+        assertEquals(0, fraudRuleEngine.score(command("500.00")));
+        assertEquals(60, fraudRuleEngine.score(command("2000.00")));
+    }
+
+    @Test
+    @DisplayName("Should reload rules only when the version changes")
+    void shouldReloadOnlyOnVersionChange() {
+        when(fraudRulePort.getRulesVersion()).thenReturn(Optional.of("1"), Optional.of("1"), Optional.of("2"));
+        when(fraudRulePort.getActiveRules()).thenReturn(
+                List.of(rule(1L, "AMOUNT_THRESHOLD", "1000.00")),
+                List.of(rule(1L, "AMOUNT_THRESHOLD", "100.00")));
+
+        fraudRuleEngine.refresh();
+        fraudRuleEngine.refresh();
+        assertEquals(0, fraudRuleEngine.score(command("500.00")));
+
+        fraudRuleEngine.refresh();
+        assertEquals(50, fraudRuleEngine.score(command("500.00")));
+        verify(fraudRulePort, times(2)).getActiveRules();
+    }
+
+    @Test
+    @DisplayName("Should keep the previous rules when reloading fails")
+    void shouldKeepSnapshotWhenReloadFails() {
+        when(fraudRulePort.getRulesVersion()).thenReturn(Optional.of("1"), Optional.of("2"));
+        when(fraudRulePort.getActiveRules())
+                .thenReturn(List.of(rule(1L, "AMOUNT_THRESHOLD", "1000.00")))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        fraudRuleEngine.refresh();
+        fraudRuleEngine.refresh();
+
+        assertEquals(50, fraudRuleEngine.score(command("2000.00")));
+    }
+
+    @Test
+    @DisplayName("Should refuse to score until the rules first load")
+    void shouldNotScoreBeforeFirstLoad() {
+        when(fraudRulePort.getRulesVersion()).thenReturn(Optional.of("1"));
+        when(fraudRulePort.getActiveRules())
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(List.of(rule(1L, "AMOUNT_THRESHOLD", "1000.00")));
+
+        fraudRuleEngine.refresh();
+        assertThrows(ValidationUnavailableException.class, () -> fraudRuleEngine.score(command("2000.00")));
+
+        fraudRuleEngine.refresh();
+        assertEquals(50, fraudRuleEngine.score(command("2000.00")));
+    }
+
+    private FraudRulePort.FraudRuleInfo rule(Long id, String type, String threshold) {
+        return new FraudRulePort.FraudRuleInfo(id, type + "-" + id, type, new BigDecimal(threshold), 60, true, null);
+    }
+
+    private ValidateTransferUseCase.ValidateTransferCommand command(String amount) {
+        return ValidateTransferUseCase.ValidateTransferCommand.of(
+                "123456", "789012", new BigDecimal(amount), "BRL", "test-key");
+    }
+}
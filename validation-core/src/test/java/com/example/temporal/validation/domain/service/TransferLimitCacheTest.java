@@ -0,0 +1,99 @@
+package com.example.temporal.validation.domain.service;
+
+import com.example.temporal.common.exception.ValidationUnavailableException;
+import com.example.temporal.validation.domain.port.out.TransferLimitPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransferLimitCache Unit Tests")
+class TransferLimitCacheTest {
+
+    @Mock private TransferLimitPort transferLimitPort;
+
+    private TransferLimitCache transferLimitCache;
+
+    @BeforeEach
+    void setUp() {
+        transferLimitCache = new TransferLimitCache(transferLimitPort);
+    }
+
+    @Test
+    @DisplayName("Should answer hits and misses from memory")
+    void shouldAnswerFromMemory() {
+        when(transferLimitPort.getLimitsVersion()).thenReturn(Optional.of("1"));
+        when(transferLimitPort.getAllLimits()).thenReturn(List.of(
+                limit(1L, "STANDARD", "BRL", "5000.00"),
+                limit(2L, "PREMIUM", "BRL", "50000.00")));
+
+        transferLimitCache.refresh();
+
+        assertEquals(2L, transferLimitCache.get("PREMIUM", "BRL").orElseThrow().id());
+        assertTrue(transferLimitCache.get("STANDARD", "USD").isEmpty());
+        assertTrue(transferLimitCache.get("STANDARD", "USD").isEmpty());
+        verify(transferLimitPort, times(1)).getAllLimits();
+    }
+
+    @Test
+    @DisplayName("Should reload limits only when the version changes")
+    void shouldReloadOnlyOnVersionChange() {
+        when(transferLimitPort.getLimitsVersion()).thenReturn(Optional.of("1"), Optional.of("1"), Optional.of("2"));
+        when(transferLimitPort.getAllLimits()).thenReturn(
+                List.of(limit(1L, "STANDARD", "BRL", "5000.00")),
+                List.of(limit(1L, "STANDARD", "BRL", "100.00")));
+
+        transferLimitCache.refresh();
+        transferLimitCache.refresh();
+        assertEquals(new BigDecimal("5000.00"), transferLimitCache.get("STANDARD", "BRL").orElseThrow().singleTransferLimit());
+
+        transferLimitCache.refresh();
+        assertEquals(new BigDecimal("100.00"), transferLimitCache.get("STANDARD", "BRL").orElseThrow().singleTransferLimit());
+        verify(transferLimitPort, times(2)).getAllLimits();
+    }
+
+    @Test
+    @DisplayName("Should keep the previous limits when reloading fails")
+    void shouldKeepLimitsWhenReloadFails() {
+        when(transferLimitPort.getLimitsVersion()).thenReturn(Optional.of("1"), Optional.of("2"));
+        when(transferLimitPort.getAllLimits())
+                .thenReturn(List.of(limit(1L, "STANDARD", "BRL", "5000.00")))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        transferLimitCache.refresh();
+        transferLimitCache.refresh();
+
+        assertTrue(transferLimitCache.get("STANDARD", "BRL").isPresent());
+    }
+
+    @Test
+    @DisplayName("Should not answer as unconfigured before the limits first load")
+    void shouldNotAnswerBeforeFirstLoad() {
+        when(transferLimitPort.getLimitsVersion()).thenReturn(Optional.of("1"));
+        when(transferLimitPort.getAllLimits())
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(List.of(limit(1L, "STANDARD", "BRL", "5000.00")));
+
+        transferLimitCache.refresh();
+        assertThrows(ValidationUnavailableException.class, () -> transferLimitCache.get("STANDARD", "USD"));
+
+        transferLimitCache.refresh();
+        assertTrue(transferLimitCache.get("STANDARD", "BRL").isPresent());
+        assertTrue(transferLimitCache.get("STANDARD", "USD").isEmpty());
+    }
+
+    private TransferLimitPort.TransferLimitInfo limit(Long id, String accountType, String currency, String single) {
+        return new TransferLimitPort.TransferLimitInfo(id, accountType, new BigDecimal(single),
+                new BigDecimal("10000.00"), new BigDecimal("100000.00"), currency);
+    }
+}
@@ -0,0 +1,512 @@
+package com.example.temporal.validation.domain.service;
+
+import com.example.temporal.common.exception.ValidationUnavailableException;
+import com.example.temporal.validation.config.ValidationActivityProperties;
+import com.example.temporal.validation.config.ValidationBatchProperties;
+import com.example.temporal.validation.config.ValidationDuplicateProperties;
+import com.example.temporal.validation.domain.model.TransferValidationDomain;
+import com.example.temporal.validation.domain.port.in.ValidateTransferUseCase;
+import com.example.temporal.validation.domain.port.out.AccountServicePort;
+import com.example.temporal.validation.domain.port.out.DuplicateTransferPort;
+import com.example.temporal.validation.domain.port.out.FraudRulePort;
+import com.example.temporal.validation.domain.port.out.TransferLimitPort;
+import com.example.temporal.validation.domain.port.out.ValidationPersistencePort;
+import com.example.temporal.validation.domain.port.out.ValidationRecordPort;
+import com.example.temporal.validation.domain.port.out.ValidationResultCachePort;
+import com.example.temporal.validation.infrastructure.adapter.out.duplicate.BloomDuplicateTransferAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ValidationService Unit Tests")
+class ValidationServiceTest {
+
+    @Mock private ValidationPersistencePort validationPersistencePort;
+    @Mock private ValidationRecordPort validationRecordPort;
+    @Mock private ValidationResultCachePort validationResultCachePort;
+    @Mock private AccountServicePort accountServicePort;
+    @Mock private DuplicateTransferPort duplicateTransferPort;
+    @Mock private TransferLimitPort transferLimitPort;
+    @Mock private FraudRulePort fraudRulePort;
+
+    private AccountActivityService accountActivityService;
+    private AccountFeatureService accountFeatureService;
+    private FraudRuleEngine fraudRuleEngine;
+    private TransferLimitCache transferLimitCache;
+    private ValidationService validationService;
+
+    @BeforeEach
+    void setUp() {
+        accountActivityService = new AccountActivityService(validationPersistencePort, new ValidationActivityProperties());
+        accountFeatureService = new AccountFeatureService(validationPersistencePort);
+        fraudRuleEngine = new FraudRuleEngine(fraudRulePort, accountActivityService, accountFeatureService);
+        fraudRuleEngine.refresh();
+        transferLimitCache = new TransferLimitCache(transferLimitPort);
+        transferLimitCache.refresh();
+        validationService = new ValidationService(validationPersistencePort, validationRecordPort,
+                validationResultCachePort, accountServicePort, duplicateTransferPort, transferLimitCache, fraudRuleEngine,
+                accountActivityService, accountFeatureService, new ValidationBatchProperties(),
+                new ValidationDuplicateProperties());
+    }
+
+    @Test
+    @DisplayName("Should approve valid transfer")
+    void shouldApproveValidTransfer() {
+        var command = createValidCommand();
+        mockAccounts(account("123456", "BRL", new BigDecimal("1000.00")),
+                account("789012", "BRL", new BigDecimal("500.00")));
+        when(validationPersistencePort.findByIdempotencyKey(any())).thenReturn(Optional.empty());
+        mockRecord();
+
+        var result = validationService.validateTransfer(command);
+
+        assertTrue(result.approved());
+        assertNotNull(result.validationId());
+        verify(validationRecordPort).record(any());
+        verify(validationPersistencePort, never()).save(any());
+        assertEquals(0, new BigDecimal("100.00").compareTo(
+                accountActivityService.amountWithin("123456", Duration.ofDays(1))));
+        assertEquals(1, accountFeatureService.transferCount("123456"));
+        assertTrue(accountFeatureService.isRecentCounterparty("123456", "789012"));
+    }
+
+    @Test
+    @DisplayName("Should score a transfer identical to one approved moments ago instead of rejecting it")
+    void shouldScoreSuspectedDuplicate() {
+        var command = command("100.00", null);
+        mockAccounts(account("123456", "BRL", new BigDecimal("1000.00")),
+                account("789012", "BRL", new BigDecimal("500.00")));
+        when(duplicateTransferPort.seenRecently("123456", "789012", new BigDecimal("100.00"), "BRL"))
+                .thenReturn(true);
+        mockRecord();
+
+        var result = validationService.validateTransfer(command);
+
+        assertTrue(result.approved());
+        assertEquals(50, result.fraudScore());
+        verify(duplicateTransferPort).record("123456", "789012", new BigDecimal("100.00"), "BRL");
+    }
+
+    @Test
+    @DisplayName("Should reject a suspected duplicate whose fraud score reaches the reject score")
+    void shouldRejectSuspectedDuplicateWithOtherSignals() {
+        when(fraudRulePort.getActiveRules()).thenReturn(List.of(
+                new FraudRulePort.FraudRuleInfo(1L, "large", "AMOUNT_THRESHOLD", new BigDecimal("50.00"), 30, true, null)));
+        fraudRuleEngine.refresh();
+        var command = command("100.00", null);
+        mockAccounts(account("123456", "BRL", new BigDecimal("1000.00")),
+                account("789012", "BRL", new BigDecimal("500.00")));
+        when(duplicateTransferPort.seenRecently("123456", "789012", new BigDecimal("100.00"), "BRL"))
+                .thenReturn(true);
+        mockRecord();
+
+        var result = validationService.validateTransfer(command);
+
+        assertFalse(result.approved());
+        assertTrue(result.rejectionReason().contains("duplicate"));
+        verify(duplicateTransferPort, never()).record(any(), any(), any(), any());
+        assertEquals(0, accountFeatureService.transferCount("123456"));
+        assertEquals(0, BigDecimal.ZERO.compareTo(accountActivityService.amountWithin("123456", Duration.ofDays(1))));
+    }
+
+    @Test
+    @DisplayName("Should not let a transfer rejected by the limits mark the next identical one as a duplicate")
+    void shouldNotRememberRejectedTransferAsDuplicate() {
+        var duplicates = new BloomDuplicateTransferAdapter(new ValidationDuplicateProperties(), new SimpleMeterRegistry());
+        var service = new ValidationService(validationPersistencePort, validationRecordPort,
+                validationResultCachePort, accountServicePort, duplicates, transferLimitCache, fraudRuleEngine,
+                accountActivityService, accountFeatureService, new ValidationBatchProperties(),
+                new ValidationDuplicateProperties());
+        accountActivityService.applyTransfer(1L, "123456", new BigDecimal("450.00"), System.currentTimeMillis(), true);
+        mockAccounts(account("123456", "BRL", new BigDecimal("1000.00")),
+                account("789012", "BRL", new BigDecimal("500.00")));
+        mockLimits(new TransferLimitPort.TransferLimitInfo(1L, "STANDARD", new BigDecimal("200.00"),
+                new BigDecimal("500.00"), new BigDecimal("5000.00"), "BRL"));
+        mockRecord();
+
+        try {
+            var rejected = service.validateTransfer(command("100.00", null));
+            accountActivityService.removeTransfer(1L);
+            var retried = service.validateTransfer(command("100.00", null));
+
+            assertFalse(rejected.approved());
+            assertTrue(retried.approved());
+            assertEquals(0, retried.fraudScore());
+            assertTrue(duplicates.seenRecently("123456", "789012", new BigDecimal("100.00"), "BRL"));
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should cache the decision under the supplied idempotency key")
+    void shouldCacheDecisionUnderSuppliedKey() {
+        var command = createValidCommand();
+        mockAccounts(account("123456", "BRL", new BigDecimal("1000.00")),
+                account("789012", "BRL", new BigDecimal("500.00")));
+        when(validationPersistencePort.findByIdempotencyKey(any())).thenReturn(Optional.empty());
+        mockRecord();
+
+        validationService.validateTransfer(command);
+
+        verify(validationResultCachePort).put(argThat(validation ->
+                "test-key".equals(validation.getIdempotencyKey()) && validation.isApproved()));
+    }
+
+    @Test
+    @DisplayName("Should return the cached decision of a retried request without validating again")
+    void shouldReturnCachedDecisionOnRetry() {
+        var command = createValidCommand();
+        when(validationResultCachePort.get("test-key")).thenReturn(Optional.of(
+                TransferValidationDomain.builder().id(7L).idempotencyKey("test-key")
+                        .validationResult(TransferValidationDomain.ValidationResult.APPROVED).fraudScore(10).build()));
+
+        var result = validationService.validateTransfer(command);
+
+        assertTrue(result.approved());
+        assertEquals(7L, result.validationId());
+        verifyNoInteractions(accountServicePort, validationRecordPort);
+        verify(validationPersistencePort, never()).findByIdempotencyKey(any());
+    }
+
+    @Test
+    @DisplayName("Should give back the reservation of a call that raced another one with the same key")
+    void shouldReleaseReservationOfLosingRace() {
+        var command = createValidCommand();
+        mockAccounts(account("123456", "BRL", new BigDecimal("1000.00")),
+                account("789012", "BRL", new BigDecimal("500.00")));
+        var winner = TransferValidationDomain.builder().id(7L).idempotencyKey("test-key")
+                .validationResult(TransferValidationDomain.ValidationResult.APPROVED).fraudScore(0).build();
+        when(validationRecordPort.record(any())).thenReturn(new ValidationRecordPort.Recorded(winner, false));
+
+        var result = validationService.validateTransfer(command);
+
+        assertTrue(result.approved());
+        assertEquals(7L, result.validationId());
+        assertEquals(0, BigDecimal.ZERO.compareTo(accountActivityService.amountWithin("123456", Duration.ofDays(1))));
+        assertEquals(0, accountFeatureService.transferCount("123456"));
+        verify(validationResultCachePort).put(winner);
+    }
+
+    @Test
+    @DisplayName("Should reject when the daily limit would be exceeded")
+    void shouldRejectWhenDailyLimitExceeded() {
+        var command = createValidCommand();
+        accountActivityService.applyTransfer(1L, "123456", new BigDecimal("450.00"), System.currentTimeMillis(), true);
+        mockAccounts(account("123456", "BRL", new BigDecimal("1000.00")),
+                account("789012", "BRL", new BigDecimal("500.00")));
+        when(validationPersistencePort.findByIdempotencyKey(any())).thenReturn(Optional.empty());
+        mockLimits(new TransferLimitPort.TransferLimitInfo(1L, "STANDARD", new BigDecimal("200.00"),
+                new BigDecimal("500.00"), new BigDecimal("5000.00"), "BRL"));
+        mockRecord();
+
+        var result = validationService.validateTransfer(command);
+
+        assertFalse(result.approved());
+        assertTrue(result.rejectionReason().contains("daily transfer limit"));
+    }
+
+    @Test
+    @DisplayName("Should not let concurrent validations of one account overshoot the daily limit together")
+    void shouldReserveDailyLimitAtomically() throws Exception {
+        mockAccounts(account("123456", "BRL", new BigDecimal("100000.00")),
+                account("789012", "BRL", new BigDecimal("500.00")));
+        mockLimits(new TransferLimitPort.TransferLimitInfo(1L, "STANDARD", new BigDecimal("200.00"),
+                new BigDecimal("500.00"), new BigDecimal("5000.00"), "BRL"));
+        mockRecord();
+
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var results = executor.invokeAll(IntStream.range(0, 20)
+                    .<Callable<Boolean>>mapToObj(i ->
+                            () -> validationService.validateTransfer(command("100.00", null)).approved())
+                    .toList());
+            long approved = 0;
+            for (var result : results) {
+                if (result.get()) {
+                    approved++;
+                }
+            }
+            assertEquals(5, approved);
+            assertEquals(0, new BigDecimal("500.00").compareTo(
+                    accountActivityService.amountWithin("123456", Duration.ofDays(1))));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject when source account does not exist")
+    void shouldRejectWhenSourceAccountDoesNotExist() {
+        var command = createValidCommand();
+        mockAccounts(account("789012", "BRL", new BigDecimal("500.00")));
+        var result = validationService.validateTransfer(command);
+        assertFalse(result.approved());
+        assertTrue(result.rejectionReason().contains("does not exist"));
+    }
+
+    @Test
+    @DisplayName("Should reject when insufficient funds")
+    void shouldRejectWhenInsufficientFunds() {
+        var command = createValidCommand();
+        mockAccounts(account("123456", "BRL", new BigDecimal("50.00")),
+                account("789012", "BRL", new BigDecimal("500.00")));
+        var result = validationService.validateTransfer(command);
+        assertFalse(result.approved());
+        assertTrue(result.rejectionReason().contains("Insufficient funds"));
+    }
+
+    @Test
+    @DisplayName("Should fail rather than reject when the accounts cannot be looked up")
+    void shouldFailWhenAccountLookupFails() {
+        var command = createValidCommand();
+        when(accountServicePort.getAccounts(any()))
+                .thenThrow(new ValidationUnavailableException("Account lookup failed: timed out"));
+
+        var error = assertThrows(ValidationUnavailableException.class,
+                () -> validationService.validateTransfer(command));
+
+        assertTrue(error.getMessage().contains("timed out"));
+        verify(validationRecordPort, never()).record(any());
+        verify(validationResultCachePort, never()).put(any());
+        assertEquals(0, BigDecimal.ZERO.compareTo(accountActivityService.amountWithin("123456", Duration.ofDays(1))));
+    }
+
+    @Test
+    @DisplayName("Should fail rather than approve while the transfer limits never loaded")
+    void shouldFailWhileLimitsNeverLoaded() {
+        var limitPort = mock(TransferLimitPort.class);
+        when(limitPort.getAllLimits()).thenThrow(new IllegalStateException("database down"));
+        var limits = new TransferLimitCache(limitPort);
+        limits.refresh();
+        var service = new ValidationService(validationPersistencePort, validationRecordPort,
+                validationResultCachePort, accountServicePort, duplicateTransferPort, limits, fraudRuleEngine,
+                accountActivityService, accountFeatureService, new ValidationBatchProperties(),
+                new ValidationDuplicateProperties());
+        mockAccounts(account("123456", "BRL", new BigDecimal("1000.00")),
+                account("789012", "BRL", new BigDecimal("500.00")));
+
+        try {
+            assertThrows(ValidationUnavailableException.class,
+                    () -> service.validateTransfer(createValidCommand()));
+            verify(validationRecordPort, never()).record(any());
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply the limits of the source account type")
+    void shouldApplyLimitsOfSourceAccountType() {
+        var command = createValidCommand();
+        mockAccounts(new AccountServicePort.AccountInfo("123456", "Owner", new BigDecimal("1000.00"), "BRL", "PREMIUM", true),
+                account("789012", "BRL", new BigDecimal("500.00")));
+        when(validationPersistencePort.findByIdempotencyKey(any())).thenReturn(Optional.empty());
+        mockLimits(new TransferLimitPort.TransferLimitInfo(1L, "STANDARD", new BigDecimal("50.00"),
+                        new BigDecimal("500.00"), new BigDecimal("5000.00"), "BRL"),
+                new TransferLimitPort.TransferLimitInfo(2L, "PREMIUM", new BigDecimal("1000.00"),
+                        new BigDecimal("5000.00"), new BigDecimal("50000.00"), "BRL"));
+        mockRecord();
+
+        var result = validationService.validateTransfer(command);
+
+        assertTrue(result.approved());
+    }
+
+    @Test
+    @DisplayName("Should reject on the first failing check without waiting for slower ones")
+    void shouldShortCircuitOnFirstRejection() {
+        var command = createValidCommand();
+        when(validationPersistencePort.findByIdempotencyKey(any())).thenReturn(Optional.empty());
+        when(accountServicePort.getAccounts(any())).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return Map.of();
+        });
+        when(fraudRulePort.getActiveRules()).thenReturn(List.of(
+                new FraudRulePort.FraudRuleInfo(1L, "large", "AMOUNT_THRESHOLD", new BigDecimal("50.00"), 60, true, null),
+                new FraudRulePort.FraudRuleInfo(2L, "larger", "AMOUNT_THRESHOLD", new BigDecimal("80.00"), 60, true, null)));
+        fraudRuleEngine.refresh();
+        mockRecord();
+
+        var result = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> validationService.validateTransfer(command));
+
+        assertFalse(result.approved());
+        assertTrue(result.rejectionReason().contains("High fraud score"));
+    }
+
+    @Test
+    @DisplayName("Should return existing validation for duplicate request")
+    void shouldReturnExistingValidationForDuplicate() {
+        var command = createValidCommand();
+        var existing = TransferValidationDomain.builder().id(99L)
+                .validationResult(TransferValidationDomain.ValidationResult.APPROVED).fraudScore(10).build();
+        when(validationPersistencePort.findByIdempotencyKey("test-key")).thenReturn(Optional.of(existing));
+        var result = validationService.validateTransfer(command);
+        assertTrue(result.approved());
+        assertEquals(99L, result.validationId());
+        verify(validationRecordPort, never()).record(any());
+    }
+
+    @Test
+    @DisplayName("Should return a validation still queued for writing for duplicate request")
+    void shouldReturnQueuedValidationForDuplicate() {
+        var command = createValidCommand();
+        var queued = TransferValidationDomain.builder().id(98L).idempotencyKey("test-key")
+                .validationResult(TransferValidationDomain.ValidationResult.REJECTED)
+                .rejectionReason("Insufficient funds in source account").build();
+        when(validationRecordPort.findPending("test-key")).thenReturn(Optional.of(queued));
+
+        var result = validationService.validateTransfer(command);
+
+        assertFalse(result.approved());
+        assertEquals(98L, result.validationId());
+        verify(validationPersistencePort, never()).findByIdempotencyKey(any());
+        verify(validationRecordPort, never()).record(any());
+    }
+
+    @Test
+    @DisplayName("Should not look up a generated idempotency key")
+    void shouldSkipLookupWithoutIdempotencyKey() {
+        var command = command("100.00", null);
+        mockAccounts(account("123456", "BRL", new BigDecimal("1000.00")),
+                account("789012", "BRL", new BigDecimal("500.00")));
+        mockRecord();
+
+        var result = validationService.validateTransfer(command);
+
+        assertTrue(result.approved());
+        verify(validationPersistencePort, never()).findByIdempotencyKey(any());
+        verify(validationRecordPort, never()).findPending(any());
+        verifyNoInteractions(validationResultCachePort);
+    }
+
+    @Test
+    @DisplayName("Should validate a batch with one account lookup and one batched save")
+    void shouldValidateBatch() {
+        when(accountServicePort.getAccounts(any())).thenReturn(Map.of(
+                "123456", account("123456", "BRL", new BigDecimal("150.00")),
+                "789012", account("789012", "BRL", new BigDecimal("500.00"))));
+        when(validationPersistencePort.findByIdempotencyKeys(any())).thenReturn(List.of(
+                TransferValidationDomain.builder().id(99L).idempotencyKey("line-3")
+                        .validationResult(TransferValidationDomain.ValidationResult.APPROVED).fraudScore(0).build()));
+        when(validationPersistencePort.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var lines = List.of(
+                ValidateTransferUseCase.BatchLine.of(1, command("100.00", "line-1")),
+                ValidateTransferUseCase.BatchLine.of(2, command("100.00", "line-2")),
+                ValidateTransferUseCase.BatchLine.of(3, command("100.00", "line-3")),
+                ValidateTransferUseCase.BatchLine.invalid(4, "Malformed JSON line"));
+        var results = new ArrayList<ValidateTransferUseCase.BatchLineResult>();
+
+        var summary = validationService.validateBatch(lines.iterator(), results::add);
+
+        assertEquals(4, summary.received());
+        assertEquals(2, summary.approved());
+        assertEquals(List.of(1L, 2L, 3L, 4L), results.stream().map(ValidateTransferUseCase.BatchLineResult::lineNumber).toList());
+        assertTrue(results.get(0).result().approved());
+        assertTrue(results.get(1).result().rejectionReason().contains("Insufficient funds"));
+        assertEquals(99L, results.get(2).result().validationId());
+        assertEquals("Malformed JSON line", results.get(3).result().rejectionReason());
+        verify(accountServicePort, times(1)).getAccounts(any());
+        verify(validationPersistencePort, times(1)).saveAll(any());
+        verify(validationPersistencePort, never()).save(any());
+        assertEquals(1, accountFeatureService.transferCount("123456"));
+        verify(duplicateTransferPort).record("123456", "789012", new BigDecimal("100.00"), "BRL");
+    }
+
+    @Test
+    @DisplayName("Should give back the reservations of a batch chunk that could not be saved")
+    void shouldReleaseBatchChunkWhenSaveFails() {
+        when(accountServicePort.getAccounts(any())).thenReturn(Map.of(
+                "123456", account("123456", "BRL", new BigDecimal("1000.00")),
+                "789012", account("789012", "BRL", new BigDecimal("500.00"))));
+        when(validationPersistencePort.saveAll(any())).thenThrow(new IllegalStateException("database down"));
+
+        var lines = List.of(
+                ValidateTransferUseCase.BatchLine.of(1, command("100.00", "line-1")),
+                ValidateTransferUseCase.BatchLine.of(2, command("200.00", "line-2")));
+        var results = new ArrayList<ValidateTransferUseCase.BatchLineResult>();
+
+        var summary = validationService.validateBatch(lines.iterator(), results::add);
+
+        assertEquals(0, summary.approved());
+        assertTrue(results.get(0).result().rejectionReason().contains("database down"));
+        assertEquals(0, BigDecimal.ZERO.compareTo(accountActivityService.amountWithin("123456", Duration.ofDays(1))));
+        assertEquals(0, accountFeatureService.transferCount("123456"));
+        verify(duplicateTransferPort, never()).record(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should score a batch line identical to one approved earlier in the batch")
+    void shouldScoreDuplicateWithinBatch() {
+        when(accountServicePort.getAccounts(any())).thenReturn(Map.of(
+                "123456", account("123456", "BRL", new BigDecimal("1000.00")),
+                "789012", account("789012", "BRL", new BigDecimal("500.00"))));
+        when(validationPersistencePort.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var lines = List.of(
+                ValidateTransferUseCase.BatchLine.of(1, command("100.00", "line-1")),
+                ValidateTransferUseCase.BatchLine.of(2, command("100.00", "line-2")));
+        var results = new ArrayList<ValidateTransferUseCase.BatchLineResult>();
+
+        validationService.validateBatch(lines.iterator(), results::add);
+
+        assertEquals(0, results.get(0).result().fraudScore());
+        assertTrue(results.get(1).result().approved());
+        assertEquals(50, results.get(1).result().fraudScore());
+        verify(duplicateTransferPort, times(1)).seenRecently(any(), any(), any(), any());
+    }
+
+    private ValidateTransferUseCase.ValidateTransferCommand command(String amount, String idempotencyKey) {
+        return ValidateTransferUseCase.ValidateTransferCommand.of(
+                "123456", "789012", new BigDecimal(amount), "BRL", idempotencyKey);
+    }
+
+    private ValidateTransferUseCase.ValidateTransferCommand createValidCommand() {
+        return ValidateTransferUseCase.ValidateTransferCommand.of(
+                "123456", "789012", new BigDecimal("100.00"), "BRL", "test-key");
+    }
+
+    private AccountServicePort.AccountInfo account(String accountNumber, String currency, BigDecimal balance) {
+        return new AccountServicePort.AccountInfo(accountNumber, "Owner", balance, currency, "STANDARD", true);
+    }
+
+    private void mockLimits(TransferLimitPort.TransferLimitInfo... limits) {
+        when(transferLimitPort.getAllLimits()).thenReturn(List.of(limits));
+        transferLimitCache.refresh();
+    }
+
+    private void mockRecord() {
+        when(validationRecordPort.record(any())).thenAnswer(invocation -> new ValidationRecordPort.Recorded(
+                invocation.<TransferValidationDomain>getArgument(0).withId(1L), true));
+    }
+
+    private void mockAccounts(AccountServicePort.AccountInfo... accounts) {
+        var byNumber = Arrays.stream(accounts)
+                .collect(Collectors.toMap(AccountServicePort.AccountInfo::accountNumber, Function.identity()));
+        when(accountServicePort.getAccounts(List.of("123456", "789012"))).thenReturn(byNumber);
+    }
+}
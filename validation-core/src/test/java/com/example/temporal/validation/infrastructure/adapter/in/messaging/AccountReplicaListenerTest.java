@@ -0,0 +1,151 @@
+package com.example.temporal.validation.infrastructure.adapter.in.messaging;
+
+import com.example.temporal.validation.config.AccountReplicaProperties;
+import com.example.temporal.validation.infrastructure.adapter.out.replica.AccountReplica;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AccountReplicaListener Unit Tests")
+class AccountReplicaListenerTest {
+
+    private static final String ACCOUNTS = "banking.public.accounts";
+    private static final String SLOTS = "banking.public.account_balance_slots";
+    private static final String HEARTBEAT = "__debezium-heartbeat.banking";
+
+    private AccountReplica replica;
+    private AccountReplicaListener listener;
+    private long offset;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new AccountReplicaProperties();
+        properties.setEnabled(true);
+        replica = new AccountReplica(properties);
+        listener = new AccountReplicaListener(replica, properties, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Should replicate account rows and add balance slots to the balance")
+    void shouldReplicateAccountsAndSlots() {
+        consume(ACCOUNTS, account(1, "123456", "100.00", "PREMIUM"));
+        consume(ACCOUNTS, account(1, "123456", "80.00", "PREMIUM"));
+        consume(SLOTS, "{\"id\":7,\"account_number\":\"123456\",\"slot_index\":0,\"balance\":\"20.50\",\"__deleted\":\"false\"}");
+
+        var info = replica.find(List.of("123456")).get("123456");
+        assertEquals(new BigDecimal("100.50"), info.balance());
+        assertEquals("BRL", info.currency());
+        assertEquals("PREMIUM", info.accountType());
+    }
+
+    @Test
+    @DisplayName("Should remove rows on rewritten deletes and ignore tombstones")
+    void shouldApplyDeletes() {
+        consume(ACCOUNTS, account(1, "123456", "100.00", "STANDARD"));
+        consume(SLOTS, "{\"id\":7,\"account_number\":\"123456\",\"balance\":\"20.00\",\"__deleted\":\"false\"}");
+
+        consume(SLOTS, "{\"id\":7,\"account_number\":null,\"balance\":null,\"__deleted\":\"true\"}");
+        assertEquals(new BigDecimal("100.00"), replica.find(List.of("123456")).get("123456").balance());
+
+        consume(ACCOUNTS, "{\"id\":1,\"account_number\":null,\"__deleted\":\"true\"}");
+        consume(ACCOUNTS, null);
+        assertTrue(replica.find(List.of("123456")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should measure the lag from the commit time of applied changes")
+    void shouldTrackLag() {
+        consume(ACCOUNTS, account(1, "123456", "100.00", "STANDARD")
+                .replace("\"__source_ts_ms\":0", "\"__source_ts_ms\":" + (System.currentTimeMillis() - 660_000)));
+        assertFalse(replica.isCurrent());
+        assertFalse(replica.isUsableDuringOutage());
+
+        consume(ACCOUNTS, account(1, "123456", "100.00", "STANDARD")
+                .replace("\"__source_ts_ms\":0", "\"__source_ts_ms\":" + (System.currentTimeMillis() - 60_000)));
+        assertFalse(replica.isCurrent());
+        assertTrue(replica.isUsableDuringOutage());
+
+        consume(ACCOUNTS, account(2, "789012", "100.00", "STANDARD")
+                .replace("\"__source_ts_ms\":0", "\"__source_ts_ms\":" + System.currentTimeMillis()));
+        assertTrue(replica.isCurrent());
+    }
+
+    @Test
+    @DisplayName("Should be current when idle at the end offsets after a recent heartbeat")
+    void shouldCatchUpToHeartbeatWhenDrained() {
+        var consumer = consumerAt(5, 5);
+
+        listener.handleIdle(idle(consumer));
+        assertFalse(replica.isCurrent());
+
+        listener.handleHeartbeat(new ConsumerRecord<>(HEARTBEAT, 0, 0, "key",
+                "{\"ts_ms\":" + System.currentTimeMillis() + "}"));
+        listener.handleIdle(idle(consumer));
+        assertTrue(replica.isCurrent());
+    }
+
+    @Test
+    @DisplayName("Should not be current when idle behind the end offsets or on an old heartbeat")
+    void shouldNotTreatIdleAsCurrent() {
+        listener.handleHeartbeat(new ConsumerRecord<>(HEARTBEAT, 0, 0, "key",
+                "{\"ts_ms\":" + System.currentTimeMillis() + "}"));
+        listener.handleIdle(idle(consumerAt(3, 5)));
+        assertFalse(replica.isCurrent());
+
+        var properties = new AccountReplicaProperties();
+        properties.setEnabled(true);
+        replica = new AccountReplica(properties);
+        listener = new AccountReplicaListener(replica, properties, new ObjectMapper());
+        listener.handleHeartbeat(new ConsumerRecord<>(HEARTBEAT, 0, 0, "key",
+                "{\"ts_ms\":" + (System.currentTimeMillis() - 60_000) + "}"));
+        listener.handleIdle(idle(consumerAt(5, 5)));
+        assertFalse(replica.isCurrent());
+        assertTrue(replica.isUsableDuringOutage());
+    }
+
+    @Test
+    @DisplayName("Should skip changes it cannot read")
+    void shouldSkipUnreadableChanges() {
+        consume(ACCOUNTS, "not json");
+        consume(ACCOUNTS, account(1, "123456", "AYag", "STANDARD"));
+
+        assertEquals(0, replica.size());
+    }
+
+    private static MockConsumer<String, String> consumerAt(long position, long endOffset) {
+        var partition = new TopicPartition(ACCOUNTS, 0);
+        var consumer = new MockConsumer<String, String>(OffsetResetStrategy.EARLIEST);
+        consumer.assign(List.of(partition));
+        consumer.updateBeginningOffsets(Map.of(partition, 0L));
+        consumer.updateEndOffsets(Map.of(partition, endOffset));
+        consumer.seek(partition, position);
+        return consumer;
+    }
+
+    private static ListenerContainerIdleEvent idle(MockConsumer<String, String> consumer) {
+        return new ListenerContainerIdleEvent(consumer, consumer, 2_000, AccountReplicaListener.LISTENER_ID + "-0",
+                consumer.assignment(), consumer, false);
+    }
+
+    private void consume(String topic, String value) {
+        listener.handleChange(new ConsumerRecord<>(topic, 0, offset++, "key", value));
+    }
+
+    private String account(long id, String accountNumber, String balance, String accountType) {
+        return "{\"id\":" + id + ",\"account_number\":\"" + accountNumber + "\",\"owner_name\":\"Owner\","
+                + "\"balance\":\"" + balance + "\",\"currency\":\"BRL\",\"account_type\":\"" + accountType + "\","
+                + "\"__deleted\":\"false\",\"__source_ts_ms\":0}";
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.temporal.validation.infrastructure.adapter.in.messaging;
+
+import com.example.temporal.validation.config.ValidationActivityProperties;
+import com.example.temporal.validation.domain.activity.AccountActivityWindows.WindowLimit;
+import com.example.temporal.validation.domain.port.out.ValidationPersistencePort;
+import com.example.temporal.validation.domain.service.AccountActivityService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TransferActivityListener Unit Tests")
+class TransferActivityListenerTest {
+
+    private static final String TOPIC = "banking.public.transfers";
+    private static final Duration DAY = Duration.ofDays(1);
+
+    private AccountActivityService activity;
+    private TransferActivityListener listener;
+    private long offset;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new ValidationActivityProperties();
+        properties.setCdcEnabled(true);
+        activity = new AccountActivityService(Mockito.mock(ValidationPersistencePort.class), properties);
+        listener = new TransferActivityListener(activity, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Should count a transfer once from validation until it fails")
+    void shouldCountTransferWhileItCounts() {
+        consume(transfer(1, "100.00", "INITIATED"));
+        assertAmount("0.00");
+
+        consume(transfer(1, "100.00", "VALIDATED"));
+        consume(transfer(1, "100.00", "PROCESSING"));
+        consume(transfer(1, "100.00", "PROCESSING"));
+        assertAmount("100.00");
+
+        consume(transfer(1, "100.00", "FAILED"));
+        consume(transfer(1, "100.00", "FAILED"));
+        assertAmount("0.00");
+    }
+
+    @Test
+    @DisplayName("Should let the transfer of an approval replace its reservation")
+    void shouldConfirmReservation() {
+        var limits = List.of(new WindowLimit("daily", DAY, new BigDecimal("150.00")));
+        assertNull(activity.reserve("123456", new BigDecimal("100.00"), limits));
+
+        consume(transfer(1, "100.00", "VALIDATED"));
+
+        assertAmount("100.00");
+        assertNotNull(activity.reserve("123456", new BigDecimal("100.00"), limits));
+    }
+
+    @Test
+    @DisplayName("Should take deleted transfers out and skip unreadable changes")
+    void shouldApplyDeletesAndSkipUnreadable() {
+        consume(transfer(1, "100.00", "COMPLETED"));
+        consume("{\"id\":1,\"source_account_number\":null,\"status\":null,\"__deleted\":\"true\"}");
+        consume(null);
+        consume("not json");
+        consume(transfer(2, "100.00", "UNKNOWN"));
+
+        assertAmount("0.00");
+    }
+
+    private void consume(String value) {
+        listener.handleChange(new ConsumerRecord<>(TOPIC, 0, offset++, "key", value));
+    }
+
+    private void assertAmount(String expected) {
+        assertEquals(0, new BigDecimal(expected).compareTo(activity.amountWithin("123456", DAY)));
+    }
+
+    private String transfer(long id, String amount, String status) {
+        // MicroTimestamp: wall-clock time as if it were UTC
+        long createdAtMicros = ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0),
+                LocalDateTime.now().minusMinutes(1));
+        return "{\"id\":" + id + ",\"source_account_number\":\"123456\",\"destination_account_number\":\"789012\","
+                + "\"amount\":\"" + amount + "\",\"currency\":\"BRL\",\"status\":\"" + status + "\","
+                + "\"created_at\":" + createdAtMicros + ",\"__deleted\":\"false\"}";
+    }
+}
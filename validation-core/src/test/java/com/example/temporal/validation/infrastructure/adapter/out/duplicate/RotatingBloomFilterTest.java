@@ -0,0 +1,64 @@
+package com.example.temporal.validation.infrastructure.adapter.out.duplicate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RotatingBloomFilter Unit Tests")
+class RotatingBloomFilterTest {
+
+    private static final long WINDOW = Duration.ofSeconds(30).toMillis();
+    private static final long NOW = Duration.ofDays(20_000).toMillis();
+
+    @Test
+    @DisplayName("Should report a key added again within the window")
+    void shouldDetectRepeatWithinWindow() {
+        var filter = new RotatingBloomFilter(WINDOW, 3, 10_000, 0.001);
+
+        assertFalse(filter.add("123456|789012|100.00|BRL", NOW));
+        assertTrue(filter.add("123456|789012|100.00|BRL", NOW + WINDOW - 1));
+        assertFalse(filter.add("123456|789012|100.01|BRL", NOW + WINDOW - 1));
+    }
+
+    @Test
+    @DisplayName("Should forget a key once it is older than the window plus one slice")
+    void shouldExpireOldKeys() {
+        var filter = new RotatingBloomFilter(WINDOW, 3, 10_000, 0.001);
+        long start = Math.floorDiv(NOW, WINDOW / 3) * (WINDOW / 3);
+
+        filter.add("123456|789012|100.00|BRL", start);
+
+        assertFalse(filter.add("123456|789012|100.00|BRL", start + WINDOW + WINDOW / 3));
+    }
+
+    @Test
+    @DisplayName("Should keep false positives near the configured rate at the expected volume")
+    void shouldStayNearConfiguredFalsePositiveRate() {
+        double rate = 0.01;
+        var filter = new RotatingBloomFilter(WINDOW, 3, 30_000, rate);
+        for (int i = 0; i < 30_000; i++) {
+            filter.add("seen-" + i, NOW + i % WINDOW);
+        }
+
+        long now = NOW + WINDOW - 1;
+        int falsePositives = 0;
+        for (int i = 0; i < 20_000; i++) {
+            if (filter.mightContain("new-" + i, now)) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives / 20_000.0 < rate * 2, "false positives: " + falsePositives);
+        assertTrue(filter.estimatedFalsePositiveRate(now) < rate * 2);
+    }
+
+    @Test
+    @DisplayName("Should reject configurations that cannot be sized")
+    void shouldRejectInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new RotatingBloomFilter(WINDOW, 0, 1_000, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new RotatingBloomFilter(WINDOW, 3, 1_000, 1.5));
+    }
+}
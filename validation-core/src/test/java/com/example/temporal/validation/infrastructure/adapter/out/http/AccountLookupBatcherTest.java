@@ -0,0 +1,86 @@
+package com.example.temporal.validation.infrastructure.adapter.out.http;
+
+import com.example.temporal.common.model.Account;
+import com.example.temporal.validation.client.AccountBatchRequest;
+import com.example.temporal.validation.client.AccountServiceClient;
+import com.example.temporal.validation.config.AccountLookupProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountLookupBatcher Unit Tests")
+class AccountLookupBatcherTest {
+
+    @Mock private AccountServiceClient accountServiceClient;
+
+    private AccountLookupBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new AccountLookupProperties();
+        properties.setMaxWait(Duration.ofMillis(200));
+        batcher = new AccountLookupBatcher(accountServiceClient, properties);
+        batcher.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batcher.stop();
+    }
+
+    @Test
+    @DisplayName("Should merge concurrent lookups into one batch call")
+    void shouldMergeConcurrentLookups() throws Exception {
+        when(accountServiceClient.getAccounts(any())).thenReturn(
+                List.of(account("123456"), account("789012"), account("345678")));
+
+        var first = CompletableFuture.supplyAsync(() -> lookup(List.of("123456", "789012")));
+        var second = CompletableFuture.supplyAsync(() -> lookup(List.of("789012", "345678")));
+
+        assertEquals(2, first.get(5, TimeUnit.SECONDS).size());
+        assertEquals(2, second.get(5, TimeUnit.SECONDS).size());
+
+        var request = ArgumentCaptor.forClass(AccountBatchRequest.class);
+        verify(accountServiceClient, times(1)).getAccounts(request.capture());
+        assertEquals(3, request.getValue().accountNumbers().size());
+    }
+
+    @Test
+    @DisplayName("Should leave unknown accounts out of the result")
+    void shouldOmitUnknownAccounts() throws Exception {
+        when(accountServiceClient.getAccounts(any())).thenReturn(List.of(account("123456")));
+
+        var accounts = batcher.lookup(List.of("123456", "999999"));
+
+        assertTrue(accounts.containsKey("123456"));
+        assertFalse(accounts.containsKey("999999"));
+    }
+
+    private Map<String, Account> lookup(List<String> accountNumbers) {
+        try {
+            return batcher.lookup(accountNumbers);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Account account(String accountNumber) {
+        return new Account().setAccountNumber(accountNumber).setCurrency("BRL");
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.temporal.validation.infrastructure.adapter.out.http;
+
+import com.example.temporal.common.exception.ValidationUnavailableException;
+import com.example.temporal.common.model.Account;
+import com.example.temporal.validation.config.AccountReplicaProperties;
+import com.example.temporal.validation.infrastructure.adapter.out.replica.AccountReplica;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountServiceAdapter Unit Tests")
+class AccountServiceAdapterTest {
+
+    private static final List<String> ACCOUNTS = List.of("123456", "789012");
+
+    @Mock private AccountLookupBatcher accountLookupBatcher;
+
+    private AccountReplica replica;
+    private AccountServiceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new AccountReplicaProperties();
+        properties.setEnabled(true);
+        replica = new AccountReplica(properties);
+        replica.putAccount(1L, "123456", "Owner", new BigDecimal("100.00"), "BRL", "STANDARD");
+        replica.putAccount(2L, "789012", "Owner", new BigDecimal("50.00"), "BRL", "STANDARD");
+        adapter = new AccountServiceAdapter(accountLookupBatcher, replica);
+    }
+
+    @Test
+    @DisplayName("Should answer from a current replica without calling account-service")
+    void shouldAnswerFromCurrentReplica() {
+        replica.caughtUp(System.currentTimeMillis());
+
+        var accounts = adapter.getAccounts(ACCOUNTS);
+
+        assertEquals(2, accounts.size());
+        verifyNoInteractions(accountLookupBatcher);
+    }
+
+    @Test
+    @DisplayName("Should call account-service for accounts the replica does not have")
+    void shouldFallBackToRemoteForMissingAccounts() throws Exception {
+        replica.caughtUp(System.currentTimeMillis());
+        when(accountLookupBatcher.lookup(any())).thenReturn(Map.of(
+                "123456", account("123456"), "345678", account("345678")));
+
+        var accounts = adapter.getAccounts(List.of("123456", "345678"));
+
+        assertEquals(2, accounts.size());
+        verify(accountLookupBatcher).lookup(any());
+    }
+
+    @Test
+    @DisplayName("Should answer from the replica while account-service is unavailable")
+    void shouldUseReplicaDuringOutage() throws Exception {
+        replica.caughtUp(System.currentTimeMillis() - 60_000);
+        when(accountLookupBatcher.lookup(any()))
+                .thenThrow(new ExecutionException(new IllegalStateException("Account service unavailable")));
+
+        var accounts = adapter.getAccounts(ACCOUNTS);
+
+        assertEquals(new BigDecimal("100.00"), accounts.get("123456").balance());
+        verify(accountLookupBatcher).lookup(any());
+    }
+
+    @Test
+    @DisplayName("Should fail the lookup rather than use a replica that never caught up")
+    void shouldIgnoreReplicaThatNeverCaughtUp() throws Exception {
+        when(accountLookupBatcher.lookup(any()))
+                .thenThrow(new ExecutionException(new IllegalStateException("Account service unavailable")));
+
+        assertThrows(ValidationUnavailableException.class, () -> adapter.getAccounts(ACCOUNTS));
+    }
+
+    private Account account(String accountNumber) {
+        return new Account().setAccountNumber(accountNumber).setOwnerName("Owner")
+                .setBalance(new BigDecimal("10.00")).setCurrency("BRL");
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.temporal.validation.infrastructure.adapter.out.persistence;
+
+import com.example.temporal.validation.config.ValidationWriteBehindProperties;
+import com.example.temporal.validation.domain.model.TransferValidationDomain;
+import com.example.temporal.validation.domain.port.out.ValidationPersistencePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ValidationWriteBehindAdapter Unit Tests")
+class ValidationWriteBehindAdapterTest {
+
+    @Mock private ValidationPersistencePort persistencePort;
+
+    private ValidationWriteBehindProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ValidationWriteBehindProperties();
+        properties.setFlushInterval(Duration.ofMillis(5));
+        properties.setOfferTimeout(Duration.ofMillis(1));
+        meterRegistry = new SimpleMeterRegistry();
+        when(persistencePort.reserveIds(anyInt())).thenReturn(LongStream.range(1, 51).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("Should return ids at once and write the records in a batch")
+    @SuppressWarnings("unchecked")
+    void shouldWriteRecordsBehind() throws Exception {
+        var adapter = new ValidationWriteBehindAdapter(persistencePort, properties, meterRegistry);
+
+        var first = adapter.record(validation("key-1")).validation();
+        var second = adapter.record(validation("key-2")).validation();
+        assertEquals(1L, first.getId());
+        assertEquals(2L, second.getId());
+        verify(persistencePort, never()).insertAll(any());
+
+        adapter.start();
+        ArgumentCaptor<List<TransferValidationDomain>> batch = ArgumentCaptor.forClass(List.class);
+        verify(persistencePort, timeout(2_000)).insertAll(batch.capture());
+        adapter.stop();
+
+        assertEquals(List.of(1L, 2L), batch.getValue().stream().map(TransferValidationDomain::getId).toList());
+        assertEquals(2.0, meterRegistry.get("validation.records.written").counter().count());
+        assertTrue(adapter.findPending("key-1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should drop and count records when the queue stays full")
+    void shouldDropWhenQueueFull() {
+        properties.setCapacity(1);
+        var adapter = new ValidationWriteBehindAdapter(persistencePort, properties, meterRegistry);
+
+        var queued = adapter.record(validation("key-1")).validation();
+        var dropped = adapter.record(validation("key-2")).validation();
+
+        assertNotNull(queued.getId());
+        assertNull(dropped.getId());
+        assertTrue(adapter.findPending("key-2").isEmpty());
+        assertEquals(1.0, meterRegistry.get("validation.records.dropped").counter().count());
+        assertEquals(1.0, meterRegistry.get("validation.records.backlog").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should answer a queued idempotency key without queuing it twice")
+    void shouldReturnPendingRecordForSameKey() {
+        var adapter = new ValidationWriteBehindAdapter(persistencePort, properties, meterRegistry);
+
+        var first = adapter.record(validation("key-1"));
+        var repeated = adapter.record(validation("key-1"));
+
+        assertTrue(first.inserted());
+        assertFalse(repeated.inserted());
+        assertSame(first.validation(), repeated.validation());
+        assertSame(first.validation(), adapter.findPending("key-1").orElseThrow());
+        assertEquals(1.0, meterRegistry.get("validation.records.queued").counter().count());
+    }
+
+    private TransferValidationDomain validation(String idempotencyKey) {
+        return TransferValidationDomain.createPending("123456", "789012", new BigDecimal("100.00"), "BRL", idempotencyKey)
+                .approve();
+    }
+}
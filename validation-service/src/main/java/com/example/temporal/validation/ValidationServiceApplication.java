@@ -1,17 +1,16 @@
 package com.example.temporal.validation;
 
+import com.example.temporal.validation.config.ValidationCoreConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.boot.autoconfigure.domain.EntityScan;
-import org.springframework.cloud.openfeign.EnableFeignClients;
-import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableFeignClients
-@EntityScan(basePackages = "com.example.temporal.validation.entity")
-@EnableJpaRepositories(basePackages = "com.example.temporal.validation.repository")
+@EnableScheduling
+@Import(ValidationCoreConfiguration.class)
 public class ValidationServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(ValidationServiceApplication.class, args);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,101 @@
+package com.example.temporal.validation.infrastructure.adapter.in.rest;
+
+import com.example.temporal.common.dto.TransferRequest;
+import com.example.temporal.validation.domain.port.in.ValidateTransferUseCase.BatchLine;
+import com.example.temporal.validation.domain.port.in.ValidateTransferUseCase.ValidateTransferCommand;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazily reads an NDJSON batch of transfer requests line by line, so a bulk
+ * file is never held in memory as a whole.
+ */
+@Component
+@RequiredArgsConstructor
+public class ValidationBatchReader {
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Returns an iterator over the lines of the body.
+     * @param reader the request body reader
+     * @return lazy iterator of batch lines, skipping blank lines
+     */
+    public Iterator<BatchLine> read(BufferedReader reader) {
+        return new LineIterator(reader);
+    }
+
+    private BatchLine parse(long lineNumber, String line) {
+        TransferRequest request;
+        try {
+            request = objectMapper.readValue(line, TransferRequest.class);
+        } catch (IOException e) {
+            return BatchLine.invalid(lineNumber, "Malformed JSON line");
+        }
+
+        try {
+            return BatchLine.of(lineNumber, ValidateTransferCommand.of(
+                    request.getSourceAccountNumber(),
+                    request.getDestinationAccountNumber(),
+                    request.getAmount(),
+                    request.getCurrency(),
+                    request.getIdempotencyKey()
+            ));
+        } catch (IllegalArgumentException e) {
+            return BatchLine.invalid(lineNumber, e.getMessage());
+        }
+    }
+
+    private final class LineIterator implements Iterator<BatchLine> {
+
+        private final BufferedReader reader;
+        private long lineNumber;
+        private BatchLine next;
+
+        private LineIterator(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = readNext();
+            }
+            return next != null;
+        }
+
+        @Override
+        public BatchLine next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            BatchLine current = next;
+            next = null;
+            return current;
+        }
+
+        private BatchLine readNext() {
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (!line.isBlank()) {
+                        return parse(lineNumber, line);
+                    }
+                }
+                return null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -1,14 +1,25 @@
 package com.example.temporal.validation.infrastructure.adapter.in.rest;
 
 import com.example.temporal.common.dto.TransferRequest;
+import com.example.temporal.common.exception.ValidationUnavailableException;
 import com.example.temporal.validation.domain.port.in.ValidateTransferUseCase;
 import com.example.temporal.validation.domain.port.in.QueryValidationUseCase;
 import com.example.temporal.validation.domain.model.TransferValidationDomain;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -25,6 +36,8 @@ public class ValidationRestController {
 
     private final ValidateTransferUseCase validateTransferUseCase;
     private final QueryValidationUseCase queryValidationUseCase;
+    private final ValidationBatchReader validationBatchReader;
+    private final ObjectMapper objectMapper;
 
     /**
      * Validates a transfer request
@@ -58,6 +71,55 @@ public class ValidationRestController {
                 : ResponseEntity.badRequest().body(response);
     }
 
+    /**
+     * No decision could be made; 503 tells callers to retry, while a 400 is a final rejection
+     */
+    @ExceptionHandler(ValidationUnavailableException.class)
+    public ResponseEntity<ValidationResponse> validationUnavailable(ValidationUnavailableException e) {
+        log.warn("REST API: Validation unavailable: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ValidationResponse(null, null, e.getMessage(), null));
+    }
+
+    /**
+     * Validates an NDJSON file of transfer requests and streams back one NDJSON
+     * result line per request, chunk by chunk, followed by the batch summary.
+     * Each line may carry its own idempotencyKey.
+     */
+    @PostMapping(value = "/batch", consumes = ValidationBatchReader.NDJSON, produces = ValidationBatchReader.NDJSON)
+    public void validateBatch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.info("REST API: Validating transfer batch");
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(ValidationBatchReader.NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+        PrintWriter writer = response.getWriter();
+
+        var summary = validateTransferUseCase.validateBatch(
+                validationBatchReader.read(reader),
+                result -> writeLine(writer, new BatchLineResponse(
+                        result.lineNumber(),
+                        result.idempotencyKey(),
+                        result.result().validationId(),
+                        result.result().approved(),
+                        result.result().rejectionReason(),
+                        result.result().fraudScore()
+                )));
+        writeLine(writer, summary);
+    }
+
+    private void writeLine(PrintWriter writer, Object value) {
+        try {
+            writer.println(objectMapper.writeValueAsString(value));
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Gets validation by ID
      */
@@ -155,6 +217,15 @@ public class ValidationRestController {
             Integer fraudScore
     ) {}
 
+    public record BatchLineResponse(
+            long lineNumber,
+            String idempotencyKey,
+            Long validationId,
+            Boolean approved,
+            String rejectionReason,
+            Integer fraudScore
+    ) {}
+
     public record ValidationDetailResponse(
             Long id,
             String transferId,
@@ -0,0 +1,54 @@
+-- Validation service schema. Tables use IF NOT EXISTS so databases created by
+-- hibernate ddl-auto are baselined in place; the indexes are the new part.
+
+CREATE TABLE IF NOT EXISTS transfer_validations (
+    id                         BIGSERIAL PRIMARY KEY,
+    transfer_id                VARCHAR(255),
+    source_account_number      VARCHAR(255)   NOT NULL,
+    destination_account_number VARCHAR(255)   NOT NULL,
+    amount                     NUMERIC(38, 2) NOT NULL,
+    currency                   VARCHAR(255)   NOT NULL,
+    validation_result          VARCHAR(255)   NOT NULL,
+    rejection_reason           VARCHAR(255),
+    fraud_score                INTEGER,
+    idempotency_key            VARCHAR(100)   UNIQUE,
+    validated_at               TIMESTAMP(6)
+);
+
+-- Account history: source = ? OR destination = ? becomes a BitmapOr of both
+CREATE INDEX IF NOT EXISTS idx_transfer_validations_source_account
+    ON transfer_validations (source_account_number, validated_at DESC);
+CREATE INDEX IF NOT EXISTS idx_transfer_validations_destination_account
+    ON transfer_validations (destination_account_number, validated_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_transfer_validations_transfer_id
+    ON transfer_validations (transfer_id);
+
+CREATE INDEX IF NOT EXISTS idx_transfer_validations_result
+    ON transfer_validations (validation_result);
+
+CREATE TABLE IF NOT EXISTS transfer_limits (
+    id                     BIGSERIAL PRIMARY KEY,
+    account_type           VARCHAR(255)   NOT NULL,
+    currency               VARCHAR(255),
+    daily_transfer_limit   NUMERIC(38, 2) NOT NULL,
+    monthly_transfer_limit NUMERIC(38, 2) NOT NULL,
+    single_transfer_limit  NUMERIC(38, 2) NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_transfer_limits_account_type_currency
+    ON transfer_limits (account_type, currency);
+
+CREATE TABLE IF NOT EXISTS fraud_detection_rules (
+    id                  BIGSERIAL PRIMARY KEY,
+    rule_name           VARCHAR(255)   NOT NULL,
+    rule_type           VARCHAR(255)   NOT NULL,
+    threshold           NUMERIC(38, 2) NOT NULL,
+    time_window_minutes INTEGER        NOT NULL,
+    is_active           BOOLEAN        NOT NULL,
+    description         VARCHAR(255)
+);
+
+CREATE INDEX IF NOT EXISTS idx_fraud_detection_rules_active
+    ON fraud_detection_rules (rule_type)
+    WHERE is_active;
@@ -0,0 +1,25 @@
+-- Moves the validation service ids from identity columns to pooled-lo sequences so
+-- Hibernate can reserve ids in blocks and batch inserts. INCREMENT BY must
+-- match IdAllocation.ALLOCATION_SIZE; the column default keeps ad-hoc inserts
+-- working (each one simply consumes a whole block).
+
+CREATE SEQUENCE IF NOT EXISTS transfer_validations_seq INCREMENT BY 50;
+SELECT setval('transfer_validations_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM transfer_validations), false);
+ALTER TABLE transfer_validations ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE transfer_validations ALTER COLUMN id SET DEFAULT nextval('transfer_validations_seq');
+ALTER SEQUENCE transfer_validations_seq OWNED BY transfer_validations.id;
+DROP SEQUENCE IF EXISTS transfer_validations_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS transfer_limits_seq INCREMENT BY 50;
+SELECT setval('transfer_limits_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM transfer_limits), false);
+ALTER TABLE transfer_limits ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE transfer_limits ALTER COLUMN id SET DEFAULT nextval('transfer_limits_seq');
+ALTER SEQUENCE transfer_limits_seq OWNED BY transfer_limits.id;
+DROP SEQUENCE IF EXISTS transfer_limits_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS fraud_detection_rules_seq INCREMENT BY 50;
+SELECT setval('fraud_detection_rules_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM fraud_detection_rules), false);
+ALTER TABLE fraud_detection_rules ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE fraud_detection_rules ALTER COLUMN id SET DEFAULT nextval('fraud_detection_rules_seq');
+ALTER SEQUENCE fraud_detection_rules_seq OWNED BY fraud_detection_rules.id;
+DROP SEQUENCE IF EXISTS fraud_detection_rules_id_seq;
@@ -0,0 +1,24 @@
+-- Version counter for the fraud rule set. validation-service polls it and
+-- recompiles its in-memory rules only when it moves. A statement trigger
+-- bumps it on any change, including edits made outside the service.
+
+CREATE TABLE IF NOT EXISTS fraud_detection_rules_version (
+    id      INTEGER PRIMARY KEY CHECK (id = 1),
+    version BIGINT  NOT NULL
+);
+
+INSERT INTO fraud_detection_rules_version (id, version)
+VALUES (1, 1)
+ON CONFLICT (id) DO NOTHING;
+
+CREATE OR REPLACE FUNCTION fraud_detection_rules_bump_version() RETURNS trigger AS $$
+BEGIN
+    UPDATE fraud_detection_rules_version SET version = version + 1 WHERE id = 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS fraud_detection_rules_bump_version ON fraud_detection_rules;
+CREATE TRIGGER fraud_detection_rules_bump_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON fraud_detection_rules
+    FOR EACH STATEMENT EXECUTE FUNCTION fraud_detection_rules_bump_version();
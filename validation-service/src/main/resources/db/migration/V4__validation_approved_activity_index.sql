@@ -0,0 +1,6 @@
+-- Serves the startup rebuild of the in-memory account activity windows,
+-- which reads the approved validations of the last month.
+
+CREATE INDEX IF NOT EXISTS idx_transfer_validations_approved_at
+    ON transfer_validations (validated_at)
+    WHERE validation_result = 'APPROVED';
@@ -0,0 +1,24 @@
+-- Version counter for the transfer limit profiles, polled by validation-service
+-- so it reloads its in-memory limits only when they change. Same scheme as
+-- fraud_detection_rules_version (V3).
+
+CREATE TABLE IF NOT EXISTS transfer_limits_version (
+    id      INTEGER PRIMARY KEY CHECK (id = 1),
+    version BIGINT  NOT NULL
+);
+
+INSERT INTO transfer_limits_version (id, version)
+VALUES (1, 1)
+ON CONFLICT (id) DO NOTHING;
+
+CREATE OR REPLACE FUNCTION transfer_limits_bump_version() RETURNS trigger AS $$
+BEGIN
+    UPDATE transfer_limits_version SET version = version + 1 WHERE id = 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS transfer_limits_bump_version ON transfer_limits;
+CREATE TRIGGER transfer_limits_bump_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON transfer_limits
+    FOR EACH STATEMENT EXECUTE FUNCTION transfer_limits_bump_version();
@@ -0,0 +1,137 @@
+package com.example.temporal.validation.benchmark;
+
+import com.example.temporal.validation.domain.activity.AccountActivityView;
+import com.example.temporal.validation.domain.features.AccountFeatureView;
+import com.example.temporal.validation.domain.fraud.FraudRuleSnapshot;
+import com.example.temporal.validation.domain.port.in.ValidateTransferUseCase.ValidateTransferCommand;
+import com.example.temporal.validation.domain.port.out.FraudRulePort.FraudRuleInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fraud scoring on the compiled snapshot versus the previous per-validation
+ * switch over rule type strings (rules already in memory for both). Account
+ * activity is stubbed out, so FREQUENCY rules cost a call but never fire.
+ * <p>
+ * Run with {@code mvn -pl validation-service test-compile} and then
+ * {@code java -cp <test classpath> com.example.temporal.validation.benchmark.FraudRuleEngineBenchmark};
+ * add {@code -prof gc} to the options to see allocation per operation.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FraudRuleEngineBenchmark {
+
+    private static final AccountActivityView NO_ACTIVITY = new AccountActivityView() {
+        @Override
+        public BigDecimal amountWithin(final String accountNumber, final Duration window) {
+            return BigDecimal.ZERO;
+        }
+
+        @Override
+        public long countWithin(final String accountNumber, final Duration window) {
+            return 0;
+        }
+    };
+
+    private static final AccountFeatureView NO_FEATURES = new AccountFeatureView() {
+        @Override
+        public long transferCount(final String accountNumber) {
+            return 0;
+        }
+
+        @Override
+        public double amountZScore(final String accountNumber, final BigDecimal amount) {
+            return 0;
+        }
+
+        @Override
+        public boolean isRecentCounterparty(final String accountNumber, final String counterparty) {
+            return false;
+        }
+
+        @Override
+        public double counterpartyDiversity(final String accountNumber) {
+            return 0;
+        }
+
+        @Override
+        public long millisSinceLastTransfer(final String accountNumber) {
+            return -1;
+        }
+    };
+
+    @Param({"4", "32"})
+    private int rules;
+
+    private List<FraudRuleInfo> definitions;
+    private FraudRuleSnapshot snapshot;
+    private ValidateTransferCommand command;
+
+    @Setup
+    public void setUp() {
+        definitions = new ArrayList<>();
+        for (int i = 0; i < rules; i++) {
+            final String type = switch (i % 3) {
+                case 0 -> "AMOUNT_THRESHOLD";
+                case 1 -> "FREQUENCY";
+                default -> "LOCATION";
+            };
+            definitions.add(new FraudRuleInfo((long) i, "rule-" + i, type,
+                    new BigDecimal(10_000 + i * 1_000), 60, true, null));
+        }
+        snapshot = FraudRuleSnapshot.compile("1", definitions, NO_ACTIVITY, NO_FEATURES);
+        command = ValidateTransferCommand.of("123456", "789012", new BigDecimal("2500.00"), "BRL", "bench");
+    }
+
+    @Benchmark
+    public int compiledSnapshot() {
+        return snapshot.score(command);
+    }
+
+    @Benchmark
+    public int switchOnRuleType() {
+        int fraudScore = 0;
+        for (final FraudRuleInfo rule : definitions) {
+            switch (rule.ruleType()) {
+                case "AMOUNT_THRESHOLD" -> {
+                    if (command.amount().compareTo(rule.threshold()) > 0) {
+                        fraudScore += 50;
+                    }
+                }
+                case "FREQUENCY", "LOCATION" -> {
+                }
+                default -> {
+                }
+            }
+        }
+        return fraudScore;
+    }
+
+    public static void main(final String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(FraudRuleEngineBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
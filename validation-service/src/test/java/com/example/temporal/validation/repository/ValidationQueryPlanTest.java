@@ -0,0 +1,53 @@
+package com.example.temporal.validation.repository;
+
+import com.example.temporal.common.schema.QueryPlanTestSupport;
+import com.example.temporal.validation.entity.TransferValidationEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+@DisplayName("Validation repository query plans")
+class ValidationQueryPlanTest extends QueryPlanTestSupport {
+
+    @Configuration
+    @EntityScan(basePackages = "com.example.temporal.validation.entity")
+    @EnableJpaRepositories(basePackages = "com.example.temporal.validation.repository")
+    static class JpaConfig {
+    }
+
+    @Autowired private TransferValidationRepository validationRepository;
+    @Autowired private TransferLimitRepository limitRepository;
+    @Autowired private FraudDetectionRuleRepository ruleRepository;
+
+    @Test
+    @DisplayName("Should combine the source and destination indexes for account history")
+    void shouldUseAccountIndexesForOrQuery() {
+        assertUsesIndex("idx_transfer_validations_source_account",
+                () -> validationRepository.findBySourceAccountNumberOrDestinationAccountNumber("ACC001", "ACC001"));
+        assertUsesIndex("idx_transfer_validations_destination_account",
+                () -> validationRepository.findBySourceAccountNumberOrDestinationAccountNumber("ACC001", "ACC001"));
+    }
+
+    @Test
+    @DisplayName("Should use indexes for transfer, result and idempotency lookups")
+    void shouldUseValidationIndexes() {
+        assertUsesIndex("idx_transfer_validations_transfer_id", () -> validationRepository.findByTransferId("1"));
+        assertUsesIndex("idx_transfer_validations_result",
+                () -> validationRepository.findByValidationResult(TransferValidationEntity.ValidationResult.PENDING));
+        assertUsesIndex("transfer_validations_idempotency_key_key",
+                () -> validationRepository.findByIdempotencyKey("key"));
+    }
+
+    @Test
+    @DisplayName("Should use indexes for limits and active fraud rules")
+    void shouldUseLimitAndRuleIndexes() {
+        assertUsesIndex("uk_transfer_limits_account_type_currency",
+                () -> limitRepository.findByAccountTypeAndCurrency("CHECKING", "BRL"));
+        assertUsesIndex("idx_fraud_detection_rules_active", () -> ruleRepository.findByIsActiveTrue());
+        assertUsesIndex("idx_fraud_detection_rules_active",
+                () -> ruleRepository.findByRuleTypeAndIsActiveTrue("VELOCITY"));
+    }
+}